@@ -0,0 +1,463 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.benchmark;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+import javax.rad.model.IDataRow;
+import javax.rad.model.ModelException;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumn.SortType;
+import javafx.scene.control.TreeItem;
+import javafx.stage.Stage;
+
+import com.sibvisions.javafx.benchmark.FXThreadRecorder.Result;
+import com.sibvisions.rad.ui.javafx.ext.control.table.FXDataBookView;
+import com.sibvisions.rad.ui.javafx.ext.control.tree.FXDataBooksTree;
+import com.sibvisions.rad.ui.javafx.ext.util.FXFrameWaitUtil;
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
+
+/**
+ * The {@link DataBookHarness} runs scripted scenarios against an
+ * {@link FXDataBookView} and an {@link FXDataBooksTree}, which are bound to
+ * {@link SyntheticDataBook}s, and records the behavior of the JavaFX thread
+ * with the {@link FXThreadRecorder}.
+ * <p>
+ * Every step of a scenario is executed on the JavaFX thread, after which the
+ * harness waits for the next frame, so every step results in at least one
+ * pulse. The harness is configured with system properties:
+ * <ul>
+ * <li>{@code harness.rowCounts}, the comma separated row counts of the data
+ * books, by default {@code 10000,100000,1000000}.</li>
+ * <li>{@code harness.latency}, the simulated latency of one round trip in
+ * milliseconds, by default {@code 0}.</li>
+ * </ul>
+ * 
+ * @author Robert Zenz
+ */
+public final class DataBookHarness
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The default row counts. */
+	private static final String DEFAULT_ROW_COUNTS = "10000,100000,1000000";
+	
+	/** The number of steps of the edit scenario. */
+	private static final int EDIT_STEPS = 100;
+	
+	/** The number of nodes which are expanded in the tree. */
+	private static final int EXPAND_STEPS = 100;
+	
+	/** The height of the stage. */
+	private static final double HEIGHT = 768;
+	
+	/** The number of detail rows per expanded node. */
+	private static final int ROWS_PER_NODE = 20;
+	
+	/** The number of steps of the jumping scroll scenarios. */
+	private static final int SCROLL_JUMP_STEPS = 50;
+	
+	/** The number of steps of the line by line scroll scenario. */
+	private static final int SCROLL_LINE_STEPS = 300;
+	
+	/** The number of steps of the selection scenario. */
+	private static final int SELECT_STEPS = 200;
+	
+	/** The number of steps of the sort scenario. */
+	private static final int SORT_STEPS = 6;
+	
+	/** The maximum time to wait for one step in seconds. */
+	private static final long TIMEOUT = 300;
+	
+	/** The width of the stage. */
+	private static final double WIDTH = 1024;
+	
+	/** The {@link FXThreadRecorder}. */
+	private FXThreadRecorder recorder;
+	
+	/** The recorded {@link Result}s. */
+	private List<Result> results;
+	
+	/** The currently shown {@link Stage}. */
+	private Stage stage;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link DataBookHarness}.
+	 */
+	public DataBookHarness()
+	{
+		recorder = new FXThreadRecorder();
+		results = new ArrayList<>();
+	}
+	
+	/**
+	 * Runs the harness and prints the results to {@link System#out}.
+	 * 
+	 * @param pArgs the arguments, not used.
+	 * @throws Exception if running a scenario failed.
+	 */
+	public static void main(String[] pArgs) throws Exception
+	{
+		HeadlessPlatform.start();
+		
+		long latency = Long.getLong("harness.latency", 0).longValue();
+		
+		DataBookHarness harness = new DataBookHarness();
+		
+		for (String rowCount : System.getProperty("harness.rowCounts", DEFAULT_ROW_COUNTS).split(","))
+		{
+			harness.runDataBookView(Integer.parseInt(rowCount.trim()), latency);
+			harness.runDataBooksTree(Integer.parseInt(rowCount.trim()), latency);
+		}
+		
+		System.out.println("Latency: " + latency + " ms");
+		harness.printResults(System.out);
+		
+		FXStallDetector.setEnabled(false);
+		Platform.exit();
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the recorded {@link Result}s.
+	 * 
+	 * @return the recorded {@link Result}s.
+	 */
+	public List<Result> getResults()
+	{
+		return results;
+	}
+	
+	/**
+	 * Prints the recorded {@link Result}s to the given {@link PrintStream}.
+	 * 
+	 * @param pStream the {@link PrintStream}.
+	 */
+	public void printResults(PrintStream pStream)
+	{
+		for (Result result : results)
+		{
+			pStream.println(result);
+		}
+	}
+	
+	/**
+	 * Runs the scroll, sort, selection and edit scenarios against an
+	 * {@link FXDataBookView}.
+	 * 
+	 * @param pRowCount the number of rows.
+	 * @param pLatency the simulated latency in milliseconds.
+	 * @throws Exception if running a scenario failed.
+	 */
+	public void runDataBookView(int pRowCount, long pLatency) throws Exception
+	{
+		SyntheticDataBook dataBook = SyntheticDataBook.createMaster("FXDataBookView" + pRowCount, pRowCount, pLatency);
+		
+		FXDataBookView view = callOnFXThread(() ->
+		{
+			FXDataBookView newView = new FXDataBookView(dataBook);
+			show(newView);
+			
+			return newView;
+		});
+		
+		waitForFrames(10);
+		
+		String prefix = "FXDataBookView " + pRowCount + " ";
+		
+		record(prefix + "scroll line", SCROLL_LINE_STEPS, pStep -> view.scrollTo(pStep * 3));
+		record(prefix + "scroll jump", SCROLL_JUMP_STEPS, pStep -> view.scrollTo((int) ((long) pRowCount * pStep / SCROLL_JUMP_STEPS)));
+		
+		record(prefix + "sort", SORT_STEPS, pStep ->
+		{
+			TableColumn<IDataRow, ?> column = view.getColumns().get(1);
+			
+			if (pStep % 2 == 0)
+			{
+				column.setSortType(SortType.ASCENDING);
+			}
+			else
+			{
+				column.setSortType(SortType.DESCENDING);
+			}
+			
+			ObservableList<TableColumn<IDataRow, ?>> sortOrder = view.getSortOrder();
+			sortOrder.clear();
+			sortOrder.add(column);
+		});
+		
+		callOnFXThread(() ->
+		{
+			view.getSortOrder().clear();
+			view.scrollTo(0);
+			
+			return null;
+		});
+		
+		record(prefix + "select", SELECT_STEPS, pStep ->
+		{
+			view.getSelectionModel().clearAndSelect(pStep, view.getColumns().get(0));
+			view.scrollTo(Math.max(0, pStep - 10));
+		});
+		
+		record(prefix + "edit", EDIT_STEPS, pStep ->
+		{
+			int row = pStep / 2;
+			
+			if (pStep % 2 == 0)
+			{
+				view.getSelectionModel().clearAndSelect(row, view.getColumns().get(1));
+				view.edit();
+			}
+			else
+			{
+				view.cancelEditing();
+				
+				try
+				{
+					dataBook.setSelectedRow(row);
+					dataBook.setValue("NAME", "Edited " + row);
+				}
+				catch (ModelException e)
+				{
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		
+		closeStage();
+	}
+	
+	/**
+	 * Runs the expand, collapse and scroll scenarios against an
+	 * {@link FXDataBooksTree}.
+	 * 
+	 * @param pRowCount the number of root rows.
+	 * @param pLatency the simulated latency in milliseconds.
+	 * @throws Exception if running a scenario failed.
+	 */
+	public void runDataBooksTree(int pRowCount, long pLatency) throws Exception
+	{
+		SyntheticDataBook master = SyntheticDataBook.createMaster("FXDataBooksTree" + pRowCount, pRowCount, pLatency);
+		SyntheticDataBook detail = SyntheticDataBook.createDetail(master, EXPAND_STEPS, ROWS_PER_NODE, pLatency);
+		
+		FXDataBooksTree tree = callOnFXThread(() ->
+		{
+			FXDataBooksTree newTree = new FXDataBooksTree();
+			newTree.getDataBooks().addAll(master, detail);
+			show(newTree);
+			
+			return newTree;
+		});
+		
+		waitForFrames(10);
+		
+		String prefix = "FXDataBooksTree " + pRowCount + " ";
+		
+		record(prefix + "expand", EXPAND_STEPS, pStep -> setExpanded(tree, pStep, true));
+		record(prefix + "collapse", EXPAND_STEPS, pStep -> setExpanded(tree, pStep, false));
+		record(prefix + "scroll jump", SCROLL_JUMP_STEPS, pStep -> tree.scrollTo((int) ((long) pRowCount * pStep / SCROLL_JUMP_STEPS)));
+		
+		closeStage();
+	}
+	
+	/**
+	 * Invokes the given {@link Callable} on the JavaFX thread and waits for
+	 * the result.
+	 * 
+	 * @param <T> the type of the result.
+	 * @param pCallable the {@link Callable}.
+	 * @return the result.
+	 * @throws Exception if the {@link Callable} failed.
+	 */
+	private static <T> T callOnFXThread(Callable<T> pCallable) throws Exception
+	{
+		AtomicReference<T> result = new AtomicReference<>();
+		AtomicReference<Exception> exception = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		
+		Platform.runLater(() ->
+		{
+			try
+			{
+				result.set(pCallable.call());
+			}
+			catch (Exception e)
+			{
+				exception.set(e);
+			}
+			finally
+			{
+				latch.countDown();
+			}
+		});
+		
+		await(latch);
+		
+		if (exception.get() != null)
+		{
+			throw exception.get();
+		}
+		
+		return result.get();
+	}
+	
+	/**
+	 * Waits for the given {@link CountDownLatch}.
+	 * 
+	 * @param pLatch the {@link CountDownLatch}.
+	 * @throws InterruptedException if interrupted while waiting.
+	 * @throws IllegalStateException if the JavaFX thread did not respond in
+	 *             time.
+	 */
+	private static void await(CountDownLatch pLatch) throws InterruptedException
+	{
+		if (!pLatch.await(TIMEOUT, TimeUnit.SECONDS))
+		{
+			throw new IllegalStateException("The JavaFX thread did not respond within " + TIMEOUT + " seconds.");
+		}
+	}
+	
+	/**
+	 * Expands or collapses the root node at the given index and scrolls it
+	 * into view.
+	 * 
+	 * @param pTree the {@link FXDataBooksTree}.
+	 * @param pIndex the index of the root node.
+	 * @param pExpanded if the node should be expanded.
+	 */
+	private static void setExpanded(FXDataBooksTree pTree, int pIndex, boolean pExpanded)
+	{
+		ObservableList<TreeItem<String>> nodes = pTree.getRoot().getChildren();
+		
+		if (pIndex < nodes.size())
+		{
+			TreeItem<String> node = nodes.get(pIndex);
+			node.setExpanded(pExpanded);
+			
+			pTree.scrollTo(pTree.getRow(node));
+		}
+	}
+	
+	/**
+	 * Waits until the given number of frames have passed.
+	 * 
+	 * @param pFrames the number of frames.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	private static void waitForFrames(int pFrames) throws InterruptedException
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		
+		Platform.runLater(() -> FXFrameWaitUtil.runLater(latch::countDown, pFrames));
+		
+		await(latch);
+	}
+	
+	/**
+	 * Closes the current {@link Stage}, if any.
+	 * 
+	 * @throws Exception if closing failed.
+	 */
+	private void closeStage() throws Exception
+	{
+		callOnFXThread(() ->
+		{
+			if (stage != null)
+			{
+				stage.close();
+				stage = null;
+			}
+			
+			return null;
+		});
+	}
+	
+	/**
+	 * Records a scenario.
+	 * 
+	 * @param pName the name of the scenario.
+	 * @param pSteps the number of steps.
+	 * @param pStep the step, which receives the index of the step and is
+	 *            invoked on the JavaFX thread.
+	 * @throws Exception if the scenario failed.
+	 */
+	private void record(String pName, int pSteps, IntConsumer pStep) throws Exception
+	{
+		callOnFXThread(() ->
+		{
+			recorder.start();
+			
+			return null;
+		});
+		
+		for (int step = 0; step < pSteps; step++)
+		{
+			int currentStep = step;
+			
+			callOnFXThread(() ->
+			{
+				pStep.accept(currentStep);
+				
+				return null;
+			});
+			
+			waitForFrames(1);
+		}
+		
+		results.add(callOnFXThread(() -> recorder.stop(pName)));
+	}
+	
+	/**
+	 * Shows the given {@link Parent} in a new {@link Stage}, closing the
+	 * previous one.
+	 * 
+	 * @param pParent the {@link Parent}.
+	 */
+	private void show(Parent pParent)
+	{
+		if (stage != null)
+		{
+			stage.close();
+		}
+		
+		stage = new Stage();
+		stage.setScene(new Scene(pParent, WIDTH, HEIGHT));
+		stage.show();
+	}
+	
+}	// DataBookHarness
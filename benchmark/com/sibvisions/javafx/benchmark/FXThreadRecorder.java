@@ -0,0 +1,451 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Locale;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector.SectionStatistics;
+
+/**
+ * The {@link FXThreadRecorder} records what the JavaFX thread does while a
+ * scenario runs: the time between the frames, the CPU time the thread was
+ * busy, the bytes it allocated, the number of {@code DataRowCell.updateItem}
+ * calls and the stalls detected by the {@link FXStallDetector}.
+ * <p>
+ * {@link #start()} and {@link #stop(String)} must be invoked on the JavaFX
+ * thread.
+ * 
+ * @author Robert Zenz
+ */
+public final class FXThreadRecorder
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The name of the section in which the cells are updated. */
+	private static final String UPDATE_ITEM_SECTION = "DataRowCell.updateItem";
+	
+	/** The number of recorded frame times. */
+	private int frameCount;
+	
+	/** The {@link AnimationTimer} which records the frames. */
+	private AnimationTimer frameTimer;
+	
+	/** The times between the frames in nanoseconds. */
+	private long[] frameTimes;
+	
+	/** The time of the last frame in nanoseconds. */
+	private long lastFrame;
+	
+	/** The allocated bytes of the JavaFX thread at the start. */
+	private long startAllocatedBytes;
+	
+	/** The CPU time of the JavaFX thread at the start. */
+	private long startCpuTime;
+	
+	/** The number of stalls at the start. */
+	private long startStallCount;
+	
+	/** The wall clock time at the start. */
+	private long startTime;
+	
+	/** The number of cell updates at the start. */
+	private long startUpdateItemCount;
+	
+	/** The {@link ThreadMXBean}. */
+	private ThreadMXBean threadBean;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link FXThreadRecorder}.
+	 * <p>
+	 * Enables the {@link FXStallDetector}, which is needed for counting the
+	 * cell updates.
+	 */
+	public FXThreadRecorder()
+	{
+		threadBean = ManagementFactory.getThreadMXBean();
+		
+		if (threadBean.isThreadCpuTimeSupported())
+		{
+			threadBean.setThreadCpuTimeEnabled(true);
+		}
+		
+		frameTimes = new long[1024];
+		frameTimer = new AnimationTimer()
+		{
+			@Override
+			public void handle(long pNow)
+			{
+				recordFrame(pNow);
+			}
+		};
+		
+		FXStallDetector.setEnabled(true);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Starts recording.
+	 */
+	public void start()
+	{
+		checkFXThread();
+		
+		frameCount = 0;
+		lastFrame = 0;
+		
+		startAllocatedBytes = getAllocatedBytes();
+		startCpuTime = getCpuTime();
+		startStallCount = FXStallDetector.getStallCount();
+		startTime = System.nanoTime();
+		startUpdateItemCount = getUpdateItemCount();
+		
+		frameTimer.start();
+	}
+	
+	/**
+	 * Stops recording.
+	 * 
+	 * @param pName the name of the recorded scenario.
+	 * @return the {@link Result}.
+	 */
+	public Result stop(String pName)
+	{
+		checkFXThread();
+		
+		frameTimer.stop();
+		
+		long[] recordedFrameTimes = Arrays.copyOf(frameTimes, frameCount);
+		Arrays.sort(recordedFrameTimes);
+		
+		return new Result(
+				pName,
+				System.nanoTime() - startTime,
+				recordedFrameTimes,
+				getCpuTime() - startCpuTime,
+				getAllocatedBytes() - startAllocatedBytes,
+				getUpdateItemCount() - startUpdateItemCount,
+				FXStallDetector.getStallCount() - startStallCount);
+	}
+	
+	/**
+	 * Makes sure that the current thread is the JavaFX thread.
+	 * 
+	 * @throws IllegalStateException if the current thread is not the JavaFX
+	 *             thread.
+	 */
+	private void checkFXThread()
+	{
+		if (!Platform.isFxApplicationThread())
+		{
+			throw new IllegalStateException("Not on the JavaFX thread.");
+		}
+	}
+	
+	/**
+	 * Gets the bytes allocated by the current thread.
+	 * 
+	 * @return the bytes allocated by the current thread, {@code -1} if not
+	 *         supported by the JVM.
+	 */
+	private long getAllocatedBytes()
+	{
+		if (threadBean instanceof com.sun.management.ThreadMXBean)
+		{
+			return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Gets the CPU time of the current thread.
+	 * 
+	 * @return the CPU time of the current thread in nanoseconds, {@code -1}
+	 *         if not supported by the JVM.
+	 */
+	private long getCpuTime()
+	{
+		if (threadBean.isCurrentThreadCpuTimeSupported())
+		{
+			return threadBean.getCurrentThreadCpuTime();
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Gets the number of cell updates so far.
+	 * 
+	 * @return the number of cell updates so far.
+	 */
+	private long getUpdateItemCount()
+	{
+		SectionStatistics statistics = FXStallDetector.getStatistics().get(UPDATE_ITEM_SECTION);
+		
+		if (statistics != null)
+		{
+			return statistics.getCount();
+		}
+		
+		return 0;
+	}
+	
+	/**
+	 * Records the frame at the given time.
+	 * 
+	 * @param pNow the time of the frame in nanoseconds.
+	 */
+	private void recordFrame(long pNow)
+	{
+		if (lastFrame > 0)
+		{
+			if (frameCount == frameTimes.length)
+			{
+				frameTimes = Arrays.copyOf(frameTimes, frameTimes.length * 2);
+			}
+			
+			frameTimes[frameCount++] = pNow - lastFrame;
+		}
+		
+		lastFrame = pNow;
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link Result} of one recorded scenario.
+	 * 
+	 * @author Robert Zenz
+	 */
+	public static final class Result
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The bytes allocated by the JavaFX thread. */
+		private long allocatedBytes;
+		
+		/** The CPU time of the JavaFX thread in nanoseconds. */
+		private long busyTime;
+		
+		/** The wall clock time in nanoseconds. */
+		private long duration;
+		
+		/** The sorted times between the frames in nanoseconds. */
+		private long[] frameTimes;
+		
+		/** The name of the scenario. */
+		private String name;
+		
+		/** The number of detected stalls. */
+		private long stallCount;
+		
+		/** The number of cell updates. */
+		private long updateItemCount;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link Result}.
+		 * 
+		 * @param pName the name of the scenario.
+		 * @param pDuration the wall clock time in nanoseconds.
+		 * @param pFrameTimes the sorted times between the frames in
+		 *            nanoseconds.
+		 * @param pBusyTime the CPU time of the JavaFX thread in nanoseconds.
+		 * @param pAllocatedBytes the bytes allocated by the JavaFX thread.
+		 * @param pUpdateItemCount the number of cell updates.
+		 * @param pStallCount the number of detected stalls.
+		 */
+		Result(String pName, long pDuration, long[] pFrameTimes, long pBusyTime, long pAllocatedBytes, long pUpdateItemCount, long pStallCount)
+		{
+			name = pName;
+			duration = pDuration;
+			frameTimes = pFrameTimes;
+			busyTime = pBusyTime;
+			allocatedBytes = pAllocatedBytes;
+			updateItemCount = pUpdateItemCount;
+			stallCount = pStallCount;
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Overwritten methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return String.format(Locale.ROOT,
+					"%-32s %8.1f ms %6d frames %8.2f ms mean %8.2f ms p95 %8.2f ms max %8.1f ms busy %9.1f MB alloc %9d updateItem %4d stalls",
+					name,
+					Double.valueOf(toMillis(duration)),
+					Integer.valueOf(frameTimes.length),
+					Double.valueOf(toMillis(getMeanFrameTime())),
+					Double.valueOf(toMillis(getFrameTimePercentile(0.95))),
+					Double.valueOf(toMillis(getFrameTimePercentile(1))),
+					Double.valueOf(toMillis(busyTime)),
+					Double.valueOf(allocatedBytes / (1024.0 * 1024.0)),
+					Long.valueOf(updateItemCount),
+					Long.valueOf(stallCount));
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// User-defined methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Gets the bytes allocated by the JavaFX thread.
+		 * 
+		 * @return the bytes allocated by the JavaFX thread, negative if not
+		 *         supported by the JVM.
+		 */
+		public long getAllocatedBytes()
+		{
+			return allocatedBytes;
+		}
+		
+		/**
+		 * Gets the CPU time of the JavaFX thread.
+		 * 
+		 * @return the CPU time of the JavaFX thread in nanoseconds, negative
+		 *         if not supported by the JVM.
+		 */
+		public long getBusyTime()
+		{
+			return busyTime;
+		}
+		
+		/**
+		 * Gets the wall clock time of the scenario.
+		 * 
+		 * @return the wall clock time in nanoseconds.
+		 */
+		public long getDuration()
+		{
+			return duration;
+		}
+		
+		/**
+		 * Gets the time between the frames at the given percentile.
+		 * 
+		 * @param pPercentile the percentile, between {@code 0} and {@code 1}.
+		 * @return the time between the frames in nanoseconds, {@code 0} if no
+		 *         frames were recorded.
+		 */
+		public long getFrameTimePercentile(double pPercentile)
+		{
+			if (frameTimes.length == 0)
+			{
+				return 0;
+			}
+			
+			int index = (int) Math.ceil(pPercentile * frameTimes.length) - 1;
+			
+			return frameTimes[Math.max(0, Math.min(frameTimes.length - 1, index))];
+		}
+		
+		/**
+		 * Gets the mean time between the frames.
+		 * 
+		 * @return the mean time between the frames in nanoseconds, {@code 0}
+		 *         if no frames were recorded.
+		 */
+		public long getMeanFrameTime()
+		{
+			if (frameTimes.length == 0)
+			{
+				return 0;
+			}
+			
+			long total = 0;
+			
+			for (long frameTime : frameTimes)
+			{
+				total = total + frameTime;
+			}
+			
+			return total / frameTimes.length;
+		}
+		
+		/**
+		 * Gets the name of the scenario.
+		 * 
+		 * @return the name of the scenario.
+		 */
+		public String getName()
+		{
+			return name;
+		}
+		
+		/**
+		 * Gets the number of stalls detected by the {@link FXStallDetector}.
+		 * 
+		 * @return the number of detected stalls.
+		 */
+		public long getStallCount()
+		{
+			return stallCount;
+		}
+		
+		/**
+		 * Gets the number of {@code DataRowCell.updateItem} calls which
+		 * updated a cell with data.
+		 * 
+		 * @return the number of cell updates.
+		 */
+		public long getUpdateItemCount()
+		{
+			return updateItemCount;
+		}
+		
+		/**
+		 * Converts the given nanoseconds to milliseconds.
+		 * 
+		 * @param pNanos the nanoseconds.
+		 * @return the milliseconds.
+		 */
+		private static double toMillis(long pNanos)
+		{
+			return pNanos / 1000000.0;
+		}
+		
+	}	// Result
+	
+}	// FXThreadRecorder
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.benchmark;
+
+import javax.rad.genui.UIFactoryManager;
+
+import javafx.application.Platform;
+
+import com.sibvisions.rad.ui.javafx.impl.JavaFXFactory;
+
+/**
+ * The {@link HeadlessPlatform} starts the JavaFX platform and the
+ * {@link JavaFXFactory} without a display, using the headless Monocle glass
+ * implementation and the software renderer.
+ * <p>
+ * The system properties are only set if they have not been given on the
+ * command line, so the benchmarks can also be run against a real display by
+ * passing for example {@code -Dglass.platform=gtk}.
+ * 
+ * @author Robert Zenz
+ */
+public final class HeadlessPlatform
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * No instance needed.
+	 */
+	private HeadlessPlatform()
+	{
+		// Not needed.
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Starts the JavaFX platform headless, if it has not been started yet.
+	 */
+	public static synchronized void start()
+	{
+		if (UIFactoryManager.getFactory() == null)
+		{
+			setPropertyIfAbsent("glass.platform", "Monocle");
+			setPropertyIfAbsent("monocle.platform", "Headless");
+			setPropertyIfAbsent("prism.order", "sw");
+			setPropertyIfAbsent("prism.text", "t2k");
+			setPropertyIfAbsent("java.awt.headless", "true");
+			
+			UIFactoryManager.getFactoryInstance(JavaFXFactory.class);
+			
+			// There is never a window that could be closed, so we have to
+			// make sure that the platform stays up between the iterations.
+			Platform.setImplicitExit(false);
+		}
+	}
+	
+	/**
+	 * Sets the given system property, if it has not been set yet.
+	 * 
+	 * @param pName the name of the property.
+	 * @param pValue the value.
+	 */
+	private static void setPropertyIfAbsent(String pName, String pValue)
+	{
+		if (System.getProperty(pName) == null)
+		{
+			System.setProperty(pName, pValue);
+		}
+	}
+	
+}	// HeadlessPlatform
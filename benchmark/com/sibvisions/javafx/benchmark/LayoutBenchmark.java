@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link LayoutBenchmark} measures layout passes of the panes and JVx
+ * layouts over {@link SyntheticForm}s of various sizes.
+ * <p>
+ * The form is attached to a {@link Scene} which is not shown in any window,
+ * so the layout can be performed on the benchmark thread without the overhead
+ * of switching to the JavaFX thread for every invocation. Two passes are
+ * measured:
+ * <ul>
+ * <li>{@link #resize()}, the form is resized by one pixel, which is what
+ * happens when the window is resized. Only containers whose size actually
+ * changes are laid out again.</li>
+ * <li>{@link #relayout()}, all containers are invalidated and laid out again,
+ * which includes recalculating all preferred sizes. This is the worst case,
+ * for example after the font or style of the form changed.</li>
+ * </ul>
+ * The allocation rate is reported by running with the {@code gc} profiler,
+ * which the {@code benchmark} target of the build does.
+ * 
+ * @author Robert Zenz
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = { "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true" })
+@State(Scope.Thread)
+public class LayoutBenchmark
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The height of the form. */
+	private static final double HEIGHT = 768;
+	
+	/** The width of the form. */
+	private static final double WIDTH = 1024;
+	
+	/** The number of children of the form. */
+	@Param({ "10", "100", "500", "2000" })
+	public int childCount;
+	
+	/** The {@link LayoutType} to measure. */
+	@Param
+	public LayoutType layoutType;
+	
+	/** All {@link Parent}s of the form, the root first. */
+	private Parent[] parents;
+	
+	/** The root of the form. */
+	private Parent root;
+	
+	/** If the form currently has the wider of the two widths. */
+	private boolean wide;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Invalidates all containers of the form and lays it out.
+	 * 
+	 * @return the root of the form.
+	 */
+	@Benchmark
+	public Parent relayout()
+	{
+		for (Parent parent : parents)
+		{
+			parent.requestLayout();
+		}
+		
+		root.layout();
+		
+		return root;
+	}
+	
+	/**
+	 * Resizes the form by one pixel and lays it out.
+	 * 
+	 * @return the root of the form.
+	 */
+	@Benchmark
+	public Parent resize()
+	{
+		wide = !wide;
+		
+		if (wide)
+		{
+			root.resize(WIDTH + 1, HEIGHT);
+		}
+		else
+		{
+			root.resize(WIDTH, HEIGHT);
+		}
+		
+		root.layout();
+		
+		return root;
+	}
+	
+	/**
+	 * Builds the form and performs the initial layout, so that styles and
+	 * skins are already applied before the measurement starts.
+	 */
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		HeadlessPlatform.start();
+		
+		root = layoutType.build(childCount);
+		
+		new Scene(root, WIDTH, HEIGHT);
+		
+		root.applyCss();
+		root.resize(WIDTH, HEIGHT);
+		root.layout();
+		
+		List<Parent> parentList = new ArrayList<>();
+		collectParents(root, parentList);
+		
+		parents = parentList.toArray(new Parent[parentList.size()]);
+	}
+	
+	/**
+	 * Adds the given {@link Parent} and all its descendant {@link Parent}s to
+	 * the given {@link List}.
+	 * 
+	 * @param pParent the {@link Parent}.
+	 * @param pParents the {@link List} to add to.
+	 */
+	private static void collectParents(Parent pParent, List<Parent> pParents)
+	{
+		pParents.add(pParent);
+		
+		for (Node child : pParent.getChildrenUnmodifiable())
+		{
+			if (child instanceof Parent)
+			{
+				collectParents((Parent) child, pParents);
+			}
+		}
+	}
+	
+}	// LayoutBenchmark
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.benchmark;
+
+import java.util.function.Supplier;
+
+import javafx.scene.Parent;
+
+/**
+ * The {@link LayoutType} enumerates the layouts which are measured by the
+ * {@link LayoutBenchmark}.
+ * 
+ * @author Robert Zenz
+ */
+public enum LayoutType
+{
+	/** The {@link com.sibvisions.rad.ui.javafx.ext.panes.FXBorderPane}. */
+	FX_BORDER_PANE(SyntheticForm.BorderPaneForm::new),
+	
+	/** The {@link com.sibvisions.rad.ui.javafx.ext.panes.FXFluidFlowPane}. */
+	FX_FLUID_FLOW_PANE(SyntheticForm.FluidFlowPaneForm::new),
+	
+	/** The {@link com.sibvisions.rad.ui.javafx.ext.panes.FXFormPane}. */
+	FX_FORM_PANE(SyntheticForm.FormPaneForm::new),
+	
+	/** The {@link com.sibvisions.rad.ui.javafx.ext.panes.FXSequencePane}. */
+	FX_SEQUENCE_PANE(SyntheticForm.SequencePaneForm::new),
+	
+	/** The {@link com.sibvisions.rad.ui.javafx.impl.layout.JavaFXFormLayout}. */
+	JAVAFX_FORM_LAYOUT(SyntheticForm.FormLayoutForm::new),
+	
+	/** The {@link com.sibvisions.rad.ui.javafx.impl.layout.JavaFXGridLayout}. */
+	JAVAFX_GRID_LAYOUT(SyntheticForm.GridLayoutForm::new);
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The {@link Supplier} for the {@link SyntheticForm}. */
+	private Supplier<SyntheticForm<?>> formSupplier;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link LayoutType}.
+	 * 
+	 * @param pFormSupplier the {@link Supplier} for the {@link SyntheticForm}.
+	 */
+	private LayoutType(Supplier<SyntheticForm<?>> pFormSupplier)
+	{
+		formSupplier = pFormSupplier;
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Builds a {@link SyntheticForm} of this type.
+	 * 
+	 * @param pChildCount the number of children of the form.
+	 * @return the root {@link Parent} of the form.
+	 */
+	public Parent build(int pChildCount)
+	{
+		return formSupplier.get().build(pChildCount);
+	}
+	
+}	// LayoutType
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import javax.rad.model.ColumnDefinition;
+import javax.rad.model.IChangeableDataRow;
+import javax.rad.model.IDataPage;
+import javax.rad.model.IDataRow;
+import javax.rad.model.ModelException;
+import javax.rad.model.RowDefinition;
+import javax.rad.model.SortDefinition;
+import javax.rad.model.condition.ICondition;
+import javax.rad.model.datatype.BigDecimalDataType;
+import javax.rad.model.datatype.BooleanDataType;
+import javax.rad.model.datatype.StringDataType;
+import javax.rad.model.datatype.TimestampDataType;
+import javax.rad.model.reference.ReferenceDefinition;
+
+import com.sibvisions.rad.model.mem.MemDataBook;
+
+/**
+ * The {@link SyntheticDataBook} is a {@link MemDataBook} filled with
+ * generated rows, which can simulate the latency of a remote server.
+ * <p>
+ * If a latency is set, the first access to every block of
+ * {@link #getFetchSize() fetch size} rows blocks for the latency, like a
+ * remote data book that fetches lazily. Changing the sort or the filter and
+ * reloading start over, as does loading the page of every master row for the
+ * first time.
+ * 
+ * @author Robert Zenz
+ */
+public class SyntheticDataBook extends MemDataBook
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The default number of rows which are fetched in one round trip. */
+	public static final int DEFAULT_FETCH_SIZE = 100;
+	
+	/** The names of all generated columns. */
+	private static final String[] COLUMN_NAMES = new String[] { "ID", "NAME", "AMOUNT", "CREATED", "ACTIVE" };
+	
+	/** The number of rows which are already "fetched". */
+	private int fetchedRowCount;
+	
+	/** The number of rows which are fetched in one round trip. */
+	private int fetchSize;
+	
+	/** The latency of one round trip in milliseconds. */
+	private long latency;
+	
+	/** The {@link IDataPage}s which have already been "fetched". */
+	private Set<IDataPage> loadedDataPages;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link SyntheticDataBook}.
+	 * 
+	 * @param pName the name.
+	 * @param pRowDefinition the {@link RowDefinition}.
+	 * @throws ModelException if the data book could not be created.
+	 */
+	protected SyntheticDataBook(String pName, RowDefinition pRowDefinition) throws ModelException
+	{
+		super(pRowDefinition);
+		
+		setName(pName);
+		
+		fetchSize = DEFAULT_FETCH_SIZE;
+		loadedDataPages = Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized IChangeableDataRow getDataRow(int pDataRowIndex) throws ModelException
+	{
+		if (latency > 0 && pDataRowIndex >= fetchedRowCount && fetchedRowCount < super.getRowCount())
+		{
+			simulateRoundTrip();
+			
+			fetchedRowCount = ((pDataRowIndex / fetchSize) + 1) * fetchSize;
+		}
+		
+		return super.getDataRow(pDataRowIndex);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized IDataPage getDataPage(IDataRow pMasterDataRow) throws ModelException
+	{
+		IDataPage dataPage = super.getDataPage(pMasterDataRow);
+		
+		if (latency > 0 && loadedDataPages.add(dataPage))
+		{
+			simulateRoundTrip();
+		}
+		
+		return dataPage;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void reload() throws ModelException
+	{
+		resetFetched();
+		
+		super.reload();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void setFilter(ICondition pFilter) throws ModelException
+	{
+		resetFetched();
+		
+		super.setFilter(pFilter);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void setSort(SortDefinition pSort) throws ModelException
+	{
+		resetFetched();
+		
+		super.setSort(pSort);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a detail {@link SyntheticDataBook} with the given number of rows
+	 * for each of the first rows of the given master.
+	 * 
+	 * @param pMaster the master {@link SyntheticDataBook}.
+	 * @param pMasterRowCount the number of master rows which get details.
+	 * @param pRowsPerMasterRow the number of rows per master row.
+	 * @param pLatency the latency of one round trip in milliseconds.
+	 * @return the detail {@link SyntheticDataBook}.
+	 * @throws ModelException if the data book could not be created.
+	 */
+	public static SyntheticDataBook createDetail(SyntheticDataBook pMaster, int pMasterRowCount, int pRowsPerMasterRow, long pLatency) throws ModelException
+	{
+		RowDefinition rowDefinition = createRowDefinition();
+		rowDefinition.addColumnDefinition(new ColumnDefinition("MASTER_ID", new BigDecimalDataType()));
+		
+		SyntheticDataBook dataBook = new SyntheticDataBook(pMaster.getName() + "Detail", rowDefinition);
+		dataBook.setMasterReference(new ReferenceDefinition(new String[] { "MASTER_ID" }, pMaster, new String[] { "ID" }));
+		dataBook.open();
+		
+		int masterRowCount = Math.min(pMasterRowCount, pMaster.getRowCount());
+		int id = 0;
+		
+		for (int masterIndex = 0; masterIndex < masterRowCount; masterIndex++)
+		{
+			pMaster.setSelectedRow(masterIndex);
+			
+			for (int index = 0; index < pRowsPerMasterRow; index++)
+			{
+				dataBook.insert(false);
+				dataBook.setValues(COLUMN_NAMES, createValues(id++));
+			}
+		}
+		
+		pMaster.setSelectedRow(0);
+		
+		dataBook.saveAllRows();
+		dataBook.setLatency(pLatency);
+		
+		return dataBook;
+	}
+	
+	/**
+	 * Creates a new {@link SyntheticDataBook} with the given number of rows.
+	 * 
+	 * @param pName the name.
+	 * @param pRowCount the number of rows.
+	 * @param pLatency the latency of one round trip in milliseconds.
+	 * @return the new {@link SyntheticDataBook}.
+	 * @throws ModelException if the data book could not be created.
+	 */
+	public static SyntheticDataBook createMaster(String pName, int pRowCount, long pLatency) throws ModelException
+	{
+		SyntheticDataBook dataBook = new SyntheticDataBook(pName, createRowDefinition());
+		dataBook.open();
+		
+		for (int index = 0; index < pRowCount; index++)
+		{
+			dataBook.insert(false);
+			dataBook.setValues(COLUMN_NAMES, createValues(index));
+		}
+		
+		dataBook.saveAllRows();
+		dataBook.setSelectedRow(0);
+		dataBook.setLatency(pLatency);
+		
+		return dataBook;
+	}
+	
+	/**
+	 * Gets the number of rows which are fetched in one round trip.
+	 * 
+	 * @return the number of rows which are fetched in one round trip.
+	 */
+	public int getFetchSize()
+	{
+		return fetchSize;
+	}
+	
+	/**
+	 * Gets the latency of one round trip.
+	 * 
+	 * @return the latency of one round trip in milliseconds.
+	 */
+	public long getLatency()
+	{
+		return latency;
+	}
+	
+	/**
+	 * Sets the number of rows which are fetched in one round trip.
+	 * 
+	 * @param pFetchSize the number of rows which are fetched in one round
+	 *            trip.
+	 */
+	public void setFetchSize(int pFetchSize)
+	{
+		fetchSize = Math.max(1, pFetchSize);
+	}
+	
+	/**
+	 * Sets the latency of one round trip. Setting the latency resets all
+	 * rows to not fetched.
+	 * 
+	 * @param pLatency the latency of one round trip in milliseconds,
+	 *            {@code 0} for none.
+	 */
+	public synchronized void setLatency(long pLatency)
+	{
+		latency = pLatency;
+		
+		resetFetched();
+	}
+	
+	/**
+	 * Creates the {@link RowDefinition} with the generated columns.
+	 * 
+	 * @return the {@link RowDefinition}.
+	 * @throws ModelException if the definition could not be created.
+	 */
+	private static RowDefinition createRowDefinition() throws ModelException
+	{
+		RowDefinition rowDefinition = new RowDefinition();
+		rowDefinition.addColumnDefinition(new ColumnDefinition("ID", new BigDecimalDataType()));
+		rowDefinition.addColumnDefinition(new ColumnDefinition("NAME", new StringDataType()));
+		rowDefinition.addColumnDefinition(new ColumnDefinition("AMOUNT", new BigDecimalDataType()));
+		rowDefinition.addColumnDefinition(new ColumnDefinition("CREATED", new TimestampDataType()));
+		rowDefinition.addColumnDefinition(new ColumnDefinition("ACTIVE", new BooleanDataType()));
+		rowDefinition.setPrimaryKeyColumnNames(new String[] { "ID" });
+		
+		return rowDefinition;
+	}
+	
+	/**
+	 * Creates the values of the generated columns for the given row. The
+	 * values are deterministic, so that runs are comparable.
+	 * 
+	 * @param pIndex the index of the row.
+	 * @return the values.
+	 */
+	private static Object[] createValues(int pIndex)
+	{
+		return new Object[] {
+				BigDecimal.valueOf(pIndex),
+				"Name " + Integer.toString((pIndex * 7919) % 100003, 36),
+				BigDecimal.valueOf((pIndex * 31L) % 100000, 2),
+				new Timestamp(1420070400000L + pIndex * 60000L),
+				Boolean.valueOf(pIndex % 3 != 0) };
+	}
+	
+	/**
+	 * Marks all rows and pages as not fetched.
+	 */
+	private void resetFetched()
+	{
+		fetchedRowCount = 0;
+		
+		// Might be invoked by the constructor of the MemDataBook.
+		if (loadedDataPages != null)
+		{
+			loadedDataPages.clear();
+		}
+	}
+	
+	/**
+	 * Blocks the current thread for the {@link #latency}.
+	 */
+	private void simulateRoundTrip()
+	{
+		try
+		{
+			Thread.sleep(latency);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+}	// SyntheticDataBook
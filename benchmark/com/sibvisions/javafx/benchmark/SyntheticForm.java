@@ -0,0 +1,540 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.benchmark;
+
+import javax.rad.ui.IComponent;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+
+import com.sibvisions.rad.ui.javafx.ext.panes.FXBorderPane;
+import com.sibvisions.rad.ui.javafx.ext.panes.FXFluidFlowPane;
+import com.sibvisions.rad.ui.javafx.ext.panes.FXFormPane;
+import com.sibvisions.rad.ui.javafx.ext.panes.FXSequencePane;
+import com.sibvisions.rad.ui.javafx.impl.JavaFXDimension;
+import com.sibvisions.rad.ui.javafx.impl.component.JavaFXLabel;
+import com.sibvisions.rad.ui.javafx.impl.container.JavaFXPanel;
+import com.sibvisions.rad.ui.javafx.impl.layout.JavaFXFormLayout;
+import com.sibvisions.rad.ui.javafx.impl.layout.JavaFXGridLayout;
+
+/**
+ * The {@link SyntheticForm} builds a form with a given number of children,
+ * which are distributed over nested containers of the same kind.
+ * <p>
+ * Every container holds at most {@link #getGroupSize() group size} children,
+ * if there are more, the children are split over nested containers, which
+ * gives a tree with a depth logarithmic to the number of children. The
+ * children alternate between a label and an "editor", which is a plain
+ * region with a fixed preferred size.
+ * 
+ * @author Robert Zenz
+ * @param <C> the type of the containers and children.
+ */
+public abstract class SyntheticForm<C>
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The default maximum number of children per container. */
+	public static final int DEFAULT_GROUP_SIZE = 10;
+	
+	/** The preferred height of the editors. */
+	protected static final int EDITOR_HEIGHT = 24;
+	
+	/** The preferred width of the editors. */
+	protected static final int EDITOR_WIDTH = 150;
+	
+	/** The maximum number of children per container. */
+	private int groupSize;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link SyntheticForm}.
+	 * 
+	 * @param pGroupSize the maximum number of children per container.
+	 */
+	protected SyntheticForm(int pGroupSize)
+	{
+		groupSize = Math.max(2, pGroupSize);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Abstract methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Adds the given child to the given container.
+	 * 
+	 * @param pContainer the container.
+	 * @param pChild the child.
+	 * @param pIndex the index of the child in the container.
+	 */
+	protected abstract void addChild(C pContainer, C pChild, int pIndex);
+	
+	/**
+	 * Creates a new, empty container.
+	 * 
+	 * @return the new container.
+	 */
+	protected abstract C createContainer();
+	
+	/**
+	 * Creates a new child.
+	 * 
+	 * @param pIndex the index of the child in its container.
+	 * @return the new child.
+	 */
+	protected abstract C createLeaf(int pIndex);
+	
+	/**
+	 * Gets the {@link Parent} of the given container.
+	 * 
+	 * @param pContainer the container.
+	 * @return the {@link Parent} of the given container.
+	 */
+	protected abstract Parent getParent(C pContainer);
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Builds the form.
+	 * 
+	 * @param pChildCount the number of children (leaves) of the form.
+	 * @return the root {@link Parent} of the form.
+	 */
+	public Parent build(int pChildCount)
+	{
+		return getParent(buildContainer(pChildCount));
+	}
+	
+	/**
+	 * Gets the maximum number of children per container.
+	 * 
+	 * @return the maximum number of children per container.
+	 */
+	public int getGroupSize()
+	{
+		return groupSize;
+	}
+	
+	/**
+	 * Creates a {@link Label} or an editor, depending on the given index.
+	 * 
+	 * @param pIndex the index of the child in its container.
+	 * @return the new child.
+	 */
+	protected static Node createFXLeaf(int pIndex)
+	{
+		if (pIndex % 2 == 0)
+		{
+			return new Label("Label " + pIndex);
+		}
+		
+		Region editor = new Region();
+		editor.setPrefSize(EDITOR_WIDTH, EDITOR_HEIGHT);
+		
+		return editor;
+	}
+	
+	/**
+	 * Creates a {@link JavaFXLabel} or an editor, depending on the given
+	 * index.
+	 * 
+	 * @param pIndex the index of the child in its container.
+	 * @return the new child.
+	 */
+	protected static IComponent createJVxLeaf(int pIndex)
+	{
+		if (pIndex % 2 == 0)
+		{
+			JavaFXLabel label = new JavaFXLabel();
+			label.setText("Label " + pIndex);
+			
+			return label;
+		}
+		
+		JavaFXPanel editor = new JavaFXPanel();
+		editor.setPreferredSize(new JavaFXDimension(EDITOR_WIDTH, EDITOR_HEIGHT));
+		
+		return editor;
+	}
+	
+	/**
+	 * Builds a container with the given number of leaves, nesting further
+	 * containers if needed.
+	 * 
+	 * @param pLeafCount the number of leaves.
+	 * @return the container.
+	 */
+	private C buildContainer(int pLeafCount)
+	{
+		C container = createContainer();
+		
+		if (pLeafCount <= groupSize)
+		{
+			for (int index = 0; index < pLeafCount; index++)
+			{
+				addChild(container, createLeaf(index), index);
+			}
+		}
+		else
+		{
+			int leavesPerChild = (pLeafCount + groupSize - 1) / groupSize;
+			int remainingLeaves = pLeafCount;
+			
+			for (int index = 0; remainingLeaves > 0; index++)
+			{
+				int leafCount = Math.min(leavesPerChild, remainingLeaves);
+				
+				addChild(container, buildContainer(leafCount), index);
+				
+				remainingLeaves = remainingLeaves - leafCount;
+			}
+		}
+		
+		return container;
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link FXPaneForm} is the base for all forms that are built from
+	 * plain JavaFX {@link Pane}s.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private abstract static class FXPaneForm extends SyntheticForm<Node>
+	{
+		/**
+		 * Creates a new instance of {@link FXPaneForm}.
+		 * 
+		 * @param pGroupSize the maximum number of children per container.
+		 */
+		protected FXPaneForm(int pGroupSize)
+		{
+			super(pGroupSize);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void addChild(Node pContainer, Node pChild, int pIndex)
+		{
+			((Pane) pContainer).getChildren().add(pChild);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Node createLeaf(int pIndex)
+		{
+			return createFXLeaf(pIndex);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Parent getParent(Node pContainer)
+		{
+			return (Parent) pContainer;
+		}
+		
+	}	// FXPaneForm
+	
+	/**
+	 * The {@link BorderPaneForm} uses {@link FXBorderPane}s, with five
+	 * children per container.
+	 * 
+	 * @author Robert Zenz
+	 */
+	public static final class BorderPaneForm extends FXPaneForm
+	{
+		/**
+		 * Creates a new instance of {@link BorderPaneForm}.
+		 */
+		public BorderPaneForm()
+		{
+			super(5);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void addChild(Node pContainer, Node pChild, int pIndex)
+		{
+			FXBorderPane pane = (FXBorderPane) pContainer;
+			
+			switch (pIndex)
+			{
+				case 0:
+					pane.setCenter(pChild);
+					break;
+				
+				case 1:
+					pane.setTop(pChild);
+					break;
+				
+				case 2:
+					pane.setRight(pChild);
+					break;
+				
+				case 3:
+					pane.setBottom(pChild);
+					break;
+				
+				default:
+					pane.setLeft(pChild);
+					break;
+			}
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Node createContainer()
+		{
+			return new FXBorderPane();
+		}
+		
+	}	// BorderPaneForm
+	
+	/**
+	 * The {@link FluidFlowPaneForm} uses {@link FXFluidFlowPane}s.
+	 * 
+	 * @author Robert Zenz
+	 */
+	public static final class FluidFlowPaneForm extends FXPaneForm
+	{
+		/**
+		 * Creates a new instance of {@link FluidFlowPaneForm}.
+		 */
+		public FluidFlowPaneForm()
+		{
+			super(DEFAULT_GROUP_SIZE);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Node createContainer()
+		{
+			return new FXFluidFlowPane();
+		}
+		
+	}	// FluidFlowPaneForm
+	
+	/**
+	 * The {@link FormPaneForm} uses {@link FXFormPane}s, with the children
+	 * placed in two columns.
+	 * 
+	 * @author Robert Zenz
+	 */
+	public static final class FormPaneForm extends FXPaneForm
+	{
+		/**
+		 * Creates a new instance of {@link FormPaneForm}.
+		 */
+		public FormPaneForm()
+		{
+			super(DEFAULT_GROUP_SIZE);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void addChild(Node pContainer, Node pChild, int pIndex)
+		{
+			FXFormPane pane = (FXFormPane) pContainer;
+			
+			pane.addChild(pChild, pane.createConstraint(pIndex % 2, pIndex / 2));
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Node createContainer()
+		{
+			return new FXFormPane();
+		}
+		
+	}	// FormPaneForm
+	
+	/**
+	 * The {@link SequencePaneForm} uses {@link FXSequencePane}s.
+	 * 
+	 * @author Robert Zenz
+	 */
+	public static final class SequencePaneForm extends FXPaneForm
+	{
+		/**
+		 * Creates a new instance of {@link SequencePaneForm}.
+		 */
+		public SequencePaneForm()
+		{
+			super(DEFAULT_GROUP_SIZE);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Node createContainer()
+		{
+			return new FXSequencePane();
+		}
+		
+	}	// SequencePaneForm
+	
+	/**
+	 * The {@link JVxForm} is the base for all forms that are built from
+	 * {@link JavaFXPanel}s with a JVx layout.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private abstract static class JVxForm extends SyntheticForm<IComponent>
+	{
+		/**
+		 * Creates a new instance of {@link JVxForm}.
+		 */
+		protected JVxForm()
+		{
+			super(DEFAULT_GROUP_SIZE);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected IComponent createLeaf(int pIndex)
+		{
+			return createJVxLeaf(pIndex);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Parent getParent(IComponent pContainer)
+		{
+			return ((JavaFXPanel) pContainer).getResource();
+		}
+		
+	}	// JVxForm
+	
+	/**
+	 * The {@link FormLayoutForm} uses {@link JavaFXPanel}s with a
+	 * {@link JavaFXFormLayout}, with the children placed in two columns.
+	 * 
+	 * @author Robert Zenz
+	 */
+	public static final class FormLayoutForm extends JVxForm
+	{
+		/**
+		 * Creates a new instance of {@link FormLayoutForm}.
+		 */
+		public FormLayoutForm()
+		{
+			super();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void addChild(IComponent pContainer, IComponent pChild, int pIndex)
+		{
+			JavaFXPanel panel = (JavaFXPanel) pContainer;
+			JavaFXFormLayout layout = (JavaFXFormLayout) panel.getLayout();
+			
+			panel.add(pChild, layout.getConstraints(pIndex % 2, pIndex / 2));
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected IComponent createContainer()
+		{
+			JavaFXPanel panel = new JavaFXPanel();
+			panel.setLayout(new JavaFXFormLayout());
+			
+			return panel;
+		}
+		
+	}	// FormLayoutForm
+	
+	/**
+	 * The {@link GridLayoutForm} uses {@link JavaFXPanel}s with a
+	 * {@link JavaFXGridLayout}, with the children placed in two columns.
+	 * 
+	 * @author Robert Zenz
+	 */
+	public static final class GridLayoutForm extends JVxForm
+	{
+		/**
+		 * Creates a new instance of {@link GridLayoutForm}.
+		 */
+		public GridLayoutForm()
+		{
+			super();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void addChild(IComponent pContainer, IComponent pChild, int pIndex)
+		{
+			JavaFXPanel panel = (JavaFXPanel) pContainer;
+			JavaFXGridLayout layout = (JavaFXGridLayout) panel.getLayout();
+			
+			panel.add(pChild, layout.getConstraints(pIndex % 2, pIndex / 2));
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected IComponent createContainer()
+		{
+			JavaFXPanel panel = new JavaFXPanel();
+			panel.setLayout(new JavaFXGridLayout(2, (getGroupSize() + 1) / 2));
+			
+			return panel;
+		}
+		
+	}	// GridLayoutForm
+	
+}	// SyntheticForm
@@ -17,19 +17,14 @@ package com.sibvisions.rad.ui.javafx.ext;
 
 import java.util.function.Supplier;
 
-import javax.rad.genui.UIImage;
-
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.scene.Cursor;
-import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 
-import com.sibvisions.util.ArrayUtil;
-
 /**
  * The {@link FXImageChoiceBox} is basically a multi-state checkbox, with each
  * state represented by an image and an object/value.
@@ -43,14 +38,8 @@ public class FXImageChoiceBox<T> extends FXImageRegion
 	// Class members
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
-	/** The getter that returns the allowed values. */
-	private Supplier<T[]> allowedValuesGetter;
-	
-	/** The getter that returns the name of the default image. */
-	private Supplier<String> defaultImageNameGetter;
-	
-	/** The getter that returns the image names. */
-	private Supplier<String[]> imageNamesGetter;
+	/** The getter that returns the {@link FXImageChoiceTable}. */
+	private Supplier<FXImageChoiceTable<T>> choiceTableGetter;
 	
 	/** The currently selected object/value. */
 	private ObjectProperty<T> value;
@@ -61,12 +50,30 @@ public class FXImageChoiceBox<T> extends FXImageRegion
 	
 	/**
 	 * Creates a new instance of {@link FXImageChoiceBox}.
+	 * <p>
+	 * The {@link FXImageChoiceTable} is only rebuilt if the values returned by
+	 * the getters change.
 	 *
 	 * @param pAllowedValuesGetter the allowed values getter.
 	 * @param pImageNamesGetter the image names getter.
 	 * @param pDefaultImageNameGetter the default image name getter.
 	 */
 	public FXImageChoiceBox(Supplier<T[]> pAllowedValuesGetter, Supplier<String[]> pImageNamesGetter, Supplier<String> pDefaultImageNameGetter)
+	{
+		this(FXImageChoiceTable.createSupplier(pAllowedValuesGetter, pImageNamesGetter, pDefaultImageNameGetter));
+	}
+	
+	/**
+	 * Creates a new instance of {@link FXImageChoiceBox}.
+	 * <p>
+	 * The returned {@link FXImageChoiceTable} can be shared by multiple
+	 * {@link FXImageChoiceBox}es, and should stay the same instance as long
+	 * as its configuration does not change.
+	 *
+	 * @param pChoiceTableGetter the getter that returns the
+	 *            {@link FXImageChoiceTable}.
+	 */
+	public FXImageChoiceBox(Supplier<FXImageChoiceTable<T>> pChoiceTableGetter)
 	{
 		super();
 		
@@ -78,9 +85,7 @@ public class FXImageChoiceBox<T> extends FXImageRegion
 		value = new SimpleObjectProperty<>();
 		value.addListener(this::onValueChanged);
 		
-		allowedValuesGetter = pAllowedValuesGetter;
-		imageNamesGetter = pImageNamesGetter;
-		defaultImageNameGetter = pDefaultImageNameGetter;
+		choiceTableGetter = pChoiceTableGetter;
 		
 		updateDisplay();
 	}
@@ -94,7 +99,17 @@ public class FXImageChoiceBox<T> extends FXImageRegion
 	 */
 	public FXImageChoiceBox(T[] pAllowedValues, String[] pImageNames, String pDefaultImageName)
 	{
-		this(() -> pAllowedValues, () -> pImageNames, () -> pDefaultImageName);
+		this(new FXImageChoiceTable<>(pAllowedValues, pImageNames, pDefaultImageName));
+	}
+	
+	/**
+	 * Creates a new instance of {@link FXImageChoiceBox}.
+	 *
+	 * @param pChoiceTable the {@link FXImageChoiceTable}.
+	 */
+	public FXImageChoiceBox(FXImageChoiceTable<T> pChoiceTable)
+	{
+		this(() -> pChoiceTable);
 	}
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -116,13 +131,7 @@ public class FXImageChoiceBox<T> extends FXImageRegion
 	 */
 	public void selectNextValue()
 	{
-		T[] allowedValues = allowedValuesGetter.get();
-		
-		int index = ArrayUtil.indexOf(allowedValues, value.get());
-		index = index + 1;
-		index = index % allowedValues.length;
-		
-		value.set(allowedValues[index]);
+		value.set(choiceTableGetter.get().getNextValue(value.get()));
 	}
 	
 	/**
@@ -197,21 +206,9 @@ public class FXImageChoiceBox<T> extends FXImageRegion
 	 */
 	private void updateDisplay()
 	{
-		setImage(null);
-		
 		if (value != null)
 		{
-			int index = ArrayUtil.indexOf(allowedValuesGetter.get(), value.get());
-			
-			if (index >= 0)
-			{
-				setImage((Image)UIImage.getImage(imageNamesGetter.get()[index]).getResource());
-			}
-		}
-		
-		if (getImage() == null)
-		{
-			setImage((Image)UIImage.getImage(defaultImageNameGetter.get()).getResource());
+			setImage(choiceTableGetter.get().getImage(value.get()));
 		}
 	}
 	
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javax.rad.genui.UIImage;
+
+import javafx.scene.image.Image;
+
+/**
+ * The {@link FXImageChoiceTable} maps the allowed values of a
+ * {@link FXImageChoiceBox} to their {@link Image}s.
+ * <p>
+ * It is built once for a configuration of allowed values, image names and
+ * default image name. The values are hashed to their index and every
+ * {@link Image} is kept once it has been resolved, so looking up the
+ * {@link Image} of a value needs neither a scan over the allowed values nor
+ * an image lookup. Images which can not be resolved are looked up again the
+ * next time, so images which are registered later are still shown. The
+ * configuration of a table is immutable and it can be shared by all
+ * {@link FXImageChoiceBox}es with the same configuration, for example all
+ * cells of a column.
+ * 
+ * @param <T> the type of the values.
+ * @author Robert Zenz
+ */
+public final class FXImageChoiceTable<T>
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The allowed values. */
+	private T[] allowedValues;
+	
+	/** The {@link Image} for values which are not allowed. */
+	private Image defaultImage;
+	
+	/** The name of the default image. */
+	private String defaultImageName;
+	
+	/** The resolved {@link Image}s by index of the value. */
+	private Image[] images;
+	
+	/** The image names. */
+	private String[] imageNames;
+	
+	/** The indexes by value. */
+	private Map<Object, Integer> indexes;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link FXImageChoiceTable}.
+	 * 
+	 * @param pAllowedValues the allowed values.
+	 * @param pImageNames the image names, by index of the value.
+	 * @param pDefaultImageName the name of the default image.
+	 */
+	public FXImageChoiceTable(T[] pAllowedValues, String[] pImageNames, String pDefaultImageName)
+	{
+		allowedValues = pAllowedValues != null ? pAllowedValues.clone() : null;
+		imageNames = pImageNames != null ? pImageNames.clone() : null;
+		defaultImageName = pDefaultImageName;
+		
+		int count = allowedValues != null ? allowedValues.length : 0;
+		
+		indexes = new HashMap<>();
+		images = new Image[count];
+		
+		for (int index = 0; index < count; index++)
+		{
+			// The first occurrence wins, like a scan would.
+			if (!indexes.containsKey(allowedValues[index]))
+			{
+				indexes.put(allowedValues[index], Integer.valueOf(index));
+			}
+		}
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a {@link Supplier} which returns a {@link FXImageChoiceTable}
+	 * for the configuration returned by the given getters. The table is only
+	 * rebuilt if the configuration has changed.
+	 * 
+	 * @param <T> the type of the values.
+	 * @param pAllowedValuesGetter the allowed values getter.
+	 * @param pImageNamesGetter the image names getter.
+	 * @param pDefaultImageNameGetter the default image name getter.
+	 * @return the {@link Supplier}.
+	 */
+	public static <T> Supplier<FXImageChoiceTable<T>> createSupplier(Supplier<T[]> pAllowedValuesGetter, Supplier<String[]> pImageNamesGetter, Supplier<String> pDefaultImageNameGetter)
+	{
+		return new CachingSupplier<>(pAllowedValuesGetter, pImageNamesGetter, pDefaultImageNameGetter);
+	}
+	
+	/**
+	 * Gets the {@link Image} for the given value.
+	 * 
+	 * @param pValue the value.
+	 * @return the {@link Image} for the given value, the default image if the
+	 *         value is not allowed or has no image. {@code null} if there is
+	 *         none.
+	 */
+	public Image getImage(Object pValue)
+	{
+		int index = indexOf(pValue);
+		
+		if (index >= 0 && imageNames != null && index < imageNames.length)
+		{
+			if (images[index] == null)
+			{
+				images[index] = resolveImage(imageNames[index]);
+			}
+			
+			if (images[index] != null)
+			{
+				return images[index];
+			}
+		}
+		
+		if (defaultImage == null)
+		{
+			defaultImage = resolveImage(defaultImageName);
+		}
+		
+		return defaultImage;
+	}
+	
+	/**
+	 * Gets the allowed value which follows the given value. It wraps around to
+	 * the first value, which is also returned if the given value is not
+	 * allowed.
+	 * 
+	 * @param pValue the value.
+	 * @return the next allowed value. {@code null} if there are no allowed
+	 *         values.
+	 */
+	public T getNextValue(Object pValue)
+	{
+		if (allowedValues == null || allowedValues.length == 0)
+		{
+			return null;
+		}
+		
+		return allowedValues[(indexOf(pValue) + 1) % allowedValues.length];
+	}
+	
+	/**
+	 * Gets the index of the given value.
+	 * 
+	 * @param pValue the value.
+	 * @return the index of the given value. {@code -1} if it is not allowed.
+	 */
+	public int indexOf(Object pValue)
+	{
+		Integer index = indexes.get(pValue);
+		
+		if (index != null)
+		{
+			return index.intValue();
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Gets if this table has been built for the given configuration.
+	 * 
+	 * @param pAllowedValues the allowed values.
+	 * @param pImageNames the image names.
+	 * @param pDefaultImageName the name of the default image.
+	 * @return {@code true} if this table has been built for the given
+	 *         configuration.
+	 */
+	public boolean isBuiltFor(Object[] pAllowedValues, String[] pImageNames, String pDefaultImageName)
+	{
+		return Objects.equals(defaultImageName, pDefaultImageName)
+				&& Arrays.equals(imageNames, pImageNames)
+				&& Arrays.equals(allowedValues, pAllowedValues);
+	}
+	
+	/**
+	 * Resolves the {@link Image} with the given name.
+	 * 
+	 * @param pImageName the name of the image.
+	 * @return the {@link Image}. {@code null} if there is none.
+	 */
+	private static Image resolveImage(String pImageName)
+	{
+		if (pImageName == null)
+		{
+			return null;
+		}
+		
+		UIImage image = UIImage.getImage(pImageName);
+		
+		if (image != null)
+		{
+			return (Image)image.getResource();
+		}
+		
+		return null;
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link CachingSupplier} is a {@link Supplier} which rebuilds the
+	 * {@link FXImageChoiceTable} only if the configuration has changed.
+	 * 
+	 * @param <T> the type of the values.
+	 * @author Robert Zenz
+	 */
+	private static final class CachingSupplier<T> implements Supplier<FXImageChoiceTable<T>>
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The getter that returns the allowed values. */
+		private Supplier<T[]> allowedValuesGetter;
+		
+		/** The current {@link FXImageChoiceTable}. */
+		private FXImageChoiceTable<T> choiceTable;
+		
+		/** The getter that returns the name of the default image. */
+		private Supplier<String> defaultImageNameGetter;
+		
+		/** The getter that returns the image names. */
+		private Supplier<String[]> imageNamesGetter;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link CachingSupplier}.
+		 * 
+		 * @param pAllowedValuesGetter the allowed values getter.
+		 * @param pImageNamesGetter the image names getter.
+		 * @param pDefaultImageNameGetter the default image name getter.
+		 */
+		public CachingSupplier(Supplier<T[]> pAllowedValuesGetter, Supplier<String[]> pImageNamesGetter, Supplier<String> pDefaultImageNameGetter)
+		{
+			allowedValuesGetter = pAllowedValuesGetter;
+			imageNamesGetter = pImageNamesGetter;
+			defaultImageNameGetter = pDefaultImageNameGetter;
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Interface implementation
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public FXImageChoiceTable<T> get()
+		{
+			T[] allowedValues = allowedValuesGetter.get();
+			String[] imageNames = imageNamesGetter.get();
+			String defaultImageName = defaultImageNameGetter.get();
+			
+			if (choiceTable == null || !choiceTable.isBuiltFor(allowedValues, imageNames, defaultImageName))
+			{
+				choiceTable = new FXImageChoiceTable<>(allowedValues, imageNames, defaultImageName);
+			}
+			
+			return choiceTable;
+		}
+		
+	}	// CachingSupplier
+	
+}	// FXImageChoiceTable
@@ -0,0 +1,451 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+
+/**
+ * The {@link StyleClassCompiler} compiles inline styles into style classes.
+ * <p>
+ * Every distinct style is interned and gets its own generated style class.
+ * The rules of all style classes are collected into one shared stylesheet,
+ * which is added to every registered {@link Scene}. Nodes with the same style
+ * then share the same parsed rule, instead of every node parsing its own
+ * inline style, which also allows JavaFX to share the style between these
+ * nodes.
+ * <p>
+ * New rules are not written one by one, the stylesheet is rewritten at most
+ * once per pulse on the JavaFX thread and replaced in all registered scenes.
+ * Until then, the new style class is not {@link #isAvailable(String)
+ * available} and the style must still be set inline. Every style class is
+ * used by owners, which are only weakly referenced. If the maximum number of
+ * style classes is reached, the least recently used style class without
+ * owners is evicted, if there is none the style is not compiled.
+ * <p>
+ * The generated rules are not important, they have the specificity of a
+ * single style class. The stylesheet is added after the stylesheets of the
+ * theme, so it wins over rules of the theme with the same specificity, but
+ * not over more specific ones.
+ * 
+ * @author Robert Zenz
+ */
+public final class StyleClassCompiler
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The maximum number of generated style classes. */
+	public static final int MAXIMUM_STYLE_CLASS_COUNT = 1024;
+	
+	/** The prefix of all generated style classes. */
+	public static final String STYLE_CLASS_PREFIX = "jvx-compiled-style-";
+	
+	/** The style classes which are in the current stylesheet. */
+	private static Set<String> availableStyleClasses = new HashSet<>();
+	
+	/** The listeners which are notified after the next flush. */
+	private static List<Runnable> flushListeners = new ArrayList<>();
+	
+	/** If writing the stylesheet is already scheduled. */
+	private static boolean flushScheduled;
+	
+	/** The number which is used for the next style class. */
+	private static int nextStyleClassNumber;
+	
+	/** If there are style classes which have not been written yet. */
+	private static boolean rulesDirty;
+	
+	/** The registered scenes. */
+	private static Set<Scene> scenes = Collections.newSetFromMap(new WeakHashMap<>());
+	
+	/** The current stylesheet, {@code null} if none has been written yet. */
+	private static Path stylesheet;
+	
+	/** The URL of the current stylesheet. */
+	private static String stylesheetUrl;
+	
+	/** The generated style classes by style, in the order of their last use. */
+	private static Map<String, CompiledStyle> styles = new LinkedHashMap<>(16, 0.75f, true);
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * No instance needed.
+	 */
+	private StyleClassCompiler()
+	{
+		// Not needed.
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Adds the given {@link Scene} to the scenes which receive the generated
+	 * stylesheet. The scene is only weakly referenced.
+	 * <p>
+	 * Must be called on the JavaFX thread.
+	 * 
+	 * @param pScene the {@link Scene}.
+	 */
+	public static synchronized void addScene(Scene pScene)
+	{
+		if (pScene == null || !scenes.add(pScene))
+		{
+			return;
+		}
+		
+		if (stylesheetUrl != null)
+		{
+			pScene.getStylesheets().add(stylesheetUrl);
+		}
+	}
+	
+	/**
+	 * Gets the style class for the given style, generating it if it does not
+	 * exist yet, and adds the given owner to it.
+	 * <p>
+	 * The rule of a new style class is added to the stylesheet with the next
+	 * pulse, until then it is not {@link #isAvailable(String) available}.
+	 * 
+	 * @param pStyle the style, the same as it would be used for
+	 *            {@link javafx.scene.Node#setStyle(String)}.
+	 * @param pOwner the owner which uses the style class, it is only weakly
+	 *            referenced.
+	 * @return the style class. {@code null} if the style is empty or the
+	 *         maximum number of style classes is in use, in which case it must
+	 *         be set inline.
+	 * @see #MAXIMUM_STYLE_CLASS_COUNT
+	 * @see #releaseStyleClass(String, Object)
+	 */
+	public static synchronized String getStyleClass(String pStyle, Object pOwner)
+	{
+		if (pStyle == null || pStyle.trim().isEmpty())
+		{
+			return null;
+		}
+		
+		CompiledStyle compiledStyle = styles.get(pStyle);
+		
+		if (compiledStyle == null)
+		{
+			if (styles.size() >= MAXIMUM_STYLE_CLASS_COUNT && !evict())
+			{
+				return null;
+			}
+			
+			compiledStyle = new CompiledStyle(STYLE_CLASS_PREFIX + nextStyleClassNumber++, pStyle);
+			styles.put(pStyle, compiledStyle);
+			
+			rulesDirty = true;
+			
+			scheduleFlush();
+		}
+		
+		compiledStyle.owners.add(pOwner);
+		
+		return compiledStyle.styleClass;
+	}
+	
+	/**
+	 * Gets the number of generated style classes.
+	 * 
+	 * @return the number of generated style classes.
+	 */
+	public static synchronized int getStyleClassCount()
+	{
+		return styles.size();
+	}
+	
+	/**
+	 * Gets if the rule of the given style class is in the stylesheet which is
+	 * added to the registered scenes.
+	 * 
+	 * @param pStyleClass the style class.
+	 * @return {@code true} if the rule of the given style class is in the
+	 *         stylesheet.
+	 */
+	public static synchronized boolean isAvailable(String pStyleClass)
+	{
+		return availableStyleClasses.contains(pStyleClass);
+	}
+	
+	/**
+	 * Gets if the given style class has been generated by the
+	 * {@link StyleClassCompiler}.
+	 * 
+	 * @param pStyleClass the style class.
+	 * @return {@code true} if the given style class has been generated.
+	 */
+	public static boolean isCompiledStyleClass(String pStyleClass)
+	{
+		return pStyleClass != null && pStyleClass.startsWith(STYLE_CLASS_PREFIX);
+	}
+	
+	/**
+	 * Removes the given owner from the given style class. A style class
+	 * without owners can be evicted.
+	 * 
+	 * @param pStyleClass the style class.
+	 * @param pOwner the owner.
+	 * @see #getStyleClass(String, Object)
+	 */
+	public static synchronized void releaseStyleClass(String pStyleClass, Object pOwner)
+	{
+		for (CompiledStyle compiledStyle : styles.values())
+		{
+			if (compiledStyle.styleClass.equals(pStyleClass))
+			{
+				compiledStyle.owners.remove(pOwner);
+				
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Removes the given {@link Scene} from the scenes which receive the
+	 * generated stylesheet.
+	 * <p>
+	 * Must be called on the JavaFX thread.
+	 * 
+	 * @param pScene the {@link Scene}.
+	 */
+	public static synchronized void removeScene(Scene pScene)
+	{
+		if (pScene != null && scenes.remove(pScene) && stylesheetUrl != null)
+		{
+			pScene.getStylesheets().remove(stylesheetUrl);
+		}
+	}
+	
+	/**
+	 * Runs the given {@link Runnable} on the JavaFX thread after the next
+	 * time the stylesheet has been written.
+	 * 
+	 * @param pListener the {@link Runnable}.
+	 */
+	public static synchronized void runAfterFlush(Runnable pListener)
+	{
+		flushListeners.add(pListener);
+		
+		scheduleFlush();
+	}
+	
+	/**
+	 * Evicts the least recently used style class without owners.
+	 * 
+	 * @return {@code true} if a style class has been evicted.
+	 */
+	private static boolean evict()
+	{
+		Iterator<CompiledStyle> iterator = styles.values().iterator();
+		
+		while (iterator.hasNext())
+		{
+			if (iterator.next().owners.isEmpty())
+			{
+				// The rule stays in the current stylesheet until it is
+				// written again, which does no harm as the name of the style
+				// class is never used again.
+				iterator.remove();
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Writes all rules into a new stylesheet and replaces the previous one in
+	 * all registered scenes.
+	 * <p>
+	 * A new file is written every time, because JavaFX caches the parsed
+	 * stylesheets by their URL.
+	 */
+	private static void flush()
+	{
+		StringBuilder content = null;
+		Set<String> writtenStyleClasses = null;
+		List<Runnable> listeners;
+		
+		synchronized (StyleClassCompiler.class)
+		{
+			flushScheduled = false;
+			
+			if (rulesDirty)
+			{
+				rulesDirty = false;
+				
+				content = new StringBuilder();
+				writtenStyleClasses = new HashSet<>();
+				
+				for (CompiledStyle compiledStyle : styles.values())
+				{
+					content.append(".");
+					content.append(compiledStyle.styleClass);
+					content.append(" {\n\t");
+					content.append(compiledStyle.style);
+					content.append("\n}\n");
+					
+					writtenStyleClasses.add(compiledStyle.styleClass);
+				}
+			}
+			
+			listeners = flushListeners;
+			flushListeners = new ArrayList<>();
+		}
+		
+		if (content != null)
+		{
+			try
+			{
+				Path newStylesheet = Files.createTempFile("jvx-compiled-styles", ".css");
+				newStylesheet.toFile().deleteOnExit();
+				
+				Files.write(newStylesheet, content.toString().getBytes(StandardCharsets.UTF_8));
+				
+				String newStylesheetUrl = newStylesheet.toUri().toString();
+				
+				synchronized (StyleClassCompiler.class)
+				{
+					for (Scene scene : scenes)
+					{
+						int index = -1;
+						
+						if (stylesheetUrl != null)
+						{
+							index = scene.getStylesheets().indexOf(stylesheetUrl);
+						}
+						
+						if (index >= 0)
+						{
+							scene.getStylesheets().set(index, newStylesheetUrl);
+						}
+						else
+						{
+							scene.getStylesheets().add(newStylesheetUrl);
+						}
+					}
+					
+					if (stylesheet != null)
+					{
+						Files.deleteIfExists(stylesheet);
+					}
+					
+					stylesheet = newStylesheet;
+					stylesheetUrl = newStylesheetUrl;
+					availableStyleClasses = writtenStyleClasses;
+				}
+			}
+			catch (IOException e)
+			{
+				// Keep the previous stylesheet, the rules are written again
+				// with the next pulse.
+				synchronized (StyleClassCompiler.class)
+				{
+					rulesDirty = true;
+					flushListeners.addAll(listeners);
+				}
+				
+				return;
+			}
+		}
+		
+		for (Runnable listener : listeners)
+		{
+			listener.run();
+		}
+	}
+	
+	/**
+	 * Schedules writing the stylesheet with the next pulse, if it is not
+	 * scheduled already.
+	 */
+	private static void scheduleFlush()
+	{
+		if (!flushScheduled)
+		{
+			flushScheduled = true;
+			
+			Platform.runLater(StyleClassCompiler::flush);
+		}
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link CompiledStyle} is a style with its generated style class and
+	 * its owners.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private static final class CompiledStyle
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The owners, which are only weakly referenced. */
+		private Set<Object> owners = Collections.newSetFromMap(new WeakHashMap<>());
+		
+		/** The style. */
+		private String style;
+		
+		/** The generated style class. */
+		private String styleClass;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link CompiledStyle}.
+		 * 
+		 * @param pStyleClass the generated style class.
+		 * @param pStyle the style.
+		 */
+		private CompiledStyle(String pStyleClass, String pStyle)
+		{
+			styleClass = pStyleClass;
+			style = pStyle;
+		}
+		
+	}	// CompiledStyle
+	
+}	// StyleClassCompiler
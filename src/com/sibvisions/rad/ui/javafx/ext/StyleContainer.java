@@ -23,8 +23,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -69,6 +72,9 @@ public class StyleContainer
 	// Class members
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/** If styles are compiled into style classes. */
+	private static boolean styleClassCompilationEnabled;
+	
 	/** The value to append after the declarations. */
 	private String after;
 	
@@ -92,9 +98,18 @@ public class StyleContainer
 	/** The parent {@link Node}. */
 	private Node parentNode;
 	
+	/** The listener for the scene of the parent node, if it is observed. */
+	private ChangeListener<Scene> sceneListener;
+	
 	/** The string representation of this. */
 	private String style;
 	
+	/** The compiled style class which is set on the parent, if any. */
+	private String styleClass;
+	
+	/** If the compiled style class is waiting to become available. */
+	private boolean styleClassPending;
+	
 	/** The listeners for when an update occurs. */
 	private List<WeakReference<Runnable>> updateListeners;
 	
@@ -153,6 +168,38 @@ public class StyleContainer
 	// User-defined methods
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/**
+	 * Gets if styles are compiled into style classes.
+	 * 
+	 * @return {@code true} if styles are compiled into style classes.
+	 * @see #setStyleClassCompilationEnabled(boolean)
+	 */
+	public static boolean isStyleClassCompilationEnabled()
+	{
+		return styleClassCompilationEnabled;
+	}
+	
+	/**
+	 * Sets if styles are compiled into style classes.
+	 * <p>
+	 * If enabled, the style is not set inline on the parent anymore, but
+	 * compiled by the {@link StyleClassCompiler} into a style class which is
+	 * shared by all parents with the same style. This affects every
+	 * {@link StyleContainer} at its next update.
+	 * <p>
+	 * The generated stylesheet is added to every scene the parent is added
+	 * to. Until the style class is {@link StyleClassCompiler#isAvailable(String)
+	 * available} in it, the style is still set inline.
+	 * 
+	 * @param pEnabled {@code true} if styles should be compiled into style
+	 *            classes.
+	 * @see StyleClassCompiler
+	 */
+	public static void setStyleClassCompilationEnabled(boolean pEnabled)
+	{
+		styleClassCompilationEnabled = pEnabled;
+	}
+	
 	/**
 	 * Adds an {@link Runnable update listener} which is invoked everytime the
 	 * style is updated.
@@ -615,6 +662,14 @@ public class StyleContainer
 	 */
 	public void removeStyle()
 	{
+		setStyleClass(null);
+		
+		if (sceneListener != null)
+		{
+			parentNode.sceneProperty().removeListener(sceneListener);
+			sceneListener = null;
+		}
+		
 		if (parentNode != null)
 		{
 			parentNode.setStyle(getStyle());
@@ -705,17 +760,155 @@ public class StyleContainer
 	 * Updates the parent with all changes.
 	 */
 	protected void updateStyle()
+	{
+		style = getStyle();
+		
+		if (styleClassCompilationEnabled && (parentNode != null || parentMenuItem != null))
+		{
+			setStyleClass(StyleClassCompiler.getStyleClass(style, getParent()));
+		}
+		else
+		{
+			setStyleClass(null);
+		}
+		
+		updateInlineStyle();
+		
+		notifyUpdateListeners();
+	}
+	
+	/**
+	 * Gets the parent.
+	 * 
+	 * @return the parent node or menu item, {@code null} if there is none.
+	 */
+	private Object getParent()
 	{
 		if (parentNode != null)
 		{
-			parentNode.setStyle(getStyle());
+			return parentNode;
+		}
+		
+		return parentMenuItem;
+	}
+	
+	/**
+	 * Invoked if the scene of the parent node changes.
+	 * 
+	 * @param pObservable the observable.
+	 * @param pOldValue the old value.
+	 * @param pNewValue the new value.
+	 */
+	private void onSceneChanged(ObservableValue<? extends Scene> pObservable, Scene pOldValue, Scene pNewValue)
+	{
+		if (styleClass != null)
+		{
+			StyleClassCompiler.addScene(pNewValue);
+			
+			updateInlineStyle();
+		}
+	}
+	
+	/**
+	 * Invoked after the stylesheet of the {@link StyleClassCompiler} has been
+	 * written.
+	 */
+	private void onStyleClassFlushed()
+	{
+		styleClassPending = false;
+		
+		updateInlineStyle();
+	}
+	
+	/**
+	 * Replaces the compiled style class on the parent with the given one.
+	 * 
+	 * @param pStyleClass the new compiled style class, {@code null} for none.
+	 */
+	private void setStyleClass(String pStyleClass)
+	{
+		if (styleClass != null && styleClass.equals(pStyleClass))
+		{
+			return;
+		}
+		
+		List<String> styleClasses = null;
+		
+		if (parentNode != null)
+		{
+			styleClasses = parentNode.getStyleClass();
 		}
 		else if (parentMenuItem != null)
 		{
-			parentMenuItem.setStyle(getStyle());
+			styleClasses = parentMenuItem.getStyleClass();
 		}
 		
-		notifyUpdateListeners();
+		if (styleClasses != null)
+		{
+			if (styleClass != null)
+			{
+				styleClasses.remove(styleClass);
+			}
+			
+			if (pStyleClass != null)
+			{
+				styleClasses.add(pStyleClass);
+				
+				if (parentNode != null)
+				{
+					if (sceneListener == null)
+					{
+						sceneListener = this::onSceneChanged;
+						parentNode.sceneProperty().addListener(sceneListener);
+					}
+					
+					StyleClassCompiler.addScene(parentNode.getScene());
+				}
+				else if (parentMenuItem.getParentPopup() != null)
+				{
+					StyleClassCompiler.addScene(parentMenuItem.getParentPopup().getScene());
+				}
+			}
+		}
+		
+		if (styleClass != null)
+		{
+			StyleClassCompiler.releaseStyleClass(styleClass, getParent());
+		}
+		
+		styleClass = pStyleClass;
+	}
+	
+	/**
+	 * Sets the style inline on the parent, unless the compiled style class is
+	 * available in the stylesheet, or the parent node is not in a scene yet.
+	 */
+	private void updateInlineStyle()
+	{
+		String inlineStyle = style;
+		
+		if (styleClass != null)
+		{
+			if (StyleClassCompiler.isAvailable(styleClass) || (parentNode != null && parentNode.getScene() == null))
+			{
+				inlineStyle = "";
+			}
+			else if (!styleClassPending)
+			{
+				styleClassPending = true;
+				
+				StyleClassCompiler.runAfterFlush(this::onStyleClassFlushed);
+			}
+		}
+		
+		if (parentNode != null)
+		{
+			parentNode.setStyle(inlineStyle);
+		}
+		else if (parentMenuItem != null)
+		{
+			parentMenuItem.setStyle(inlineStyle);
+		}
 	}
 	
 }	// StyleContainer
@@ -26,10 +26,18 @@ import javafx.geometry.Orientation;
 import javafx.geometry.Point3D;
 import javafx.scene.Camera;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.PerspectiveCamera;
 import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
+import com.sibvisions.rad.ui.javafx.ext.FXOverlayRegion;
+
 /**
  * The {@link FXAnimator} is a helper class that allows to easily animate
  * {@link Node}s.
@@ -175,6 +183,28 @@ public final class FXAnimator
 		return timeline;
 	}
 	
+	/**
+	 * Finds the overlay pane above the given {@link Node}, which is the
+	 * {@link FXOverlayRegion#getOverlayPane() overlay pane} of the nearest
+	 * {@link FXOverlayRegion} in its ancestors. The overlay pane is drawn above
+	 * the content and is not clipped by the ancestors of the {@link Node}.
+	 * 
+	 * @param pNode the {@link Node}.
+	 * @return the overlay pane, {@code null} if there is none.
+	 */
+	public static Pane findOverlayPane(Node pNode)
+	{
+		for (Parent parent = pNode.getParent(); parent != null; parent = parent.getParent())
+		{
+			if (parent instanceof FXOverlayRegion)
+			{
+				return ((FXOverlayRegion)parent).getOverlayPane();
+			}
+		}
+		
+		return null;
+	}
+	
 	/**
 	 * Flips the given {@link Node} in the given direction until it is turned
 	 * roughly 90 degrees, read it is not visible anymore. Then the first
@@ -226,6 +256,79 @@ public final class FXAnimator
 		startTransition.play();
 	}
 	
+	/**
+	 * Flips the given {@link Node} like
+	 * {@link #flip(Node, Orientation, boolean, Runnable, Runnable)}, but
+	 * animates snapshots of the {@link Node} instead of the {@link Node}
+	 * itself.
+	 * <p>
+	 * The outgoing content is captured before the animation starts, and the
+	 * incoming content right after {@code pOnTippingPoint} has been executed.
+	 * Only an {@link ImageView} with the snapshot is rotated, the {@link Node}
+	 * is hidden during the animation and shown again at the end. This is a lot
+	 * cheaper for large {@link Node}s, as they do not need to be rendered for
+	 * every frame.
+	 * <p>
+	 * The {@link ImageView} is shown in the {@link #findOverlayPane(Node)
+	 * overlay pane}, the children of the parent of the {@link Node} are not
+	 * changed. If there is no overlay pane, the {@link Node} itself is
+	 * flipped.
+	 * 
+	 * @param pNode the {@link Node} to rotate.
+	 * @param pOrientation the {@link Orientation} in which to rotate. Note that
+	 *            {@link Orientation#HORIZONTAL} means from right to left.
+	 * @param pRightLeftTopDown {@code true} if the animation should be from
+	 *            right to left/top to down. {@code false} if it should be left
+	 *            to right/bottom to up.
+	 * @param pOnTippingPoint the {@link Runnable} to execute when the
+	 *            {@link Node} is exactly edge on with the viewer. Can be
+	 *            {@code null}.
+	 * @param pOnFinished the {@link Runnable} to execute when the rotation has
+	 *            finished. Can be {@code null}.
+	 */
+	public static void flipSnapshot(Node pNode, Orientation pOrientation, boolean pRightLeftTopDown, Runnable pOnTippingPoint, Runnable pOnFinished)
+	{
+		Pane overlayPane = findOverlayPane(pNode);
+		
+		if (overlayPane == null)
+		{
+			flip(pNode, pOrientation, pRightLeftTopDown, pOnTippingPoint, pOnFinished);
+			return;
+		}
+		
+		ImageView imageView = createSnapshotView(pNode, overlayPane);
+		
+		double tippingPoint = calculateEdgeAngle(imageView, pOrientation);
+		
+		RotateTransition startTransition = createFlipStartTransition(imageView, pOrientation, pRightLeftTopDown);
+		RotateTransition endTransition = createFlipEndTransition(imageView, pOrientation, pRightLeftTopDown);
+		
+		startTransition.setOnFinished(pActionEvent ->
+		{
+			if (pOnTippingPoint != null)
+			{
+				pOnTippingPoint.run();
+			}
+			
+			imageView.setImage(snapshot(pNode));
+			imageView.setRotate(tippingPoint + 180);
+			
+			endTransition.play();
+		});
+		
+		endTransition.setOnFinished(pActionEvent ->
+		{
+			removeSnapshotView(pNode, imageView, overlayPane);
+			
+			if (pOnFinished != null)
+			{
+				pOnFinished.run();
+			}
+		});
+		
+		startTransition.play();
+	}
+	
 	/**
 	 * Gets the angle which the given distance from the center of the seen has
 	 * as seen from the given {@link PerspectiveCamera}.
@@ -340,4 +443,119 @@ public final class FXAnimator
 		
 		timeline.play();
 	}
+	
+	/**
+	 * Shakes the given {@link Node} like
+	 * {@link #shake(Node, Orientation, double, Runnable)}, but animates a
+	 * snapshot of the {@link Node} instead of the {@link Node} itself.
+	 * <p>
+	 * If there is no {@link #findOverlayPane(Node) overlay pane}, the
+	 * {@link Node} itself is shaken.
+	 * 
+	 * @param pNode the {@link Node} to shake.
+	 * @param pOrientation the {@link Orientation} of the movement.
+	 * @param pStrength the strength (read distance) of the movement.
+	 * @param pOnFinished the {@link Runnable} to execute when the shaking has
+	 *            finished. Can be {@code null}.
+	 * @see #flipSnapshot(Node, Orientation, boolean, Runnable, Runnable)
+	 */
+	public static void shakeSnapshot(Node pNode, Orientation pOrientation, double pStrength, Runnable pOnFinished)
+	{
+		Pane overlayPane = findOverlayPane(pNode);
+		
+		if (overlayPane == null)
+		{
+			shake(pNode, pOrientation, pStrength, pOnFinished);
+			return;
+		}
+		
+		ImageView imageView = createSnapshotView(pNode, overlayPane);
+		
+		Timeline timeline = createShakeAnimation(imageView, pOrientation, pStrength);
+		timeline.setOnFinished((pActionEvent) ->
+		{
+			removeSnapshotView(pNode, imageView, overlayPane);
+			
+			if (pOnFinished != null)
+			{
+				pOnFinished.run();
+			}
+		});
+		
+		timeline.play();
+	}
+	
+	/**
+	 * Creates an {@link ImageView} with a snapshot of the given {@link Node}
+	 * and puts it into the given overlay pane, exactly above the
+	 * {@link Node}, which is hidden.
+	 * 
+	 * @param pNode the {@link Node}.
+	 * @param pOverlayPane the overlay pane.
+	 * @return the {@link ImageView}.
+	 */
+	private static ImageView createSnapshotView(Node pNode, Pane pOverlayPane)
+	{
+		Bounds bounds = pOverlayPane.sceneToLocal(pNode.localToScene(pNode.getBoundsInLocal()));
+		
+		ImageView imageView = new ImageView(snapshot(pNode));
+		imageView.setManaged(false);
+		imageView.setMouseTransparent(true);
+		imageView.relocate(bounds.getMinX(), bounds.getMinY());
+		
+		pOverlayPane.getChildren().add(imageView);
+		
+		pNode.setVisible(false);
+		
+		return imageView;
+	}
+	
+	/**
+	 * Removes the given {@link ImageView} and shows the given {@link Node}
+	 * again.
+	 * 
+	 * @param pNode the {@link Node}.
+	 * @param pImageView the {@link ImageView}.
+	 * @param pOverlayPane the overlay pane.
+	 */
+	private static void removeSnapshotView(Node pNode, ImageView pImageView, Pane pOverlayPane)
+	{
+		pOverlayPane.getChildren().remove(pImageView);
+		
+		pNode.setVisible(true);
+	}
+	
+	/**
+	 * Takes a snapshot of the given {@link Node} with its current content. The
+	 * {@link Node} is laid out first and made visible for the time of the
+	 * snapshot, if it is hidden.
+	 * 
+	 * @param pNode the {@link Node}.
+	 * @return the snapshot.
+	 */
+	private static WritableImage snapshot(Node pNode)
+	{
+		boolean visible = pNode.isVisible();
+		
+		pNode.setVisible(true);
+		
+		try
+		{
+			pNode.applyCss();
+			
+			if (pNode instanceof Parent)
+			{
+				((Parent)pNode).layout();
+			}
+			
+			SnapshotParameters parameters = new SnapshotParameters();
+			parameters.setFill(Color.TRANSPARENT);
+			
+			return pNode.snapshot(parameters, null);
+		}
+		finally
+		{
+			pNode.setVisible(visible);
+		}
+	}
 }
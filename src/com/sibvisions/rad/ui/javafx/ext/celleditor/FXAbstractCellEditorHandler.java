@@ -81,6 +81,9 @@ public abstract class FXAbstractCellEditorHandler<CO extends Node, CE extends IC
 	/** The handler for key events. */
 	private EventHandler<KeyEvent> keyPressedEventFilter;
 	
+	/** If the {@link #keyPressedEventFilter} has been registered. */
+	private boolean keyPressedEventFilterRegistered;
+	
 	/** The last value that was fetched from the bound {@link IDataRow}. */
 	private Object lastValue;
 	
@@ -199,6 +202,48 @@ public abstract class FXAbstractCellEditorHandler<CO extends Node, CE extends IC
 	// User-defined methods
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/**
+	 * Rebinds this handler to the given {@link ICellEditorListener} and
+	 * {@link IDataRow}, so that it can be reused for another cell instead of
+	 * creating a new handler and component.
+	 * <p>
+	 * This is expected to be called after {@link #uninstallEditor()}, the
+	 * listeners which were registered when this handler has been created are
+	 * registered again. Extensions which hold state for a single edit should
+	 * override this method and reset that state.
+	 * 
+	 * @param pCellEditorListener the {@link ICellEditorListener}.
+	 * @param pDataRow the {@link IDataRow}.
+	 */
+	public void rebind(ICellEditorListener pCellEditorListener, IDataRow pDataRow)
+	{
+		cellEditorListener = pCellEditorListener;
+		dataRow = pDataRow;
+		lastValue = null;
+		
+		if (dataRow instanceof IDataBook)
+		{
+			dataBook = (IDataBook)dataRow;
+		}
+		else
+		{
+			dataBook = null;
+		}
+		
+		if (focusHelper != null)
+		{
+			focusHelper.focusedProperty().removeListener(focusListener);
+			focusHelper.setNode(component);
+			focusHelper.focusedProperty().addListener(focusListener);
+		}
+		
+		if (keyPressedEventFilterRegistered)
+		{
+			component.removeEventFilter(KeyEvent.KEY_PRESSED, keyPressedEventFilter);
+			component.addEventFilter(KeyEvent.KEY_PRESSED, keyPressedEventFilter);
+		}
+	}
+	
 	/**
 	 * Applies the default styling to the {@link #component}. This includes
 	 * getting the default styling and inheriting the styling of the
@@ -354,6 +399,7 @@ public abstract class FXAbstractCellEditorHandler<CO extends Node, CE extends IC
 	protected void registerKeyEventFilter()
 	{
 		component.addEventFilter(KeyEvent.KEY_PRESSED, keyPressedEventFilter);
+		keyPressedEventFilterRegistered = true;
 	}
 	
 	/**
@@ -29,6 +29,7 @@ import javafx.scene.Node;
 
 import com.sibvisions.rad.ui.celleditor.AbstractChoiceCellEditor;
 import com.sibvisions.rad.ui.javafx.ext.FXImageChoiceBox;
+import com.sibvisions.rad.ui.javafx.ext.FXImageChoiceTable;
 import com.sibvisions.rad.ui.javafx.ext.control.table.AbstractDataRowCellContent;
 import com.sibvisions.rad.ui.javafx.ext.util.FXAlignmentUtil;
 
@@ -42,6 +43,16 @@ import com.sibvisions.rad.ui.javafx.ext.util.FXAlignmentUtil;
  */
 public class FXChoiceCellEditor extends AbstractChoiceCellEditor<Node>
 {
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * The {@link FXImageChoiceTable} which is shared by all components of this
+	 * editor. {@code null} if it needs to be rebuilt.
+	 */
+	private FXImageChoiceTable<Object> choiceTable;
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -76,6 +87,64 @@ public class FXChoiceCellEditor extends AbstractChoiceCellEditor<Node>
 		return new CellImageChoiceEditor(this);
 	}
 	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setAllowedValues(Object[] pAllowedValues)
+	{
+		super.setAllowedValues(pAllowedValues);
+		
+		choiceTable = null;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setDefaultImageName(String pDefaultImageName)
+	{
+		super.setDefaultImageName(pDefaultImageName);
+		
+		choiceTable = null;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setImageNames(String[] pImageNames)
+	{
+		super.setImageNames(pImageNames);
+		
+		choiceTable = null;
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the {@link FXImageChoiceTable} for the current allowed values and
+	 * images, which is shared by all components of this editor. It is only
+	 * rebuilt after the allowed values or images have been changed.
+	 * 
+	 * @return the {@link FXImageChoiceTable}.
+	 */
+	public FXImageChoiceTable<Object> getChoiceTable()
+	{
+		if (choiceTable == null)
+		{
+			choiceTable = new FXImageChoiceTable<>(getAllowedValues(), getImageNames(), getDefaultImageName());
+		}
+		
+		return choiceTable;
+	}
+	
 	//****************************************************************
 	// Subclass definition
 	//****************************************************************
@@ -100,7 +169,7 @@ public class FXChoiceCellEditor extends AbstractChoiceCellEditor<Node>
 		 */
 		public CellImageChoiceEditor(FXChoiceCellEditor pCellEditor)
 		{
-			super(new FXImageChoiceBox<>(pCellEditor::getAllowedValues, pCellEditor::getImageNames, pCellEditor::getDefaultImageName));
+			super(new FXImageChoiceBox<>(pCellEditor::getChoiceTable));
 			
 			component.setHorizontalAlignment(FXAlignmentUtil.alignmentToHPos(pCellEditor, HPos.CENTER));
 			component.setVerticalAlignment(FXAlignmentUtil.alignmentToVPos(pCellEditor, VPos.CENTER));
@@ -161,7 +230,7 @@ public class FXChoiceCellEditor extends AbstractChoiceCellEditor<Node>
 		 */
 		public ChoiceBoxCellEditorHandler(FXChoiceCellEditor pCellEditor, ICellEditorListener pCellEditorListener, IDataRow pDataRow, String pColumnName)
 		{
-			super(pCellEditor, pCellEditorListener, new FXImageChoiceBox<>(pCellEditor::getAllowedValues, pCellEditor::getImageNames, pCellEditor::getDefaultImageName),
+			super(pCellEditor, pCellEditorListener, new FXImageChoiceBox<>(pCellEditor::getChoiceTable),
 					pDataRow,
 					pColumnName);
 					
@@ -206,6 +275,22 @@ public class FXChoiceCellEditor extends AbstractChoiceCellEditor<Node>
 		// Overwritten methods
 		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void rebind(ICellEditorListener pCellEditorListener, IDataRow pDataRow)
+		{
+			super.rebind(pCellEditorListener, pDataRow);
+			
+			removeValueChangeListener(component.valueProperty());
+			
+			if (isSavingImmediate())
+			{
+				attachValueChangeListener(component.valueProperty());
+			}
+		}
+		
 		/**
 		 * {@inheritDoc}
 		 */
@@ -293,6 +293,21 @@ public class FXDateCellEditor extends AbstractDateCellEditor implements ICellRen
 			removeValueChangeListener(component.valueProperty());
 		}
 		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Overwritten methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void rebind(ICellEditorListener pCellEditorListener, IDataRow pDataRow)
+		{
+			super.rebind(pCellEditorListener, pDataRow);
+			
+			firstCancel = true;
+		}
+		
 		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// User-defined methods
 		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
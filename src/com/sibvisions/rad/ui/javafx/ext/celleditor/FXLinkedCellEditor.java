@@ -47,6 +47,7 @@ import com.sibvisions.rad.ui.javafx.ext.FXCustomComboBox;
 import com.sibvisions.rad.ui.javafx.ext.IFXComboBoxPopupProvider;
 import com.sibvisions.rad.ui.javafx.ext.control.table.FXDataBookView;
 import com.sibvisions.rad.ui.javafx.ext.util.FXFrameWaitUtil;
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
 import com.sibvisions.util.ArrayUtil;
 
 /**
@@ -258,7 +259,7 @@ public class FXLinkedCellEditor extends AbstractLinkedCellEditor implements ICel
 			
 			if (!firstEditingStarted)
 			{
-				referencedDataBook.setFilter(getSearchCondition(null));
+				setFilter(getSearchCondition(null));
 			}
 			
 			if (component.isFocused() && !firstEditingStarted)
@@ -294,7 +295,7 @@ public class FXLinkedCellEditor extends AbstractLinkedCellEditor implements ICel
 				}
 				else
 				{
-					referencedDataBook.setFilter(getSearchCondition(new Like(getRelevantSearchColumnName(), item)));
+					setFilter(getSearchCondition(new Like(getRelevantSearchColumnName(), item)));
 					if (referencedDataBook.getDataRow(0) != null && referencedDataBook.getDataRow(1) == null)
 					{
 						setValuesAndClearIfNecessary(referencedDataBook.getDataRow(0).getValues(referencedColumnNames));
@@ -303,7 +304,7 @@ public class FXLinkedCellEditor extends AbstractLinkedCellEditor implements ICel
 					{
 						if (cellEditor.isValidationEnabled())
 						{
-							referencedDataBook.setFilter(getSearchCondition(new LikeIgnoreCase(getRelevantSearchColumnName(), getWildCardString(item))));
+							setFilter(getSearchCondition(new LikeIgnoreCase(getRelevantSearchColumnName(), getWildCardString(item))));
 							if (referencedDataBook.getDataRow(0) != null && referencedDataBook.getDataRow(1) == null)
 							{
 								setValuesAndClearIfNecessary(referencedDataBook.getDataRow(0).getValues(referencedColumnNames));
@@ -325,6 +326,23 @@ public class FXLinkedCellEditor extends AbstractLinkedCellEditor implements ICel
 			popupChanged = false;
 		}
 		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Overwritten methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void rebind(ICellEditorListener pCellEditorListener, IDataRow pDataRow)
+		{
+			super.rebind(pCellEditorListener, pDataRow);
+			
+			firstEditingStarted = false;
+			popupChanged = false;
+			lastValue = null;
+		}
+		
 		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// User-defined methods
 		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -476,11 +494,11 @@ public class FXLinkedCellEditor extends AbstractLinkedCellEditor implements ICel
 			{
 				if (pNewValue != null && !pNewValue.isEmpty() && !Objects.equals(pNewValue, lastValue))
 				{
-					referencedDataBook.setFilter(getSearchCondition(new LikeIgnoreCase(getRelevantSearchColumnName(), getWildCardString(pNewValue))));
+					setFilter(getSearchCondition(new LikeIgnoreCase(getRelevantSearchColumnName(), getWildCardString(pNewValue))));
 				}
 				else
 				{
-					referencedDataBook.setFilter(getSearchCondition(null));
+					setFilter(getSearchCondition(null));
 				}
 				
 				lastValue = pNewValue;
@@ -555,6 +573,28 @@ public class FXLinkedCellEditor extends AbstractLinkedCellEditor implements ICel
 			return columns.toArray(new String[columns.size()]);
 		}
 		
+		/**
+		 * Sets the given filter on the {@link #referencedDataBook}, which is
+		 * tracked as a section by the {@link FXStallDetector} because it might
+		 * fetch from the server.
+		 * 
+		 * @param pCondition the filter {@link ICondition}.
+		 * @throws ModelException if setting the filter failed.
+		 */
+		private void setFilter(ICondition pCondition) throws ModelException
+		{
+			FXStallDetector.enter("FXLinkedCellEditor.setFilter");
+			
+			try
+			{
+				referencedDataBook.setFilter(pCondition);
+			}
+			finally
+			{
+				FXStallDetector.exit("FXLinkedCellEditor.setFilter");
+			}
+		}
+		
 		/**
 		 * Sets the selected item to the given item.
 		 * 
@@ -566,7 +606,7 @@ public class FXLinkedCellEditor extends AbstractLinkedCellEditor implements ICel
 			{
 				if (firstEditingStarted)
 				{
-					referencedDataBook.setFilter(getSearchCondition(null));
+					setFilter(getSearchCondition(null));
 					if (cellEditor.isSortByColumnName())
 					{
 						referencedDataBook.setSort(new SortDefinition(referencedColumnName));
@@ -601,11 +641,11 @@ public class FXLinkedCellEditor extends AbstractLinkedCellEditor implements ICel
 				{
 					if (pItem == null)
 					{
-						referencedDataBook.setFilter(getSearchCondition(null));
+						setFilter(getSearchCondition(null));
 					}
 					else
 					{
-						referencedDataBook.setFilter(getSearchCondition(new LikeIgnoreCase(getRelevantSearchColumnName(), getWildCardString(pItem))));
+						setFilter(getSearchCondition(new LikeIgnoreCase(getRelevantSearchColumnName(), getWildCardString(pItem))));
 					}
 				}
 			}
@@ -17,15 +17,28 @@ package com.sibvisions.rad.ui.javafx.ext.chart;
 
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 import javafx.scene.chart.Axis;
 
+import com.sibvisions.rad.ui.javafx.ext.util.TextWidthMeasurer;
+
 /**
  * The {@link TimestampAxis} is an {@link Axis} extension that allows
  * {@link Timestamp}s as values.
+ * <p>
+ * The unit of the ticks (minutes, hours, days, weeks, months or years) is
+ * chosen from the length of the axis and the width of the labels, so that the
+ * labels do not overlap.
  * 
  * @author Robert Zenz
  */
@@ -35,14 +48,26 @@ public class TimestampAxis extends Axis<Timestamp>
 	// Class members
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
-	/** One day represented in milliseconds. */
-	private static final long DAY_IN_MILLISECONDS = 60L * 60L * 24L * 1000L;
+	/** The minimal gap between two labels. */
+	private static final double LABEL_GAP = 10;
 	
 	/** The current {@link Bounds}. */
 	private Bounds bounds;
 	
-	/** The {@link SimpleDateFormat} used for formatting. */
-	private SimpleDateFormat formatter;
+	/** The {@link SimpleDateFormat} used for formatting dates. */
+	private SimpleDateFormat dateFormatter;
+	
+	/** The {@link SimpleDateFormat} used for formatting dates with time. */
+	private SimpleDateFormat dateTimeFormatter;
+	
+	/** The reused {@link Date} which holds the time that is formatted. */
+	private Date formattedDate;
+	
+	/** The {@link SimpleDateFormat} used for the current ticks. */
+	private SimpleDateFormat tickFormatter;
+	
+	/** The {@link ZoneId} in which the ticks are calculated. */
+	private ZoneId zone;
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
@@ -58,13 +83,31 @@ public class TimestampAxis extends Axis<Timestamp>
 	
 	/**
 	 * Creates a new instance of {@link TimestampAxis}.
+	 * <p>
+	 * If the given format does not contain a time, the time is appended to it
+	 * for ticks which are less than a day apart.
 	 *
-	 * @param pFormat the format of the ticks/labels (date format).
+	 * @param pFormat the format of the ticks/labels, a {@link SimpleDateFormat}
+	 *            pattern.
 	 */
 	public TimestampAxis(String pFormat)
 	{
 		bounds = new Bounds();
-		formatter = new SimpleDateFormat(pFormat);
+		formattedDate = new Date();
+		zone = ZoneId.systemDefault();
+		
+		dateFormatter = new SimpleDateFormat(pFormat);
+		
+		if (containsTime(pFormat))
+		{
+			dateTimeFormatter = dateFormatter;
+		}
+		else
+		{
+			dateTimeFormatter = new SimpleDateFormat(pFormat + " HH:mm");
+		}
+		
+		tickFormatter = dateFormatter;
 	}
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -77,10 +120,10 @@ public class TimestampAxis extends Axis<Timestamp>
 	@Override
 	public double getDisplayPosition(Timestamp pValue)
 	{
-		if (bounds.getLower() != null && bounds.getUpper() != null)
+		if (!bounds.isEmpty())
 		{
-			double lower = bounds.getLower().getTime();
-			double upper = bounds.getUpper().getTime();
+			double lower = bounds.getLower();
+			double upper = bounds.getUpper();
 			
 			double value = pValue.getTime();
 			
@@ -96,12 +139,12 @@ public class TimestampAxis extends Axis<Timestamp>
 	@Override
 	public Timestamp getValueForDisplay(double pDisplayPosition)
 	{
-		if (bounds.getLower() != null && bounds.getUpper() != null)
+		if (!bounds.isEmpty())
 		{
-			long lower = bounds.getLower().getTime();
-			long upper = bounds.getUpper().getTime();
+			long lower = bounds.getLower();
+			long upper = bounds.getUpper();
 			
-			return new Timestamp(Double.valueOf(pDisplayPosition / getWidth() * (upper - lower) + lower).longValue());
+			return new Timestamp((long)(pDisplayPosition / getWidth() * (upper - lower) + lower));
 		}
 		
 		return null;
@@ -122,10 +165,11 @@ public class TimestampAxis extends Axis<Timestamp>
 	@Override
 	public boolean isValueOnAxis(Timestamp pValue)
 	{
-		if (bounds.getLower() != null && bounds.getUpper() != null)
+		if (!bounds.isEmpty())
 		{
-			return (bounds.getLower().equals(pValue) || bounds.getLower().before(pValue))
-					&& (bounds.getUpper().equals(pValue) || bounds.getUpper().after(pValue));
+			long value = pValue.getTime();
+			
+			return bounds.getLower() <= value && value <= bounds.getUpper();
 		}
 		
 		return false;
@@ -146,7 +190,7 @@ public class TimestampAxis extends Axis<Timestamp>
 	@Override
 	public Timestamp toRealValue(double pValue)
 	{
-		return new Timestamp(Double.valueOf(pValue).longValue());
+		return new Timestamp((long)pValue);
 	}
 	
 	/**
@@ -166,23 +210,63 @@ public class TimestampAxis extends Axis<Timestamp>
 	{
 		Bounds providedBounds = (Bounds)pRange;
 		
-		if (providedBounds.getLower() != null && providedBounds.getUpper() != null)
+		if (!providedBounds.isEmpty())
 		{
-			List<Timestamp> ticks = new ArrayList<>();
+			long lower = providedBounds.getLower();
+			long upper = providedBounds.getUpper();
+			
+			TickUnit unit = TickUnit.YEAR;
+			int multiplier = TickUnit.YEAR.getMaximumMultiplier();
+			SimpleDateFormat formatter = dateFormatter;
+			
+			search:
+			for (TickUnit candidateUnit : TickUnit.values())
+			{
+				SimpleDateFormat candidateFormatter = getFormatter(candidateUnit);
+				
+				double labelWidth = TextWidthMeasurer.get(getTickLabelFont()).getWidth(format(candidateFormatter, upper));
+				long maxTickCount = Math.max(2, (long)(pLength / (labelWidth + LABEL_GAP)));
+				
+				for (int candidateMultiplier : candidateUnit.getMultipliers())
+				{
+					if ((upper - lower) / (candidateUnit.getApproximateMillis() * candidateMultiplier) < maxTickCount)
+					{
+						unit = candidateUnit;
+						multiplier = candidateMultiplier;
+						formatter = candidateFormatter;
+						
+						break search;
+					}
+				}
+			}
+			
+			tickFormatter = formatter;
 			
-			ticks.add(providedBounds.getLower());
+			List<Timestamp> ticks = new ArrayList<>();
 			
-			Timestamp tick = providedBounds.getLower();
-			// Make the timestamp midnight.
-			tick = new Timestamp(tick.getTime() - tick.getTime() % DAY_IN_MILLISECONDS);
+			ZonedDateTime tick = unit.align(Instant.ofEpochMilli(lower).atZone(zone), multiplier);
+			long tickTime = tick.toInstant().toEpochMilli();
 			
-			while (tick.before(providedBounds.getUpper()))
+			while (tickTime <= upper)
 			{
-				tick = new Timestamp(tick.getTime() + DAY_IN_MILLISECONDS);
-				ticks.add(tick);
+				if (tickTime >= lower)
+				{
+					ticks.add(new Timestamp(tickTime));
+				}
+				
+				tick = tick.plus(multiplier, unit.getChronoUnit());
+				tickTime = tick.toInstant().toEpochMilli();
 			}
 			
-			ticks.add(providedBounds.getUpper());
+			if (ticks.isEmpty())
+			{
+				ticks.add(new Timestamp(lower));
+				
+				if (upper != lower)
+				{
+					ticks.add(new Timestamp(upper));
+				}
+			}
 			
 			return ticks;
 		}
@@ -205,7 +289,7 @@ public class TimestampAxis extends Axis<Timestamp>
 	@Override
 	protected String getTickMarkLabel(Timestamp pValue)
 	{
-		return formatter.format(pValue);
+		return format(tickFormatter, pValue.getTime());
 	}
 	
 	/**
@@ -227,23 +311,99 @@ public class TimestampAxis extends Axis<Timestamp>
 	@Override
 	public void invalidateRange(List<Timestamp> pData)
 	{
-		bounds.setLower(null);
-		bounds.setUpper(null);
-		
-		for (Timestamp timestamp : pData)
+		if (pData.isEmpty())
+		{
+			bounds.clear();
+		}
+		else
 		{
-			if (bounds.getLower() == null || timestamp.before(bounds.getLower()))
+			long lower = Long.MAX_VALUE;
+			long upper = Long.MIN_VALUE;
+			
+			for (int index = 0; index < pData.size(); index++)
 			{
-				bounds.setLower(timestamp);
+				long time = pData.get(index).getTime();
+				
+				if (time < lower)
+				{
+					lower = time;
+				}
+				
+				if (time > upper)
+				{
+					upper = time;
+				}
 			}
 			
-			if (bounds.getUpper() == null || timestamp.after(bounds.getUpper()))
+			bounds.set(lower, upper);
+		}
+		
+		super.invalidateRange(pData);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Checks if the given date format pattern contains a time.
+	 * 
+	 * @param pFormat the format pattern.
+	 * @return {@code true} if the given format contains a time.
+	 */
+	private static boolean containsTime(String pFormat)
+	{
+		boolean quoted = false;
+		
+		for (int index = 0; index < pFormat.length(); index++)
+		{
+			char character = pFormat.charAt(index);
+			
+			if (character == '\'')
+			{
+				quoted = !quoted;
+			}
+			else if (!quoted && (character == 'H' || character == 'h' || character == 'k' || character == 'K' || character == 'm'))
 			{
-				bounds.setUpper(timestamp);
+				return true;
 			}
 		}
 		
-		super.invalidateRange(pData);
+		return false;
+	}
+	
+	/**
+	 * Formats the given time with the given {@link SimpleDateFormat}.
+	 * <p>
+	 * The {@link SimpleDateFormat}s and the {@link Date} are owned by this
+	 * axis and only used on the JavaFX thread, so they are never shared
+	 * between threads.
+	 * 
+	 * @param pFormatter the {@link SimpleDateFormat}.
+	 * @param pTime the time in milliseconds.
+	 * @return the formatted time.
+	 */
+	private String format(SimpleDateFormat pFormatter, long pTime)
+	{
+		formattedDate.setTime(pTime);
+		
+		return pFormatter.format(formattedDate);
+	}
+	
+	/**
+	 * Gets the {@link SimpleDateFormat} for the given {@link TickUnit}.
+	 * 
+	 * @param pUnit the {@link TickUnit}.
+	 * @return the {@link SimpleDateFormat}.
+	 */
+	private SimpleDateFormat getFormatter(TickUnit pUnit)
+	{
+		if (pUnit == TickUnit.MINUTE || pUnit == TickUnit.HOUR)
+		{
+			return dateTimeFormatter;
+		}
+		
+		return dateFormatter;
 	}
 	
 	//****************************************************************
@@ -261,11 +421,14 @@ public class TimestampAxis extends Axis<Timestamp>
 		// Class members
 		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		
+		/** If there are no bounds. */
+		private boolean empty;
+		
 		/** The lower bound. */
-		private Timestamp lower;
+		private long lower;
 		
 		/** The upper bound. */
-		private Timestamp upper;
+		private long upper;
 		
 		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// Initialization
@@ -277,18 +440,30 @@ public class TimestampAxis extends Axis<Timestamp>
 		public Bounds()
 		{
 			super();
+			
+			empty = true;
 		}
 		
 		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// User-defined methods
 		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		
+		/**
+		 * Clears the bounds.
+		 */
+		public void clear()
+		{
+			empty = true;
+			lower = 0;
+			upper = 0;
+		}
+		
 		/**
 		 * Gets the lower bound.
 		 *
 		 * @return the lower bound.
 		 */
-		public Timestamp getLower()
+		public long getLower()
 		{
 			return lower;
 		}
@@ -298,31 +473,176 @@ public class TimestampAxis extends Axis<Timestamp>
 		 *
 		 * @return the upper bound.
 		 */
-		public Timestamp getUpper()
+		public long getUpper()
 		{
 			return upper;
 		}
 		
 		/**
-		 * Sets the lower bound.
-		 *
-		 * @param pLower the new lower bound.
+		 * Gets if there are no bounds.
+		 * 
+		 * @return {@code true} if there are no bounds.
 		 */
-		public void setLower(Timestamp pLower)
+		public boolean isEmpty()
 		{
-			lower = pLower;
+			return empty;
 		}
 		
 		/**
-		 * Sets the upper bound.
+		 * Sets the bounds.
 		 *
+		 * @param pLower the new lower bound.
 		 * @param pUpper the new upper bound.
 		 */
-		public void setUpper(Timestamp pUpper)
+		public void set(long pLower, long pUpper)
 		{
+			empty = false;
+			lower = pLower;
 			upper = pUpper;
 		}
 		
 	}	// Bounds
 	
+	/**
+	 * The units in which the ticks can be placed.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private enum TickUnit
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Constants
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** Minutes. */
+		MINUTE(ChronoUnit.MINUTES, 60L * 1000L, 1, 5, 15, 30),
+		
+		/** Hours. */
+		HOUR(ChronoUnit.HOURS, 60L * 60L * 1000L, 1, 3, 6, 12),
+		
+		/** Days. */
+		DAY(ChronoUnit.DAYS, 24L * 60L * 60L * 1000L, 1, 2),
+		
+		/** Weeks. */
+		WEEK(ChronoUnit.WEEKS, 7L * 24L * 60L * 60L * 1000L, 1, 2),
+		
+		/** Months. */
+		MONTH(ChronoUnit.MONTHS, 30L * 24L * 60L * 60L * 1000L, 1, 3, 6),
+		
+		/** Years. */
+		YEAR(ChronoUnit.YEARS, 365L * 24L * 60L * 60L * 1000L, 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000);
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The approximate length of the unit in milliseconds. */
+		private long approximateMillis;
+		
+		/** The {@link ChronoUnit}. */
+		private ChronoUnit chronoUnit;
+		
+		/** The multipliers of the unit which can be used, ascending. */
+		private int[] multipliers;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link TickUnit}.
+		 * 
+		 * @param pChronoUnit the {@link ChronoUnit}.
+		 * @param pApproximateMillis the approximate length in milliseconds.
+		 * @param pMultipliers the multipliers which can be used, ascending.
+		 */
+		private TickUnit(ChronoUnit pChronoUnit, long pApproximateMillis, int... pMultipliers)
+		{
+			chronoUnit = pChronoUnit;
+			approximateMillis = pApproximateMillis;
+			multipliers = pMultipliers;
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// User-defined methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Aligns the given date time to the start of this unit and multiplier.
+		 * 
+		 * @param pDateTime the date time.
+		 * @param pMultiplier the multiplier.
+		 * @return the aligned date time, which is not after the given one.
+		 */
+		public ZonedDateTime align(ZonedDateTime pDateTime, int pMultiplier)
+		{
+			switch (this)
+			{
+				case MINUTE:
+					ZonedDateTime minute = pDateTime.truncatedTo(ChronoUnit.MINUTES);
+					return minute.withMinute(minute.getMinute() / pMultiplier * pMultiplier);
+					
+				case HOUR:
+					ZonedDateTime hour = pDateTime.truncatedTo(ChronoUnit.HOURS);
+					return hour.withHour(hour.getHour() / pMultiplier * pMultiplier);
+					
+				case DAY:
+					return pDateTime.truncatedTo(ChronoUnit.DAYS);
+					
+				case WEEK:
+					return pDateTime.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+					
+				case MONTH:
+					ZonedDateTime month = pDateTime.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+					return month.withMonth((month.getMonthValue() - 1) / pMultiplier * pMultiplier + 1);
+					
+				case YEAR:
+				default:
+					ZonedDateTime year = pDateTime.truncatedTo(ChronoUnit.DAYS).withDayOfYear(1);
+					return year.withYear(Math.floorDiv(year.getYear(), pMultiplier) * pMultiplier);
+			}
+		}
+		
+		/**
+		 * Gets the approximate length of the unit in milliseconds.
+		 * 
+		 * @return the approximate length of the unit in milliseconds.
+		 */
+		public long getApproximateMillis()
+		{
+			return approximateMillis;
+		}
+		
+		/**
+		 * Gets the {@link ChronoUnit}.
+		 * 
+		 * @return the {@link ChronoUnit}.
+		 */
+		public ChronoUnit getChronoUnit()
+		{
+			return chronoUnit;
+		}
+		
+		/**
+		 * Gets the biggest multiplier.
+		 * 
+		 * @return the biggest multiplier.
+		 */
+		public int getMaximumMultiplier()
+		{
+			return multipliers[multipliers.length - 1];
+		}
+		
+		/**
+		 * Gets the multipliers which can be used, ascending.
+		 * 
+		 * @return the multipliers which can be used.
+		 */
+		public int[] getMultipliers()
+		{
+			return multipliers;
+		}
+		
+	}	// TickUnit
+	
 }	// TimestampAxis
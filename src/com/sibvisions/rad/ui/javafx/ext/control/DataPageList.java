@@ -17,15 +17,33 @@ package com.sibvisions.rad.ui.javafx.ext.control;
 
 import java.util.AbstractList;
 
+import javax.rad.model.IDataBook;
 import javax.rad.model.IDataPage;
 import javax.rad.model.IDataRow;
 import javax.rad.model.ModelException;
+import javax.rad.model.condition.ICondition;
+import javax.rad.remote.AbstractConnection;
+
+import javafx.application.Platform;
+
+import com.sibvisions.rad.model.remote.RemoteDataBook;
+import com.sibvisions.rad.ui.javafx.ext.control.util.FXControlUtil;
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
 
 /**
  * The {@link DataPageList} is an {@link AbstractList} extension that is backed
  * by an {@link javax.rad.model.IDataBook} and holds the {@link IDataRow}s. It
  * is lazy, and can either automatically or manually fetch additional rows on
  * the fly.
+ * <p>
+ * In {@link FetchMode#AUTOMATIC automatic mode} the rows which have not been
+ * fetched yet are represented by a single, shared
+ * {@link #getPlaceholderRow() placeholder row}. The size of the list is based
+ * on the {@link #getEstimatedRowCount() estimated row count} if the
+ * {@link IDataPage} can supply one, so that it stays stable while more rows
+ * are fetched. The estimate is fetched in the background once per reload,
+ * until it arrives, or if fetching it fails, the size is based on the
+ * fetched rows.
  * 
  * @author Robert Zenz
  * @see IDataRow
@@ -42,9 +60,24 @@ public class DataPageList extends AbstractList<IDataRow>
 	/** The (default) size of the next batch of data to get. */
 	protected int fetchBatchSize;
 	
+	/** The estimated row count, {@code -1} if not known. */
+	private int estimatedRowCount = -1;
+	
+	/**
+	 * The generation of the {@link #estimatedRowCount}, it is increased every
+	 * time it is invalidated, so that estimates which arrive late are dropped.
+	 */
+	private int estimatedRowCountGeneration;
+	
+	/** If the {@link #estimatedRowCount} has already been requested. */
+	private boolean estimatedRowCountRequested;
+	
 	/** The {@link FetchMode}. */
 	private FetchMode fetchMode;
 	
+	/** The shared placeholder row for the rows which are not fetched yet. */
+	private IDataRow placeholderRow;
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -93,32 +126,28 @@ public class DataPageList extends AbstractList<IDataRow>
 			{
 				int rowCount = dataPage.getRowCount();
 				
-				if (dataPage.isAllFetched())
+				if (pIndex < rowCount)
 				{
-					if (pIndex < rowCount)
-					{
-						return dataPage.getDataRow(pIndex);
-					}
-					else
-					{
-						return dataPage.getDataRow(rowCount - 1);
-					}
+					return dataPage.getDataRow(pIndex);
 				}
-				else
+				
+				if (!dataPage.isAllFetched())
 				{
-					try
+					requestRow(pIndex);
+					
+					rowCount = dataPage.getRowCount();
+					
+					if (pIndex < rowCount)
 					{
 						return dataPage.getDataRow(pIndex);
 					}
-					catch (ModelException e)
+					else if (!dataPage.isAllFetched())
 					{
-						// Getting the row failed, given that we only wanted it
-						// to fetch to the given index, we'll ignore any exception
-						// that has occurred.
+						return getPlaceholderRow();
 					}
-					
-					return dataPage.getDataRow(dataPage.getRowCount() - 1);
 				}
+				
+				return dataPage.getDataRow(rowCount - 1);
 			}
 			else
 			{
@@ -141,14 +170,23 @@ public class DataPageList extends AbstractList<IDataRow>
 		{
 			if (fetchMode == FetchMode.AUTOMATIC)
 			{
+				int rowCount = dataPage.getRowCount();
+				
 				if (dataPage.isAllFetched())
 				{
-					return dataPage.getRowCount();
+					return rowCount;
+				}
+				
+				int estimated = getEstimatedRowCount();
+				
+				if (estimated > rowCount)
+				{
+					return estimated;
 				}
 				else
 				{
 					// Return a bigger row count so that the rest gets fetched.
-					return dataPage.getRowCount() + fetchBatchSize;
+					return rowCount + fetchBatchSize;
 				}
 			}
 			else
@@ -191,7 +229,16 @@ public class DataPageList extends AbstractList<IDataRow>
 				return false;
 			}
 			
-			dataPage.getDataRow(dataPage.getRowCount() + pBatchSize);
+			FXStallDetector.enter("DataPageList.fetchNextBatch");
+			
+			try
+			{
+				dataPage.getDataRow(dataPage.getRowCount() + pBatchSize);
+			}
+			finally
+			{
+				FXStallDetector.exit("DataPageList.fetchNextBatch");
+			}
 		}
 		catch (ModelException e)
 		{
@@ -212,6 +259,43 @@ public class DataPageList extends AbstractList<IDataRow>
 		return dataPage;
 	}
 	
+	/**
+	 * Gets the estimated row count of the backing {@link IDataPage}.
+	 * <p>
+	 * The estimate is {@link #requestEstimatedRowCount() requested} the first
+	 * time it is needed after it has been
+	 * {@link #invalidateEstimatedRowCount() invalidated}, this never blocks.
+	 * 
+	 * @return the estimated row count, at least the
+	 *         {@link #getRowCount() row count}.
+	 */
+	public int getEstimatedRowCount()
+	{
+		try
+		{
+			int rowCount = dataPage.getRowCount();
+			
+			if (dataPage.isAllFetched())
+			{
+				return rowCount;
+			}
+			
+			if (!estimatedRowCountRequested)
+			{
+				estimatedRowCountRequested = true;
+				
+				requestEstimatedRowCount();
+			}
+			
+			return Math.max(estimatedRowCount, rowCount);
+		}
+		catch (ModelException e)
+		{
+			// Without a row count there is nothing to estimate.
+			return Math.max(estimatedRowCount, 0);
+		}
+	}
+	
 	/**
 	 * Gets the {@link FetchMode fetch mode}.
 	 *
@@ -222,6 +306,22 @@ public class DataPageList extends AbstractList<IDataRow>
 		return fetchMode;
 	}
 	
+	/**
+	 * Gets the shared placeholder row which is returned for all rows that have
+	 * not been fetched yet.
+	 * 
+	 * @return the placeholder row.
+	 */
+	public IDataRow getPlaceholderRow()
+	{
+		if (placeholderRow == null)
+		{
+			placeholderRow = createPlaceholderRow();
+		}
+		
+		return placeholderRow;
+	}
+	
 	/**
 	 * Gets the {@link IDataPage#getRowCount() row count} of the backing
 	 * {@link IDataPage}.
@@ -241,6 +341,18 @@ public class DataPageList extends AbstractList<IDataRow>
 		}
 	}
 	
+	/**
+	 * Invalidates the {@link #getEstimatedRowCount() estimated row count}, it
+	 * is requested again the next time it is needed. An estimate which is
+	 * still being fetched is dropped when it arrives.
+	 */
+	public void invalidateEstimatedRowCount()
+	{
+		estimatedRowCount = -1;
+		estimatedRowCountGeneration++;
+		estimatedRowCountRequested = false;
+	}
+	
 	/**
 	 * Gets if all data has been fetched.
 	 *
@@ -260,6 +372,174 @@ public class DataPageList extends AbstractList<IDataRow>
 		return true;
 	}
 	
+	/**
+	 * Gets if the given row is the {@link #getPlaceholderRow() placeholder
+	 * row}.
+	 * 
+	 * @param pDataRow the row.
+	 * @return {@code true} if the given row is the placeholder row.
+	 */
+	public boolean isPlaceholder(IDataRow pDataRow)
+	{
+		return pDataRow != null && pDataRow == placeholderRow;
+	}
+	
+	/**
+	 * Creates the placeholder row.
+	 * 
+	 * @return the placeholder row.
+	 */
+	protected IDataRow createPlaceholderRow()
+	{
+		try
+		{
+			return dataPage.getDataBook().createEmptyRow(null);
+		}
+		catch (ModelException e)
+		{
+			throw new RuntimeException(e);
+		}
+	}
+	
+	/**
+	 * Fetches the rows up to the given index.
+	 * 
+	 * @param pIndex the index of the row up to which to fetch.
+	 */
+	protected void fetchTo(int pIndex)
+	{
+		FXStallDetector.enter("DataPageList.fetchTo");
+		
+		try
+		{
+			dataPage.getDataRow(pIndex);
+		}
+		catch (ModelException e)
+		{
+			// Getting the row failed, given that we only wanted it
+			// to fetch to the given index, we ignore the exception.
+		}
+		finally
+		{
+			FXStallDetector.exit("DataPageList.fetchTo");
+		}
+	}
+	
+	/**
+	 * Invoked if the size changed without a change of the backing
+	 * {@link IDataPage}, for example because the estimated row count arrived.
+	 * <p>
+	 * The default implementation does nothing.
+	 * 
+	 * @param pPreviousSize the previous size.
+	 * @param pSize the new size.
+	 */
+	protected void notifySizeChanged(int pPreviousSize, int pSize)
+	{
+		// Nothing to notify.
+	}
+	
+	/**
+	 * Requests the estimated row count from the backing {@link IDataPage}.
+	 * <p>
+	 * The default implementation asks the storage of a {@link RemoteDataBook}
+	 * on a background thread, with the same condition as the
+	 * {@link RemoteDataBook} itself. Other {@link IDataPage}s hold all their
+	 * rows in memory, their estimate would be their row count, so nothing is
+	 * requested. Extending classes must pass the result to
+	 * {@link #setEstimatedRowCount(int, int)} on the JavaFX application
+	 * thread.
+	 */
+	protected void requestEstimatedRowCount()
+	{
+		if (!(dataPage instanceof RemoteDataBook) || ((RemoteDataBook) dataPage).getDataSource() == null)
+		{
+			return;
+		}
+		
+		IDataBook dataBook = (IDataBook) dataPage;
+		
+		int generation = estimatedRowCountGeneration;
+		AbstractConnection connection;
+		String storageName;
+		ICondition condition;
+		
+		try
+		{
+			connection = ((RemoteDataBook) dataBook).getDataSource().getConnection();
+			storageName = dataBook.getName();
+			condition = FXControlUtil.getStorageCondition(dataBook);
+		}
+		catch (ModelException e)
+		{
+			// No estimate, the size is based on the fetched rows.
+			return;
+		}
+		
+		Thread thread = new Thread(() ->
+		{
+			try
+			{
+				Object estimate = connection.call(storageName, "getEstimatedRowCount", condition);
+				
+				if (estimate instanceof Number)
+				{
+					Platform.runLater(() -> setEstimatedRowCount(generation, ((Number) estimate).intValue()));
+				}
+			}
+			catch (Throwable th)
+			{
+				// No estimate, the size is based on the fetched rows.
+			}
+		}, "DataPageList-EstimatedRowCount");
+		
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	/**
+	 * Invoked if a row has been requested which is not fetched yet.
+	 * <p>
+	 * The default implementation fetches the rows up to the given index
+	 * immediately, extending classes might defer the fetch and return the
+	 * {@link #getPlaceholderRow() placeholder row} until then.
+	 * 
+	 * @param pIndex the index of the requested row.
+	 */
+	protected void requestRow(int pIndex)
+	{
+		fetchTo(pIndex);
+	}
+	
+	/**
+	 * Sets the estimated row count which has been requested for the given
+	 * generation, it is dropped if it has been
+	 * {@link #invalidateEstimatedRowCount() invalidated} in the meantime.
+	 * <p>
+	 * Must be called on the JavaFX application thread.
+	 * 
+	 * @param pGeneration the generation for which it has been requested.
+	 * @param pEstimatedRowCount the estimated row count.
+	 */
+	protected void setEstimatedRowCount(int pGeneration, int pEstimatedRowCount)
+	{
+		if (pGeneration != estimatedRowCountGeneration)
+		{
+			return;
+		}
+		
+		int previousSize = size();
+		
+		estimatedRowCount = Math.max(0, pEstimatedRowCount);
+		
+		int size = size();
+		
+		if (size != previousSize)
+		{
+			notifySizeChanged(previousSize, size);
+		}
+	}
+	
 	//****************************************************************
 	// Subclass definition
 	//****************************************************************
@@ -277,7 +557,8 @@ public class DataPageList extends AbstractList<IDataRow>
 		
 		/**
 		 * In automatic mode, the {@link DataPageList} will automatically fetch
-		 * data as needed. It might report sizes that are too big.
+		 * data as needed. It might report sizes that are too big, the rows which
+		 * are not fetched yet are represented by the placeholder row.
 		 */
 		AUTOMATIC,
 		
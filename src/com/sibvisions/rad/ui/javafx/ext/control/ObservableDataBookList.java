@@ -23,10 +23,12 @@ import javax.rad.model.IDataBook;
 import javax.rad.model.IDataRow;
 import javax.rad.model.ModelException;
 import javax.rad.model.event.DataBookEvent;
+import javax.rad.model.event.DataBookEvent.ChangedType;
 import javax.rad.model.event.DataRowEvent;
 import javax.rad.model.event.IDataBookListener;
 import javax.rad.model.event.IDataRowListener;
 
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -41,6 +43,11 @@ import com.sun.javafx.collections.NonIterableChange;
 /**
  * The {@link ObservableDataBookList} is an extension of the
  * {@link DataPageList} which implements {@link ObservableList}.
+ * <p>
+ * Rows which are requested but not fetched yet are fetched later on the
+ * JavaFX thread, until then the placeholder row is returned. Once the rows
+ * have been fetched, the placeholders are replaced with update events and the
+ * size is corrected with add or remove events.
  * 
  * @author Robert Zenz
  * @see DataPageList
@@ -76,6 +83,9 @@ public class ObservableDataBookList extends DataPageList implements ObservableLi
 	 */
 	private BooleanProperty automaticUpdates;
 	
+	/** The highest index of the requested rows, {@code -1} if none. */
+	private int pendingRowIndex = -1;
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -230,6 +240,36 @@ public class ObservableDataBookList extends DataPageList implements ObservableLi
 		return fetched;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void notifySizeChanged(int pPreviousSize, int pSize)
+	{
+		if (pSize > pPreviousSize)
+		{
+			fireAddEvent(pPreviousSize, pSize);
+		}
+		else
+		{
+			fireRemovedEvent(pSize, pPreviousSize);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void requestRow(int pIndex)
+	{
+		if (pendingRowIndex < 0)
+		{
+			Platform.runLater(this::fetchPendingRows);
+		}
+		
+		pendingRowIndex = Math.max(pendingRowIndex, pIndex);
+	}
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// User-defined methods
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -285,6 +325,21 @@ public class ObservableDataBookList extends DataPageList implements ObservableLi
 		fireChangedEvent(new NonIterableChange.GenericAddRemoveChange<>(pFromIndex, pToIndex, Collections.emptyList(), this));
 	}
 	
+	/**
+	 * Fires a remove event for the given range of placeholder rows.
+	 * 
+	 * @param pFromIndex the index at which the change starts (inclusive).
+	 * @param pToIndex the index at which the change ends (exclusive).
+	 */
+	protected void fireRemovedEvent(int pFromIndex, int pToIndex)
+	{
+		fireChangedEvent(new NonIterableChange.GenericAddRemoveChange<>(
+				pFromIndex,
+				pFromIndex,
+				Collections.nCopies(pToIndex - pFromIndex, getPlaceholderRow()),
+				this));
+	}
+	
 	/**
 	 * Fires the given {@link Change} as event.
 	 * 
@@ -345,6 +400,44 @@ public class ObservableDataBookList extends DataPageList implements ObservableLi
 		automaticUpdates.set(pAutomaticUpdates);
 	}
 	
+	/**
+	 * Fetches the rows up to the highest requested index and replaces the
+	 * placeholder rows.
+	 */
+	private void fetchPendingRows()
+	{
+		int index = pendingRowIndex;
+		
+		pendingRowIndex = -1;
+		
+		int previousRowCount = getRowCount();
+		int previousSize = size();
+		
+		if (index >= previousRowCount)
+		{
+			fetchTo(Math.max(index, previousRowCount + fetchBatchSize - 1));
+		}
+		
+		int rowCount = getRowCount();
+		int size = size();
+		
+		int replacedEnd = Math.min(rowCount, Math.min(previousSize, size));
+		
+		if (replacedEnd > previousRowCount)
+		{
+			fireChangedEvent(previousRowCount, replacedEnd);
+		}
+		
+		if (size > previousSize)
+		{
+			fireAddEvent(previousSize, size);
+		}
+		else if (size < previousSize)
+		{
+			fireRemovedEvent(size, previousSize);
+		}
+	}
+	
 	/**
 	 * Invoked if the {@link #automaticUpdates} property changes.
 	 * <p>
@@ -373,6 +466,11 @@ public class ObservableDataBookList extends DataPageList implements ObservableLi
 	 */
 	private void onDataBookEvent(DataBookEvent pDataBookEvent)
 	{
+		if (pDataBookEvent.getChangedType() == ChangedType.AFTER_RELOAD)
+		{
+			invalidateEstimatedRowCount();
+		}
+		
 		try
 		{
 			fireChangedEvent(0, dataBook.getRowCount());
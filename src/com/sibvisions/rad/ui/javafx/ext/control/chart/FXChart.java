@@ -48,6 +48,7 @@ import javax.rad.util.TranslationMap;
 
 import com.sibvisions.rad.ui.javafx.ext.chart.TimestampAxis;
 import com.sibvisions.rad.ui.javafx.ext.control.util.FXControlUtil;
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
 import com.sibvisions.util.type.StringUtil;
 
 /**
@@ -187,7 +188,18 @@ public class FXChart extends Region implements ITableControl
 			Platform.runLater(() ->
 			{
 				chartAnimation = false;
-				updateChart();
+				
+				FXStallDetector.enter("FXChart.updateChart");
+				
+				try
+				{
+					updateChart();
+				}
+				finally
+				{
+					FXStallDetector.exit("FXChart.updateChart");
+				}
+				
 				notified = false;
 			});
 		}
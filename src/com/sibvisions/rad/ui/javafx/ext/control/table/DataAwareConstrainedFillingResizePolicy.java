@@ -15,24 +15,35 @@
  */
 package com.sibvisions.rad.ui.javafx.ext.control.table;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.rad.model.IDataBook;
 import javax.rad.model.IDataRow;
 import javax.rad.model.IRowDefinition;
 import javax.rad.model.ModelException;
 
+import javafx.application.Platform;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView.ResizeFeatures;
-import javafx.scene.text.Text;
 import javafx.util.Callback;
 
 import com.sibvisions.rad.ui.javafx.ext.control.util.FXControlUtil;
+import com.sibvisions.rad.ui.javafx.ext.util.TextWidthMeasurer;
 
 /**
  * The {@link DataAwareConstrainedFillingResizePolicy} is a resize policy that
  * can resize the columns based on the data in the backing {@link IDataBook}.
  * <p>
+ * The widths of the headers are measured immediately. The values of a sample
+ * of the rows are copied on the JavaFX thread, their widths are measured on a
+ * shared background thread and applied in one batch afterwards. The measuring
+ * is done with a
+ * {@link TextWidthMeasurer}, so no {@link javafx.scene.text.Text} layout is
+ * needed.
+ * <p>
  * It only works in conjunction with the {@link FXDataBookView}.
  * 
  * @author Robert Zenz
@@ -40,10 +51,44 @@ import com.sibvisions.rad.ui.javafx.ext.control.util.FXControlUtil;
 @SuppressWarnings("rawtypes")
 public class DataAwareConstrainedFillingResizePolicy implements Callback<ResizeFeatures, Boolean>
 {
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Constants
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The default range of rows from which the samples are taken. */
+	public static final int DEFAULT_SAMPLE_RANGE = 1000;
+	
+	/** The default number of rows which are sampled for measuring. */
+	public static final int DEFAULT_SAMPLE_ROW_COUNT = 20;
+	
+	/** The padding which is added to the measured widths. */
+	private static final double PADDING = 14;
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Class members
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/** The {@link ExecutorService} which measures the sampled values. */
+	private static ExecutorService measuringExecutor = Executors.newSingleThreadExecutor((pRunnable) ->
+	{
+		Thread thread = new Thread(pRunnable, "DataAwareConstrainedFillingResizePolicy measuring");
+		thread.setDaemon(true);
+		
+		return thread;
+	});
+	
+	/** The id of the current measurement, used to discard outdated results. */
+	private volatile int measurementId = 0;
+	
+	/** The range of rows from which the samples are taken. */
+	private int sampleRange = DEFAULT_SAMPLE_RANGE;
+	
+	/** The number of rows which are sampled for measuring. */
+	private int sampleRowCount = DEFAULT_SAMPLE_ROW_COUNT;
+	
+	/** If rows which are not yet fetched should be sampled, too. */
+	private boolean sampleUnfetchedRows = false;
+	
 	/** The initial threshold width. */
 	private double thresholdWidth = 0;
 	
@@ -108,15 +153,56 @@ public class DataAwareConstrainedFillingResizePolicy implements Callback<ResizeF
 	// User-defined methods
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/**
+	 * Gets the range of rows from which the samples are taken if
+	 * {@link #isSampleUnfetchedRows() unfetched rows are sampled}.
+	 * 
+	 * @return the range of rows from which the samples are taken.
+	 */
+	public int getSampleRange()
+	{
+		return sampleRange;
+	}
+	
+	/**
+	 * Gets the number of rows which are sampled for measuring.
+	 * 
+	 * @return the number of rows which are sampled for measuring.
+	 */
+	public int getSampleRowCount()
+	{
+		return sampleRowCount;
+	}
+	
+	/**
+	 * Performs the initial sizing of the columns, calculates the sizes of the
+	 * columns based on the data, using the {@link #getSampleRowCount() sample
+	 * row count}.
+	 * 
+	 * @param pDataBookView the {@link FXDataBookView}.
+	 */
+	public void initialSizeColumns(FXDataBookView pDataBookView)
+	{
+		initialSizeColumns(pDataBookView, sampleRowCount);
+	}
+	
 	/**
 	 * Performs the initial sizing of the columns, calculates the sizes of the
 	 * columns based on the data.
+	 * <p>
+	 * The columns are sized to their headers immediately and the data is
+	 * sampled, then the sampled values are measured on a background thread
+	 * and the result is applied afterwards on the JavaFX thread. The
+	 * {@link IDataBook} itself is only accessed on the calling thread, which
+	 * must be the JavaFX thread.
 	 * 
 	 * @param pDataBookView the {@link FXDataBookView}.
 	 * @param pMaxRowCount the maximum amount of rows to consider.
 	 */
 	public void initialSizeColumns(FXDataBookView pDataBookView, int pMaxRowCount)
 	{
+		int currentMeasurementId = ++measurementId;
+		
 		IDataBook dataBook = pDataBookView.getDataBook();
 		
 		if (dataBook != null)
@@ -124,34 +210,37 @@ public class DataAwareConstrainedFillingResizePolicy implements Callback<ResizeF
 			try
 			{
 				IRowDefinition rowDefinition = dataBook.getRowDefinition();
+				TextWidthMeasurer measurer = TextWidthMeasurer.get();
 				
-				Text measuringText = new Text();
-				
-				// TODO HACK Magic number is used for calculating the size of the columns.
-				double magicNumber = 14;
+				List<TableColumn<IDataRow, ?>> stringColumns = new ArrayList<>();
 				
 				for (TableColumn<IDataRow, ?> column : pDataBookView.getColumns())
 				{
-					String columnName = (String) column.getUserData();
+					column.setPrefWidth(measurer.getWidth(column.getText()) + PADDING);
 					
-					measuringText.setText(column.getText());
-					column.setPrefWidth(measuringText.prefWidth(-1) + magicNumber);
+					if (FXControlUtil.isStringColumn(rowDefinition.getColumnDefinition((String) column.getUserData())))
+					{
+						stringColumns.add(column);
+					}
+				}
+				
+				if (!stringColumns.isEmpty() && pMaxRowCount > 0)
+				{
+					String[] columnNames = new String[stringColumns.size()];
 					
-					if (FXControlUtil.isStringColumn(rowDefinition.getColumnDefinition(columnName)))
+					for (int index = 0; index < columnNames.length; index++)
 					{
-						double width = 0;
-						
-						for (int rowIndex = 0; rowIndex < Math.min(pMaxRowCount, dataBook.getRowCount()); rowIndex++)
-						{
-							measuringText.setText(dataBook.getDataRow(rowIndex).getValueAsString(columnName));
-							width = Math.max(width, measuringText.prefWidth(-1) + magicNumber);
-						}
-						
-						if (width > 0 && width > column.getPrefWidth())
-						{
-							column.setPrefWidth(width);
-						}
+						columnNames[index] = (String) stringColumns.get(index).getUserData();
 					}
+					
+					List<String[]> samples = sampleRows(dataBook, columnNames, pMaxRowCount);
+					
+					measuringExecutor.execute(() ->
+					{
+						double[] widths = measureSamples(samples, columnNames.length, measurer);
+						
+						Platform.runLater(() -> applyMeasuredWidths(pDataBookView, dataBook, currentMeasurementId, stringColumns, widths));
+					});
 				}
 			}
 			catch (ModelException e)
@@ -160,17 +249,22 @@ public class DataAwareConstrainedFillingResizePolicy implements Callback<ResizeF
 			}
 		}
 		
-		thresholdWidth = 0;
-		
-		for (TableColumn<IDataRow, ?> column : pDataBookView.getColumns())
-		{
-			thresholdWidth = thresholdWidth + column.getWidth();
-		}
-		
-		if (thresholdWidth < pDataBookView.getWidth() - pDataBookView.getVerticalScrollBarWidth())
-		{
-			resizeProportial(pDataBookView);
-		}
+		updateThresholdWidth(pDataBookView);
+	}
+	
+	/**
+	 * Gets if rows which have not been fetched yet are sampled, too.
+	 * <p>
+	 * If enabled, the samples are spread over the first
+	 * {@link #getSampleRange() sample range} rows, fetching them if
+	 * necessary. The backing {@link IDataBook} must allow this, and the rows
+	 * are fetched on the JavaFX thread.
+	 * 
+	 * @return {@code true} if rows which have not been fetched yet are sampled.
+	 */
+	public boolean isSampleUnfetchedRows()
+	{
+		return sampleUnfetchedRows;
 	}
 	
 	/**
@@ -225,4 +319,179 @@ public class DataAwareConstrainedFillingResizePolicy implements Callback<ResizeF
 		}
 	}
 	
+	/**
+	 * Sets the range of rows from which the samples are taken if
+	 * {@link #isSampleUnfetchedRows() unfetched rows are sampled}.
+	 * 
+	 * @param pSampleRange the range of rows from which the samples are taken.
+	 */
+	public void setSampleRange(int pSampleRange)
+	{
+		sampleRange = pSampleRange;
+	}
+	
+	/**
+	 * Sets the number of rows which are sampled for measuring.
+	 * 
+	 * @param pSampleRowCount the number of rows which are sampled for
+	 *            measuring.
+	 */
+	public void setSampleRowCount(int pSampleRowCount)
+	{
+		sampleRowCount = pSampleRowCount;
+	}
+	
+	/**
+	 * Sets if rows which have not been fetched yet are sampled, too.
+	 * 
+	 * @param pSampleUnfetchedRows {@code true} if rows which have not been
+	 *            fetched yet should be sampled.
+	 * @see #isSampleUnfetchedRows()
+	 */
+	public void setSampleUnfetchedRows(boolean pSampleUnfetchedRows)
+	{
+		sampleUnfetchedRows = pSampleUnfetchedRows;
+	}
+	
+	/**
+	 * Applies the measured widths to the given columns, if the measurement is
+	 * still the current one.
+	 * 
+	 * @param pDataBookView the {@link FXDataBookView}.
+	 * @param pDataBook the {@link IDataBook} which has been measured.
+	 * @param pMeasurementId the id of the measurement.
+	 * @param pColumns the measured columns.
+	 * @param pWidths the measured widths.
+	 */
+	private void applyMeasuredWidths(FXDataBookView pDataBookView, IDataBook pDataBook, int pMeasurementId, List<TableColumn<IDataRow, ?>> pColumns, double[] pWidths)
+	{
+		if (pMeasurementId != measurementId || pDataBookView.getDataBook() != pDataBook)
+		{
+			return;
+		}
+		
+		for (int index = 0; index < pWidths.length; index++)
+		{
+			TableColumn<IDataRow, ?> column = pColumns.get(index);
+			
+			if (pWidths[index] > 0 && pWidths[index] > column.getPrefWidth() && pDataBookView.getColumns().contains(column))
+			{
+				column.setPrefWidth(pWidths[index]);
+			}
+		}
+		
+		updateThresholdWidth(pDataBookView);
+	}
+	
+	/**
+	 * Measures the widths of the given sampled values.
+	 * 
+	 * @param pSamples the sampled values, one array per row.
+	 * @param pColumnCount the number of columns.
+	 * @param pMeasurer the {@link TextWidthMeasurer} to use.
+	 * @return the measured widths, including the padding.
+	 */
+	private static double[] measureSamples(List<String[]> pSamples, int pColumnCount, TextWidthMeasurer pMeasurer)
+	{
+		double[] widths = new double[pColumnCount];
+		
+		for (String[] values : pSamples)
+		{
+			for (int index = 0; index < pColumnCount; index++)
+			{
+				widths[index] = Math.max(widths[index], pMeasurer.getWidth(values[index]) + PADDING);
+			}
+		}
+		
+		return widths;
+	}
+	
+	/**
+	 * Copies the values of the given columns from a sample of the rows.
+	 * <p>
+	 * Half of the samples is taken from the start of the data, the other half
+	 * is spread over the remaining rows.
+	 * 
+	 * @param pDataBook the {@link IDataBook}.
+	 * @param pColumnNames the names of the columns to sample.
+	 * @param pMaxRowCount the maximum number of rows to sample.
+	 * @return the sampled values, one array per row.
+	 */
+	private List<String[]> sampleRows(IDataBook pDataBook, String[] pColumnNames, int pMaxRowCount)
+	{
+		List<String[]> samples = new ArrayList<>();
+		
+		try
+		{
+			int rowCount = pDataBook.getRowCount();
+			
+			if (sampleUnfetchedRows && !pDataBook.isAllFetched())
+			{
+				rowCount = Math.max(rowCount, sampleRange);
+			}
+			
+			int headCount = Math.min(rowCount, Math.max(1, pMaxRowCount / 2));
+			int tailCount = Math.min(rowCount - headCount, pMaxRowCount - headCount);
+			double stride = 0;
+			
+			if (tailCount > 0)
+			{
+				stride = (double) (rowCount - headCount) / tailCount;
+			}
+			
+			for (int sample = 0; sample < headCount + tailCount; sample++)
+			{
+				int rowIndex = sample;
+				
+				if (sample >= headCount)
+				{
+					rowIndex = headCount + (int) ((sample - headCount) * stride);
+				}
+				
+				IDataRow dataRow = pDataBook.getDataRow(rowIndex);
+				
+				if (dataRow == null)
+				{
+					break;
+				}
+				
+				String[] values = new String[pColumnNames.length];
+				
+				for (int index = 0; index < pColumnNames.length; index++)
+				{
+					values[index] = dataRow.getValueAsString(pColumnNames[index]);
+				}
+				
+				samples.add(values);
+			}
+		}
+		catch (ModelException e)
+		{
+			// Ignore the exception, the rows sampled so far are used.
+		}
+		
+		return samples;
+	}
+	
+	/**
+	 * Updates the threshold width from the current widths of the columns and
+	 * resizes the columns proportional if they do not fill the view.
+	 * 
+	 * @param pDataBookView the {@link FXDataBookView}.
+	 */
+	private void updateThresholdWidth(FXDataBookView pDataBookView)
+	{
+		thresholdWidth = 0;
+		
+		for (TableColumn<IDataRow, ?> column : pDataBookView.getColumns())
+		{
+			thresholdWidth = thresholdWidth + column.getWidth();
+		}
+		
+		if (thresholdWidth < pDataBookView.getWidth() - pDataBookView.getVerticalScrollBarWidth())
+		{
+			resizeProportial(pDataBookView);
+		}
+	}
+	
 }	// DataAwareConstrainedFillingResizePolicy
@@ -0,0 +1,635 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.control.table;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import javax.rad.model.IDataBook;
+import javax.rad.model.IDataRow;
+import javax.rad.model.ModelException;
+import javax.rad.model.SortDefinition;
+import javax.rad.model.condition.ICondition;
+import javax.rad.model.datatype.IDataType;
+import javax.rad.model.ui.ICellEditor;
+import javax.rad.model.ui.ICellRenderer;
+import javax.rad.persist.MetaData;
+import javax.rad.remote.AbstractConnection;
+import javax.rad.ui.IResource;
+
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.scene.control.TableColumn;
+
+import com.sibvisions.rad.model.mem.DataRow;
+import com.sibvisions.rad.model.remote.RemoteDataBook;
+import com.sibvisions.rad.ui.javafx.ext.control.util.FXControlUtil;
+
+/**
+ * The {@link DataBookViewExportTask} is a {@link Task} which streams the
+ * visible columns of a {@link FXDataBookView} as CSV into a {@link Writer}.
+ * <p>
+ * The columns, their headers, their renderers and the filter and sort of the
+ * {@link IDataBook} are captured when the task is created, which must happen
+ * on the JavaFX application thread. If the {@link IDataBook} is a
+ * {@link RemoteDataBook}, the rows are then fetched in batches directly from
+ * its storage on the thread which runs the task. The {@link IDataBook} of the
+ * table is not used for that, so it neither fetches nor keeps the exported
+ * rows, and a reload of it does not affect the export. Every other
+ * {@link IDataBook} holds its rows in memory already, its rows are read in
+ * batches on the JavaFX application thread.
+ * <p>
+ * The values are formatted on the thread which runs the task. Only if a
+ * column has a {@link ICellRenderer}, the batch is formatted on the JavaFX
+ * application thread instead. Renderers which do not render text are
+ * dropped after their first call. The task holds at most one batch, which is
+ * dropped as soon as it has been written.
+ * <p>
+ * The progress is updated after every batch, and the task stops at the next
+ * row if it is cancelled. The {@link Writer} is closed when the task
+ * finishes.
+ * 
+ * @author Robert Zenz
+ */
+public class DataBookViewExportTask extends Task<Integer>
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Constants
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The default number of rows which are fetched at once. */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+	
+	/** The separator between two rows. */
+	private static final String LINE_SEPARATOR = "\r\n";
+	
+	/** The separator between two values. */
+	private static final char SEPARATOR = ';';
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The number of rows which are fetched at once. */
+	private int batchSize;
+	
+	/** The {@link ICellRenderer}s of the columns, {@code null} if none. */
+	private ICellRenderer<?>[] cellRenderers;
+	
+	/** The names of the columns. */
+	private String[] columnNames;
+	
+	/** The condition of the rows in the storage. */
+	private ICondition condition;
+	
+	/**
+	 * The {@link AbstractConnection} to the storage. {@code null} if the rows
+	 * are read from the {@link #dataBook}.
+	 */
+	private AbstractConnection connection;
+	
+	/** The {@link IDataBook} which is exported. */
+	private IDataBook dataBook;
+	
+	/** The row which is used for formatting the values. */
+	private DataRow formatRow;
+	
+	/** The headers of the columns. */
+	private String[] headers;
+	
+	/** The sort of the rows in the storage. */
+	private SortDefinition sort;
+	
+	/** The name of the storage. */
+	private String storageName;
+	
+	/**
+	 * The number of rows, {@code -1} if it is not known (yet).
+	 */
+	private int totalRowCount = -1;
+	
+	/** The {@link Writer} into which is written. */
+	private Writer writer;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link DataBookViewExportTask}.
+	 * <p>
+	 * Must be called on the JavaFX application thread.
+	 * 
+	 * @param pDataBookView the {@link FXDataBookView} to export.
+	 * @param pWriter the {@link Writer} into which is written.
+	 * @param pBatchSize the number of rows which are fetched at once.
+	 * @throws IllegalArgumentException if the batch size is smaller than
+	 *             {@code 1}.
+	 */
+	public DataBookViewExportTask(FXDataBookView pDataBookView, Writer pWriter, int pBatchSize)
+	{
+		if (pBatchSize < 1)
+		{
+			throw new IllegalArgumentException("The batch size must be at least 1.");
+		}
+		
+		dataBook = pDataBookView.getDataBook();
+		writer = pWriter;
+		batchSize = pBatchSize;
+		
+		List<TableColumn<IDataRow, ?>> columns = pDataBookView.getVisibleLeafColumns();
+		
+		columnNames = new String[columns.size()];
+		headers = new String[columns.size()];
+		cellRenderers = new ICellRenderer<?>[columns.size()];
+		
+		for (int index = 0; index < columns.size(); index++)
+		{
+			TableColumn<IDataRow, ?> column = columns.get(index);
+			
+			columnNames[index] = (String) column.getUserData();
+			headers[index] = column.getText();
+			cellRenderers[index] = findCellRenderer(columnNames[index]);
+		}
+		
+		formatRow = new DataRow(dataBook.getRowDefinition());
+		
+		if (dataBook instanceof RemoteDataBook && ((RemoteDataBook) dataBook).getDataSource() != null)
+		{
+			try
+			{
+				connection = ((RemoteDataBook) dataBook).getDataSource().getConnection();
+				storageName = dataBook.getName();
+				condition = FXControlUtil.getStorageCondition(dataBook);
+				sort = dataBook.getSort();
+			}
+			catch (ModelException e)
+			{
+				throw new RuntimeException(e);
+			}
+		}
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Abstract methods implementation
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Integer call() throws Exception
+	{
+		try
+		{
+			writeRow(headers);
+			
+			int[] storageColumnIndexes = null;
+			
+			if (connection != null)
+			{
+				storageColumnIndexes = getStorageColumnIndexes();
+			}
+			
+			int rowIndex = 0;
+			
+			while (!isCancelled())
+			{
+				int firstRowIndex = rowIndex;
+				
+				Object[][] values;
+				
+				if (connection != null)
+				{
+					values = fetchStorageBatch(firstRowIndex, storageColumnIndexes);
+				}
+				else
+				{
+					values = runOnFXThread(() -> readDataBookBatch(firstRowIndex));
+				}
+				
+				String[][] batch;
+				
+				if (hasCellRenderers())
+				{
+					batch = runOnFXThread(() -> formatBatch(values, firstRowIndex));
+				}
+				else
+				{
+					batch = formatBatch(values, firstRowIndex);
+				}
+				
+				for (String[] formattedValues : batch)
+				{
+					if (isCancelled())
+					{
+						return Integer.valueOf(rowIndex);
+					}
+					
+					writeRow(formattedValues);
+					
+					rowIndex++;
+				}
+				
+				writer.flush();
+				
+				if (batch.length < batchSize)
+				{
+					updateProgress(rowIndex, rowIndex);
+					
+					return Integer.valueOf(rowIndex);
+				}
+				else if (totalRowCount >= 0)
+				{
+					updateProgress(rowIndex, totalRowCount);
+				}
+				else
+				{
+					updateProgress(-1, -1);
+				}
+			}
+			
+			return Integer.valueOf(rowIndex);
+		}
+		finally
+		{
+			writer.close();
+		}
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the number of rows which are fetched at once.
+	 * 
+	 * @return the number of rows which are fetched at once.
+	 */
+	public int getBatchSize()
+	{
+		return batchSize;
+	}
+	
+	/**
+	 * Gets the names of the exported columns.
+	 * 
+	 * @return the names of the exported columns.
+	 */
+	public String[] getColumnNames()
+	{
+		return columnNames.clone();
+	}
+	
+	/**
+	 * Escapes the given value for CSV, it is quoted if it contains the
+	 * separator, a quote or a line break.
+	 * 
+	 * @param pValue the value, can be {@code null}.
+	 * @return the escaped value.
+	 */
+	protected String escape(String pValue)
+	{
+		if (pValue == null)
+		{
+			return "";
+		}
+		
+		for (int index = 0; index < pValue.length(); index++)
+		{
+			char character = pValue.charAt(index);
+			
+			if (character == SEPARATOR || character == '"' || character == '\r' || character == '\n')
+			{
+				return "\"" + pValue.replace("\"", "\"\"") + "\"";
+			}
+		}
+		
+		return pValue;
+	}
+	
+	/**
+	 * Formats the value of the given column the same way as it is displayed
+	 * by a {@link DataRowCell}.
+	 * <p>
+	 * Is called on the JavaFX application thread if the column has a
+	 * {@link ICellRenderer}.
+	 * 
+	 * @param pDataRow the {@link IDataRow}.
+	 * @param pRowIndex the index of the row in the export.
+	 * @param pColumnIndex the index of the column.
+	 * @return the formatted value.
+	 * @throws ModelException if accessing the model failed.
+	 */
+	protected String format(IDataRow pDataRow, int pRowIndex, int pColumnIndex) throws ModelException
+	{
+		ICellRenderer<?> cellRenderer = cellRenderers[pColumnIndex];
+		
+		if (cellRenderer != null)
+		{
+			Object rendererComponent = cellRenderer.getCellRendererComponent(null, null, pRowIndex, pDataRow, columnNames[pColumnIndex], false, false);
+			
+			if (rendererComponent instanceof String)
+			{
+				return (String) rendererComponent;
+			}
+			else if (rendererComponent != null)
+			{
+				// The renderer does not render text, so there is no need
+				// to call it again.
+				cellRenderers[pColumnIndex] = null;
+			}
+		}
+		
+		return pDataRow.getValueAsString(columnNames[pColumnIndex]);
+	}
+	
+	/**
+	 * Calls the given method of the storage on the current thread.
+	 * 
+	 * @param pMethodName the name of the method.
+	 * @param pParameters the parameters.
+	 * @return the result of the call.
+	 * @throws Exception if the call failed.
+	 */
+	private Object callStorage(String pMethodName, Object... pParameters) throws Exception
+	{
+		try
+		{
+			return connection.call(storageName, pMethodName, pParameters);
+		}
+		catch (Exception | Error e)
+		{
+			throw e;
+		}
+		catch (Throwable th)
+		{
+			throw new Exception(th);
+		}
+	}
+	
+	/**
+	 * Fetches the batch which starts at the given row from the storage.
+	 * 
+	 * @param pFirstRowIndex the index of the first row of the batch.
+	 * @param pStorageColumnIndexes the indexes of the exported columns in the
+	 *            rows of the storage.
+	 * @return the values of the rows of the batch, less than the batch size if
+	 *         there are no more rows.
+	 * @throws Exception if fetching failed.
+	 */
+	@SuppressWarnings("unchecked")
+	private Object[][] fetchStorageBatch(int pFirstRowIndex, int[] pStorageColumnIndexes) throws Exception
+	{
+		List<Object[]> rows = (List<Object[]>) callStorage("fetch", condition, sort, Integer.valueOf(pFirstRowIndex), Integer.valueOf(batchSize));
+		
+		int rowCount = 0;
+		
+		// A null row marks that all rows have been fetched.
+		while (rowCount < rows.size() && rows.get(rowCount) != null)
+		{
+			rowCount++;
+		}
+		
+		// Never more than one batch, the rest is fetched again with the next
+		// batch.
+		rowCount = Math.min(rowCount, batchSize);
+		
+		Object[][] values = new Object[rowCount][];
+		
+		for (int rowIndex = 0; rowIndex < rowCount; rowIndex++)
+		{
+			Object[] row = rows.get(rowIndex);
+			
+			values[rowIndex] = new Object[pStorageColumnIndexes.length];
+			
+			for (int columnIndex = 0; columnIndex < pStorageColumnIndexes.length; columnIndex++)
+			{
+				if (pStorageColumnIndexes[columnIndex] >= 0 && pStorageColumnIndexes[columnIndex] < row.length)
+				{
+					values[rowIndex][columnIndex] = row[pStorageColumnIndexes[columnIndex]];
+				}
+			}
+		}
+		
+		return values;
+	}
+	
+	/**
+	 * Finds the {@link ICellRenderer} for the given column, the same way as
+	 * {@link DataRowCell} does.
+	 * 
+	 * @param pColumnName the name of the column.
+	 * @return the {@link ICellRenderer}. {@code null} if there is none.
+	 */
+	private ICellRenderer<?> findCellRenderer(String pColumnName)
+	{
+		try
+		{
+			IDataType dataType = dataBook.getRowDefinition().getColumnDefinition(pColumnName).getDataType();
+			ICellRenderer<?> cellRenderer = dataType.getCellRenderer();
+			
+			if (cellRenderer == null)
+			{
+				ICellEditor cellEditor = FXControlUtil.findCellEditor(dataType);
+				
+				if (cellEditor instanceof ICellRenderer)
+				{
+					cellRenderer = (ICellRenderer<?>) cellEditor;
+				}
+				else if (cellEditor instanceof IResource && ((IResource) cellEditor).getResource() instanceof ICellRenderer)
+				{
+					cellRenderer = (ICellRenderer<?>) ((IResource) cellEditor).getResource();
+				}
+			}
+			
+			return cellRenderer;
+		}
+		catch (ModelException e)
+		{
+			throw new RuntimeException(e);
+		}
+	}
+	
+	/**
+	 * Formats the given values of the batch which starts at the given row.
+	 * <p>
+	 * Must be called on the JavaFX application thread if there are
+	 * {@link ICellRenderer}s.
+	 * 
+	 * @param pValues the values of the rows of the batch.
+	 * @param pFirstRowIndex the index of the first row of the batch.
+	 * @return the formatted values of the rows of the batch.
+	 * @throws ModelException if accessing the model failed.
+	 */
+	private String[][] formatBatch(Object[][] pValues, int pFirstRowIndex) throws ModelException
+	{
+		String[][] batch = new String[pValues.length][];
+		
+		for (int rowIndex = 0; rowIndex < pValues.length; rowIndex++)
+		{
+			formatRow.setValues(columnNames, pValues[rowIndex]);
+			
+			batch[rowIndex] = new String[columnNames.length];
+			
+			for (int columnIndex = 0; columnIndex < columnNames.length; columnIndex++)
+			{
+				batch[rowIndex][columnIndex] = format(formatRow, pFirstRowIndex + rowIndex, columnIndex);
+			}
+		}
+		
+		return batch;
+	}
+	
+	/**
+	 * Gets the indexes of the exported columns in the rows of the storage.
+	 * 
+	 * @return the indexes of the exported columns, {@code -1} for columns
+	 *         which are not in the storage.
+	 * @throws Exception if fetching the {@link MetaData} failed.
+	 */
+	private int[] getStorageColumnIndexes() throws Exception
+	{
+		String[] storageColumnNames = ((MetaData) callStorage("getMetaData")).getColumnNames();
+		
+		int[] storageColumnIndexes = new int[columnNames.length];
+		
+		for (int columnIndex = 0; columnIndex < columnNames.length; columnIndex++)
+		{
+			storageColumnIndexes[columnIndex] = -1;
+			
+			for (int storageColumnIndex = 0; storageColumnIndex < storageColumnNames.length; storageColumnIndex++)
+			{
+				if (columnNames[columnIndex].equals(storageColumnNames[storageColumnIndex]))
+				{
+					storageColumnIndexes[columnIndex] = storageColumnIndex;
+					break;
+				}
+			}
+		}
+		
+		return storageColumnIndexes;
+	}
+	
+	/**
+	 * Gets if any column has a {@link ICellRenderer}.
+	 * 
+	 * @return {@code true} if any column has a {@link ICellRenderer}.
+	 */
+	private boolean hasCellRenderers()
+	{
+		for (ICellRenderer<?> cellRenderer : cellRenderers)
+		{
+			if (cellRenderer != null)
+			{
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Reads the values of the batch which starts at the given row from the
+	 * {@link #dataBook}.
+	 * <p>
+	 * Must be called on the JavaFX application thread.
+	 * 
+	 * @param pFirstRowIndex the index of the first row of the batch.
+	 * @return the values of the rows of the batch, less than the batch size if
+	 *         there are no more rows.
+	 * @throws ModelException if accessing the model failed.
+	 */
+	private Object[][] readDataBookBatch(int pFirstRowIndex) throws ModelException
+	{
+		int rowCount = Math.max(0, Math.min(batchSize, dataBook.getRowCount() - pFirstRowIndex));
+		
+		Object[][] values = new Object[rowCount][];
+		
+		for (int rowIndex = 0; rowIndex < rowCount; rowIndex++)
+		{
+			values[rowIndex] = dataBook.getDataRow(pFirstRowIndex + rowIndex).getValues(columnNames);
+		}
+		
+		totalRowCount = dataBook.getRowCount();
+		
+		return values;
+	}
+	
+	/**
+	 * Runs the given {@link Callable} on the JavaFX application thread and
+	 * waits for its result, or runs it directly if this is the JavaFX
+	 * application thread.
+	 * 
+	 * @param <T> the type of the result.
+	 * @param pCallable the {@link Callable}.
+	 * @return the result.
+	 * @throws Exception if the {@link Callable} failed.
+	 */
+	private <T> T runOnFXThread(Callable<T> pCallable) throws Exception
+	{
+		FutureTask<T> futureTask = new FutureTask<>(pCallable);
+		
+		if (Platform.isFxApplicationThread())
+		{
+			futureTask.run();
+		}
+		else
+		{
+			Platform.runLater(futureTask);
+		}
+		
+		try
+		{
+			return futureTask.get();
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof Exception)
+			{
+				throw (Exception) e.getCause();
+			}
+			
+			throw e;
+		}
+	}
+	
+	/**
+	 * Writes the given values as one row.
+	 * 
+	 * @param pValues the values.
+	 * @throws IOException if writing failed.
+	 */
+	private void writeRow(String[] pValues) throws IOException
+	{
+		for (int index = 0; index < pValues.length; index++)
+		{
+			if (index > 0)
+			{
+				writer.write(SEPARATOR);
+			}
+			
+			writer.write(escape(pValues[index]));
+		}
+		
+		writer.write(LINE_SEPARATOR);
+	}
+	
+}	// DataBookViewExportTask
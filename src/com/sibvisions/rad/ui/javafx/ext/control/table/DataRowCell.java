@@ -47,7 +47,9 @@ import javafx.util.Callback;
 import com.sibvisions.rad.ui.javafx.ext.FXImageRegion;
 import com.sibvisions.rad.ui.javafx.ext.FXRowFocusingCell;
 import com.sibvisions.rad.ui.javafx.ext.StyleContainer;
+import com.sibvisions.rad.ui.javafx.ext.control.DataPageList;
 import com.sibvisions.rad.ui.javafx.ext.control.util.FXControlUtil;
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
 import com.sibvisions.rad.ui.javafx.ext.util.NodeUtil;
 
 /**
@@ -219,6 +221,9 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 			return;
 		}
 		
+		// The data book must be on the edited row before the editor is bound.
+		((FXDataBookView) getTableView()).commitPendingSelection();
+		
 		if (!initCellEditorHandlerAndEditor())
 		{
 			// If we could not acquire an editor, return immediately and do not
@@ -230,10 +235,9 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 		
 		if (!isEditing())
 		{
-			// We could not go to edit mode for some reason, destroy any created
-			// things again.
-			editor = null;
-			cellEditorHandler = null;
+			// We could not go to edit mode for some reason, return the handler
+			// to the pool again.
+			releaseCellEditorHandler();
 			
 			return;
 		}
@@ -301,8 +305,10 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 	{
 		super.updateItem(pItem, pEmpty);
 		
-		if (pEmpty || getTableRow() == null)
+		if (pEmpty || getTableRow() == null || isPlaceholder())
 		{
+			// Placeholders for rows which are not fetched yet are rendered
+			// like empty cells.
 			getChildren().clear();
 			
 			renderer = null;
@@ -318,6 +324,8 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 		
 		hideOrShowDropdownArrow();
 		
+		FXStallDetector.enter("DataRowCell.updateItem");
+		
 		try
 		{
 			if (renderer == null)
@@ -390,6 +398,10 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 		{
 			throw new RuntimeException(e);
 		}
+		finally
+		{
+			FXStallDetector.exit("DataRowCell.updateItem");
+		}
 	}
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -402,13 +414,8 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 	private void endEditing()
 	{
 		getChildren().remove(editor);
-		editor = null;
 		
-		if (cellEditorHandler != null)
-		{
-			cellEditorHandler.uninstallEditor();
-		}
-		cellEditorHandler = null;
+		releaseCellEditorHandler();
 		
 		setClip(clipper);
 		
@@ -419,6 +426,10 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 	/**
 	 * Tries to find an {@link ICellEditorHandler} suitable for the associated
 	 * {@link IDataType}.
+	 * <p>
+	 * The handler is acquired from the pool of the parent
+	 * {@link FXDataBookView}, so that the handler and its component can be
+	 * reused across edits.
 	 * 
 	 * @return the {@link ICellEditorHandler}.
 	 * @throws ModelException if accessing the model failed.
@@ -429,7 +440,7 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 		String columnName = getColumnName();
 		ICellEditor cellEditor = FXControlUtil.findCellEditor(getDataType(dataRow, columnName));
 		
-		return cellEditor.createCellEditorHandler(this, getDataBook(), columnName);
+		return ((FXDataBookView) getTableView()).acquireCellEditorHandler(cellEditor, this, getDataBook(), columnName);
 	}
 	
 	/**
@@ -531,6 +542,11 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 	 */
 	private boolean isEnabled()
 	{
+		if (isPlaceholder())
+		{
+			return false;
+		}
+		
 		try
 		{
 			return getDataBook().isUpdateAllowed() || (getDataBook().isInserting() && getDataBook().isInsertAllowed());
@@ -543,6 +559,21 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 		return false;
 	}
 	
+	/**
+	 * Gets if the row of this cell is the placeholder for a row which is not
+	 * fetched yet.
+	 * 
+	 * @return {@code true} if the row of this cell is a placeholder.
+	 * @see DataPageList#isPlaceholder(IDataRow)
+	 */
+	private boolean isPlaceholder()
+	{
+		return getTableRow() != null
+				&& getTableView() != null
+				&& getTableView().getItems() instanceof DataPageList
+				&& ((DataPageList) getTableView().getItems()).isPlaceholder((IDataRow) getTableRow().getItem());
+	}
+	
 	/**
 	 * Lays out the given child based on the boundaries of this cell and/or its
 	 * parent.
@@ -672,6 +703,23 @@ public class DataRowCell extends FXRowFocusingCell<IDataRow, Object> implements
 		return true;
 	}
 	
+	/**
+	 * Uninstalls the {@link #cellEditorHandler} (if any) and returns it to the
+	 * pool of the parent {@link FXDataBookView}.
+	 */
+	private void releaseCellEditorHandler()
+	{
+		if (cellEditorHandler != null)
+		{
+			cellEditorHandler.uninstallEditor();
+			
+			((FXDataBookView) getTableView()).releaseCellEditorHandler(getColumnName(), cellEditorHandler);
+		}
+		
+		cellEditorHandler = null;
+		editor = null;
+	}
+	
 	/**
 	 * Invoked of the small dropdown arrow is clicked.
 	 * <p>
@@ -15,12 +15,25 @@
  */
 package com.sibvisions.rad.ui.javafx.ext.control.table;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.rad.model.ColumnDefinition;
 import javax.rad.model.ColumnView;
 import javax.rad.model.IDataBook;
 import javax.rad.model.IDataRow;
 import javax.rad.model.IRowDefinition;
 import javax.rad.model.ModelException;
+import javax.rad.model.event.DataBookEvent;
+import javax.rad.model.event.IDataBookListener;
+import javax.rad.model.ui.ICellEditor;
+import javax.rad.model.ui.ICellEditorHandler;
+import javax.rad.model.ui.ICellEditorListener;
 import javax.rad.model.ui.IControl;
 import javax.rad.model.ui.ITableControl;
 import javax.rad.ui.control.ICellFormat;
@@ -28,10 +41,13 @@ import javax.rad.ui.control.ICellFormatter;
 import javax.rad.util.ExceptionHandler;
 import javax.rad.util.TranslationMap;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.geometry.Orientation;
@@ -39,11 +55,16 @@ import javafx.scene.control.ScrollBar;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TablePosition;
 import javafx.scene.control.TableView;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
 
+import com.sibvisions.rad.ui.javafx.ext.celleditor.FXAbstractCellEditorHandler;
 import com.sibvisions.rad.ui.javafx.ext.control.DataPageList.FetchMode;
 import com.sibvisions.rad.ui.javafx.ext.control.util.FXControlUtil;
 import com.sibvisions.rad.ui.javafx.ext.control.util.FXNotifyHelper;
 import com.sibvisions.rad.ui.javafx.ext.control.util.FXTranslationHelper;
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
 import com.sibvisions.rad.ui.javafx.ext.util.NodeUtil;
 import com.sibvisions.util.type.StringUtil;
 
@@ -62,6 +83,16 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 	/** The path to the default style sheet. */
 	public static final String DEFAULT_STYLE = "/com/sibvisions/rad/ui/javafx/ext/control/table/css/fxdatabookview.css";
 	
+	/** The default delay in milliseconds before a selection is committed. */
+	public static final int DEFAULT_SELECTION_DELAY = 150;
+	
+	/**
+	 * The pool of idle {@link ICellEditorHandler}s, one per column, which are
+	 * reused by the {@link DataRowCell}s instead of creating a new one for
+	 * every edit.
+	 */
+	private Map<String, FXAbstractCellEditorHandler<?, ?>> cellEditorHandlerPool;
+	
 	/** The property for the {@link ICellFormatter}. */
 	private ObjectProperty<ICellFormatter> cellFormatter;
 	
@@ -71,6 +102,12 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 	/** The backing {@link IDataBook}. */
 	private ObjectProperty<IDataBook> dataBook;
 	
+	/**
+	 * The {@link IDataBookListener} that is notified if the rows of the
+	 * {@link #dataBook} are changed.
+	 */
+	private IDataBookListener dataBookRowsListener;
+	
 	/** The backing {@link DataBookViewList}. */
 	private DataBookViewList dataBookViewList;
 	
@@ -95,9 +132,43 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 	/** The {@link FXNotifyHelper} that is used. */
 	private FXNotifyHelper notify;
 	
+	/**
+	 * The selected row of the data book when the pending selection has
+	 * started.
+	 */
+	private int pendingDataBookSelectedRow;
+	
+	/**
+	 * The {@link #rowsGeneration} when the pending selection has started, to
+	 * detect if the rows of the data book changed.
+	 */
+	private int pendingRowsGeneration;
+	
+	/** The selected row which has not been committed to the data book yet. */
+	private int pendingSelectedRow;
+	
 	/** If the columns should be resized. */
 	private boolean resizeColumns;
 	
+	/**
+	 * The generation of the rows of the {@link #dataBook}, it is increased
+	 * whenever rows are inserted, deleted, restored, reloaded, filtered or
+	 * sorted.
+	 */
+	private int rowsGeneration;
+	
+	/** The timer which commits the pending selection after the delay. */
+	private PauseTransition selectionCommitTimer;
+	
+	/**
+	 * The property for the delay in milliseconds before a selection is
+	 * committed to the data book.
+	 */
+	private IntegerProperty selectionDelay;
+	
+	/** If there is a selection which has not been committed yet. */
+	private boolean selectionPending;
+	
 	/** If sorting by clicking the column headers is enabled. */
 	private BooleanProperty sortingEnabled;
 	
@@ -120,6 +191,8 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		notify = new FXNotifyHelper(this::reload);
 		translation = new FXTranslationHelper();
 		
+		cellEditorHandlerPool = new HashMap<>();
+		
 		setEditable(true);
 		setFocusModel(new FXDataBookViewFocusModel(this));
 		
@@ -130,12 +203,19 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		dataBook = new SimpleObjectProperty<>();
 		dataBook.addListener(this::onDataBookChanged);
 		
+		dataBookRowsListener = this::onDataBookRowsChanged;
+		
 		displaySelectionOnly = new SimpleBooleanProperty(false);
 		
 		editing = new SimpleBooleanProperty(false);
 		
 		editingCell = new SimpleObjectProperty<>(null);
 		
+		selectionCommitTimer = new PauseTransition();
+		selectionCommitTimer.setOnFinished((pEvent) -> commitPendingSelection());
+		
+		selectionDelay = new SimpleIntegerProperty(DEFAULT_SELECTION_DELAY);
+		
 		sortingEnabled = new SimpleBooleanProperty(true);
 		sortingEnabled.addListener(this::onSortingEnabledChanged);
 		
@@ -144,6 +224,9 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		getSelectionModel().setCellSelectionEnabled(true);
 		getSelectionModel().selectedIndexProperty().addListener(this::onSelectionChanged);
 		setColumnResizePolicy(new DataAwareConstrainedFillingResizePolicy());
+		
+		addEventFilter(KeyEvent.KEY_RELEASED, this::onKeyReleased);
+		addEventFilter(MouseEvent.MOUSE_RELEASED, this::onMouseReleased);
 	}
 	
 	/**
@@ -290,7 +373,7 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 			
 			if (getColumnResizePolicy() instanceof DataAwareConstrainedFillingResizePolicy)
 			{
-				((DataAwareConstrainedFillingResizePolicy) getColumnResizePolicy()).initialSizeColumns(this, 20);
+				((DataAwareConstrainedFillingResizePolicy) getColumnResizePolicy()).initialSizeColumns(this);
 			}
 		}
 	}
@@ -319,6 +402,25 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		return columnView;
 	}
 	
+	/**
+	 * Commits the pending selection to the {@link IDataBook}, if there is one.
+	 * <p>
+	 * If a {@link #selectionDelayProperty() selection delay} is set, changes
+	 * of the selection are only committed after the delay has passed without
+	 * further changes, or if a key or mouse button has been released.
+	 */
+	public void commitPendingSelection()
+	{
+		if (selectionPending)
+		{
+			int selectedRow = pendingSelectedRow;
+			
+			cancelPendingSelection();
+			
+			commitSelection(selectedRow);
+		}
+	}
+	
 	/**
 	 * Gets the property for the backing {@link IDataBook}.
 	 * 
@@ -348,6 +450,8 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 	 */
 	public void edit()
 	{
+		commitPendingSelection();
+		
 		@SuppressWarnings("unchecked")
 		TablePosition<IDataRow, ?> focusedCell = getFocusModel().getFocusedCell();
 		
@@ -357,6 +461,49 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		}
 	}
 	
+	/**
+	 * Exports the visible columns as CSV into the given file, on a background
+	 * thread.
+	 * 
+	 * @param pFile the file into which is exported.
+	 * @return the running {@link DataBookViewExportTask}, which can be used to
+	 *         observe the progress and to cancel the export.
+	 * @throws IOException if the file could not be opened.
+	 * @see #export(Writer, int)
+	 */
+	public DataBookViewExportTask export(Path pFile) throws IOException
+	{
+		return export(Files.newBufferedWriter(pFile, StandardCharsets.UTF_8), DataBookViewExportTask.DEFAULT_BATCH_SIZE);
+	}
+	
+	/**
+	 * Exports the visible columns as CSV into the given {@link Writer}, on a
+	 * background thread. The values are formatted the same way as they are
+	 * displayed. The rows are fetched in batches of the given size, from
+	 * the storage on the background thread if the {@link IDataBook} is remote,
+	 * so that the {@link IDataBook} itself is not affected by the export. See
+	 * {@link DataBookViewExportTask} for details.
+	 * <p>
+	 * The {@link Writer} is closed when the export finishes.
+	 * 
+	 * @param pWriter the {@link Writer} into which is exported.
+	 * @param pBatchSize the number of rows which are fetched at once.
+	 * @return the running {@link DataBookViewExportTask}, which can be used to
+	 *         observe the progress and to cancel the export.
+	 */
+	public DataBookViewExportTask export(Writer pWriter, int pBatchSize)
+	{
+		commitPendingSelection();
+		
+		DataBookViewExportTask exportTask = new DataBookViewExportTask(this, pWriter, pBatchSize);
+		
+		Thread thread = new Thread(exportTask, "FXDataBookView-Export");
+		thread.setDaemon(true);
+		thread.start();
+		
+		return exportTask;
+	}
+	
 	/**
 	 * Gets the {@link ICellFormat} for the given row.
 	 * 
@@ -410,6 +557,18 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		return dataBook.get();
 	}
 	
+	/**
+	 * Gets the delay in milliseconds before a selection is committed to the
+	 * {@link IDataBook}.
+	 * 
+	 * @return the delay in milliseconds.
+	 * @see #selectionDelayProperty()
+	 */
+	public int getSelectionDelay()
+	{
+		return selectionDelay.get();
+	}
+	
 	/**
 	 * Gets the width of the vertical {@link ScrollBar}.
 	 * 
@@ -458,6 +617,26 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		resizeColumns = true;
 	}
 	
+	/**
+	 * Gets the property for the delay in milliseconds before a selection is
+	 * committed to the {@link IDataBook}.
+	 * <p>
+	 * The selection of the table moves immediately, but the selected row of
+	 * the {@link IDataBook}, and with it the reload of all detail data books,
+	 * only follows after the delay has passed without further changes or if
+	 * a key or mouse button has been released. A delay of {@code 0} commits
+	 * every change immediately. A pending selection is dropped if the
+	 * {@link IDataBook} selects another row or its rows change in the
+	 * meantime.
+	 * 
+	 * @return the property for the delay in milliseconds.
+	 * @see #commitPendingSelection()
+	 */
+	public IntegerProperty selectionDelayProperty()
+	{
+		return selectionDelay;
+	}
+	
 	/**
 	 * Sets the {@link ICellFormatter}.
 	 * 
@@ -503,6 +682,19 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		displaySelectionOnly.set(pDisplaySelectionOnly);
 	}
 	
+	/**
+	 * Sets the delay in milliseconds before a selection is committed to the
+	 * {@link IDataBook}.
+	 * 
+	 * @param pSelectionDelay the delay in milliseconds, {@code 0} to commit
+	 *            every change immediately.
+	 * @see #selectionDelayProperty()
+	 */
+	public void setSelectionDelay(int pSelectionDelay)
+	{
+		selectionDelay.set(pSelectionDelay);
+	}
+	
 	/**
 	 * Sets if sorting by clicking on the column headers is enabled.
 	 * 
@@ -526,6 +718,35 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		return sortingEnabled;
 	}
 	
+	/**
+	 * Gets an {@link ICellEditorHandler} for the given column.
+	 * <p>
+	 * If there is an idle handler in the pool for the column which has been
+	 * created by the same {@link ICellEditor}, it is rebound to the given
+	 * {@link ICellEditorListener} and {@link IDataRow} and returned. Otherwise
+	 * a new handler is created by the {@link ICellEditor}.
+	 * 
+	 * @param pCellEditor the {@link ICellEditor}.
+	 * @param pCellEditorListener the {@link ICellEditorListener}.
+	 * @param pDataRow the {@link IDataRow}.
+	 * @param pColumnName the name of the column.
+	 * @return the {@link ICellEditorHandler}.
+	 * @see #releaseCellEditorHandler(String, ICellEditorHandler)
+	 */
+	protected ICellEditorHandler<?> acquireCellEditorHandler(ICellEditor pCellEditor, ICellEditorListener pCellEditorListener, IDataRow pDataRow, String pColumnName)
+	{
+		FXAbstractCellEditorHandler<?, ?> pooledHandler = cellEditorHandlerPool.remove(pColumnName);
+		
+		if (pooledHandler != null && pooledHandler.getCellEditor() == pCellEditor)
+		{
+			pooledHandler.rebind(pCellEditorListener, pDataRow);
+			
+			return pooledHandler;
+		}
+		
+		return pCellEditor.createCellEditorHandler(pCellEditorListener, pDataRow, pColumnName);
+	}
+	
 	/**
 	 * Ends the current edit.
 	 */
@@ -535,6 +756,25 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		editingCell.set(null);
 	}
 	
+	/**
+	 * Returns the given {@link ICellEditorHandler} into the pool of the given
+	 * column, so that it can be reused by the next edit of that column. The
+	 * handler must already be uninstalled.
+	 * <p>
+	 * Handlers which can not be rebound are dropped.
+	 * 
+	 * @param pColumnName the name of the column.
+	 * @param pCellEditorHandler the {@link ICellEditorHandler}.
+	 * @see #acquireCellEditorHandler(ICellEditor, ICellEditorListener, IDataRow, String)
+	 */
+	protected void releaseCellEditorHandler(String pColumnName, ICellEditorHandler<?> pCellEditorHandler)
+	{
+		if (pCellEditorHandler instanceof FXAbstractCellEditorHandler)
+		{
+			cellEditorHandlerPool.put(pColumnName, (FXAbstractCellEditorHandler<?, ?>)pCellEditorHandler);
+		}
+	}
+	
 	/**
 	 * Starts the edit on the given {@link DataRowCell}.
 	 * 
@@ -546,6 +786,49 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		editingCell.set(pEditingCell);
 	}
 	
+	/**
+	 * Cancels the pending selection, if there is one, without committing it.
+	 */
+	private void cancelPendingSelection()
+	{
+		selectionPending = false;
+		selectionCommitTimer.stop();
+	}
+	
+	/**
+	 * Commits the given selected row to the backing {@link #dataBook}.
+	 * 
+	 * @param pSelectedRow the selected row.
+	 */
+	private void commitSelection(int pSelectedRow)
+	{
+		if (dataBook.get() != null && !displaySelectionOnly.get())
+		{
+			ignoreSelectionEvents = true;
+			
+			try
+			{
+				saveEditing();
+				
+				if (dataBook.get().getSelectedRow() != pSelectedRow)
+				{
+					dataBook.get().setSelectedRow(pSelectedRow);
+				}
+			}
+			catch (ModelException e)
+			{
+				// Make sure that the correct selection is restored.
+				notifyRepaint();
+				
+				ExceptionHandler.show(e);
+			}
+			finally
+			{
+				ignoreSelectionEvents = false;
+			}
+		}
+	}
+	
 	/**
 	 * Creates a {@link TableColumn} from the given {@link ColumnDefinition}.
 	 * 
@@ -628,6 +911,26 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		resizeColumns();
 	}
 	
+	/**
+	 * Gets if the pending selection still points to the same row of the
+	 * {@link #dataBook}.
+	 * <p>
+	 * It does not if the {@link #dataBook} selected another row, for example
+	 * after a programmatic selection, or if the {@link #rowsGeneration rows}
+	 * have changed since, for example after a reload, insert or delete.
+	 * 
+	 * @return {@code true} if the pending selection is still valid.
+	 * @throws ModelException if accessing the {@link #dataBook} failed.
+	 */
+	private boolean isPendingSelectionValid() throws ModelException
+	{
+		IDataBook currentDataBook = dataBook.get();
+		
+		return currentDataBook != null
+				&& pendingRowsGeneration == rowsGeneration
+				&& currentDataBook.getSelectedRow() == pendingDataBookSelectedRow;
+	}
+	
 	/**
 	 * Invoked if the {@link #dataBook} changes.
 	 * <p>
@@ -640,22 +943,42 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 	 */
 	private void onDataBookChanged(ObservableValue<? extends IDataBook> pObservable, IDataBook pOldValue, IDataBook pNewValue)
 	{
+		cancelPendingSelection();
+		
 		itemsProperty().set(null);
 		
 		getColumns().clear();
 		
+		cellEditorHandlerPool.clear();
+		
+		rowsGeneration++;
+		
 		if (pOldValue != null)
 		{
 			pOldValue.removeControl(this);
+			
+			pOldValue.eventAfterInserted().removeListener(dataBookRowsListener);
+			pOldValue.eventAfterDeleted().removeListener(dataBookRowsListener);
+			pOldValue.eventAfterRestore().removeListener(dataBookRowsListener);
+			pOldValue.eventAfterReload().removeListener(dataBookRowsListener);
+			pOldValue.eventAfterFilterChanged().removeListener(dataBookRowsListener);
+			pOldValue.eventAfterSortChanged().removeListener(dataBookRowsListener);
 		}
 		
 		if (pNewValue != null)
 		{
 			pNewValue.addControl(this);
 			
+			pNewValue.eventAfterInserted().addListener(dataBookRowsListener);
+			pNewValue.eventAfterDeleted().addListener(dataBookRowsListener);
+			pNewValue.eventAfterRestore().addListener(dataBookRowsListener);
+			pNewValue.eventAfterReload().addListener(dataBookRowsListener);
+			pNewValue.eventAfterFilterChanged().addListener(dataBookRowsListener);
+			pNewValue.eventAfterSortChanged().addListener(dataBookRowsListener);
+			
 			createColumns();
 			
-			dataBookViewList = new DataBookViewList(this, pNewValue, FetchMode.MANUAL, 500);
+			dataBookViewList = new DataBookViewList(this, pNewValue, FetchMode.AUTOMATIC, 500);
 			
 			itemsProperty().set(dataBookViewList);
 			
@@ -663,10 +986,48 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		}
 	}
 	
+	/**
+	 * Invoked if the rows of the {@link #dataBook} have been changed.
+	 * <p>
+	 * Increases the {@link #rowsGeneration}, which invalidates a pending
+	 * selection.
+	 * 
+	 * @param pDataBookEvent the event.
+	 */
+	private void onDataBookRowsChanged(DataBookEvent pDataBookEvent)
+	{
+		rowsGeneration++;
+	}
+	
+	/**
+	 * Invoked if a key has been released.
+	 * <p>
+	 * Commits the pending selection.
+	 * 
+	 * @param pKeyEvent the event.
+	 */
+	private void onKeyReleased(KeyEvent pKeyEvent)
+	{
+		commitPendingSelection();
+	}
+	
+	/**
+	 * Invoked if a mouse button has been released.
+	 * <p>
+	 * Commits the pending selection.
+	 * 
+	 * @param pMouseEvent the event.
+	 */
+	private void onMouseReleased(MouseEvent pMouseEvent)
+	{
+		commitPendingSelection();
+	}
+	
 	/**
 	 * Invoked if the {@link #verticalScrollBar} changes it value.
 	 * <p>
-	 * Fetches additional data if needed.
+	 * Fetches additional data if needed and the list is in manual fetch mode,
+	 * in automatic fetch mode the list fetches the data itself.
 	 * 
 	 * @param pObservableValue the observable.
 	 * @param pOldValue the old value.
@@ -674,7 +1035,7 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 	 */
 	private void onScrollBarValueChanged(ObservableValue<? extends Number> pObservableValue, Number pOldValue, Number pNewValue)
 	{
-		if (!ignoreNextScrollBarValueChange)
+		if (!ignoreNextScrollBarValueChange && dataBookViewList.getFetchMode() == FetchMode.MANUAL)
 		{
 			if (dataBookViewList.getRowCount() * (1 - pNewValue.doubleValue()) <= 25)
 			{
@@ -716,7 +1077,8 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 	/**
 	 * Invoked if the selected row changed.
 	 * <p>
-	 * Propagates the new selection to the backing {@link #dataBook}.
+	 * Propagates the new selection to the backing {@link #dataBook}, either
+	 * immediately or after the {@link #selectionDelay}.
 	 * 
 	 * @param pObservable the observable.
 	 * @param pOldValue the old value.
@@ -728,27 +1090,32 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 		{
 			if (dataBook.get() != null && pNewValue != null && !pNewValue.equals(pOldValue) && !displaySelectionOnly.get())
 			{
-				ignoreSelectionEvents = true;
-				
-				try
+				if (selectionDelay.get() > 0)
 				{
-					saveEditing();
-					
-					if (dataBook.get().getSelectedRow() != pNewValue.intValue())
+					try
 					{
-						dataBook.get().setSelectedRow(pNewValue.intValue());
+						if (!selectionPending)
+						{
+							pendingDataBookSelectedRow = dataBook.get().getSelectedRow();
+							pendingRowsGeneration = rowsGeneration;
+						}
+						
+						pendingSelectedRow = pNewValue.intValue();
+						selectionPending = true;
+						
+						selectionCommitTimer.setDuration(Duration.millis(selectionDelay.get()));
+						selectionCommitTimer.playFromStart();
+					}
+					catch (ModelException e)
+					{
+						cancelPendingSelection();
+						
+						commitSelection(pNewValue.intValue());
 					}
 				}
-				catch (ModelException e)
-				{
-					// Make sure that the correct selection is restored.
-					notifyRepaint();
-					
-					ExceptionHandler.show(e);
-				}
-				finally
+				else
 				{
-					ignoreSelectionEvents = false;
+					commitSelection(pNewValue.intValue());
 				}
 			}
 		}
@@ -797,18 +1164,32 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 	 */
 	private void reload()
 	{
-		ignoreSelectionEvents = false;
+		FXStallDetector.enter("FXDataBookView.reload");
 		
-		if (getItems() != null)
+		try
 		{
-			((DataBookViewList) getItems()).notifyChanged();
-			updateSelectionFromDataBook();
+			ignoreSelectionEvents = false;
+			
+			if (getItems() != null)
+			{
+				((DataBookViewList) getItems()).notifyChanged();
+				updateSelectionFromDataBook();
+			}
+		}
+		finally
+		{
+			FXStallDetector.exit("FXDataBookView.reload");
 		}
 	}
 	
 	/**
 	 * Updates the selection of this table with the one from the backing
 	 * {@link #dataBook}.
+	 * <p>
+	 * A pending selection is kept as long as it still points to the same row,
+	 * as it will be committed to the {@link #dataBook} anyway. If the rows of
+	 * the {@link #dataBook} changed, it is dropped and the selection of the
+	 * {@link #dataBook} is applied.
 	 */
 	private void updateSelectionFromDataBook()
 	{
@@ -818,6 +1199,16 @@ public class FXDataBookView extends TableView<IDataRow> implements IControl
 			
 			try
 			{
+				if (selectionPending)
+				{
+					if (isPendingSelectionValid())
+					{
+						return;
+					}
+					
+					cancelPendingSelection();
+				}
+				
 				int rowIndex = dataBook.get().getSelectedRow();
 				
 				if (rowIndex >= 0 && !getSelectionModel().isSelected(rowIndex))
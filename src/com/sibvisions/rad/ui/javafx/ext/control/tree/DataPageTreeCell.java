@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.control.tree;
+
+import javafx.scene.control.TreeCell;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeView;
+import javafx.util.Callback;
+
+/**
+ * The {@link DataPageTreeCell} is the {@link TreeCell} of the
+ * {@link FXDataBooksTree}, it displays the graphic of its
+ * {@link DataPageTreeItem} like the default cell does.
+ * <p>
+ * Before a {@link DataPageTreeItem} is displayed, its value is updated if it
+ * has become dirty, so items which have been out of view during a repaint are
+ * refreshed when they scroll into view.
+ * 
+ * @author Robert Zenz
+ */
+public class DataPageTreeCell extends TreeCell<String>
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Constants
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The factory method for {@link DataPageTreeCell}s. */
+	public static final Callback<TreeView<String>, TreeCell<String>> FACTORY = (pParams) -> new DataPageTreeCell();
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link DataPageTreeCell}.
+	 */
+	public DataPageTreeCell()
+	{
+		super();
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void updateItem(String pItem, boolean pEmpty)
+	{
+		super.updateItem(pItem, pEmpty);
+		
+		TreeItem<String> treeItem = getTreeItem();
+		
+		if (pEmpty || treeItem == null)
+		{
+			setText(null);
+			setGraphic(null);
+			
+			return;
+		}
+		
+		if (treeItem instanceof DataPageTreeItem)
+		{
+			((DataPageTreeItem) treeItem).updateValueIfDirty();
+		}
+		
+		setText(pItem);
+		setGraphic(treeItem.getGraphic());
+	}
+	
+}	// DataPageTreeCell
@@ -112,6 +112,12 @@ public class DataPageTreeItem extends TreeItem<String>
 	/** The {@link FXLabel} used for displaying the value. */
 	private Label valueDisplayLabel;
 	
+	/**
+	 * The {@link FXDataBooksTree#getRepaintGeneration() repaint generation}
+	 * for which the value has been updated last.
+	 */
+	private int valueGeneration;
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -361,11 +367,24 @@ public class DataPageTreeItem extends TreeItem<String>
 		return dataPageList == null || dataPageList.getRowCount() == getChildren().size();
 	}
 	
+	/**
+	 * Gets if the value is dirty, meaning that the parent tree has been
+	 * repainted since the value has been updated last.
+	 * 
+	 * @return {@code true} if the value is dirty.
+	 */
+	public boolean isValueDirty()
+	{
+		return valueGeneration != parentTree.getRepaintGeneration();
+	}
+	
 	/**
 	 * Updates the value.
 	 */
 	public void updateValue()
 	{
+		valueGeneration = parentTree.getRepaintGeneration();
+		
 		try
 		{
 			ColumnView columnView = currentDataBook.getRowDefinition().getColumnView(ITree.class);
@@ -431,6 +450,17 @@ public class DataPageTreeItem extends TreeItem<String>
 		}
 	}
 	
+	/**
+	 * Updates the value, but only if it {@link #isValueDirty() is dirty}.
+	 */
+	public void updateValueIfDirty()
+	{
+		if (isValueDirty())
+		{
+			updateValue();
+		}
+	}
+	
 	/**
 	 * Invoked if the {@link #expandedProperty()} changes.
 	 * <p>
@@ -109,6 +109,12 @@ public class FXDataBooksTree extends TreeView<String> implements IControl
 	/** If a complete rebuild of the control is necessary. */
 	private boolean rebuildNeeded;
 	
+	/**
+	 * The repaint generation, which is increased with every repaint that does
+	 * not rebuild the control.
+	 */
+	private int repaintGeneration;
+	
 	/** The {@link FXTranslationHelper} that is used. */
 	private FXTranslationHelper translation;
 	
@@ -147,6 +153,7 @@ public class FXDataBooksTree extends TreeView<String> implements IControl
 		
 		getSelectionModel().selectedItemProperty().addListener(this::onSelectionChanged);
 		
+		setCellFactory(DataPageTreeCell.FACTORY);
 		setEditable(false);
 		setRoot(new TreeItem<>("ROOT"));
 		setShowRoot(false);
@@ -310,6 +317,19 @@ public class FXDataBooksTree extends TreeView<String> implements IControl
 		return nodeFormatter.get();
 	}
 	
+	/**
+	 * Gets the repaint generation, which is increased with every repaint that
+	 * does not rebuild the control. A {@link DataPageTreeItem} which has been
+	 * updated for an older generation is dirty.
+	 * 
+	 * @return the repaint generation.
+	 * @see DataPageTreeItem#isValueDirty()
+	 */
+	public int getRepaintGeneration()
+	{
+		return repaintGeneration;
+	}
+	
 	/**
 	 * Gets if leaf detection is enabled.
 	 * 
@@ -716,7 +736,9 @@ public class FXDataBooksTree extends TreeView<String> implements IControl
 		else
 		{
 			// TODO The amount of rows might have changed, how to handle that?
-			updateValues(getRoot());
+			repaintGeneration++;
+			
+			updateVisibleValues();
 		}
 	}
 	
@@ -853,6 +875,37 @@ public class FXDataBooksTree extends TreeView<String> implements IControl
 		return currentIndex;
 	}
 	
+	/**
+	 * Updates the values of all visible {@link DataPageTreeItem}s which are
+	 * dirty. All others are updated by their {@link DataPageTreeCell} when
+	 * they become visible.
+	 */
+	private void updateVisibleValues()
+	{
+		if (virtualFlow == null)
+		{
+			updateValues(getRoot());
+			
+			return;
+		}
+		
+		TreeCell<?> firstCell = virtualFlow.getFirstVisibleCell();
+		TreeCell<?> lastCell = virtualFlow.getLastVisibleCell();
+		
+		if (firstCell != null && lastCell != null)
+		{
+			for (int index = firstCell.getIndex(); index <= lastCell.getIndex(); index++)
+			{
+				TreeCell<?> treeCell = virtualFlow.getVisibleCell(index);
+				
+				if (treeCell != null && treeCell.getTreeItem() instanceof DataPageTreeItem)
+				{
+					((DataPageTreeItem) treeCell.getTreeItem()).updateValueIfDirty();
+				}
+			}
+		}
+	}
+	
 	/**
 	 * Updates all values of the given {@link TreeItem} and all its children.
 	 * 
@@ -21,11 +21,15 @@ import java.util.Map;
 
 import javax.rad.genui.UIFactoryManager;
 import javax.rad.model.ColumnDefinition;
+import javax.rad.model.IDataBook;
 import javax.rad.model.IDataRow;
 import javax.rad.model.ModelException;
+import javax.rad.model.condition.Equals;
+import javax.rad.model.condition.ICondition;
 import javax.rad.model.datatype.BigDecimalDataType;
 import javax.rad.model.datatype.IDataType;
 import javax.rad.model.datatype.TimestampDataType;
+import javax.rad.model.reference.ReferenceDefinition;
 import javax.rad.model.ui.ICellEditor;
 
 import com.sibvisions.rad.ui.javafx.ext.celleditor.FXDateCellEditor;
@@ -120,6 +124,46 @@ public final class FXControlUtil
 		return defaultCellEditors.get(pClass);
 	}
 	
+	/**
+	 * Gets the condition of the rows of the given {@link IDataBook} in its
+	 * storage, which is its filter and the condition of its master reference.
+	 * <p>
+	 * Must be called on the JavaFX application thread.
+	 * 
+	 * @param pDataBook the {@link IDataBook}.
+	 * @return the condition, {@code null} if there is none.
+	 * @throws ModelException if accessing the master failed.
+	 */
+	public static ICondition getStorageCondition(IDataBook pDataBook) throws ModelException
+	{
+		ICondition condition = pDataBook.getFilter();
+		
+		ReferenceDefinition masterReference = pDataBook.getMasterReference();
+		
+		if (masterReference != null)
+		{
+			IDataBook masterDataBook = masterReference.getReferencedDataBook();
+			String[] referenceColumnNames = masterReference.getColumnNames();
+			String[] referencedColumnNames = masterReference.getReferencedColumnNames();
+			
+			for (int index = 0; index < referenceColumnNames.length; index++)
+			{
+				ICondition masterCondition = new Equals(referenceColumnNames[index], masterDataBook.getValue(referencedColumnNames[index]));
+				
+				if (condition == null)
+				{
+					condition = masterCondition;
+				}
+				else
+				{
+					condition = condition.and(masterCondition);
+				}
+			}
+		}
+		
+		return condition;
+	}
+	
 	/**
 	 * Checks if the given {@link ColumnDefinition} is holding a number.
 	 * 
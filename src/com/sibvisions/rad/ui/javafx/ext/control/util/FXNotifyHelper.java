@@ -21,6 +21,8 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.value.ObservableValue;
 
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
+
 /**
  * The {@link FXNotifyHelper} is a helper utility which encapsulates most of the
  * boiler-plate code needed for the notifyRepaint support.
@@ -139,6 +141,8 @@ public class FXNotifyHelper
 		{
 			if (runnable != null)
 			{
+				FXStallDetector.enter("FXNotifyHelper.execute");
+				
 				try
 				{
 					runnable.run();
@@ -151,6 +155,10 @@ public class FXNotifyHelper
 					// it creates problems in my tests.
 					// TODO Should we log the exception somewhere?
 				}
+				finally
+				{
+					FXStallDetector.exit("FXNotifyHelper.execute");
+				}
 			}
 		}
 		
@@ -34,6 +34,7 @@ import javafx.geometry.VPos;
 import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
 import com.sibvisions.rad.ui.javafx.ext.util.NodeUtil;
 
 /**
@@ -251,7 +252,18 @@ public class FXFluidFlowPane extends Pane
 	@Override
 	protected void layoutChildren()
 	{
-		Dimension2D actualLayoutSize = doLayout(getWidth(), getHeight(), true);
+		Dimension2D actualLayoutSize;
+		
+		FXStallDetector.enter("FXFluidFlowPane.layoutChildren");
+		
+		try
+		{
+			actualLayoutSize = doLayout(getWidth(), getHeight(), true);
+		}
+		finally
+		{
+			FXStallDetector.exit("FXFluidFlowPane.layoutChildren");
+		}
 		
 		boolean secondPassRequired = false;
 		
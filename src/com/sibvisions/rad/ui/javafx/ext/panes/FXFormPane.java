@@ -16,9 +16,14 @@
 package com.sibvisions.rad.ui.javafx.ext.panes;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javafx.beans.Observable;
 import javafx.beans.property.DoubleProperty;
@@ -34,6 +39,7 @@ import javafx.geometry.Orientation;
 import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 
+import com.sibvisions.rad.ui.javafx.ext.util.FXStallDetector;
 import com.sibvisions.rad.ui.javafx.ext.util.NodeUtil;
 
 /**
@@ -57,6 +63,12 @@ public class FXFormPane extends Pane
 	// Class members
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/**
+	 * The compiled {@link AnchorGraph}, {@code null} if it needs to be
+	 * compiled.
+	 */
+	private AnchorGraph anchorGraph;
+	
 	/**
 	 * The {@link Constraints} that contain the {@link Anchor}s used for the
 	 * border.
@@ -241,8 +253,17 @@ public class FXFormPane extends Pane
 	{
 		super.layoutChildren();
 		
-		calculateAnchors();
-		resizeAndRelocateChildren();
+		FXStallDetector.enter("FXFormPane.layoutChildren");
+		
+		try
+		{
+			calculateAnchors();
+			resizeAndRelocateChildren();
+		}
+		finally
+		{
+			FXStallDetector.exit("FXFormPane.layoutChildren");
+		}
 	}
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -278,18 +299,7 @@ public class FXFormPane extends Pane
 			constraint = getNextConstraints();
 		}
 		
-		if (constraint == null)
-		{
-			throw new IllegalArgumentException("Constraint " + constraint + " is not allowed!");
-		}
-		
-		if (constraint.getLeftAnchor().getFormPane() != this
-				|| constraint.getRightAnchor().getFormPane() != this
-				|| constraint.getTopAnchor().getFormPane() != this
-				|| constraint.getBottomAnchor().getFormPane() != this)
-		{
-			throw new IllegalArgumentException("Constraint " + constraint + " has anchors for another layout!");
-		}
+		checkConstraint(constraint);
 		
 		constraints.put(pNode, constraint);
 		
@@ -377,6 +387,76 @@ public class FXFormPane extends Pane
 		}
 	}
 	
+	/**
+	 * Adds the given {@link Node}s as children to the pane with a single
+	 * change of the {@link #getChildren() children list}.
+	 * <p>
+	 * The {@link Constraints} are determined in the order of the given
+	 * {@link List}, exactly as if every {@link Node} would have been added
+	 * with {@link #addChild(int, Node, Constraints)}.
+	 * 
+	 * @param pIndex the index at which to insert the children in the
+	 *            {@link #getChildren() children list}, {@code -1} to append
+	 *            them.
+	 * @param pNodes the {@link Node}s to add.
+	 * @param pConstraints the {@link Constraints} for the children, can be
+	 *            {@code null} or contain {@code null} for the next cell.
+	 * @param pReverseOrder {@code true} if the children should be inserted in
+	 *            reverse order.
+	 */
+	public void addChildren(int pIndex, List<? extends Node> pNodes, List<Constraints> pConstraints, boolean pReverseOrder)
+	{
+		Constraints previousConstraints = getPreviousConstraints();
+		
+		for (int index = 0; index < pNodes.size(); index++)
+		{
+			Constraints constraint = null;
+			
+			if (pConstraints != null)
+			{
+				constraint = pConstraints.get(index);
+			}
+			
+			if (constraint == null)
+			{
+				constraint = getNextConstraints(previousConstraints);
+			}
+			
+			checkConstraint(constraint);
+			
+			constraints.put(pNodes.get(index), constraint);
+			
+			previousConstraints = constraint;
+		}
+		
+		List<Node> nodes = new ArrayList<>(pNodes);
+		
+		if (pReverseOrder)
+		{
+			Collections.reverse(nodes);
+		}
+		
+		if (pIndex >= 0)
+		{
+			getChildren().addAll(pIndex, nodes);
+		}
+		else
+		{
+			getChildren().addAll(nodes);
+		}
+		
+		if (pReverseOrder)
+		{
+			// The constraints are determined by the order in which the children
+			// have been added, not by their order in the children list.
+			int count = childrenForConstraintsOrder.size();
+			
+			Collections.reverse(childrenForConstraintsOrder.subList(count - nodes.size(), count));
+		}
+		
+		requestLayout();
+	}
+	
 	/**
 	 * Creates {@link Constraints} for the given column and row.
 	 * 
@@ -647,6 +727,24 @@ public class FXFormPane extends Pane
 		requestLayout();
 	}
 	
+	/**
+	 * Removes the given children from this {@link Pane} with a single change
+	 * of the {@link #getChildren() children list}.
+	 * 
+	 * @param pNodes the children to remove.
+	 */
+	public void removeChildren(Collection<? extends Node> pNodes)
+	{
+		getChildren().removeAll(new HashSet<>(pNodes));
+		
+		for (Node node : pNodes)
+		{
+			constraints.remove(node);
+		}
+		
+		requestLayout();
+	}
+	
 	/**
 	 * Sets the given {@link Constraints} for the given child.
 	 * 
@@ -660,6 +758,8 @@ public class FXFormPane extends Pane
 		if (constraints.containsKey(pNode))
 		{
 			constraints.put(pNode, pConstraint);
+			
+			invalidateAnchorGraph();
 		}
 		else
 		{
@@ -708,6 +808,8 @@ public class FXFormPane extends Pane
 			marginAnchors.bottomAnchor.position = -pMargins.getBottom();
 			marginAnchors.rightAnchor.position = -pMargins.getRight();
 		}
+		
+		invalidateAnchorGraph();
 	}
 	
 	/**
@@ -766,11 +868,16 @@ public class FXFormPane extends Pane
 	 */
 	private void calculateAnchors()
 	{
+		if (anchorGraph == null)
+		{
+			anchorGraph = compileAnchorGraph();
+		}
+		
 		// reset border anchors
-		borderAnchors.leftAnchor.position = 0;
-		borderAnchors.rightAnchor.position = 0;
-		borderAnchors.topAnchor.position = 0;
-		borderAnchors.bottomAnchor.position = 0;
+		anchorGraph.position[AnchorGraph.BORDER_LEFT] = 0;
+		anchorGraph.position[AnchorGraph.BORDER_RIGHT] = 0;
+		anchorGraph.position[AnchorGraph.BORDER_TOP] = 0;
+		anchorGraph.position[AnchorGraph.BORDER_BOTTOM] = 0;
 		
 		// reset preferred size;
 		preferredWidth = 0;
@@ -780,10 +887,6 @@ public class FXFormPane extends Pane
 		minimumWidth = 0;
 		minimumHeight = 0;
 		
-		// reset List of Anchors;
-		horizontalAnchors.clear();
-		verticalAnchors.clear();
-		
 		clearAutoSizeAnchors();
 		initAutoSizeAnchors();
 		calculateAutoSizeAnchors();
@@ -791,59 +894,67 @@ public class FXFormPane extends Pane
 		
 		calculateTargetDependentAnchors = true;
 		calculateTargetDependentAnchors();
+		
+		anchorGraph.writeBack();
 	}
 	
 	/**
 	 * Calculates the auto-size {@link Anchor}s.
 	 * 
-	 * @param pLeftTopAnchor the left/top {@link Anchor}.
-	 * @param pRightBottomAnchor the right/bottom {@link Anchor}.
+	 * @param pLeftTopAnchor the index of the left/top {@link Anchor}.
+	 * @param pRightBottomAnchor the index of the right/bottom {@link Anchor}.
 	 * @param pPreferredSize the preferred size.
 	 * @param pAutoSizeCount the auto size count.
 	 */
-	private void calculateAutoSize(Anchor pLeftTopAnchor, Anchor pRightBottomAnchor, double pPreferredSize, double pAutoSizeCount)
+	private void calculateAutoSize(int pLeftTopAnchor, int pRightBottomAnchor, double pPreferredSize, double pAutoSizeCount)
 	{
-		List<Anchor> anchors = getAutoSizeAnchorsBetween(pLeftTopAnchor, pRightBottomAnchor);
-		int size = anchors.size();
+		AnchorGraph graph = anchorGraph;
+		double[] position = graph.position;
+		int[] anchors = graph.buffer;
+		
+		int size = graph.getAutoSizeAnchorsBetween(pLeftTopAnchor, pRightBottomAnchor);
 		
 		if (size == pAutoSizeCount)
 		{
-			double fixedSize = pRightBottomAnchor.getAbsolutePosition() - pLeftTopAnchor.getAbsolutePosition();
-			for (Anchor anchor : anchors)
+			double fixedSize = graph.getAbsolutePosition(pRightBottomAnchor) - graph.getAbsolutePosition(pLeftTopAnchor);
+			for (int index = 0; index < size; index++)
 			{
-				fixedSize += anchor.position;
+				fixedSize += position[anchors[index]];
 			}
 			
 			double diffSize = (pPreferredSize - fixedSize + size - 1) / size;
-			for (Anchor anchor : anchors)
+			for (int index = 0; index < size; index++)
 			{
-				if (diffSize > -anchor.position)
+				int anchor = anchors[index];
+				
+				if (diffSize > -position[anchor])
 				{
-					anchor.position = -diffSize;
+					position[anchor] = -diffSize;
 				}
-				anchor.firstCalculation = false;
+				graph.firstCalculation[anchor] = false;
 			}
 		}
 		
-		anchors = getAutoSizeAnchorsBetween(pRightBottomAnchor, pLeftTopAnchor);
-		size = anchors.size();
+		size = graph.getAutoSizeAnchorsBetween(pRightBottomAnchor, pLeftTopAnchor);
 		
 		if (size == pAutoSizeCount)
 		{
-			double fixedSize = pRightBottomAnchor.getAbsolutePosition() - pLeftTopAnchor.getAbsolutePosition();
-			for (Anchor anchor : anchors)
+			double fixedSize = graph.getAbsolutePosition(pRightBottomAnchor) - graph.getAbsolutePosition(pLeftTopAnchor);
+			for (int index = 0; index < size; index++)
 			{
-				fixedSize -= anchor.position;
+				fixedSize -= position[anchors[index]];
 			}
 			
 			double diffSize = (pPreferredSize - fixedSize + size - 1) / size;
-			for (Anchor anchor : anchors)
+			for (int index = 0; index < size; index++)
 			{
-				if (diffSize > anchor.position)
+				int anchor = anchors[index];
+				
+				if (diffSize > position[anchor])
 				{
-					anchor.position = diffSize;
+					position[anchor] = diffSize;
 				}
-				anchor.firstCalculation = false;
+				graph.firstCalculation[anchor] = false;
 			}
 		}
 	}
@@ -871,15 +982,18 @@ public class FXFormPane extends Pane
 	 */
 	private void calculateAutoSizeAnchors(int pAutoSizeCount)
 	{
-		for (Node child : getChildren())
+		AnchorGraph graph = anchorGraph;
+		
+		for (int index = 0; index < graph.children.length; index++)
 		{
+			Node child = graph.children[index];
+			
 			if (child.isManaged())
 			{
-				Constraints constraint = getConstraint(child);
 				Dimension2D preferredSize = NodeUtil.getPrefSize(child);
 				
-				calculateAutoSize(constraint.leftAnchor, constraint.rightAnchor, preferredSize.getWidth(), pAutoSizeCount);
-				calculateAutoSize(constraint.topAnchor, constraint.bottomAnchor, preferredSize.getHeight(), pAutoSizeCount);
+				calculateAutoSize(graph.leftAnchors[index], graph.rightAnchors[index], preferredSize.getWidth(), pAutoSizeCount);
+				calculateAutoSize(graph.topAnchors[index], graph.bottomAnchors[index], preferredSize.getHeight(), pAutoSizeCount);
 			}
 		}
 	}
@@ -887,19 +1001,23 @@ public class FXFormPane extends Pane
 	/**
 	 * Calculates the relative {@link Anchor}.
 	 * 
-	 * @param pLeftTopAnchor the left/top {@link Anchor}.
-	 * @param pRightBottomAnchor the right/bottom {@link Anchor}.
+	 * @param pLeftTopAnchor the index of the left/top {@link Anchor}.
+	 * @param pRightBottomAnchor the index of the right/bottom {@link Anchor}.
 	 * @param pPreferredSize the preferred size.
 	 */
-	private void calculateRelativeAnchor(Anchor pLeftTopAnchor, Anchor pRightBottomAnchor, double pPreferredSize)
+	private void calculateRelativeAnchor(int pLeftTopAnchor, int pRightBottomAnchor, double pPreferredSize)
 	{
-		if (pLeftTopAnchor.relative)
+		AnchorGraph graph = anchorGraph;
+		double[] position = graph.position;
+		boolean[] firstCalculation = graph.firstCalculation;
+		
+		if (graph.relative[pLeftTopAnchor])
 		{
-			Anchor rightBottom = pRightBottomAnchor.getRelativeAnchor();
-			if (rightBottom != null && rightBottom != pLeftTopAnchor)
+			int rightBottom = graph.getRelativeAnchor(pRightBottomAnchor);
+			if (rightBottom >= 0 && rightBottom != pLeftTopAnchor)
 			{
-				double pref = rightBottom.getAbsolutePosition() - pRightBottomAnchor.getAbsolutePosition() + pPreferredSize;
-				double size = rightBottom.relatedAnchor.getAbsolutePosition() - pLeftTopAnchor.relatedAnchor.getAbsolutePosition();
+				double pref = graph.getAbsolutePosition(rightBottom) - graph.getAbsolutePosition(pRightBottomAnchor) + pPreferredSize;
+				double size = graph.getAbsolutePosition(graph.relatedAnchor[rightBottom]) - graph.getAbsolutePosition(graph.relatedAnchor[pLeftTopAnchor]);
 				
 				double pos = pref - size;
 				if (pos < 0)
@@ -910,26 +1028,26 @@ public class FXFormPane extends Pane
 				{
 					pos -= pos / 2;
 				}
-				if (rightBottom.firstCalculation || pos > rightBottom.position)
+				if (firstCalculation[rightBottom] || pos > position[rightBottom])
 				{
-					rightBottom.firstCalculation = false;
-					rightBottom.position = pos;
+					firstCalculation[rightBottom] = false;
+					position[rightBottom] = pos;
 				}
 				pos = pref - size - pos;
-				if (pLeftTopAnchor.firstCalculation || pos > -pLeftTopAnchor.position)
+				if (firstCalculation[pLeftTopAnchor] || pos > -position[pLeftTopAnchor])
 				{
-					pLeftTopAnchor.firstCalculation = false;
-					pLeftTopAnchor.position = -pos;
+					firstCalculation[pLeftTopAnchor] = false;
+					position[pLeftTopAnchor] = -pos;
 				}
 			}
 		}
-		else if (pRightBottomAnchor.relative)
+		else if (graph.relative[pRightBottomAnchor])
 		{
-			Anchor leftTop = pLeftTopAnchor.getRelativeAnchor();
-			if (leftTop != null && leftTop != pRightBottomAnchor)
+			int leftTop = graph.getRelativeAnchor(pLeftTopAnchor);
+			if (leftTop >= 0 && leftTop != pRightBottomAnchor)
 			{
-				double pref = pLeftTopAnchor.getAbsolutePosition() - leftTop.getAbsolutePosition() + pPreferredSize;
-				double size = pRightBottomAnchor.relatedAnchor.getAbsolutePosition() - leftTop.relatedAnchor.getAbsolutePosition();
+				double pref = graph.getAbsolutePosition(pLeftTopAnchor) - graph.getAbsolutePosition(leftTop) + pPreferredSize;
+				double size = graph.getAbsolutePosition(graph.relatedAnchor[pRightBottomAnchor]) - graph.getAbsolutePosition(graph.relatedAnchor[leftTop]);
 				
 				double pos = size - pref;
 				if (pos < 0)
@@ -940,16 +1058,16 @@ public class FXFormPane extends Pane
 				{
 					pos /= 2;
 				}
-				if (leftTop.firstCalculation || pos < leftTop.position)
+				if (firstCalculation[leftTop] || pos < position[leftTop])
 				{
-					leftTop.firstCalculation = false;
-					leftTop.position = pos;
+					firstCalculation[leftTop] = false;
+					position[leftTop] = pos;
 				}
 				pos = pref - size - pos;
-				if (pRightBottomAnchor.firstCalculation || pos > -pRightBottomAnchor.position)
+				if (firstCalculation[pRightBottomAnchor] || pos > -position[pRightBottomAnchor])
 				{
-					pRightBottomAnchor.firstCalculation = false;
-					pRightBottomAnchor.position = -pos;
+					firstCalculation[pRightBottomAnchor] = false;
+					position[pRightBottomAnchor] = -pos;
 				}
 			}
 		}
@@ -960,15 +1078,18 @@ public class FXFormPane extends Pane
 	 */
 	private void calculateRelativeAnchors()
 	{
-		for (Node child : getChildren())
+		AnchorGraph graph = anchorGraph;
+		
+		for (int index = 0; index < graph.children.length; index++)
 		{
+			Node child = graph.children[index];
+			
 			if (child.isManaged())
 			{
-				Constraints constraint = getConstraint(child);
 				Dimension2D preferredSize = NodeUtil.getPrefSize(child);
 				
-				calculateRelativeAnchor(constraint.leftAnchor, constraint.rightAnchor, preferredSize.getWidth());
-				calculateRelativeAnchor(constraint.topAnchor, constraint.bottomAnchor, preferredSize.getHeight());
+				calculateRelativeAnchor(graph.leftAnchors[index], graph.rightAnchors[index], preferredSize.getWidth());
+				calculateRelativeAnchor(graph.topAnchors[index], graph.bottomAnchors[index], preferredSize.getHeight());
 			}
 		}
 	}
@@ -988,61 +1109,68 @@ public class FXFormPane extends Pane
 		double topHeight = 0;
 		double bottomHeight = 0;
 		
+		AnchorGraph graph = anchorGraph;
+		
 		// calculate preferredSize.
-		for (Node child : getChildren())
+		for (int index = 0; index < graph.children.length; index++)
 		{
+			Node child = graph.children[index];
+			
 			if (child.isManaged())
 			{
-				Constraints constraint = getConstraint(child);
+				int leftAnchor = graph.leftAnchors[index];
+				int rightAnchor = graph.rightAnchors[index];
+				int topAnchor = graph.topAnchors[index];
+				int bottomAnchor = graph.bottomAnchors[index];
 				
 				Dimension2D preferredSize = NodeUtil.getPrefSize(child);
 				Dimension2D minimumSize = NodeUtil.getMinSize(child);
 				
-				if (constraint.rightAnchor.getBorderAnchor() == borderAnchors.leftAnchor)
+				if (graph.borderAnchor[rightAnchor] == AnchorGraph.BORDER_LEFT)
 				{
-					double w = constraint.rightAnchor.getAbsolutePosition();
+					double w = graph.getAbsolutePosition(rightAnchor);
 					if (w > leftWidth)
 					{
 						leftWidth = w;
 					}
 					leftBorderUsed = true;
 				}
-				if (constraint.leftAnchor.getBorderAnchor() == borderAnchors.rightAnchor)
+				if (graph.borderAnchor[leftAnchor] == AnchorGraph.BORDER_RIGHT)
 				{
-					double w = -constraint.leftAnchor.getAbsolutePosition();
+					double w = -graph.getAbsolutePosition(leftAnchor);
 					if (w > rightWidth)
 					{
 						rightWidth = w;
 					}
 					rightBorderUsed = true;
 				}
-				if (constraint.bottomAnchor.getBorderAnchor() == borderAnchors.topAnchor)
+				if (graph.borderAnchor[bottomAnchor] == AnchorGraph.BORDER_TOP)
 				{
-					double h = constraint.bottomAnchor.getAbsolutePosition();
+					double h = graph.getAbsolutePosition(bottomAnchor);
 					if (h > topHeight)
 					{
 						topHeight = h;
 					}
 					topBorderUsed = true;
 				}
-				if (constraint.topAnchor.getBorderAnchor() == borderAnchors.bottomAnchor)
+				if (graph.borderAnchor[topAnchor] == AnchorGraph.BORDER_BOTTOM)
 				{
-					double h = -constraint.topAnchor.getAbsolutePosition();
+					double h = -graph.getAbsolutePosition(topAnchor);
 					if (h > bottomHeight)
 					{
 						bottomHeight = h;
 					}
 					bottomBorderUsed = true;
 				}
-				if (constraint.leftAnchor.getBorderAnchor() == borderAnchors.leftAnchor && constraint.rightAnchor.getBorderAnchor() == borderAnchors.rightAnchor)
+				if (graph.borderAnchor[leftAnchor] == AnchorGraph.BORDER_LEFT && graph.borderAnchor[rightAnchor] == AnchorGraph.BORDER_RIGHT)
 				{
-					double w = constraint.leftAnchor.getAbsolutePosition() - constraint.rightAnchor.getAbsolutePosition() +
+					double w = graph.getAbsolutePosition(leftAnchor) - graph.getAbsolutePosition(rightAnchor) +
 							preferredSize.getWidth();
 					if (w > preferredWidth)
 					{
 						preferredWidth = w;
 					}
-					w = constraint.leftAnchor.getAbsolutePosition() - constraint.rightAnchor.getAbsolutePosition() +
+					w = graph.getAbsolutePosition(leftAnchor) - graph.getAbsolutePosition(rightAnchor) +
 							minimumSize.getWidth();
 					if (w > minimumWidth)
 					{
@@ -1051,15 +1179,15 @@ public class FXFormPane extends Pane
 					leftBorderUsed = true;
 					rightBorderUsed = true;
 				}
-				if (constraint.topAnchor.getBorderAnchor() == borderAnchors.topAnchor && constraint.bottomAnchor.getBorderAnchor() == borderAnchors.bottomAnchor)
+				if (graph.borderAnchor[topAnchor] == AnchorGraph.BORDER_TOP && graph.borderAnchor[bottomAnchor] == AnchorGraph.BORDER_BOTTOM)
 				{
-					double h = constraint.topAnchor.getAbsolutePosition() - constraint.bottomAnchor.getAbsolutePosition() +
+					double h = graph.getAbsolutePosition(topAnchor) - graph.getAbsolutePosition(bottomAnchor) +
 							preferredSize.getHeight();
 					if (h > preferredHeight)
 					{
 						preferredHeight = h;
 					}
-					h = constraint.topAnchor.getAbsolutePosition() - constraint.bottomAnchor.getAbsolutePosition() +
+					h = graph.getAbsolutePosition(topAnchor) - graph.getAbsolutePosition(bottomAnchor) +
 							minimumSize.getHeight();
 					if (h > minimumHeight)
 					{
@@ -1084,7 +1212,7 @@ public class FXFormPane extends Pane
 		}
 		else if (leftWidth != 0)
 		{
-			double w = leftWidth - marginAnchors.rightAnchor.position;
+			double w = leftWidth - graph.position[AnchorGraph.MARGIN_RIGHT];
 			if (w > preferredWidth)
 			{
 				preferredWidth = w;
@@ -1096,7 +1224,7 @@ public class FXFormPane extends Pane
 		}
 		else
 		{
-			double w = rightWidth + marginAnchors.leftAnchor.position;
+			double w = rightWidth + graph.position[AnchorGraph.MARGIN_LEFT];
 			if (w > preferredWidth)
 			{
 				preferredWidth = w;
@@ -1120,7 +1248,7 @@ public class FXFormPane extends Pane
 		}
 		else if (topHeight != 0)
 		{
-			double h = topHeight - marginAnchors.bottomAnchor.position;
+			double h = topHeight - graph.position[AnchorGraph.MARGIN_BOTTOM];
 			if (h > preferredHeight)
 			{
 				preferredHeight = h;
@@ -1132,7 +1260,7 @@ public class FXFormPane extends Pane
 		}
 		else
 		{
-			double h = bottomHeight + marginAnchors.topAnchor.position;
+			double h = bottomHeight + graph.position[AnchorGraph.MARGIN_TOP];
 			if (h > preferredHeight)
 			{
 				preferredHeight = h;
@@ -1151,6 +1279,8 @@ public class FXFormPane extends Pane
 	{
 		if (calculateTargetDependentAnchors)
 		{
+			double[] position = anchorGraph.position;
+			
 			Insets ins = getInsets();
 			
 			double widthMod = ins.getLeft() + ins.getRight();
@@ -1165,119 +1295,119 @@ public class FXFormPane extends Pane
 			{
 				if (minSize.getWidth() > size.getWidth())
 				{
-					borderAnchors.leftAnchor.position = 0;
-					borderAnchors.rightAnchor.position = minSize.getWidth();
+					position[AnchorGraph.BORDER_LEFT] = 0;
+					position[AnchorGraph.BORDER_RIGHT] = minSize.getWidth();
 				}
 				else if (maxSize.getWidth() < size.getWidth())
 				{
 					switch (horizontalAlignment.get())
 					{
 						case LEFT:
-							borderAnchors.leftAnchor.position = 0;
+							position[AnchorGraph.BORDER_LEFT] = 0;
 							break;
 							
 						case RIGHT:
-							borderAnchors.leftAnchor.position = size.getWidth() - maxSize.getWidth();
+							position[AnchorGraph.BORDER_LEFT] = size.getWidth() - maxSize.getWidth();
 							break;
 							
 						default:
-							borderAnchors.leftAnchor.position = (size.getWidth() - maxSize.getWidth()) / 2;
+							position[AnchorGraph.BORDER_LEFT] = (size.getWidth() - maxSize.getWidth()) / 2;
 							
 					}
-					borderAnchors.rightAnchor.position = borderAnchors.leftAnchor.position + maxSize.getWidth();
+					position[AnchorGraph.BORDER_RIGHT] = position[AnchorGraph.BORDER_LEFT] + maxSize.getWidth();
 				}
 				else
 				{
-					borderAnchors.leftAnchor.position = 0;
-					borderAnchors.rightAnchor.position = size.getWidth();
+					position[AnchorGraph.BORDER_LEFT] = 0;
+					position[AnchorGraph.BORDER_RIGHT] = size.getWidth();
 				}
 			}
 			else
 			{
 				if (preferredWidth > size.getWidth())
 				{
-					borderAnchors.leftAnchor.position = 0;
+					position[AnchorGraph.BORDER_LEFT] = 0;
 				}
 				else
 				{
 					switch (horizontalAlignment.get())
 					{
 						case LEFT:
-							borderAnchors.leftAnchor.position = 0;
+							position[AnchorGraph.BORDER_LEFT] = 0;
 							break;
 							
 						case RIGHT:
-							borderAnchors.leftAnchor.position = size.getWidth() - preferredWidth;
+							position[AnchorGraph.BORDER_LEFT] = size.getWidth() - preferredWidth;
 							break;
 							
 						default:
-							borderAnchors.leftAnchor.position = (size.getWidth() - preferredWidth) / 2;
+							position[AnchorGraph.BORDER_LEFT] = (size.getWidth() - preferredWidth) / 2;
 							
 					}
 				}
-				borderAnchors.rightAnchor.position = borderAnchors.leftAnchor.position + preferredWidth;
+				position[AnchorGraph.BORDER_RIGHT] = position[AnchorGraph.BORDER_LEFT] + preferredWidth;
 			}
 			if (verticalAlignment.get() == VerticalAlignment.STRETCH || (topBorderUsed && bottomBorderUsed))
 			{
 				if (minSize.getHeight() > size.getHeight())
 				{
-					borderAnchors.topAnchor.position = 0;
-					borderAnchors.bottomAnchor.position = minSize.getHeight();
+					position[AnchorGraph.BORDER_TOP] = 0;
+					position[AnchorGraph.BORDER_BOTTOM] = minSize.getHeight();
 				}
 				else if (maxSize.getHeight() < size.getHeight())
 				{
 					switch (verticalAlignment.get())
 					{
 						case TOP:
-							borderAnchors.topAnchor.position = 0;
+							position[AnchorGraph.BORDER_TOP] = 0;
 							break;
 							
 						case BOTTOM:
-							borderAnchors.topAnchor.position = size.getHeight() - maxSize.getHeight();
+							position[AnchorGraph.BORDER_TOP] = size.getHeight() - maxSize.getHeight();
 							break;
 							
 						default:
-							borderAnchors.topAnchor.position = (size.getHeight() - maxSize.getHeight()) / 2;
+							position[AnchorGraph.BORDER_TOP] = (size.getHeight() - maxSize.getHeight()) / 2;
 							
 					}
-					borderAnchors.bottomAnchor.position = borderAnchors.topAnchor.position + maxSize.getHeight();
+					position[AnchorGraph.BORDER_BOTTOM] = position[AnchorGraph.BORDER_TOP] + maxSize.getHeight();
 				}
 				else
 				{
-					borderAnchors.topAnchor.position = 0;
-					borderAnchors.bottomAnchor.position = size.getHeight();
+					position[AnchorGraph.BORDER_TOP] = 0;
+					position[AnchorGraph.BORDER_BOTTOM] = size.getHeight();
 				}
 			}
 			else
 			{
 				if (preferredHeight > size.getHeight())
 				{
-					borderAnchors.topAnchor.position = 0;
+					position[AnchorGraph.BORDER_TOP] = 0;
 				}
 				else
 				{
 					switch (verticalAlignment.get())
 					{
 						case TOP:
-							borderAnchors.topAnchor.position = 0;
+							position[AnchorGraph.BORDER_TOP] = 0;
 							break;
 							
 						case BOTTOM:
-							borderAnchors.topAnchor.position = size.getHeight() - preferredHeight;
+							position[AnchorGraph.BORDER_TOP] = size.getHeight() - preferredHeight;
 							break;
 							
 						default:
-							borderAnchors.topAnchor.position = (size.getHeight() - preferredHeight) / 2;
+							position[AnchorGraph.BORDER_TOP] = (size.getHeight() - preferredHeight) / 2;
 							
 					}
 				}
-				borderAnchors.bottomAnchor.position = borderAnchors.topAnchor.position + preferredHeight;
+				position[AnchorGraph.BORDER_BOTTOM] = position[AnchorGraph.BORDER_TOP] + preferredHeight;
 			}
 			
-			borderAnchors.leftAnchor.position += ins.getLeft();
-			borderAnchors.rightAnchor.position += ins.getLeft();
-			borderAnchors.topAnchor.position += ins.getTop();
-			borderAnchors.bottomAnchor.position += ins.getTop();
+			position[AnchorGraph.BORDER_LEFT] += ins.getLeft();
+			position[AnchorGraph.BORDER_RIGHT] += ins.getLeft();
+			position[AnchorGraph.BORDER_TOP] += ins.getTop();
+			position[AnchorGraph.BORDER_BOTTOM] += ins.getTop();
 			
 			calculateRelativeAnchors();
 			
@@ -1285,20 +1415,46 @@ public class FXFormPane extends Pane
 		}
 	}
 	
+	/**
+	 * Checks if the given {@link Constraints} can be used for a child of this
+	 * pane.
+	 * 
+	 * @param pConstraint the {@link Constraints} to check.
+	 * @throws IllegalArgumentException if the {@link Constraints} are
+	 *             {@code null} or have anchors for another layout.
+	 */
+	private void checkConstraint(Constraints pConstraint)
+	{
+		if (pConstraint == null)
+		{
+			throw new IllegalArgumentException("Constraint " + pConstraint + " is not allowed!");
+		}
+		
+		if (pConstraint.getLeftAnchor().getFormPane() != this
+				|| pConstraint.getRightAnchor().getFormPane() != this
+				|| pConstraint.getTopAnchor().getFormPane() != this
+				|| pConstraint.getBottomAnchor().getFormPane() != this)
+		{
+			throw new IllegalArgumentException("Constraint " + pConstraint + " has anchors for another layout!");
+		}
+	}
+	
 	/**
 	 * Clears the given {@link Anchor}.
 	 * 
-	 * @param pAnchor the {@link Anchor} to clear.
+	 * @param pAnchor the index of the {@link Anchor} to clear.
 	 */
-	private void clearAutoSize(Anchor pAnchor)
+	private void clearAutoSize(int pAnchor)
 	{
-		pAnchor.relative = pAnchor.autoSize;
-		pAnchor.autoSizeCalculated = false;
-		pAnchor.firstCalculation = true;
+		AnchorGraph graph = anchorGraph;
+		
+		graph.relative[pAnchor] = graph.autoSize[pAnchor];
+		graph.autoSizeCalculated[pAnchor] = false;
+		graph.firstCalculation[pAnchor] = true;
 		
-		if (pAnchor.autoSize)
+		if (graph.autoSize[pAnchor])
 		{
-			pAnchor.position = 0;
+			graph.position[pAnchor] = 0;
 		}
 		
 	}
@@ -1308,32 +1464,59 @@ public class FXFormPane extends Pane
 	 */
 	private void clearAutoSizeAnchors()
 	{
-		for (Node child : getChildren())
+		AnchorGraph graph = anchorGraph;
+		
+		for (int index = 0; index < graph.children.length; index++)
 		{
-			Constraints constraint = getConstraint(child);
-			
-			clearAutoSize(constraint.leftAnchor);
-			clearAutoSize(constraint.rightAnchor);
-			clearAutoSize(constraint.topAnchor);
-			clearAutoSize(constraint.bottomAnchor);
+			clearAutoSize(graph.leftAnchors[index]);
+			clearAutoSize(graph.rightAnchors[index]);
+			clearAutoSize(graph.topAnchors[index]);
+			clearAutoSize(graph.bottomAnchors[index]);
+		}
+	}
+	
+	/**
+	 * Compiles the {@link AnchorGraph} from the current children and their
+	 * {@link Constraints}, and collects all horizontal and vertical
+	 * {@link Anchor}s.
+	 * 
+	 * @return the compiled {@link AnchorGraph}.
+	 */
+	private AnchorGraph compileAnchorGraph()
+	{
+		Node[] children = getChildren().toArray(new Node[getChildren().size()]);
+		Constraints[] childConstraints = new Constraints[children.length];
+		
+		horizontalAnchors.clear();
+		verticalAnchors.clear();
+		
+		Set<Anchor> addedAnchors = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		for (int index = 0; index < children.length; index++)
+		{
+			Constraints constraint = getConstraint(children[index]);
 			
-			if (!horizontalAnchors.contains(constraint.leftAnchor))
+			if (addedAnchors.add(constraint.leftAnchor))
 			{
 				horizontalAnchors.add(constraint.leftAnchor);
 			}
-			if (!horizontalAnchors.contains(constraint.rightAnchor))
+			if (addedAnchors.add(constraint.rightAnchor))
 			{
 				horizontalAnchors.add(constraint.rightAnchor);
 			}
-			if (!verticalAnchors.contains(constraint.topAnchor))
+			if (addedAnchors.add(constraint.topAnchor))
 			{
 				verticalAnchors.add(constraint.topAnchor);
 			}
-			if (!verticalAnchors.contains(constraint.bottomAnchor))
+			if (addedAnchors.add(constraint.bottomAnchor))
 			{
 				verticalAnchors.add(constraint.bottomAnchor);
 			}
+			
+			childConstraints[index] = constraint;
 		}
+		
+		return new AnchorGraph(borderAnchors, marginAnchors, children, childConstraints);
 	}
 	
 	/**
@@ -1407,30 +1590,35 @@ public class FXFormPane extends Pane
 	 */
 	private int finishAutoSizeCalculation()
 	{
+		AnchorGraph graph = anchorGraph;
+		
 		int autoSizeCount = Integer.MAX_VALUE;
 		
-		for (Node child : getChildren())
+		for (int index = 0; index < graph.children.length; index++)
 		{
-			if (child.isManaged())
+			if (graph.children[index].isManaged())
 			{
-				Constraints constraint = getConstraint(child);
+				int leftAnchor = graph.leftAnchors[index];
+				int rightAnchor = graph.rightAnchors[index];
+				int topAnchor = graph.topAnchors[index];
+				int bottomAnchor = graph.bottomAnchors[index];
 				
-				int count = finishAutoSizeCalculation(constraint.leftAnchor, constraint.rightAnchor);
+				int count = finishAutoSizeCalculation(leftAnchor, rightAnchor);
 				if (count > 0 && count < autoSizeCount)
 				{
 					autoSizeCount = count;
 				}
-				count = finishAutoSizeCalculation(constraint.rightAnchor, constraint.leftAnchor);
+				count = finishAutoSizeCalculation(rightAnchor, leftAnchor);
 				if (count > 0 && count < autoSizeCount)
 				{
 					autoSizeCount = count;
 				}
-				count = finishAutoSizeCalculation(constraint.topAnchor, constraint.bottomAnchor);
+				count = finishAutoSizeCalculation(topAnchor, bottomAnchor);
 				if (count > 0 && count < autoSizeCount)
 				{
 					autoSizeCount = count;
 				}
-				count = finishAutoSizeCalculation(constraint.bottomAnchor, constraint.topAnchor);
+				count = finishAutoSizeCalculation(bottomAnchor, topAnchor);
 				if (count > 0 && count < autoSizeCount)
 				{
 					autoSizeCount = count;
@@ -1444,53 +1632,30 @@ public class FXFormPane extends Pane
 	/**
 	 * Finishes the calculation of the auto-size {@link Anchor}s.
 	 * 
-	 * @param pLeftTopAnchor the left/top {@link Anchor}.
-	 * @param pRightBottomAnchor the right/bottom {@link Anchor}.
+	 * @param pLeftTopAnchor the index of the left/top {@link Anchor}.
+	 * @param pRightBottomAnchor the index of the right/bottom {@link Anchor}.
 	 * @return the count of remaining auto-size {@link Anchor}s.
 	 */
-	private int finishAutoSizeCalculation(Anchor pLeftTopAnchor, Anchor pRightBottomAnchor)
+	private int finishAutoSizeCalculation(int pLeftTopAnchor, int pRightBottomAnchor)
 	{
-		List<Anchor> anchors = getAutoSizeAnchorsBetween(pLeftTopAnchor, pRightBottomAnchor);
-		int count = anchors.size();
+		AnchorGraph graph = anchorGraph;
 		
-		for (Anchor anchor : anchors)
+		int size = graph.getAutoSizeAnchorsBetween(pLeftTopAnchor, pRightBottomAnchor);
+		int count = size;
+		
+		for (int index = 0; index < size; index++)
 		{
-			if (!anchor.firstCalculation)
+			int anchor = graph.buffer[index];
+			
+			if (!graph.firstCalculation[anchor])
 			{
-				anchor.autoSizeCalculated = true;
+				graph.autoSizeCalculated[anchor] = true;
 				count--;
 			}
 		}
 		return count;
 	}
 	
-	/**
-	 * Gets all auto-size {@link Anchor}s between the given two {@link Anchor}s.
-	 * 
-	 * @param pStartAnchor the start {@link Anchor}.
-	 * @param pEndAnchor the end {@link Anchor}.
-	 * @return all auto-size {@link Anchor}s between the given two.
-	 */
-	private List<Anchor> getAutoSizeAnchorsBetween(Anchor pStartAnchor, Anchor pEndAnchor)
-	{
-		List<Anchor> anchorsBuffer = new ArrayList<>();
-		Anchor nextRelatedAnchor = pStartAnchor;
-		
-		while (nextRelatedAnchor != null && nextRelatedAnchor != pEndAnchor)
-		{
-			if (nextRelatedAnchor.autoSize && !nextRelatedAnchor.autoSizeCalculated)
-			{
-				anchorsBuffer.add(nextRelatedAnchor);
-			}
-			nextRelatedAnchor = nextRelatedAnchor.relatedAnchor;
-		}
-		if (nextRelatedAnchor == null)
-		{
-			anchorsBuffer.clear();
-		}
-		return anchorsBuffer;
-	}
-	
 	/**
 	 * Gets the maximum height.
 	 * 
@@ -1530,23 +1695,36 @@ public class FXFormPane extends Pane
 	{
 		if (getChildren().size() >= 1)
 		{
-			Constraints constraintsBefore = getPreviousConstraints();
+			return getNextConstraints(getPreviousConstraints());
+		}
+		
+		// First children to be added.
+		return createConstraint(0, 0);
+	}
+	
+	/**
+	 * Gets the {@link Constraints} which follow the given {@link Constraints}.
+	 * 
+	 * @param pConstraintsBefore the previous {@link Constraints}, can be
+	 *            {@code null}.
+	 * @return the next {@link Constraints}.
+	 */
+	private Constraints getNextConstraints(Constraints pConstraintsBefore)
+	{
+		// Might happen if the client decides to add directly to the children
+		// list instead of using the addChild(...) methods.
+		if (pConstraintsBefore != null)
+		{
+			int column = leftDefaultAnchors.indexOf(pConstraintsBefore.leftAnchor) / 2 + 1;
+			int row = topDefaultAnchors.indexOf(pConstraintsBefore.topAnchor) / 2;
 			
-			// Might happen if the client decides to add directly to the children
-			// list instead of using the addChild(...) methods.
-			if (constraintsBefore != null)
+			if (column % newlineCount.get() == 0)
 			{
-				int column = leftDefaultAnchors.indexOf(constraintsBefore.leftAnchor) / 2 + 1;
-				int row = topDefaultAnchors.indexOf(constraintsBefore.topAnchor) / 2;
-				
-				if (column % newlineCount.get() == 0)
-				{
-					return createConstraint(0, row + 1);
-				}
-				else
-				{
-					return createConstraint(column, row);
-				}
+				return createConstraint(0, row + 1);
+			}
+			else
+			{
+				return createConstraint(column, row);
 			}
 		}
 		
@@ -1578,24 +1756,29 @@ public class FXFormPane extends Pane
 	 * Initializes the auto-size {@link Anchor}s between the given two
 	 * {@link Anchor}s.
 	 * 
-	 * @param pStartAnchor the start {@link Anchor}.
-	 * @param pEndAnchor the end {@link Anchor}.
+	 * @param pStartAnchor the index of the start {@link Anchor}.
+	 * @param pEndAnchor the index of the end {@link Anchor}.
 	 */
-	private void initAutoSize(Anchor pStartAnchor, Anchor pEndAnchor)
+	private void initAutoSize(int pStartAnchor, int pEndAnchor)
 	{
-		List<Anchor> anchors = getAutoSizeAnchorsBetween(pStartAnchor, pEndAnchor);
+		AnchorGraph graph = anchorGraph;
+		
+		int size = graph.getAutoSizeAnchorsBetween(pStartAnchor, pEndAnchor);
 		
-		for (Anchor anchor : anchors)
+		for (int index = 0; index < size; index++)
 		{
-			anchor.relative = false;
+			int anchor = graph.buffer[index];
+			int relatedAnchor = graph.relatedAnchor[anchor];
 			
-			if (!anchor.relatedAnchor.autoSize && anchor.secondRelatedAnchor == null)
+			graph.relative[anchor] = false;
+			
+			if (!graph.autoSize[relatedAnchor] && graph.secondRelatedAnchor[anchor] < 0)
 			{
-				anchor.position = -anchor.relatedAnchor.position;
+				graph.position[anchor] = -graph.position[relatedAnchor];
 			}
 			else
 			{
-				anchor.position = 0;
+				graph.position[anchor] = 0;
 			}
 		}
 	}
@@ -1605,33 +1788,54 @@ public class FXFormPane extends Pane
 	 */
 	private void initAutoSizeAnchors()
 	{
-		for (Node child : getChildren())
+		AnchorGraph graph = anchorGraph;
+		
+		for (int index = 0; index < graph.children.length; index++)
 		{
-			Constraints constraint = getConstraint(child);
+			int leftAnchor = graph.leftAnchors[index];
+			int rightAnchor = graph.rightAnchors[index];
+			int topAnchor = graph.topAnchors[index];
+			int bottomAnchor = graph.bottomAnchors[index];
 			
-			initAutoSize(constraint.leftAnchor, constraint.rightAnchor);
-			initAutoSize(constraint.rightAnchor, constraint.leftAnchor);
-			initAutoSize(constraint.topAnchor, constraint.bottomAnchor);
-			initAutoSize(constraint.bottomAnchor, constraint.topAnchor);
+			initAutoSize(leftAnchor, rightAnchor);
+			initAutoSize(rightAnchor, leftAnchor);
+			initAutoSize(topAnchor, bottomAnchor);
+			initAutoSize(bottomAnchor, topAnchor);
 		}
 	}
 	
+	/**
+	 * Invalidates the compiled {@link AnchorGraph}, it is compiled again with
+	 * the next layout pass.
+	 */
+	private void invalidateAnchorGraph()
+	{
+		anchorGraph = null;
+	}
+	
 	/**
 	 * Resizes and relocates the children based on the calculated {@link Anchor}
 	 * s.
 	 */
 	private void resizeAndRelocateChildren()
 	{
-		for (Node child : getChildren())
+		AnchorGraph graph = anchorGraph;
+		
+		for (int index = 0; index < graph.children.length; index++)
 		{
+			Node child = graph.children[index];
+			
 			if (child.isManaged())
 			{
-				Constraints constraint = getConstraint(child);
+				double left = graph.getAbsolutePosition(graph.leftAnchors[index]);
+				double right = graph.getAbsolutePosition(graph.rightAnchors[index]);
+				double top = graph.getAbsolutePosition(graph.topAnchors[index]);
+				double bottom = graph.getAbsolutePosition(graph.bottomAnchors[index]);
 				
-				double x = snapPosition(constraint.leftAnchor.getAbsolutePosition());
-				double width = snapSize(constraint.rightAnchor.getAbsolutePosition() - constraint.leftAnchor.getAbsolutePosition());
-				double y = snapPosition(constraint.topAnchor.getAbsolutePosition());
-				double height = snapSize(constraint.bottomAnchor.getAbsolutePosition() - constraint.topAnchor.getAbsolutePosition());
+				double x = snapPosition(left);
+				double width = snapSize(right - left);
+				double y = snapPosition(top);
+				double height = snapSize(bottom - top);
 				
 				child.resizeRelocate(x, y, width, height);
 			}
@@ -1647,6 +1851,8 @@ public class FXFormPane extends Pane
 	 */
 	private void onChildrenChanged(Change<? extends Node> pChange)
 	{
+		invalidateAnchorGraph();
+		
 		while (pChange.next())
 		{
 			if (pChange.wasAdded())
@@ -1663,9 +1869,10 @@ public class FXFormPane extends Pane
 			
 			if (pChange.wasRemoved())
 			{
+				childrenForConstraintsOrder.removeAll(new HashSet<>(pChange.getRemoved()));
+				
 				for (Node child : pChange.getRemoved())
 				{
-					childrenForConstraintsOrder.remove(child);
 					constraints.remove(child);
 				}
 			}
@@ -1967,6 +2174,8 @@ public class FXFormPane extends Pane
 		public void setAutoSize(boolean pAutoSize)
 		{
 			autoSize = pAutoSize;
+			
+			formPane.invalidateAnchorGraph();
 		}
 		
 		/**
@@ -1984,6 +2193,8 @@ public class FXFormPane extends Pane
 			{
 				position = pPosition;
 			}
+			
+			formPane.invalidateAnchorGraph();
 		}
 		
 		/**
@@ -2005,6 +2216,8 @@ public class FXFormPane extends Pane
 			{
 				relatedAnchor = pRelatedAnchor;
 			}
+			
+			formPane.invalidateAnchorGraph();
 		}
 		
 		/**
@@ -2030,6 +2243,8 @@ public class FXFormPane extends Pane
 			{
 				relativePosition = pRelativePosition;
 			}
+			
+			formPane.invalidateAnchorGraph();
 		}
 		
 		/**
@@ -2051,6 +2266,8 @@ public class FXFormPane extends Pane
 			{
 				secondRelatedAnchor = pSecondRelatedAnchor;
 			}
+			
+			formPane.invalidateAnchorGraph();
 		}
 		
 		/**
@@ -2079,6 +2296,326 @@ public class FXFormPane extends Pane
 		
 	}	// Anchor
 	
+	/**
+	 * The {@link AnchorGraph} is the compiled form of the {@link Anchor}s
+	 * which are used by the children of a {@link FXFormPane}.
+	 * <p>
+	 * Every {@link Anchor} is assigned an index and its state is flattened
+	 * into arrays, the related {@link Anchor}s are referenced by their index,
+	 * with {@code -1} meaning none. The layout is solved over these arrays and
+	 * the results are written back to the {@link Anchor}s afterwards. The
+	 * graph has to be compiled again whenever the {@link Anchor}s or
+	 * {@link Constraints} are changed.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private static final class AnchorGraph
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The index of the bottom border {@link Anchor}. */
+		private static final int BORDER_BOTTOM = 3;
+		
+		/** The index of the left border {@link Anchor}. */
+		private static final int BORDER_LEFT = 0;
+		
+		/** The index of the right border {@link Anchor}. */
+		private static final int BORDER_RIGHT = 1;
+		
+		/** The index of the top border {@link Anchor}. */
+		private static final int BORDER_TOP = 2;
+		
+		/** The index of the bottom margin {@link Anchor}. */
+		private static final int MARGIN_BOTTOM = 7;
+		
+		/** The index of the left margin {@link Anchor}. */
+		private static final int MARGIN_LEFT = 4;
+		
+		/** The index of the right margin {@link Anchor}. */
+		private static final int MARGIN_RIGHT = 5;
+		
+		/** The index of the top margin {@link Anchor}. */
+		private static final int MARGIN_TOP = 6;
+		
+		/** The {@link Anchor}s by index. */
+		private Anchor[] anchors;
+		
+		/** If the {@link Anchor} should be automatically sized. */
+		private boolean[] autoSize;
+		
+		/** If the {@link Anchor} has been automatically sized. */
+		private boolean[] autoSizeCalculated;
+		
+		/** The index of the border {@link Anchor} of the {@link Anchor}. */
+		private int[] borderAnchor;
+		
+		/** The indexes of the bottom {@link Anchor}s of the children. */
+		private int[] bottomAnchors;
+		
+		/**
+		 * The buffer which is filled by
+		 * {@link #getAutoSizeAnchorsBetween(int, int)}.
+		 */
+		private int[] buffer;
+		
+		/** The children. */
+		private Node[] children;
+		
+		/** If the first calculation of the {@link Anchor} has occurred. */
+		private boolean[] firstCalculation;
+		
+		/** The indexes of the left {@link Anchor}s of the children. */
+		private int[] leftAnchors;
+		
+		/** The position of the {@link Anchor}. */
+		private double[] position;
+		
+		/** The index of the related {@link Anchor}. */
+		private int[] relatedAnchor;
+		
+		/** If the {@link Anchor} should be relative to another {@link Anchor}. */
+		private boolean[] relative;
+		
+		/** The relative position of the {@link Anchor}. */
+		private double[] relativePosition;
+		
+		/** The indexes of the right {@link Anchor}s of the children. */
+		private int[] rightAnchors;
+		
+		/** The index of the "other" related {@link Anchor}. */
+		private int[] secondRelatedAnchor;
+		
+		/** The indexes of the top {@link Anchor}s of the children. */
+		private int[] topAnchors;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link AnchorGraph}.
+		 *
+		 * @param pBorderAnchors the border {@link Constraints}.
+		 * @param pMarginAnchors the margin {@link Constraints}.
+		 * @param pChildren the children.
+		 * @param pConstraints the {@link Constraints} of the children.
+		 */
+		private AnchorGraph(Constraints pBorderAnchors, Constraints pMarginAnchors, Node[] pChildren, Constraints[] pConstraints)
+		{
+			Map<Anchor, Integer> indexes = new IdentityHashMap<>();
+			List<Anchor> anchorList = new ArrayList<>();
+			
+			// The border and margin anchors always have the same indexes.
+			addAnchor(indexes, anchorList, pBorderAnchors.leftAnchor);
+			addAnchor(indexes, anchorList, pBorderAnchors.rightAnchor);
+			addAnchor(indexes, anchorList, pBorderAnchors.topAnchor);
+			addAnchor(indexes, anchorList, pBorderAnchors.bottomAnchor);
+			addAnchor(indexes, anchorList, pMarginAnchors.leftAnchor);
+			addAnchor(indexes, anchorList, pMarginAnchors.rightAnchor);
+			addAnchor(indexes, anchorList, pMarginAnchors.topAnchor);
+			addAnchor(indexes, anchorList, pMarginAnchors.bottomAnchor);
+			
+			children = pChildren;
+			leftAnchors = new int[pChildren.length];
+			rightAnchors = new int[pChildren.length];
+			topAnchors = new int[pChildren.length];
+			bottomAnchors = new int[pChildren.length];
+			
+			for (int index = 0; index < pChildren.length; index++)
+			{
+				leftAnchors[index] = addAnchor(indexes, anchorList, pConstraints[index].leftAnchor);
+				rightAnchors[index] = addAnchor(indexes, anchorList, pConstraints[index].rightAnchor);
+				topAnchors[index] = addAnchor(indexes, anchorList, pConstraints[index].topAnchor);
+				bottomAnchors[index] = addAnchor(indexes, anchorList, pConstraints[index].bottomAnchor);
+			}
+			
+			int count = anchorList.size();
+			
+			anchors = anchorList.toArray(new Anchor[count]);
+			autoSize = new boolean[count];
+			autoSizeCalculated = new boolean[count];
+			borderAnchor = new int[count];
+			buffer = new int[count];
+			firstCalculation = new boolean[count];
+			position = new double[count];
+			relatedAnchor = new int[count];
+			relative = new boolean[count];
+			relativePosition = new double[count];
+			secondRelatedAnchor = new int[count];
+			
+			for (int index = 0; index < count; index++)
+			{
+				Anchor anchor = anchors[index];
+				
+				autoSize[index] = anchor.autoSize;
+				autoSizeCalculated[index] = anchor.autoSizeCalculated;
+				firstCalculation[index] = anchor.firstCalculation;
+				position[index] = anchor.position;
+				relatedAnchor[index] = getIndex(indexes, anchor.relatedAnchor);
+				relative[index] = anchor.relative;
+				relativePosition[index] = anchor.relativePosition;
+				secondRelatedAnchor[index] = getIndex(indexes, anchor.secondRelatedAnchor);
+			}
+			
+			for (int index = 0; index < count; index++)
+			{
+				int border = index;
+				while (relatedAnchor[border] >= 0)
+				{
+					border = relatedAnchor[border];
+				}
+				borderAnchor[index] = border;
+			}
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// User-defined methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Adds the given {@link Anchor} and all {@link Anchor}s it is related
+		 * to, if they have not been added yet.
+		 * 
+		 * @param pIndexes the indexes of the already added {@link Anchor}s.
+		 * @param pAnchors the already added {@link Anchor}s.
+		 * @param pAnchor the {@link Anchor} to add.
+		 * @return the index of the given {@link Anchor}.
+		 */
+		private static int addAnchor(Map<Anchor, Integer> pIndexes, List<Anchor> pAnchors, Anchor pAnchor)
+		{
+			Integer index = pIndexes.get(pAnchor);
+			
+			if (index == null)
+			{
+				index = Integer.valueOf(pAnchors.size());
+				
+				pIndexes.put(pAnchor, index);
+				pAnchors.add(pAnchor);
+				
+				if (pAnchor.relatedAnchor != null)
+				{
+					addAnchor(pIndexes, pAnchors, pAnchor.relatedAnchor);
+				}
+				if (pAnchor.secondRelatedAnchor != null)
+				{
+					addAnchor(pIndexes, pAnchors, pAnchor.secondRelatedAnchor);
+				}
+			}
+			
+			return index.intValue();
+		}
+		
+		/**
+		 * Gets the absolute position of the given {@link Anchor}.
+		 * 
+		 * @param pAnchor the index of the {@link Anchor}.
+		 * @return the absolute position.
+		 * @see Anchor#getAbsolutePosition()
+		 */
+		private double getAbsolutePosition(int pAnchor)
+		{
+			int related = relatedAnchor[pAnchor];
+			
+			if (related < 0)
+			{
+				return position[pAnchor];
+			}
+			else if (secondRelatedAnchor[pAnchor] < 0)
+			{
+				return getAbsolutePosition(related) + position[pAnchor];
+			}
+			else
+			{
+				double pos = getAbsolutePosition(related);
+				return pos + ((getAbsolutePosition(secondRelatedAnchor[pAnchor]) - pos) * relativePosition[pAnchor]);
+			}
+		}
+		
+		/**
+		 * Gets all auto-size {@link Anchor}s between the given two
+		 * {@link Anchor}s. The indexes are stored in the {@link #buffer}.
+		 * 
+		 * @param pStartAnchor the index of the start {@link Anchor}.
+		 * @param pEndAnchor the index of the end {@link Anchor}.
+		 * @return the count of auto-size {@link Anchor}s between the given
+		 *         two.
+		 */
+		private int getAutoSizeAnchorsBetween(int pStartAnchor, int pEndAnchor)
+		{
+			int count = 0;
+			int nextRelatedAnchor = pStartAnchor;
+			
+			while (nextRelatedAnchor >= 0 && nextRelatedAnchor != pEndAnchor)
+			{
+				if (autoSize[nextRelatedAnchor] && !autoSizeCalculated[nextRelatedAnchor])
+				{
+					buffer[count++] = nextRelatedAnchor;
+				}
+				nextRelatedAnchor = relatedAnchor[nextRelatedAnchor];
+			}
+			if (nextRelatedAnchor < 0)
+			{
+				count = 0;
+			}
+			return count;
+		}
+		
+		/**
+		 * Gets the index of the given {@link Anchor}.
+		 * 
+		 * @param pIndexes the indexes of the {@link Anchor}s.
+		 * @param pAnchor the {@link Anchor}, can be {@code null}.
+		 * @return the index of the given {@link Anchor}, {@code -1} if it is
+		 *         {@code null}.
+		 */
+		private static int getIndex(Map<Anchor, Integer> pIndexes, Anchor pAnchor)
+		{
+			if (pAnchor == null)
+			{
+				return -1;
+			}
+			
+			return pIndexes.get(pAnchor).intValue();
+		}
+		
+		/**
+		 * Gets the relative {@link Anchor} of the given {@link Anchor}.
+		 * 
+		 * @param pAnchor the index of the {@link Anchor}.
+		 * @return the index of the relative {@link Anchor}, {@code -1} if there
+		 *         is none.
+		 * @see Anchor#getRelativeAnchor()
+		 */
+		private int getRelativeAnchor(int pAnchor)
+		{
+			int relativeAnchor = pAnchor;
+			while (relativeAnchor >= 0 && !relative[relativeAnchor])
+			{
+				relativeAnchor = relatedAnchor[relativeAnchor];
+			}
+			return relativeAnchor;
+		}
+		
+		/**
+		 * Writes the calculated state back to the {@link Anchor}s.
+		 */
+		private void writeBack()
+		{
+			for (int index = 0; index < anchors.length; index++)
+			{
+				Anchor anchor = anchors[index];
+				
+				anchor.autoSizeCalculated = autoSizeCalculated[index];
+				anchor.firstCalculation = firstCalculation[index];
+				anchor.position = position[index];
+				anchor.relative = relative[index];
+			}
+		}
+		
+	}	// AnchorGraph
+	
 	/**
 	 * Represents constraints, a combination of four {@link Anchor}s.
 	 * 
@@ -2220,6 +2757,8 @@ public class FXFormPane extends Pane
 			{
 				bottomAnchor = pBottomAnchor;
 			}
+			
+			bottomAnchor.formPane.invalidateAnchorGraph();
 		}
 		
 		/**
@@ -2241,6 +2780,8 @@ public class FXFormPane extends Pane
 			{
 				leftAnchor = pLeftAnchor;
 			}
+			
+			leftAnchor.formPane.invalidateAnchorGraph();
 		}
 		
 		/**
@@ -2262,6 +2803,8 @@ public class FXFormPane extends Pane
 			{
 				rightAnchor = pRightAnchor;
 			}
+			
+			rightAnchor.formPane.invalidateAnchorGraph();
 		}
 		
 		/**
@@ -2283,6 +2826,8 @@ public class FXFormPane extends Pane
 			{
 				topAnchor = pTopAnchor;
 			}
+			
+			topAnchor.formPane.invalidateAnchorGraph();
 		}
 		
 	}	// Constraints
@@ -119,8 +119,6 @@ public class MouseController
 			{
 				((Node)e.getSource()).setCursor(Cursor.DEFAULT);
 				
-				pane.setCache(false);
-				
 				boHeaderStart = null;
 			}
 			
@@ -136,11 +134,6 @@ public class MouseController
 		{
 			Stage stage = pane.getStage();
 			
-			if (!pane.isCache())
-			{
-				pane.setCache(true);
-			}
-			
 			// Checks
 			//-----------------------------
 			
@@ -197,8 +190,6 @@ public class MouseController
 					dCurrentDragX = -1;
 					dCurrentDragY = -1;
 					
-					pane.setCache(false);
-					
 					pane.maximizeProperty().set(true);
 					
 					((Node)e.getSource()).setCursor(Cursor.DEFAULT);
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.scene;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
+
+/**
+ * The {@link NineSliceShadow} draws the shadow of a rounded rectangle with
+ * pre-rendered images, instead of applying a {@link DropShadow} effect to a
+ * node which has the size of the whole window.
+ * <p>
+ * The shadow is rendered once for every combination of shadow and arc into a
+ * small nine-slice image, the corners are drawn as they are and the edges are
+ * stretched. The center is never drawn, only the shadow outside of the
+ * rectangle is visible. Resizing or switching the shadow only changes the
+ * images and their sizes, nothing needs to be blurred again.
+ * <p>
+ * The bounds of this region are the bounds of the rectangle, the shadow is
+ * drawn outside of them.
+ * 
+ * @author René Jahn
+ */
+public class NineSliceShadow extends Region
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** the cache of all rendered images. */
+	private static Map<String, Image> cache = new HashMap<>();
+	
+	/** the slices: top-left, top, top-right, left, right, bottom-left, bottom, bottom-right. */
+	private ImageView[] slices = new ImageView[8];
+	
+	/** the current shadow. */
+	private DropShadow shadow;
+	
+	/** the arc width of the rectangle. */
+	private double dArcWidth;
+	
+	/** the arc height of the rectangle. */
+	private double dArcHeight;
+	
+	/** the size of the corners in the image. */
+	private int iCornerSize;
+	
+	/** the size of the shadow outside of the rectangle. */
+	private int iShadowSize;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of <code>NineSliceShadow</code>.
+	 */
+	public NineSliceShadow()
+	{
+		getStyleClass().add("nineslice-shadow");
+		
+		setMouseTransparent(true);
+		setManaged(false);
+		
+		for (int i = 0; i < slices.length; i++)
+		{
+			slices[i] = new ImageView();
+			slices[i].setPreserveRatio(false);
+			slices[i].setSmooth(false);
+			slices[i].setManaged(false);
+		}
+		
+		getChildren().addAll(slices);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void layoutChildren()
+	{
+		if (shadow == null)
+		{
+			return;
+		}
+		
+		double w = getWidth();
+		double h = getHeight();
+		
+		double dCorner = iCornerSize;
+		double dOffset = iShadowSize;
+		
+		double dRight = w + dOffset - dCorner;
+		double dBottom = h + dOffset - dCorner;
+		
+		double dEdgeWidth = Math.max(0, w + dOffset * 2 - dCorner * 2);
+		double dEdgeHeight = Math.max(0, h + dOffset * 2 - dCorner * 2);
+		
+		place(slices[0], -dOffset, -dOffset, dCorner, dCorner);
+		place(slices[1], dCorner - dOffset, -dOffset, dEdgeWidth, dCorner);
+		place(slices[2], dRight, -dOffset, dCorner, dCorner);
+		place(slices[3], -dOffset, dCorner - dOffset, dCorner, dEdgeHeight);
+		place(slices[4], dRight, dCorner - dOffset, dCorner, dEdgeHeight);
+		place(slices[5], -dOffset, dBottom, dCorner, dCorner);
+		place(slices[6], dCorner - dOffset, dBottom, dEdgeWidth, dCorner);
+		place(slices[7], dRight, dBottom, dCorner, dCorner);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Sets the arc of the rectangle.
+	 * 
+	 * @param pArcWidth the arc width
+	 * @param pArcHeight the arc height
+	 */
+	public void setArc(double pArcWidth, double pArcHeight)
+	{
+		if (dArcWidth != pArcWidth || dArcHeight != pArcHeight)
+		{
+			dArcWidth = pArcWidth;
+			dArcHeight = pArcHeight;
+			
+			updateImage();
+		}
+	}
+	
+	/**
+	 * Sets the shadow which should be drawn. Only the color, the radius, the
+	 * spread and the blur type are used.
+	 * 
+	 * @param pShadow the shadow or <code>null</code> to draw no shadow
+	 */
+	public void setShadow(DropShadow pShadow)
+	{
+		if (shadow != pShadow)
+		{
+			shadow = pShadow;
+			
+			updateImage();
+		}
+	}
+	
+	/**
+	 * Gets the shadow which is drawn.
+	 * 
+	 * @return the shadow or <code>null</code> if no shadow is drawn
+	 */
+	public DropShadow getShadow()
+	{
+		return shadow;
+	}
+	
+	/**
+	 * Gets the number of rendered images which are cached.
+	 * 
+	 * @return the number of cached images
+	 */
+	public static int getCacheSize()
+	{
+		return cache.size();
+	}
+	
+	/**
+	 * Updates the image of all slices from the current shadow and arc.
+	 */
+	private void updateImage()
+	{
+		Image image = null;
+		
+		if (shadow != null)
+		{
+			iShadowSize = (int)Math.ceil(shadow.getRadius());
+			// The edges must be far enough away from the arc, that the blur of
+			// the arc does not reach them.
+			iCornerSize = iShadowSize * 2 + (int)Math.ceil(Math.max(dArcWidth, dArcHeight) / 2) + 1;
+			
+			String sKey = shadow.getBlurType() + "/" + shadow.getColor() + "/" + shadow.getRadius() + "/" + shadow.getSpread() + "/" + dArcWidth + "/" + dArcHeight;
+			
+			image = cache.get(sKey);
+			
+			if (image == null)
+			{
+				image = render();
+				
+				cache.put(sKey, image);
+			}
+		}
+		
+		double dCorner = iCornerSize;
+		
+		setViewport(slices[0], image, 0, 0, dCorner, dCorner);
+		setViewport(slices[1], image, dCorner, 0, 1, dCorner);
+		setViewport(slices[2], image, dCorner + 1, 0, dCorner, dCorner);
+		setViewport(slices[3], image, 0, dCorner, dCorner, 1);
+		setViewport(slices[4], image, dCorner + 1, dCorner, dCorner, 1);
+		setViewport(slices[5], image, 0, dCorner + 1, dCorner, dCorner);
+		setViewport(slices[6], image, dCorner, dCorner + 1, 1, dCorner);
+		setViewport(slices[7], image, dCorner + 1, dCorner + 1, dCorner, dCorner);
+		
+		requestLayout();
+	}
+	
+	/**
+	 * Renders the nine-slice image of the current shadow and arc. The image
+	 * contains the shadow of a rectangle, which is exactly one pixel wider
+	 * and higher than both corners.
+	 * 
+	 * @return the rendered image
+	 */
+	private Image render()
+	{
+		int iSize = iCornerSize * 2 + 1;
+		int iRectSize = iSize - iShadowSize * 2;
+		
+		Rectangle rect = new Rectangle(iShadowSize, iShadowSize, iRectSize, iRectSize);
+		rect.setArcWidth(dArcWidth);
+		rect.setArcHeight(dArcHeight);
+		rect.setFill(Color.BLACK);
+		rect.setEffect(shadow);
+		
+		Rectangle inside = new Rectangle(iShadowSize, iShadowSize, iRectSize, iRectSize);
+		inside.setArcWidth(dArcWidth);
+		inside.setArcHeight(dArcHeight);
+		
+		rect.setClip(Shape.subtract(new Rectangle(0, 0, iSize, iSize), inside));
+		
+		SnapshotParameters params = new SnapshotParameters();
+		params.setFill(Color.TRANSPARENT);
+		params.setViewport(new Rectangle2D(0, 0, iSize, iSize));
+		
+		return rect.snapshot(params, null);
+	}
+	
+	/**
+	 * Sets the image and viewport of the given slice.
+	 * 
+	 * @param pSlice the slice
+	 * @param pImage the image or <code>null</code>
+	 * @param pX the x coordinate in the image
+	 * @param pY the y coordinate in the image
+	 * @param pWidth the width in the image
+	 * @param pHeight the height in the image
+	 */
+	private static void setViewport(ImageView pSlice, Image pImage, double pX, double pY, double pWidth, double pHeight)
+	{
+		pSlice.setImage(pImage);
+		
+		if (pImage != null)
+		{
+			pSlice.setViewport(new Rectangle2D(pX, pY, pWidth, pHeight));
+		}
+		else
+		{
+			pSlice.setViewport(null);
+		}
+	}
+	
+	/**
+	 * Places the given slice.
+	 * 
+	 * @param pSlice the slice
+	 * @param pX the x coordinate
+	 * @param pY the y coordinate
+	 * @param pWidth the width
+	 * @param pHeight the height
+	 */
+	private static void place(ImageView pSlice, double pX, double pY, double pWidth, double pHeight)
+	{
+		// A fit size of 0 would draw the natural size of the viewport
+		pSlice.setVisible(pWidth > 0 && pHeight > 0);
+		pSlice.relocate(pX, pY);
+		pSlice.setFitWidth(pWidth);
+		pSlice.setFitHeight(pHeight);
+	}
+	
+}	// NineSliceShadow
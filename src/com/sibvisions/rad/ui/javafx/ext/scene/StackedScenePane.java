@@ -44,7 +44,6 @@ import javafx.scene.control.Tooltip;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.ColorAdjust;
 import javafx.scene.effect.DropShadow;
-import javafx.scene.effect.Effect;
 import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
@@ -169,9 +168,12 @@ public class StackedScenePane extends StackPane
 	/** the translation property. */
 	private SimpleObjectProperty<TranslationMap> propTranslation;
 	
-	/** the shadow. */
+	/** the shadow shape. */
 	private Rectangle rectShadow;
 	
+	/** the pre-rendered shadow. */
+	private NineSliceShadow nssShadow;
+	
 	/** the background. */
 	private Rectangle rectBackground;
 	
@@ -184,17 +186,14 @@ public class StackedScenePane extends StackPane
 	/** the are in the frame area. */
 	final Rectangle internal2 = new Rectangle();
 	
-	/** the external frame area. */
-	final Rectangle external = new Rectangle();
-	
 	/** the color adjust effect for header buttons. */
 	private ColorAdjust effButtonColorAdjust;
 	
 	/** the active stage shadow. */
-	private Effect effActiveShadow;
+	private DropShadow effActiveShadow;
 	
 	/** the inactive stage shadow. */
-	private Effect effInactiveShadow;
+	private DropShadow effInactiveShadow;
 	
 	/** the context menu. */
 	private ContextMenu contextMenu;
@@ -283,11 +282,11 @@ public class StackedScenePane extends StackPane
 			
 			if (n.booleanValue())
 			{
-				rectShadow.setEffect(effActiveShadow);
+				nssShadow.setShadow(effActiveShadow);
 			}
 			else
 			{
-				rectShadow.setEffect(effInactiveShadow);
+				nssShadow.setShadow(effInactiveShadow);
 			}
 		});
 		
@@ -327,11 +326,16 @@ public class StackedScenePane extends StackPane
 		
 		//Layers
 		
+		// The rectangle is only styled and defines the arc, the shadow itself
+		// is pre-rendered because a blur effect of the whole stage is too slow
 		rectShadow = new Rectangle();
 		rectShadow.getStyleClass().add("styledscene-shadow");
 		rectShadow.setMouseTransparent(true);
-		rectShadow.setEffect(effActiveShadow);
 		rectShadow.setManaged(false);
+		rectShadow.setVisible(false);
+		
+		nssShadow = new NineSliceShadow();
+		nssShadow.setShadow(effActiveShadow);
 		
 		rectBackground = new Rectangle();
 		rectBackground.getStyleClass().add("styledscene-background");
@@ -468,7 +472,7 @@ public class StackedScenePane extends StackPane
 		
 		createStageMenu();
 		
-		getChildren().addAll(rectShadow, rectBackground, rectBorder, panContent);
+		getChildren().addAll(rectShadow, nssShadow, rectBackground, rectBorder, panContent);
 	}
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -552,6 +556,9 @@ public class StackedScenePane extends StackPane
 		rectShadow.setWidth(w - iActiveShadowSize * 2);
 		rectShadow.setHeight(h - iActiveShadowSize * 2);
 		
+		nssShadow.setArc(rectShadow.getArcWidth(), rectShadow.getArcHeight());
+		nssShadow.resizeRelocate(iActiveShadowSize, iActiveShadowSize, w - iActiveShadowSize * 2, h - iActiveShadowSize * 2);
+		
 		rectBackground.setLayoutX(iActiveShadowSize);
 		rectBackground.setLayoutY(iActiveShadowSize);
 		rectBackground.setWidth(w - iActiveShadowSize * 2);
@@ -574,7 +581,6 @@ public class StackedScenePane extends StackPane
 			panContent.resize(w - iActiveShadowSize * 2 - iBorderSize * 2, h - iActiveShadowSize * 2 - iBorderSize * 2);
 		}
 		
-		external.relocate(bounds.getMinX() - iActiveShadowSize, bounds.getMinY() - iActiveShadowSize);
 		internal.setX(0);
 		internal.setY(0);
 		internal.setWidth(w - iActiveShadowSize * 2);
@@ -582,12 +588,6 @@ public class StackedScenePane extends StackPane
 		internal.setArcWidth(rectShadow.getArcWidth());
 		internal.setArcHeight(rectShadow.getArcHeight());
 		
-		external.setWidth(w + iActiveShadowSize * 2);
-		external.setHeight(h + iActiveShadowSize * 2);
-		
-		Shape clip = Shape.subtract(external, internal);
-		rectShadow.setClip(clip);
-		
 		internal.setX(0);
 		internal.setY(0);
 		internal.setWidth(internal.getWidth() - iBorderSize * 2);
@@ -749,6 +749,16 @@ public class StackedScenePane extends StackPane
 		return rectShadow;
 	}
 	
+	/**
+	 * Gets the pre-rendered shadow.
+	 * 
+	 * @return the shadow
+	 */
+	protected NineSliceShadow getShadow()
+	{
+		return nssShadow;
+	}
+	
 	/**
 	 * Gets the background rectangle.
 	 * 
@@ -842,15 +852,15 @@ public class StackedScenePane extends StackPane
 			{
 				bDelegated = pDelegated;
 				
-				rectShadow.setVisible(false);
-				rectShadow.setEffect(null);
+				nssShadow.setVisible(false);
+				nssShadow.setShadow(null);
 			}
 			else
 			{
 				bDelegated = false;
 				
-				rectShadow.setVisible(true);
-				rectShadow.setEffect(effActiveShadow);
+				nssShadow.setVisible(true);
+				nssShadow.setShadow(effActiveShadow);
 			}
 			
 			Rectangle2D rectVBounds = null;
@@ -947,8 +957,8 @@ public class StackedScenePane extends StackPane
 			{
 				bDelegated = pDelegated;
 				
-				rectShadow.setVisible(false);
-				rectShadow.setEffect(null);
+				nssShadow.setVisible(false);
+				nssShadow.setShadow(null);
 				
 				rectBorder.setVisible(false);
 				rectBackground.setVisible(false);
@@ -964,8 +974,8 @@ public class StackedScenePane extends StackPane
 				rectBorder.setVisible(true);
 				rectBackground.setVisible(true);
 				
-				rectShadow.setVisible(true);
-				rectShadow.setEffect(effActiveShadow);
+				nssShadow.setVisible(true);
+				nssShadow.setShadow(effActiveShadow);
 			}
 			
 			if (!pDelegated)
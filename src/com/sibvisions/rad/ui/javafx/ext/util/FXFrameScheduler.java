@@ -0,0 +1,402 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.util;
+
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The {@link FXFrameScheduler} spreads long running work on the JavaFX thread
+ * over multiple frames.
+ * <p>
+ * The work is split into chunks by the caller, either as an {@link Iterator}
+ * of {@link Runnable}s or as a continuation, a {@link BooleanSupplier} which
+ * runs one chunk per call and returns if there is more to do:
+ * 
+ * <pre>
+ * Iterator&lt;Row&gt; rows = ...;
+ * 
+ * FXFrameScheduler.schedule(() -&gt;
+ * {
+ *     addRow(rows.next());
+ *     
+ *     return rows.hasNext();
+ * }, FXFrameScheduler.PRIORITY_NORMAL);
+ * </pre>
+ * 
+ * Every frame, chunks are run until the {@link #getBudget() budget} is spent,
+ * at least one chunk is always run. Tasks with a higher priority are run
+ * first, tasks with the same priority in the order in which they have been
+ * scheduled. The frames are driven by {@link FXFrameWaitUtil}.
+ * <p>
+ * All methods must be called on the JavaFX thread.
+ * 
+ * @author Robert Zenz
+ */
+public final class FXFrameScheduler
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Constants
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The default budget per frame in milliseconds. */
+	public static final double DEFAULT_BUDGET = 4;
+	
+	/** The priority for work which the user is waiting for. */
+	public static final int PRIORITY_HIGH = 10;
+	
+	/** The priority for work which should be done in the background. */
+	public static final int PRIORITY_LOW = -10;
+	
+	/** The default priority. */
+	public static final int PRIORITY_NORMAL = 0;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The budget per frame in nanoseconds. */
+	private static long budget = TimeUnit.MICROSECONDS.toNanos((long)(DEFAULT_BUDGET * 1000));
+	
+	/** The number of chunks which have been run in the last frame. */
+	private static int lastFrameChunkCount;
+	
+	/** The time which has been spent in the last frame in nanoseconds. */
+	private static long lastFrameTime;
+	
+	/** If a frame has been requested from {@link FXFrameWaitUtil}. */
+	private static boolean running;
+	
+	/** The sequence number of the next scheduled {@link Task}. */
+	private static long sequence;
+	
+	/** The scheduled {@link Task}s. */
+	private static PriorityQueue<Task> tasks = new PriorityQueue<>();
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * No instance needed.
+	 */
+	private FXFrameScheduler()
+	{
+		// No instance needed.
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the budget per frame.
+	 * 
+	 * @return the budget per frame in milliseconds.
+	 */
+	public static double getBudget()
+	{
+		return budget / 1000000d;
+	}
+	
+	/**
+	 * Gets the number of chunks which have been run in the last frame.
+	 * 
+	 * @return the number of chunks which have been run in the last frame.
+	 */
+	public static int getLastFrameChunkCount()
+	{
+		return lastFrameChunkCount;
+	}
+	
+	/**
+	 * Gets the time which has been spent running chunks in the last frame.
+	 * 
+	 * @return the time which has been spent in the last frame in
+	 *         milliseconds.
+	 */
+	public static double getLastFrameTime()
+	{
+		return lastFrameTime / 1000000d;
+	}
+	
+	/**
+	 * Gets the utilization of the budget in the last frame, which is the time
+	 * that has been spent divided by the budget. It is greater than {@code 1}
+	 * if the last chunk of the frame exceeded the budget.
+	 * 
+	 * @return the utilization of the budget in the last frame.
+	 */
+	public static double getLastFrameUtilization()
+	{
+		return lastFrameTime / (double)budget;
+	}
+	
+	/**
+	 * Gets the number of tasks which are not finished.
+	 * 
+	 * @return the number of tasks which are not finished.
+	 */
+	public static int getPendingCount()
+	{
+		return tasks.size();
+	}
+	
+	/**
+	 * Schedules the given continuation, which is called once per chunk until
+	 * it returns {@code false}.
+	 * 
+	 * @param pContinuation the continuation, runs one chunk and returns
+	 *            {@code true} if there are more chunks to run.
+	 * @param pPriority the priority, tasks with a higher priority are run
+	 *            first.
+	 * @return the {@link Task}, which can be used to cancel it.
+	 */
+	public static Task schedule(BooleanSupplier pContinuation, int pPriority)
+	{
+		Task task = new Task(pContinuation, pPriority, sequence++);
+		
+		tasks.add(task);
+		
+		if (!running)
+		{
+			running = true;
+			
+			FXFrameWaitUtil.runLater(FXFrameScheduler::runFrame);
+		}
+		
+		return task;
+	}
+	
+	/**
+	 * Schedules the given {@link Iterator}, one {@link Runnable} is one chunk.
+	 * 
+	 * @param pChunks the chunks.
+	 * @param pPriority the priority, tasks with a higher priority are run
+	 *            first.
+	 * @return the {@link Task}, which can be used to cancel it.
+	 */
+	public static Task schedule(Iterator<? extends Runnable> pChunks, int pPriority)
+	{
+		return schedule(() ->
+		{
+			if (pChunks.hasNext())
+			{
+				pChunks.next().run();
+			}
+			
+			return pChunks.hasNext();
+		}, pPriority);
+	}
+	
+	/**
+	 * Sets the budget per frame. Chunks are run until this budget is spent, a
+	 * chunk which is already running is never interrupted.
+	 * 
+	 * @param pBudget the budget per frame in milliseconds.
+	 */
+	public static void setBudget(double pBudget)
+	{
+		budget = Math.max(0, (long)(pBudget * 1000000));
+	}
+	
+	/**
+	 * Runs the chunks of the scheduled tasks until the budget is spent, and
+	 * requests the next frame if there are tasks left.
+	 */
+	private static void runFrame()
+	{
+		long start = System.nanoTime();
+		long deadline = start + budget;
+		
+		int chunkCount = 0;
+		
+		try
+		{
+			while (!tasks.isEmpty())
+			{
+				Task task = tasks.peek();
+				
+				if (!task.isCancelled())
+				{
+					boolean more = false;
+					
+					try
+					{
+						chunkCount++;
+						
+						more = task.runChunk();
+					}
+					finally
+					{
+						if (!more)
+						{
+							tasks.remove(task);
+							task.done = true;
+						}
+					}
+				}
+				else
+				{
+					tasks.remove(task);
+				}
+				
+				if (System.nanoTime() - deadline >= 0)
+				{
+					break;
+				}
+			}
+		}
+		finally
+		{
+			lastFrameChunkCount = chunkCount;
+			lastFrameTime = System.nanoTime() - start;
+			
+			if (tasks.isEmpty())
+			{
+				running = false;
+			}
+			else
+			{
+				FXFrameWaitUtil.runLater(FXFrameScheduler::runFrame);
+			}
+		}
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * A {@link Task} is a scheduled continuation.
+	 * 
+	 * @author Robert Zenz
+	 */
+	public static final class Task implements Comparable<Task>
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** If this {@link Task} has been cancelled. */
+		private boolean cancelled;
+		
+		/** The continuation. */
+		private BooleanSupplier continuation;
+		
+		/** If this {@link Task} is finished. */
+		private boolean done;
+		
+		/** The priority. */
+		private int priority;
+		
+		/** The sequence number, for ordering tasks with the same priority. */
+		private long sequenceNumber;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link Task}.
+		 * 
+		 * @param pContinuation the continuation.
+		 * @param pPriority the priority.
+		 * @param pSequenceNumber the sequence number.
+		 */
+		private Task(BooleanSupplier pContinuation, int pPriority, long pSequenceNumber)
+		{
+			continuation = pContinuation;
+			priority = pPriority;
+			sequenceNumber = pSequenceNumber;
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Interface implementation
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int compareTo(Task pTask)
+		{
+			if (priority != pTask.priority)
+			{
+				return Integer.compare(pTask.priority, priority);
+			}
+			
+			return Long.compare(sequenceNumber, pTask.sequenceNumber);
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// User-defined methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Cancels this {@link Task}, no more chunks are run.
+		 */
+		public void cancel()
+		{
+			cancelled = true;
+		}
+		
+		/**
+		 * Gets the priority.
+		 * 
+		 * @return the priority.
+		 */
+		public int getPriority()
+		{
+			return priority;
+		}
+		
+		/**
+		 * Gets if this {@link Task} has been cancelled.
+		 * 
+		 * @return {@code true} if this {@link Task} has been cancelled.
+		 */
+		public boolean isCancelled()
+		{
+			return cancelled;
+		}
+		
+		/**
+		 * Gets if this {@link Task} is finished, meaning that the
+		 * continuation returned {@code false} or failed.
+		 * 
+		 * @return {@code true} if this {@link Task} is finished.
+		 */
+		public boolean isDone()
+		{
+			return done;
+		}
+		
+		/**
+		 * Runs the next chunk.
+		 * 
+		 * @return {@code true} if there are more chunks to run.
+		 */
+		private boolean runChunk()
+		{
+			return continuation.getAsBoolean();
+		}
+		
+	}	// Task
+	
+}	// FXFrameScheduler
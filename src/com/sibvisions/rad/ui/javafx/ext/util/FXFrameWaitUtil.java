@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 
 /**
  * The {@link FXFrameWaitUtil} is a utility class that allows to wait for a
@@ -64,7 +65,7 @@ public final class FXFrameWaitUtil
 	 */
 	public static void runLater(Runnable pRunnable)
 	{
-		TIMER.queue(pRunnable, 1);
+		runLater(pRunnable, 1);
 	}
 	
 	/**
@@ -76,7 +77,16 @@ public final class FXFrameWaitUtil
 	 */
 	public static void runLater(Runnable pRunnable, int pFramesToSkip)
 	{
-		TIMER.queue(pRunnable, pFramesToSkip);
+		if (Platform.isFxApplicationThread())
+		{
+			TIMER.queue(pRunnable, pFramesToSkip);
+		}
+		else
+		{
+			// The timer may only be used from the JavaFX thread, for example
+			// if components are constructed in a background thread.
+			Platform.runLater(() -> TIMER.queue(pRunnable, pFramesToSkip));
+		}
 	}
 	
 	//****************************************************************
@@ -29,9 +29,14 @@ import javafx.scene.Scene;
  * The {@link FXNodeFocusedHelper} is a helper class that allows to monitor
  * whether the given {@link #nodeProperty() node} is focused or one of its
  * children.
+ * <p>
+ * The focus owner of the {@link Scene} is tracked by the shared
+ * {@link FXSceneFocusDispatcher} of the {@link Scene}, which only weakly
+ * references this helper. {@link #release()} releases the registration.
  * 
  * @author Robert Zenz
  * @see NodeUtil#isSameOrChild(Node, Node)
+ * @see FXSceneFocusDispatcher
  */
 public class FXNodeFocusedHelper
 {
@@ -57,12 +62,6 @@ public class FXNodeFocusedHelper
 	 */
 	private ChangeListener<Scene> nodeSceneListener;
 	
-	/**
-	 * The {@link ChangeListener} that listens for changes in the
-	 * {@link Scene#focusOwnerProperty}.
-	 */
-	private ChangeListener<Node> sceneFocusOwnerListener;
-	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -72,7 +71,6 @@ public class FXNodeFocusedHelper
 	 */
 	public FXNodeFocusedHelper()
 	{
-		sceneFocusOwnerListener = this::onSceneFocusOwnerChanged;
 		nodeSceneListener = this::onNodeSceneChanged;
 		
 		focused = new SimpleBooleanProperty();
@@ -141,6 +139,16 @@ public class FXNodeFocusedHelper
 		return node;
 	}
 	
+	/**
+	 * Releases all listeners and the registration at the
+	 * {@link FXSceneFocusDispatcher}, the same as setting the {@link Node} to
+	 * {@code null}.
+	 */
+	public void release()
+	{
+		node.set(null);
+	}
+	
 	/**
 	 * Sets the monitored {@link Node}.
 	 * 
@@ -170,23 +178,24 @@ public class FXNodeFocusedHelper
 	{
 		if (pNode != null)
 		{
-			attachTo(pNode.getScene());
+			attachTo(pNode, pNode.getScene());
 			pNode.sceneProperty().removeListener(nodeSceneListener);
 			pNode.sceneProperty().addListener(nodeSceneListener);
 		}
 	}
 	
 	/**
-	 * Attaches the necessary listeners to the given {@link Scene}.
+	 * Registers the given {@link Node} at the {@link FXSceneFocusDispatcher}
+	 * of the given {@link Scene}.
 	 * 
+	 * @param pNode the {@link Node}.
 	 * @param pScene the {@link Scene}. Can be {@code null}.
 	 */
-	private void attachTo(Scene pScene)
+	private void attachTo(Node pNode, Scene pScene)
 	{
 		if (pScene != null)
 		{
-			pScene.focusOwnerProperty().removeListener(sceneFocusOwnerListener);
-			pScene.focusOwnerProperty().addListener(sceneFocusOwnerListener);
+			FXSceneFocusDispatcher.getDispatcher(pScene).register(pNode, this);
 		}
 	}
 	
@@ -200,20 +209,22 @@ public class FXNodeFocusedHelper
 		if (pNode != null)
 		{
 			pNode.sceneProperty().removeListener(nodeSceneListener);
-			detachFrom(pNode.getScene());
+			detachFrom(pNode, pNode.getScene());
 		}
 	}
 	
 	/**
-	 * Removes the necessary listeners from the given {@link Scene}.
+	 * Releases the registration of the given {@link Node} at the
+	 * {@link FXSceneFocusDispatcher} of the given {@link Scene}.
 	 * 
+	 * @param pNode the {@link Node}.
 	 * @param pScene the {@link Scene}. Can be {@code null}.
 	 */
-	private void detachFrom(Scene pScene)
+	private void detachFrom(Node pNode, Scene pScene)
 	{
 		if (pScene != null)
 		{
-			pScene.focusOwnerProperty().removeListener(sceneFocusOwnerListener);
+			FXSceneFocusDispatcher.getDispatcher(pScene).unregister(pNode, this);
 		}
 	}
 	
@@ -245,26 +256,12 @@ public class FXNodeFocusedHelper
 	 */
 	private void onNodeSceneChanged(ObservableValue<? extends Scene> pObservable, Scene pOldValue, Scene pNewValue)
 	{
-		detachFrom(pOldValue);
-		attachTo(pNewValue);
+		detachFrom(node.get(), pOldValue);
+		attachTo(node.get(), pNewValue);
 		
 		updateFocusedProperty();
 	}
 	
-	/**
-	 * Invoked if the {@link Scene#focusOwnerProperty()} changes.
-	 * <p>
-	 * Updates the {@link #focused focused property}.
-	 * 
-	 * @param pObservable the observable.
-	 * @param pOldValue the old value.
-	 * @param pNewValue the new value.
-	 */
-	private void onSceneFocusOwnerChanged(ObservableValue<? extends Node> pObservable, Node pOldValue, Node pNewValue)
-	{
-		setFocused(NodeUtil.isSameOrChild(node.get(), pNewValue));
-	}
-	
 	/**
 	 * Updates the {@link #focused focused property} based on the current state.
 	 */
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+/**
+ * The {@link FXSceneFocusDispatcher} tracks the focus owner of a {@link Scene}
+ * and notifies the registered {@link FXNodeFocusedHelper}s.
+ * <p>
+ * There is only one dispatcher per {@link Scene}, which is the only listener
+ * on the {@link Scene#focusOwnerProperty()}. When the focus owner changes,
+ * only the helpers of the {@link Node}s which gained or lost the focus within
+ * their subtree are notified, which are the parents of the old and the new
+ * focus owner. The cost of a focus change therefore does not depend on the
+ * number of registered helpers.
+ * <p>
+ * The {@link Scene}s, {@link Node}s and {@link FXNodeFocusedHelper}s are only
+ * weakly referenced, registrations should still be released with
+ * {@link #unregister(Node, FXNodeFocusedHelper)} if no longer needed.
+ * 
+ * @author Robert Zenz
+ */
+public final class FXSceneFocusDispatcher
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The {@link FXSceneFocusDispatcher}s by {@link Scene}. */
+	private static Map<Scene, FXSceneFocusDispatcher> dispatchers = new WeakHashMap<>();
+	
+	/** The focus owner and all its parents, at the last focus change. */
+	private List<WeakReference<Node>> focusedPath;
+	
+	/** The registered {@link FXNodeFocusedHelper}s by {@link Node}. */
+	private Map<Node, List<WeakReference<FXNodeFocusedHelper>>> registrations = new WeakHashMap<>();
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link FXSceneFocusDispatcher}.
+	 *
+	 * @param pScene the {@link Scene}.
+	 */
+	private FXSceneFocusDispatcher(Scene pScene)
+	{
+		focusedPath = createPath(pScene.getFocusOwner());
+		
+		pScene.focusOwnerProperty().addListener(this::onFocusOwnerChanged);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the {@link FXSceneFocusDispatcher} of the given {@link Scene},
+	 * creating it if it does not exist yet.
+	 * 
+	 * @param pScene the {@link Scene}.
+	 * @return the {@link FXSceneFocusDispatcher} of the given {@link Scene}.
+	 */
+	public static synchronized FXSceneFocusDispatcher getDispatcher(Scene pScene)
+	{
+		FXSceneFocusDispatcher dispatcher = dispatchers.get(pScene);
+		
+		if (dispatcher == null)
+		{
+			dispatcher = new FXSceneFocusDispatcher(pScene);
+			dispatchers.put(pScene, dispatcher);
+		}
+		
+		return dispatcher;
+	}
+	
+	/**
+	 * Gets the number of registered {@link FXNodeFocusedHelper}s.
+	 * 
+	 * @return the number of registered {@link FXNodeFocusedHelper}s.
+	 */
+	public int getRegistrationCount()
+	{
+		int count = 0;
+		
+		for (List<WeakReference<FXNodeFocusedHelper>> helpers : registrations.values())
+		{
+			for (WeakReference<FXNodeFocusedHelper> helper : helpers)
+			{
+				if (helper.get() != null)
+				{
+					count++;
+				}
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Registers the given {@link FXNodeFocusedHelper} for the given
+	 * {@link Node}, it is notified whenever the {@link Node} or one of its
+	 * children gains or loses the focus.
+	 * 
+	 * @param pNode the {@link Node}.
+	 * @param pHelper the {@link FXNodeFocusedHelper}.
+	 */
+	public void register(Node pNode, FXNodeFocusedHelper pHelper)
+	{
+		List<WeakReference<FXNodeFocusedHelper>> helpers = registrations.get(pNode);
+		
+		if (helpers == null)
+		{
+			helpers = new ArrayList<>(1);
+			registrations.put(pNode, helpers);
+		}
+		else if (indexOf(helpers, pHelper) >= 0)
+		{
+			return;
+		}
+		
+		helpers.add(new WeakReference<>(pHelper));
+	}
+	
+	/**
+	 * Releases the registration of the given {@link FXNodeFocusedHelper} for
+	 * the given {@link Node}.
+	 * 
+	 * @param pNode the {@link Node}.
+	 * @param pHelper the {@link FXNodeFocusedHelper}.
+	 */
+	public void unregister(Node pNode, FXNodeFocusedHelper pHelper)
+	{
+		List<WeakReference<FXNodeFocusedHelper>> helpers = registrations.get(pNode);
+		
+		if (helpers != null)
+		{
+			int index = indexOf(helpers, pHelper);
+			
+			if (index >= 0)
+			{
+				helpers.remove(index);
+			}
+			
+			if (helpers.isEmpty())
+			{
+				registrations.remove(pNode);
+			}
+		}
+	}
+	
+	/**
+	 * Creates the path from the given {@link Node} up to the root.
+	 * 
+	 * @param pNode the {@link Node}, can be {@code null}.
+	 * @return the path from the given {@link Node} up to the root.
+	 */
+	private static List<WeakReference<Node>> createPath(Node pNode)
+	{
+		List<WeakReference<Node>> path = new ArrayList<>();
+		
+		Node node = pNode;
+		
+		while (node != null)
+		{
+			path.add(new WeakReference<>(node));
+			node = node.getParent();
+		}
+		
+		return path;
+	}
+	
+	/**
+	 * Gets the index of the given {@link FXNodeFocusedHelper} in the given
+	 * {@link List}, removing all cleared references on the way.
+	 * 
+	 * @param pHelpers the {@link List} of {@link FXNodeFocusedHelper}s.
+	 * @param pHelper the {@link FXNodeFocusedHelper}.
+	 * @return the index of the given {@link FXNodeFocusedHelper}, {@code -1}
+	 *         if it is not contained.
+	 */
+	private static int indexOf(List<WeakReference<FXNodeFocusedHelper>> pHelpers, FXNodeFocusedHelper pHelper)
+	{
+		for (int index = pHelpers.size() - 1; index >= 0; index--)
+		{
+			FXNodeFocusedHelper helper = pHelpers.get(index).get();
+			
+			if (helper == null)
+			{
+				pHelpers.remove(index);
+			}
+			else if (helper == pHelper)
+			{
+				return index;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Notifies the {@link FXNodeFocusedHelper}s of all {@link Node}s of the
+	 * given path which are not contained in the other path.
+	 * 
+	 * @param pPath the path.
+	 * @param pOtherPath the other path.
+	 * @param pFocused if the {@link Node}s gained the focus.
+	 */
+	private void notify(List<WeakReference<Node>> pPath, Set<Node> pOtherPath, boolean pFocused)
+	{
+		for (WeakReference<Node> reference : pPath)
+		{
+			Node node = reference.get();
+			
+			if (node != null && !pOtherPath.contains(node))
+			{
+				List<WeakReference<FXNodeFocusedHelper>> helpers = registrations.get(node);
+				
+				if (helpers != null)
+				{
+					for (WeakReference<FXNodeFocusedHelper> helperReference : new ArrayList<>(helpers))
+					{
+						FXNodeFocusedHelper helper = helperReference.get();
+						
+						if (helper != null)
+						{
+							helper.setFocused(pFocused);
+						}
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Invoked if the {@link Scene#focusOwnerProperty()} changes.
+	 * <p>
+	 * Notifies the {@link FXNodeFocusedHelper}s of all {@link Node}s which
+	 * gained or lost the focus.
+	 * 
+	 * @param pObservable the observable.
+	 * @param pOldValue the old value.
+	 * @param pNewValue the new value.
+	 */
+	private void onFocusOwnerChanged(ObservableValue<? extends Node> pObservable, Node pOldValue, Node pNewValue)
+	{
+		List<WeakReference<Node>> oldPath = focusedPath;
+		List<WeakReference<Node>> newPath = createPath(pNewValue);
+		
+		focusedPath = newPath;
+		
+		if (!registrations.isEmpty())
+		{
+			notify(oldPath, toSet(newPath), false);
+			notify(newPath, toSet(oldPath), true);
+		}
+	}
+	
+	/**
+	 * Converts the given path into an identity based {@link Set}.
+	 * 
+	 * @param pPath the path.
+	 * @return the {@link Set} of {@link Node}s.
+	 */
+	private static Set<Node> toSet(List<WeakReference<Node>> pPath)
+	{
+		Set<Node> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		for (WeakReference<Node> reference : pPath)
+		{
+			Node node = reference.get();
+			
+			if (node != null)
+			{
+				nodes.add(node);
+			}
+		}
+		
+		return nodes;
+	}
+	
+}	// FXSceneFocusDispatcher
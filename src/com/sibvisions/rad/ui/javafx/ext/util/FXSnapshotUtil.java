@@ -0,0 +1,385 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.util;
+
+import java.util.function.Consumer;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.SnapshotResult;
+import javafx.scene.image.WritableImage;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Transform;
+
+/**
+ * The {@link FXSnapshotUtil} takes snapshots of {@link Node}s in tiles.
+ * <p>
+ * The result is rendered in tiles of at most {@link #getTileSize() the tile
+ * size} and stitched together, so that no single snapshot exceeds the texture
+ * limits of the graphics pipeline. By default the snapshot is cropped to the
+ * requested size, like {@link Node#snapshot(SnapshotParameters, WritableImage)}
+ * does. If requested, the {@link Node} is instead scaled to the requested size
+ * while it is rendered, so a thumbnail is never rendered at full size first.
+ * <p>
+ * {@link #snapshotAsync(Node, int, int, boolean, Consumer)} renders one tile
+ * per pulse through the callback variant of
+ * {@link Node#snapshot(javafx.util.Callback, SnapshotParameters, WritableImage)},
+ * so the JavaFX thread is never blocked by a large snapshot.
+ * <p>
+ * All methods must be called on the JavaFX thread.
+ * 
+ * @author Robert Zenz
+ */
+public final class FXSnapshotUtil
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Constants
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The default size of the tiles in pixels. */
+	public static final int DEFAULT_TILE_SIZE = 2048;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The size of the tiles in pixels. */
+	private static int tileSize = DEFAULT_TILE_SIZE;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * No instance needed.
+	 */
+	private FXSnapshotUtil()
+	{
+		// No instance needed.
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the size of the tiles.
+	 * 
+	 * @return the size of the tiles in pixels.
+	 */
+	public static int getTileSize()
+	{
+		return tileSize;
+	}
+	
+	/**
+	 * Sets the size of the tiles. It should be well below the maximum texture
+	 * size of the graphics pipeline.
+	 * 
+	 * @param pTileSize the size of the tiles in pixels.
+	 * @throws IllegalArgumentException if the size is smaller than {@code 1}.
+	 */
+	public static void setTileSize(int pTileSize)
+	{
+		if (pTileSize < 1)
+		{
+			throw new IllegalArgumentException("The tile size must be at least 1.");
+		}
+		
+		tileSize = pTileSize;
+	}
+	
+	/**
+	 * Takes a snapshot of the given {@link Node}, cropped to the given size.
+	 * All tiles are rendered immediately.
+	 * 
+	 * @param pNode the {@link Node}.
+	 * @param pWidth the width of the snapshot.
+	 * @param pHeight the height of the snapshot.
+	 * @return the snapshot.
+	 * @see #snapshot(Node, int, int, boolean)
+	 */
+	public static WritableImage snapshot(Node pNode, int pWidth, int pHeight)
+	{
+		return snapshot(pNode, pWidth, pHeight, false);
+	}
+	
+	/**
+	 * Takes a snapshot of the given {@link Node}, either cropped or scaled to
+	 * the given size. All tiles are rendered immediately.
+	 * 
+	 * @param pNode the {@link Node}.
+	 * @param pWidth the width of the snapshot.
+	 * @param pHeight the height of the snapshot.
+	 * @param pScaled {@code true} if the {@link Node} should be scaled to the
+	 *            given size, {@code false} if the snapshot should be cropped.
+	 * @return the snapshot.
+	 */
+	public static WritableImage snapshot(Node pNode, int pWidth, int pHeight, boolean pScaled)
+	{
+		TiledSnapshot snapshot = new TiledSnapshot(pNode, pWidth, pHeight, pScaled);
+		
+		while (snapshot.hasNextTile())
+		{
+			snapshot.copyTile(pNode.snapshot(snapshot.nextTileParameters(), snapshot.tileImage));
+		}
+		
+		return snapshot.result;
+	}
+	
+	/**
+	 * Takes a snapshot of the given {@link Node}, either cropped or scaled to
+	 * the given size. One tile is rendered per pulse, the given
+	 * {@link Consumer} is invoked on the JavaFX thread as soon as the last
+	 * tile has been rendered.
+	 * 
+	 * @param pNode the {@link Node}.
+	 * @param pWidth the width of the snapshot.
+	 * @param pHeight the height of the snapshot.
+	 * @param pScaled {@code true} if the {@link Node} should be scaled to the
+	 *            given size, {@code false} if the snapshot should be cropped.
+	 * @param pCallback the {@link Consumer} which receives the snapshot.
+	 */
+	public static void snapshotAsync(Node pNode, int pWidth, int pHeight, boolean pScaled, Consumer<WritableImage> pCallback)
+	{
+		new TiledSnapshot(pNode, pWidth, pHeight, pScaled).renderAsync(pCallback);
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link TiledSnapshot} is the state of one snapshot which is rendered
+	 * in tiles.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private static final class TiledSnapshot
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The {@link Consumer} which receives the result. */
+		private Consumer<WritableImage> callback;
+		
+		/** The number of tile columns. */
+		private int columns;
+		
+		/** The height of the rendered area. */
+		private int height;
+		
+		/** The index of the current tile. */
+		private int index;
+		
+		/** The {@link Node} of which the snapshot is taken. */
+		private Node node;
+		
+		/** The x coordinate of the rendered area. */
+		private double originX;
+		
+		/** The y coordinate of the rendered area. */
+		private double originY;
+		
+		/** The resulting image. */
+		private WritableImage result;
+		
+		/** The number of tile rows. */
+		private int rows;
+		
+		/** The size of the tiles. */
+		private int size;
+		
+		/** The image into which every tile is rendered. */
+		private WritableImage tileImage;
+		
+		/** The {@link Transform} which scales the {@link Node}. */
+		private Transform transform;
+		
+		/** The width of the rendered area. */
+		private int width;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link TiledSnapshot}.
+		 * 
+		 * @param pNode the {@link Node}.
+		 * @param pWidth the width of the snapshot.
+		 * @param pHeight the height of the snapshot.
+		 * @param pScaled {@code true} if the {@link Node} should be scaled to
+		 *            the given size, {@code false} if the snapshot should be
+		 *            cropped.
+		 */
+		public TiledSnapshot(Node pNode, int pWidth, int pHeight, boolean pScaled)
+		{
+			node = pNode;
+			size = tileSize;
+			
+			int resultWidth = Math.max(1, pWidth);
+			int resultHeight = Math.max(1, pHeight);
+			
+			Bounds nodeBounds = pNode.getBoundsInParent();
+			
+			if (pScaled)
+			{
+				double scaleX = nodeBounds.getWidth() > 0 ? resultWidth / nodeBounds.getWidth() : 1;
+				double scaleY = nodeBounds.getHeight() > 0 ? resultHeight / nodeBounds.getHeight() : 1;
+				
+				transform = new Scale(scaleX, scaleY);
+			}
+			else
+			{
+				transform = new Scale(1, 1);
+			}
+			
+			// The snapshot renders the node with its own transforms, the
+			// viewports are relative to where that places it.
+			Bounds renderedBounds = transform.createConcatenation(pNode.getLocalToParentTransform()).transform(pNode.getBoundsInLocal());
+			
+			originX = renderedBounds.getMinX();
+			originY = renderedBounds.getMinY();
+			
+			if (pScaled)
+			{
+				width = resultWidth;
+				height = resultHeight;
+			}
+			else
+			{
+				// Like a plain snapshot, the area outside of the node stays
+				// transparent.
+				width = Math.min(resultWidth, (int)Math.ceil(renderedBounds.getWidth()));
+				height = Math.min(resultHeight, (int)Math.ceil(renderedBounds.getHeight()));
+			}
+			
+			columns = (width + size - 1) / size;
+			rows = (height + size - 1) / size;
+			
+			result = new WritableImage(resultWidth, resultHeight);
+			tileImage = new WritableImage(Math.max(1, Math.min(width, size)), Math.max(1, Math.min(height, size)));
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// User-defined methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Copies the given rendered tile into the result and advances to the
+		 * next tile.
+		 * 
+		 * @param pTile the rendered tile.
+		 */
+		public void copyTile(WritableImage pTile)
+		{
+			Rectangle2D tileBounds = getTileBounds();
+			
+			result.getPixelWriter().setPixels((int)tileBounds.getMinX(), (int)tileBounds.getMinY(), (int)tileBounds.getWidth(), (int)tileBounds.getHeight(), pTile.getPixelReader(), 0, 0);
+			
+			index++;
+		}
+		
+		/**
+		 * Gets if there is a tile left to render.
+		 * 
+		 * @return {@code true} if there is a tile left to render.
+		 */
+		public boolean hasNextTile()
+		{
+			return index < columns * rows;
+		}
+		
+		/**
+		 * Creates the {@link SnapshotParameters} for the current tile.
+		 * 
+		 * @return the {@link SnapshotParameters} for the current tile.
+		 */
+		public SnapshotParameters nextTileParameters()
+		{
+			Rectangle2D tileBounds = getTileBounds();
+			
+			SnapshotParameters parameters = new SnapshotParameters();
+			parameters.setTransform(transform);
+			parameters.setViewport(new Rectangle2D(originX + tileBounds.getMinX(), originY + tileBounds.getMinY(), tileBounds.getWidth(), tileBounds.getHeight()));
+			
+			return parameters;
+		}
+		
+		/**
+		 * Renders the tiles one per pulse and passes the result to the given
+		 * {@link Consumer} afterwards.
+		 * 
+		 * @param pCallback the {@link Consumer} which receives the result.
+		 */
+		public void renderAsync(Consumer<WritableImage> pCallback)
+		{
+			callback = pCallback;
+			
+			renderNextTile();
+		}
+		
+		/**
+		 * Gets the bounds of the current tile in the result.
+		 * 
+		 * @return the bounds of the current tile.
+		 */
+		private Rectangle2D getTileBounds()
+		{
+			int x = (index % columns) * size;
+			int y = (index / columns) * size;
+			
+			return new Rectangle2D(x, y, Math.min(size, width - x), Math.min(size, height - y));
+		}
+		
+		/**
+		 * Invoked when a tile has been rendered.
+		 * 
+		 * @param pSnapshotResult the {@link SnapshotResult}.
+		 * @return always {@code null}.
+		 */
+		private Void onTileRendered(SnapshotResult pSnapshotResult)
+		{
+			copyTile(pSnapshotResult.getImage());
+			
+			renderNextTile();
+			
+			return null;
+		}
+		
+		/**
+		 * Requests the snapshot of the current tile, or passes the result to
+		 * the callback if all tiles have been rendered.
+		 */
+		private void renderNextTile()
+		{
+			if (hasNextTile())
+			{
+				node.snapshot(this::onTileRendered, nextTileParameters(), tileImage);
+			}
+			else
+			{
+				callback.accept(result);
+			}
+		}
+		
+	}	// TiledSnapshot
+	
+}	// FXSnapshotUtil
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * The {@link FXStall} holds the information about one stall of the JavaFX
+ * thread that has been detected by the {@link FXStallDetector}.
+ * <p>
+ * The time of the stall is attributed to the named sections (see
+ * {@link FXStallDetector#enter(String)}) in two ways: the sections that were
+ * active while the JavaFX thread was sampled during the stall, and the
+ * sections that completed during the stall and took longer than the budget.
+ * 
+ * @author Robert Zenz
+ */
+public final class FXStall
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The duration of the stall in milliseconds. */
+	private long duration;
+	
+	/** The number of samples per active section path. */
+	private Map<String, Integer> sampledSections;
+	
+	/** The durations of the sections which took longer than the budget. */
+	private Map<String, Long> slowSections;
+	
+	/** The stack trace of the JavaFX thread from the first sample. */
+	private StackTraceElement[] stackTrace;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link FXStall}.
+	 * 
+	 * @param pDuration the duration of the stall in milliseconds.
+	 * @param pSampledSections the number of samples per active section path.
+	 * @param pSlowSections the durations in milliseconds of the sections which
+	 *            took longer than the budget.
+	 * @param pStackTrace the stack trace of the JavaFX thread. Can be
+	 *            {@code null}.
+	 */
+	FXStall(long pDuration, Map<String, Integer> pSampledSections, Map<String, Long> pSlowSections, StackTraceElement[] pStackTrace)
+	{
+		duration = pDuration;
+		sampledSections = Collections.unmodifiableMap(pSampledSections);
+		slowSections = Collections.unmodifiableMap(pSlowSections);
+		stackTrace = pStackTrace;
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder builder = new StringBuilder();
+		
+		builder.append("Stall of ");
+		builder.append(duration);
+		builder.append("ms");
+		
+		String section = getSection();
+		
+		if (section != null)
+		{
+			builder.append(" in ");
+			builder.append(section);
+		}
+		
+		return builder.toString();
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the duration of the stall.
+	 * 
+	 * @return the duration of the stall in milliseconds.
+	 */
+	public long getDuration()
+	{
+		return duration;
+	}
+	
+	/**
+	 * Gets the number of samples per section path which were active while the
+	 * JavaFX thread was stalled. The paths are the names of the nested
+	 * sections, separated by {@code " > "}.
+	 * 
+	 * @return the number of samples per section path.
+	 */
+	public Map<String, Integer> getSampledSections()
+	{
+		return sampledSections;
+	}
+	
+	/**
+	 * Gets the section to which most of the stall is attributed.
+	 * <p>
+	 * That is the slowest section which completed during the stall, or if
+	 * there is none, the section path which has been sampled most often.
+	 * 
+	 * @return the section to which most of the stall is attributed.
+	 *         {@code null} if the stall happened outside of any section.
+	 */
+	public String getSection()
+	{
+		String section = null;
+		long sectionDuration = -1;
+		
+		for (Entry<String, Long> entry : slowSections.entrySet())
+		{
+			if (entry.getValue().longValue() > sectionDuration)
+			{
+				section = entry.getKey();
+				sectionDuration = entry.getValue().longValue();
+			}
+		}
+		
+		if (section == null)
+		{
+			int sampleCount = 0;
+			
+			for (Entry<String, Integer> entry : sampledSections.entrySet())
+			{
+				if (entry.getValue().intValue() > sampleCount)
+				{
+					section = entry.getKey();
+					sampleCount = entry.getValue().intValue();
+				}
+			}
+		}
+		
+		return section;
+	}
+	
+	/**
+	 * Gets the durations of the sections which completed during the stall
+	 * and took longer than the budget.
+	 * 
+	 * @return the durations in milliseconds per section path.
+	 */
+	public Map<String, Long> getSlowSections()
+	{
+		return slowSections;
+	}
+	
+	/**
+	 * Gets the stack trace of the JavaFX thread, taken at the first sample
+	 * during the stall.
+	 * 
+	 * @return the stack trace. {@code null} if the stall was too short to be
+	 *         sampled.
+	 */
+	public StackTraceElement[] getStackTrace()
+	{
+		return stackTrace;
+	}
+	
+}	// FXStall
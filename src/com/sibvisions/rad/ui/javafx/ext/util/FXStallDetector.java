@@ -0,0 +1,895 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import javafx.application.Platform;
+
+/**
+ * The {@link FXStallDetector} is an opt-in watchdog for the JavaFX thread.
+ * <p>
+ * If {@link #setEnabled(boolean) enabled}, a background thread continuously
+ * posts a probe to the JavaFX thread. If the probe is not executed within the
+ * {@link #getBudget() budget}, the JavaFX thread is sampled until it is, and
+ * the {@link IFXStallListener}s are notified with an {@link FXStall}
+ * afterwards.
+ * <p>
+ * The time is attributed to named sections, which are marked in the code with
+ * {@link #enter(String)} and {@link #exit(String)}:
+ * 
+ * <pre>
+ * FXStallDetector.enter("FXDataBookView.reload");
+ * 
+ * try
+ * {
+ *     // Do the work.
+ * }
+ * finally
+ * {
+ *     FXStallDetector.exit("FXDataBookView.reload");
+ * }
+ * </pre>
+ * 
+ * Sections are only recorded on the JavaFX thread, and if the detector is
+ * disabled, marking them costs no more than a volatile read. The statistics
+ * of the sections and the stalls are also available through JMX as
+ * {@value #OBJECT_NAME}.
+ * 
+ * @author Robert Zenz
+ * @see FXStallDetectorMXBean
+ */
+public final class FXStallDetector
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Constants
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The default budget in milliseconds. */
+	public static final long DEFAULT_BUDGET = 100;
+	
+	/** The name under which the {@link FXStallDetectorMXBean} is registered. */
+	public static final String OBJECT_NAME = "com.sibvisions.rad.ui.javafx:type=FXStallDetector";
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The registered {@link IFXStallListener}s. */
+	private static final List<IFXStallListener> LISTENERS = new CopyOnWriteArrayList<>();
+	
+	/** The {@link SectionStatistics} by the name of the section. */
+	private static final Map<String, SectionStatistics> STATISTICS = new ConcurrentHashMap<>();
+	
+	/** The budget in milliseconds. */
+	private static volatile long budget = DEFAULT_BUDGET;
+	
+	/** The innermost {@link Section} which is currently executed. */
+	private static volatile Section currentSection = null;
+	
+	/** If the detector is enabled. */
+	private static volatile boolean enabled = false;
+	
+	/** The description of the last stall. */
+	private static volatile String lastStall = null;
+	
+	/** The duration of the longest stall in milliseconds. */
+	private static volatile long longestStall = 0;
+	
+	/** If the {@link FXStallDetectorMXBean} has been registered. */
+	private static boolean registered = false;
+	
+	/** The number of stalls. */
+	private static volatile long stallCount = 0;
+	
+	/** The current {@link Watchdog}. */
+	private static volatile Watchdog watchdog = null;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * No instance needed, static only.
+	 */
+	private FXStallDetector()
+	{
+		// No instance needed.
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Adds the given {@link IFXStallListener}.
+	 * 
+	 * @param pListener the {@link IFXStallListener}.
+	 */
+	public static void addStallListener(IFXStallListener pListener)
+	{
+		if (pListener != null)
+		{
+			LISTENERS.add(pListener);
+		}
+	}
+	
+	/**
+	 * Marks the start of the section with the given name. Every call must be
+	 * matched by a call to {@link #exit(String)} with the same name, best in a
+	 * {@code finally} block.
+	 * <p>
+	 * Does nothing if the detector is disabled or if not invoked on the
+	 * JavaFX thread.
+	 * 
+	 * @param pName the name of the section.
+	 */
+	public static void enter(String pName)
+	{
+		if (enabled && Platform.isFxApplicationThread())
+		{
+			currentSection = new Section(pName, currentSection);
+		}
+	}
+	
+	/**
+	 * Marks the end of the section with the given name.
+	 * <p>
+	 * Does nothing if the detector is disabled, if not invoked on the JavaFX
+	 * thread or if the given section is not the current one, which happens if
+	 * the detector has been enabled while the section was executed.
+	 * 
+	 * @param pName the name of the section.
+	 */
+	public static void exit(String pName)
+	{
+		if (enabled && Platform.isFxApplicationThread())
+		{
+			Section section = currentSection;
+			
+			if (section != null && section.getName().equals(pName))
+			{
+				currentSection = section.getParent();
+				
+				long elapsed = System.nanoTime() - section.getStart();
+				
+				SectionStatistics statistics = STATISTICS.get(pName);
+				
+				if (statistics == null)
+				{
+					statistics = new SectionStatistics();
+					STATISTICS.put(pName, statistics);
+				}
+				
+				statistics.add(elapsed);
+				
+				Watchdog currentWatchdog = watchdog;
+				
+				if (currentWatchdog != null && elapsed > budget * 1000000L)
+				{
+					currentWatchdog.addSlowSection(section.getPath(), elapsed / 1000000L);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Gets the budget. If the JavaFX thread is blocked for longer than the
+	 * budget, it is considered stalled.
+	 * 
+	 * @return the budget in milliseconds.
+	 */
+	public static long getBudget()
+	{
+		return budget;
+	}
+	
+	/**
+	 * Gets the description of the last stall.
+	 * 
+	 * @return the description of the last stall, {@code null} if there was
+	 *         none.
+	 */
+	public static String getLastStall()
+	{
+		return lastStall;
+	}
+	
+	/**
+	 * Gets the duration of the longest stall.
+	 * 
+	 * @return the duration of the longest stall in milliseconds.
+	 */
+	public static long getLongestStall()
+	{
+		return longestStall;
+	}
+	
+	/**
+	 * Gets the number of detected stalls.
+	 * 
+	 * @return the number of detected stalls.
+	 */
+	public static long getStallCount()
+	{
+		return stallCount;
+	}
+	
+	/**
+	 * Gets the {@link SectionStatistics} of all sections which have been
+	 * executed while the detector was enabled.
+	 * 
+	 * @return the {@link SectionStatistics} by the name of the section.
+	 */
+	public static Map<String, SectionStatistics> getStatistics()
+	{
+		return Collections.unmodifiableMap(STATISTICS);
+	}
+	
+	/**
+	 * Gets if the detector is enabled.
+	 * 
+	 * @return {@code true} if the detector is enabled.
+	 */
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+	
+	/**
+	 * Removes the given {@link IFXStallListener}.
+	 * 
+	 * @param pListener the {@link IFXStallListener}.
+	 */
+	public static void removeStallListener(IFXStallListener pListener)
+	{
+		LISTENERS.remove(pListener);
+	}
+	
+	/**
+	 * Resets all statistics.
+	 */
+	public static void reset()
+	{
+		STATISTICS.clear();
+		
+		lastStall = null;
+		longestStall = 0;
+		stallCount = 0;
+	}
+	
+	/**
+	 * Sets the budget. If the JavaFX thread is blocked for longer than the
+	 * budget, it is considered stalled.
+	 * 
+	 * @param pBudget the budget in milliseconds.
+	 */
+	public static void setBudget(long pBudget)
+	{
+		budget = Math.max(1, pBudget);
+	}
+	
+	/**
+	 * Sets if the detector is enabled. Enabling the detector starts the
+	 * watchdog thread and registers the {@link FXStallDetectorMXBean}.
+	 * 
+	 * @param pEnabled {@code true} to enable the detector.
+	 */
+	public static synchronized void setEnabled(boolean pEnabled)
+	{
+		if (pEnabled && !enabled)
+		{
+			watchdog = new Watchdog();
+			
+			Thread thread = new Thread(watchdog, "FXStallDetector");
+			thread.setDaemon(true);
+			thread.start();
+			
+			registerMXBean();
+		}
+		else if (!pEnabled && enabled)
+		{
+			watchdog.stop();
+			watchdog = null;
+			
+			currentSection = null;
+		}
+		
+		enabled = pEnabled;
+	}
+	
+	/**
+	 * Notifies all {@link IFXStallListener}s about the given {@link FXStall}
+	 * and updates the statistics.
+	 * 
+	 * @param pStall the {@link FXStall}.
+	 */
+	private static void fireStallDetected(FXStall pStall)
+	{
+		stallCount++;
+		longestStall = Math.max(longestStall, pStall.getDuration());
+		lastStall = pStall.toString();
+		
+		for (IFXStallListener listener : LISTENERS)
+		{
+			try
+			{
+				listener.stallDetected(pStall);
+			}
+			catch (Throwable th)
+			{
+				// We are invoked from the JavaFX thread, a failing listener
+				// must not break it or the other listeners.
+			}
+		}
+	}
+	
+	/**
+	 * Registers the {@link FXStallDetectorMXBean}, if it has not been
+	 * registered yet.
+	 */
+	private static void registerMXBean()
+	{
+		if (!registered)
+		{
+			registered = true;
+			
+			try
+			{
+				ManagementFactory.getPlatformMBeanServer().registerMBean(
+						new StandardMBean(new ManagementBean(), FXStallDetectorMXBean.class, true),
+						new ObjectName(OBJECT_NAME));
+			}
+			catch (Exception e)
+			{
+				// JMX is not available or the name is already taken, the
+				// detector works without it.
+			}
+		}
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link SectionStatistics} holds the statistics of one named
+	 * section. It is only updated from the JavaFX thread.
+	 * 
+	 * @author Robert Zenz
+	 */
+	public static final class SectionStatistics
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** How often the section has been executed. */
+		private volatile long count;
+		
+		/** The longest execution time in nanoseconds. */
+		private volatile long maximumTime;
+		
+		/** The total execution time in nanoseconds. */
+		private volatile long totalTime;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link SectionStatistics}.
+		 */
+		SectionStatistics()
+		{
+			super();
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// User-defined methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Gets how often the section has been executed.
+		 * 
+		 * @return how often the section has been executed.
+		 */
+		public long getCount()
+		{
+			return count;
+		}
+		
+		/**
+		 * Gets the longest execution time.
+		 * 
+		 * @return the longest execution time in milliseconds.
+		 */
+		public long getMaximumTime()
+		{
+			return maximumTime / 1000000L;
+		}
+		
+		/**
+		 * Gets the total execution time.
+		 * 
+		 * @return the total execution time in milliseconds.
+		 */
+		public long getTotalTime()
+		{
+			return totalTime / 1000000L;
+		}
+		
+		/**
+		 * Adds one execution.
+		 * 
+		 * @param pTime the execution time in nanoseconds.
+		 */
+		void add(long pTime)
+		{
+			count++;
+			totalTime = totalTime + pTime;
+			
+			if (pTime > maximumTime)
+			{
+				maximumTime = pTime;
+			}
+		}
+		
+	}	// SectionStatistics
+	
+	/**
+	 * The {@link ManagementBean} is the {@link FXStallDetectorMXBean}
+	 * implementation, which delegates to the {@link FXStallDetector}.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private static final class ManagementBean implements FXStallDetectorMXBean
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link ManagementBean}.
+		 */
+		public ManagementBean()
+		{
+			super();
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Interface implementation
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getBudget()
+		{
+			return FXStallDetector.getBudget();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getLastStall()
+		{
+			return FXStallDetector.getLastStall();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getLongestStall()
+		{
+			return FXStallDetector.getLongestStall();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<String, Long> getSectionCounts()
+		{
+			Map<String, Long> counts = new HashMap<>();
+			
+			for (Entry<String, SectionStatistics> entry : STATISTICS.entrySet())
+			{
+				counts.put(entry.getKey(), Long.valueOf(entry.getValue().getCount()));
+			}
+			
+			return counts;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<String, Long> getSectionMaximumTimes()
+		{
+			Map<String, Long> times = new HashMap<>();
+			
+			for (Entry<String, SectionStatistics> entry : STATISTICS.entrySet())
+			{
+				times.put(entry.getKey(), Long.valueOf(entry.getValue().getMaximumTime()));
+			}
+			
+			return times;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<String, Long> getSectionTotalTimes()
+		{
+			Map<String, Long> times = new HashMap<>();
+			
+			for (Entry<String, SectionStatistics> entry : STATISTICS.entrySet())
+			{
+				times.put(entry.getKey(), Long.valueOf(entry.getValue().getTotalTime()));
+			}
+			
+			return times;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long getStallCount()
+		{
+			return FXStallDetector.getStallCount();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean isEnabled()
+		{
+			return FXStallDetector.isEnabled();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void reset()
+		{
+			FXStallDetector.reset();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void setBudget(long pBudget)
+		{
+			FXStallDetector.setBudget(pBudget);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void setEnabled(boolean pEnabled)
+		{
+			FXStallDetector.setEnabled(pEnabled);
+		}
+		
+	}	// ManagementBean
+	
+	/**
+	 * A {@link Section} is one execution of a named section, it knows the
+	 * section it is nested in.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private static final class Section
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The name. */
+		private String name;
+		
+		/** The parent {@link Section}, can be {@code null}. */
+		private Section parent;
+		
+		/** The start time in nanoseconds. */
+		private long start;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link Section}.
+		 * 
+		 * @param pName the name.
+		 * @param pParent the parent {@link Section}, can be {@code null}.
+		 */
+		public Section(String pName, Section pParent)
+		{
+			name = pName;
+			parent = pParent;
+			start = System.nanoTime();
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// User-defined methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Gets the name.
+		 * 
+		 * @return the name.
+		 */
+		public String getName()
+		{
+			return name;
+		}
+		
+		/**
+		 * Gets the parent {@link Section}.
+		 * 
+		 * @return the parent {@link Section}, can be {@code null}.
+		 */
+		public Section getParent()
+		{
+			return parent;
+		}
+		
+		/**
+		 * Gets the path of this section, which are the names of all enclosing
+		 * sections and this one, separated by {@code " > "}.
+		 * 
+		 * @return the path of this section.
+		 */
+		public String getPath()
+		{
+			if (parent == null)
+			{
+				return name;
+			}
+			
+			return parent.getPath() + " > " + name;
+		}
+		
+		/**
+		 * Gets the start time.
+		 * 
+		 * @return the start time in nanoseconds.
+		 */
+		public long getStart()
+		{
+			return start;
+		}
+		
+	}	// Section
+	
+	/**
+	 * The {@link Watchdog} posts the probes to the JavaFX thread and samples
+	 * it while it is stalled.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private static final class Watchdog implements Runnable
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The JavaFX thread, known after the first probe. */
+		private Thread fxThread;
+		
+		/** The probe which is posted to the JavaFX thread. */
+		private Runnable probe;
+		
+		/** If a probe is currently pending. */
+		private boolean probePending;
+		
+		/** The time in nanoseconds at which the pending probe was posted. */
+		private long probeStart;
+		
+		/** If the watchdog is running. */
+		private volatile boolean running;
+		
+		/** The number of samples per section path during the current stall. */
+		private Map<String, Integer> sampledSections;
+		
+		/** The sections which took longer than the budget. */
+		private Map<String, Long> slowSections;
+		
+		/** The stack trace of the first sample during the current stall. */
+		private StackTraceElement[] stackTrace;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link Watchdog}.
+		 */
+		public Watchdog()
+		{
+			probe = this::onProbeExecuted;
+			running = true;
+			sampledSections = new LinkedHashMap<>();
+			slowSections = new LinkedHashMap<>();
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Interface implementation
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void run()
+		{
+			while (running)
+			{
+				try
+				{
+					Thread.sleep(Math.max(5, budget / 4));
+				}
+				catch (InterruptedException e)
+				{
+					return;
+				}
+				
+				boolean postProbe = false;
+				
+				synchronized (this)
+				{
+					long now = System.nanoTime();
+					
+					if (!probePending)
+					{
+						probePending = true;
+						probeStart = now;
+						
+						postProbe = true;
+					}
+					else if (now - probeStart > budget * 1000000L)
+					{
+						sample();
+					}
+				}
+				
+				if (postProbe)
+				{
+					Platform.runLater(probe);
+				}
+			}
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// User-defined methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Records a section which took longer than the budget.
+		 * 
+		 * @param pPath the path of the section.
+		 * @param pDuration the duration in milliseconds.
+		 */
+		public synchronized void addSlowSection(String pPath, long pDuration)
+		{
+			Long duration = slowSections.get(pPath);
+			
+			if (duration == null || duration.longValue() < pDuration)
+			{
+				slowSections.put(pPath, Long.valueOf(pDuration));
+			}
+		}
+		
+		/**
+		 * Stops the watchdog.
+		 */
+		public void stop()
+		{
+			running = false;
+		}
+		
+		/**
+		 * Invoked on the JavaFX thread if the probe is executed.
+		 * <p>
+		 * Notifies the listeners if the probe took longer than the budget or
+		 * if any section took longer than the budget.
+		 */
+		private void onProbeExecuted()
+		{
+			FXStall stall = null;
+			
+			synchronized (this)
+			{
+				fxThread = Thread.currentThread();
+				
+				long duration = (System.nanoTime() - probeStart) / 1000000L;
+				
+				for (Long sectionDuration : slowSections.values())
+				{
+					duration = Math.max(duration, sectionDuration.longValue());
+				}
+				
+				if (running && (duration > budget || !slowSections.isEmpty()))
+				{
+					stall = new FXStall(duration, new LinkedHashMap<>(sampledSections), new LinkedHashMap<>(slowSections), stackTrace);
+				}
+				
+				probePending = false;
+				sampledSections.clear();
+				slowSections.clear();
+				stackTrace = null;
+			}
+			
+			if (stall != null)
+			{
+				fireStallDetected(stall);
+			}
+		}
+		
+		/**
+		 * Samples the current section and, for the first sample, the stack
+		 * trace of the JavaFX thread.
+		 */
+		private void sample()
+		{
+			Section section = currentSection;
+			
+			if (section != null)
+			{
+				String path = section.getPath();
+				Integer count = sampledSections.get(path);
+				
+				if (count == null)
+				{
+					sampledSections.put(path, Integer.valueOf(1));
+				}
+				else
+				{
+					sampledSections.put(path, Integer.valueOf(count.intValue() + 1));
+				}
+			}
+			
+			if (stackTrace == null && fxThread != null)
+			{
+				stackTrace = fxThread.getStackTrace();
+			}
+		}
+		
+	}	// Watchdog
+	
+}	// FXStallDetector
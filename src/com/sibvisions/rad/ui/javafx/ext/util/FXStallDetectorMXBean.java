@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.util;
+
+import java.util.Map;
+
+/**
+ * The {@link FXStallDetectorMXBean} is the management interface of the
+ * {@link FXStallDetector}, it is registered as
+ * {@value FXStallDetector#OBJECT_NAME} once the detector is enabled.
+ * 
+ * @author Robert Zenz
+ */
+public interface FXStallDetectorMXBean
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Abstract methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the budget.
+	 * 
+	 * @return the budget in milliseconds.
+	 * @see FXStallDetector#getBudget()
+	 */
+	public abstract long getBudget();
+	
+	/**
+	 * Gets the description of the last stall.
+	 * 
+	 * @return the description of the last stall, {@code null} if there was
+	 *         none.
+	 */
+	public abstract String getLastStall();
+	
+	/**
+	 * Gets the duration of the longest stall.
+	 * 
+	 * @return the duration of the longest stall in milliseconds.
+	 */
+	public abstract long getLongestStall();
+	
+	/**
+	 * Gets how often each section has been executed.
+	 * 
+	 * @return how often each section has been executed, by name.
+	 */
+	public abstract Map<String, Long> getSectionCounts();
+	
+	/**
+	 * Gets the longest execution time of each section.
+	 * 
+	 * @return the longest execution time of each section in milliseconds, by
+	 *         name.
+	 */
+	public abstract Map<String, Long> getSectionMaximumTimes();
+	
+	/**
+	 * Gets the total execution time of each section.
+	 * 
+	 * @return the total execution time of each section in milliseconds, by
+	 *         name.
+	 */
+	public abstract Map<String, Long> getSectionTotalTimes();
+	
+	/**
+	 * Gets the number of detected stalls.
+	 * 
+	 * @return the number of detected stalls.
+	 */
+	public abstract long getStallCount();
+	
+	/**
+	 * Gets if the detector is enabled.
+	 * 
+	 * @return {@code true} if the detector is enabled.
+	 */
+	public abstract boolean isEnabled();
+	
+	/**
+	 * Resets all statistics.
+	 */
+	public abstract void reset();
+	
+	/**
+	 * Sets the budget.
+	 * 
+	 * @param pBudget the budget in milliseconds.
+	 * @see FXStallDetector#setBudget(long)
+	 */
+	public abstract void setBudget(long pBudget);
+	
+	/**
+	 * Sets if the detector is enabled.
+	 * 
+	 * @param pEnabled {@code true} to enable the detector.
+	 */
+	public abstract void setEnabled(boolean pEnabled);
+	
+}	// FXStallDetectorMXBean
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.util;
+
+/**
+ * The {@link IFXStallListener} is notified by the {@link FXStallDetector}
+ * whenever the JavaFX thread has been blocked for longer than the budget.
+ * 
+ * @author Robert Zenz
+ */
+public interface IFXStallListener
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Abstract methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Invoked on the JavaFX thread after a stall has ended.
+	 * 
+	 * @param pStall the {@link FXStall} that has been detected.
+	 */
+	public abstract void stallDetected(FXStall pStall);
+	
+}	// IFXStallListener
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.ext.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The {@link TextWidthMeasurer} allows to compute the width of strings for a
+ * certain {@link Font} without having to layout a {@link Text} node for every
+ * string.
+ * <p>
+ * The advance of every character is measured once and cached per
+ * {@link Font}, the width of a string is the sum of the advances of its
+ * characters. Kerning and ligatures are not taken into account, so the result
+ * is an estimate which is good enough for sizing columns and similar.
+ * <p>
+ * Measuring is thread-safe, the measurers can be used from background threads.
+ * 
+ * @author Robert Zenz
+ */
+public final class TextWidthMeasurer
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The number of characters for which the advances are cached in an array. */
+	private static final int ARRAY_CACHE_SIZE = 256;
+	
+	/** The cache of {@link TextWidthMeasurer}s per {@link Font}. */
+	private static final Map<Font, TextWidthMeasurer> MEASURERS = new ConcurrentHashMap<>();
+	
+	/** The advances of the characters up to {@link #ARRAY_CACHE_SIZE}. */
+	private double[] advances;
+	
+	/** The advances of all other characters. */
+	private Map<Character, Double> additionalAdvances;
+	
+	/** The {@link Font} that is measured. */
+	private Font font;
+	
+	/** The {@link Text} that is used for measuring single characters. */
+	private Text measuringText;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link TextWidthMeasurer}.
+	 * 
+	 * @param pFont the {@link Font} to measure.
+	 */
+	private TextWidthMeasurer(Font pFont)
+	{
+		font = pFont;
+		
+		advances = new double[ARRAY_CACHE_SIZE];
+		Arrays.fill(advances, -1);
+		
+		additionalAdvances = new HashMap<>();
+		
+		measuringText = new Text();
+		measuringText.setFont(font);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the {@link TextWidthMeasurer} for the {@link Font#getDefault()
+	 * default font}.
+	 * 
+	 * @return the {@link TextWidthMeasurer} for the default font.
+	 */
+	public static TextWidthMeasurer get()
+	{
+		return get(Font.getDefault());
+	}
+	
+	/**
+	 * Gets the (shared) {@link TextWidthMeasurer} for the given {@link Font}.
+	 * 
+	 * @param pFont the {@link Font}. {@code null} for the
+	 *            {@link Font#getDefault() default font}.
+	 * @return the {@link TextWidthMeasurer} for the given {@link Font}.
+	 */
+	public static TextWidthMeasurer get(Font pFont)
+	{
+		Font font = pFont;
+		
+		if (font == null)
+		{
+			font = Font.getDefault();
+		}
+		
+		return MEASURERS.computeIfAbsent(font, TextWidthMeasurer::new);
+	}
+	
+	/**
+	 * Gets the advance (width) of the given character.
+	 * 
+	 * @param pCharacter the character.
+	 * @return the advance of the given character.
+	 */
+	public synchronized double getAdvance(char pCharacter)
+	{
+		if (pCharacter < ARRAY_CACHE_SIZE)
+		{
+			double advance = advances[pCharacter];
+			
+			if (advance < 0)
+			{
+				advance = measure(pCharacter);
+				advances[pCharacter] = advance;
+			}
+			
+			return advance;
+		}
+		
+		Double advance = additionalAdvances.get(Character.valueOf(pCharacter));
+		
+		if (advance == null)
+		{
+			advance = Double.valueOf(measure(pCharacter));
+			additionalAdvances.put(Character.valueOf(pCharacter), advance);
+		}
+		
+		return advance.doubleValue();
+	}
+	
+	/**
+	 * Gets the {@link Font} which is measured.
+	 * 
+	 * @return the {@link Font} which is measured.
+	 */
+	public Font getFont()
+	{
+		return font;
+	}
+	
+	/**
+	 * Gets the width of the given text. If the text contains multiple lines,
+	 * the width of the widest line is returned.
+	 * 
+	 * @param pText the text. Can be {@code null}.
+	 * @return the width of the given text, {@code 0} if it is {@code null} or
+	 *         empty.
+	 */
+	public double getWidth(String pText)
+	{
+		if (pText == null || pText.isEmpty())
+		{
+			return 0;
+		}
+		
+		double maxWidth = 0;
+		double width = 0;
+		
+		for (int index = 0; index < pText.length(); index++)
+		{
+			char character = pText.charAt(index);
+			
+			if (character == '\n')
+			{
+				maxWidth = Math.max(maxWidth, width);
+				width = 0;
+			}
+			else if (character != '\r')
+			{
+				width = width + getAdvance(character);
+			}
+		}
+		
+		return Math.max(maxWidth, width);
+	}
+	
+	/**
+	 * Measures the given character with the {@link #measuringText}.
+	 * 
+	 * @param pCharacter the character to measure.
+	 * @return the width of the character.
+	 */
+	private double measure(char pCharacter)
+	{
+		measuringText.setText(String.valueOf(pCharacter));
+		
+		return measuringText.getLayoutBounds().getWidth();
+	}
+	
+}	// TextWidthMeasurer
@@ -19,9 +19,13 @@ import javax.rad.ui.IColor;
 
 import javafx.scene.paint.Color;
 
+import com.sibvisions.rad.ui.javafx.impl.util.JavaFXFlyweightCache;
+
 /**
  * The {@link JavaFXColor} is the JavaFX specific implementation of
  * {@link IColor}.
+ * <p>
+ * Instances are immutable, {@link #getColor(int)} returns shared instances.
  * 
  * @author Robert Zenz
  * @see IColor
@@ -33,6 +37,9 @@ public class JavaFXColor extends JavaFXResource<Color> implements IColor
 	// Class members
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/** The shared {@link JavaFXColor}s by rgba value. */
+	private static final JavaFXFlyweightCache<Integer, JavaFXColor> CACHE = new JavaFXFlyweightCache<>(1024);
+	
 	/** The alpha component of the color. */
 	private int alpha;
 	
@@ -155,4 +162,41 @@ public class JavaFXColor extends JavaFXResource<Color> implements IColor
 		return rgba;
 	}
 	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the {@link JavaFXFlyweightCache} of the shared {@link JavaFXColor}s.
+	 * 
+	 * @return the {@link JavaFXFlyweightCache}.
+	 * @see #getColor(int)
+	 */
+	public static JavaFXFlyweightCache<Integer, JavaFXColor> getCache()
+	{
+		return CACHE;
+	}
+	
+	/**
+	 * Gets the shared {@link JavaFXColor} for the given rgba value.
+	 * 
+	 * @param pRGBA the rgba.
+	 * @return the shared {@link JavaFXColor}.
+	 */
+	public static JavaFXColor getColor(int pRGBA)
+	{
+		Integer key = Integer.valueOf(pRGBA);
+		
+		JavaFXColor color = CACHE.get(key);
+		
+		if (color == null)
+		{
+			color = new JavaFXColor(pRGBA);
+			
+			CACHE.put(key, color);
+		}
+		
+		return color;
+	}
+	
 }	// JavaFXColor
@@ -143,6 +143,26 @@ public class JavaFXCursor extends JavaFXResource<Cursor> implements ICursor
 		return CURSORS.get(Integer.valueOf(pType));
 	}
 	
+	/**
+	 * Gets the cursor for the given custom cursor name, which is the name of
+	 * the cursor with an optional extension, like {@code "wait_cursor.png"}.
+	 * 
+	 * @param pCursorName the custom cursor name.
+	 * @return the cursor, {@code null} if there is none.
+	 */
+	public static JavaFXCursor getCustomCursor(String pCursorName)
+	{
+		String cursorName = pCursorName;
+		int dotIndex = pCursorName.indexOf('.');
+		
+		if (dotIndex >= 0)
+		{
+			cursorName = cursorName.substring(0, dotIndex);
+		}
+		
+		return getCursor(cursorName.toUpperCase());
+	}
+	
 	/**
 	 * Gets the name of the cursor as it is used in CSS.
 	 * 
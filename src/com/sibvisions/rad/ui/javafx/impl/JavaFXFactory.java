@@ -20,7 +20,14 @@ import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 
 import javax.rad.model.ui.ICellEditor;
 import javax.rad.ui.IAlignmentConstants;
@@ -145,8 +152,9 @@ import com.sibvisions.rad.ui.javafx.impl.menu.JavaFXMenu;
 import com.sibvisions.rad.ui.javafx.impl.menu.JavaFXMenuBar;
 import com.sibvisions.rad.ui.javafx.impl.menu.JavaFXMenuItem;
 import com.sibvisions.rad.ui.javafx.impl.menu.JavaFXSeparator;
+import com.sibvisions.rad.ui.javafx.impl.thread.JavaFXIThreadExecutor;
+import com.sibvisions.rad.ui.javafx.impl.thread.JavaFXThreadHandlerExecutor;
 import com.sibvisions.rad.ui.javafx.impl.util.JavaFXColorUtil;
-import com.sibvisions.util.ThreadHandler;
 import com.sibvisions.util.type.CommonUtil;
 import com.sibvisions.util.type.ExceptionUtil;
 import com.sibvisions.util.type.ResourceUtil;
@@ -171,6 +179,18 @@ public class JavaFXFactory extends AbstractFactory
 	/** The {@link Map} of image mappings. */
 	private Map<String, String> imageMappings;
 	
+	/** The decoded images by name, which have been preloaded. */
+	private Map<String, Image> preloadedImages;
+	
+	/** The {@link IWindow}s which cancel their threads when being closed. */
+	private Map<IWindow, Boolean> threadOwners;
+	
+	/** The {@link JavaFXIThreadExecutor} which runs the threads. */
+	private JavaFXIThreadExecutor threadExecutor;
+	
+	/** The {@link JavaFXUpdateQueue} for batched updates. */
+	private JavaFXUpdateQueue updateQueue;
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -184,6 +204,10 @@ public class JavaFXFactory extends AbstractFactory
 		
 		cellEditors = new HashMap<>();
 		imageMappings = new HashMap<>();
+		preloadedImages = new ConcurrentHashMap<>();
+		updateQueue = new JavaFXUpdateQueue();
+		threadOwners = new WeakHashMap<>();
+		threadExecutor = new JavaFXThreadHandlerExecutor(this);
 		
 		JavaFXPlatformStarter.start();
 	}
@@ -270,7 +294,7 @@ public class JavaFXFactory extends AbstractFactory
 	@Override
 	public IColor createColor(int pRGBA)
 	{
-		return new JavaFXColor(pRGBA);
+		return JavaFXColor.getColor(pRGBA);
 	}
 	
 	/**
@@ -354,7 +378,7 @@ public class JavaFXFactory extends AbstractFactory
 	@Override
 	public IFont createFont(String pName, int pStyle, int pSize)
 	{
-		return new JavaFXFont(pName, pStyle, pSize);
+		return JavaFXFont.getFont(pName, pStyle, pSize);
 	}
 	
 	/**
@@ -372,7 +396,8 @@ public class JavaFXFactory extends AbstractFactory
 	@Override
 	public IFrame createFrame()
 	{
-		return setFactoryOnComponent(new JavaFXFrame());
+		// A Stage can only be created on the JavaFX thread.
+		return createOnFXThread(() -> setFactoryOnComponent(new JavaFXFrame()));
 	}
 	
 	/**
@@ -680,6 +705,13 @@ public class JavaFXFactory extends AbstractFactory
 	@Override
 	public IImage getImage(String pImageName)
 	{
+		Image preloadedImage = preloadedImages.remove(pImageName);
+		
+		if (preloadedImage != null)
+		{
+			return new JavaFXImage(pImageName, preloadedImage);
+		}
+		
 		InputStream stream = null;
 		
 		try
@@ -768,17 +800,7 @@ public class JavaFXFactory extends AbstractFactory
 	@Override
 	public ICursor getSystemCustomCursor(String pCursorName)
 	{
-		String cursorName = pCursorName;
-		int dotIndex = pCursorName.indexOf('.');
-		
-		if (dotIndex >= 0)
-		{
-			cursorName = cursorName.substring(0, dotIndex);
-		}
-		
-		cursorName = cursorName.toUpperCase();
-		
-		return JavaFXCursor.getCursor(cursorName);
+		return JavaFXCursor.getCustomCursor(pCursorName);
 	}
 	
 	/**
@@ -814,7 +836,7 @@ public class JavaFXFactory extends AbstractFactory
 	@Override
 	public Thread invokeInThread(Runnable pRunnable)
 	{
-		return ThreadHandler.start(new InvokeLaterThread(this, pRunnable));
+		return threadExecutor.execute(pRunnable, Thread.NORM_PRIORITY, null);
 	}
 	
 	/**
@@ -1205,6 +1227,243 @@ public class JavaFXFactory extends AbstractFactory
 		alert.showAndWait();
 	}
 	
+	/**
+	 * Gets the {@link JavaFXIThreadExecutor} which runs the threads.
+	 * 
+	 * @return the {@link JavaFXIThreadExecutor}.
+	 * @see #setThreadExecutor(JavaFXIThreadExecutor)
+	 */
+	public JavaFXIThreadExecutor getThreadExecutor()
+	{
+		return threadExecutor;
+	}
+	
+	/**
+	 * Gets the {@link JavaFXUpdateQueue} which is used by
+	 * {@link #invokeBatched(Runnable)}.
+	 * 
+	 * @return the {@link JavaFXUpdateQueue}.
+	 */
+	public JavaFXUpdateQueue getUpdateQueue()
+	{
+		return updateQueue;
+	}
+	
+	/**
+	 * Invokes the given {@link Runnable} on the JavaFX thread, together with
+	 * all other {@link Runnable}s which are invoked batched before it is
+	 * executed.
+	 * <p>
+	 * Other than {@link #invokeLater(Runnable)} and
+	 * {@link #invokeAndWait(Runnable)}, which hop to the JavaFX thread once
+	 * per call, this hops once per batch. That makes it the better choice for
+	 * worker threads which update many components at once, for example after
+	 * loading data in an {@link InvokeLaterThread}. The returned
+	 * {@link Future} can be used to wait for the batch to be executed.
+	 * 
+	 * @param pRunnable the {@link Runnable}.
+	 * @return the {@link Future} of the batch.
+	 * @see JavaFXUpdateQueue
+	 */
+	public Future<Void> invokeBatched(Runnable pRunnable)
+	{
+		return updateQueue.add(pRunnable);
+	}
+	
+	/**
+	 * Constructs a component tree, for example a complete work-screen, in a
+	 * background thread and attaches it on the JavaFX thread in one step.
+	 * <p>
+	 * JavaFX allows to create and modify nodes on any thread as long as they
+	 * are not part of a showing scene. The given constructor must therefore
+	 * only create new components and must not add them to, or modify, any
+	 * component which is already showing, that is done by the given attach
+	 * {@link Consumer}. Components which need to be created on the JavaFX
+	 * thread, like frames, are created there by this factory.
+	 * <p>
+	 * The constructor is run in an {@link InvokeLaterThread}, so all calls to
+	 * {@link javax.rad.genui.UIComponent#invokeLater(Runnable)} during the
+	 * construction are executed after the component tree has been attached.
+	 * 
+	 * @param <T> the type of the constructed component.
+	 * @param pConstructor the {@link Callable} which constructs the component
+	 *            tree in the background thread.
+	 * @param pAttach the {@link Consumer} which attaches the constructed
+	 *            component tree on the JavaFX thread. Can be {@code null}.
+	 * @return the {@link CompletableFuture} which is completed on the JavaFX
+	 *         thread after the component tree has been attached, or
+	 *         exceptionally if the construction or the attaching failed.
+	 */
+	public <T> CompletableFuture<T> invokeConstruction(Callable<T> pConstructor, Consumer<T> pAttach)
+	{
+		CompletableFuture<T> future = new CompletableFuture<>();
+		
+		invokeInThread(() ->
+		{
+			T constructed;
+			
+			try
+			{
+				constructed = pConstructor.call();
+			}
+			catch (Throwable th)
+			{
+				invokeLater(() -> future.completeExceptionally(th));
+				
+				return;
+			}
+			
+			invokeLater(() ->
+			{
+				try
+				{
+					if (pAttach != null)
+					{
+						pAttach.accept(constructed);
+					}
+					
+					future.complete(constructed);
+				}
+				catch (Throwable th)
+				{
+					future.completeExceptionally(th);
+				}
+			});
+		});
+		
+		return future;
+	}
+	
+	/**
+	 * Invokes the given {@link Runnable} in a background thread with the given
+	 * priority. If an owner is given, the thread is cancelled when the owner
+	 * is closed.
+	 * 
+	 * @param pRunnable the {@link Runnable}.
+	 * @param pPriority the priority, {@link Runnable}s with a higher priority
+	 *            are executed first if the {@link JavaFXIThreadExecutor} needs
+	 *            to queue them. {@link Thread#NORM_PRIORITY} is the default.
+	 * @param pOwner the owning {@link IWindow}, can be {@code null}.
+	 * @return the {@link Thread} which represents the {@link Runnable}.
+	 * @see #invokeInThread(Runnable)
+	 */
+	public Thread invokeInThread(Runnable pRunnable, int pPriority, IWindow pOwner)
+	{
+		if (pOwner != null)
+		{
+			synchronized (threadOwners)
+			{
+				if (threadOwners.put(pOwner, Boolean.TRUE) == null)
+				{
+					pOwner.eventWindowClosed().addListener(pWindowEvent -> threadExecutor.cancelAll(pOwner));
+				}
+			}
+		}
+		
+		return threadExecutor.execute(pRunnable, pPriority, pOwner);
+	}
+	
+	/**
+	 * Loads and decodes the image with the given name, so that the next
+	 * {@link #getImage(String)} for it does not have to. Can be called on any
+	 * thread.
+	 * 
+	 * @param pImageName the name of the image.
+	 * @return {@code true} if the image has been preloaded.
+	 */
+	public boolean preloadImage(String pImageName)
+	{
+		InputStream stream = null;
+		
+		try
+		{
+			stream = ResourceUtil.getResourceAsStream(pImageName);
+			
+			if (stream != null)
+			{
+				Image image = new Image(stream);
+				
+				if (!image.isError())
+				{
+					preloadedImages.putIfAbsent(pImageName, image);
+					
+					return true;
+				}
+			}
+		}
+		finally
+		{
+			CommonUtil.close(stream);
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Sets the {@link JavaFXIThreadExecutor} which runs the threads, for
+	 * example a {@link com.sibvisions.rad.ui.javafx.impl.thread.JavaFXPooledThreadExecutor}
+	 * to limit the number of threads which run at the same time. Threads
+	 * which have already been started are not affected.
+	 * 
+	 * @param pThreadExecutor the {@link JavaFXIThreadExecutor}, {@code null}
+	 *            for the default which starts a new thread for every
+	 *            {@link Runnable}.
+	 */
+	public void setThreadExecutor(JavaFXIThreadExecutor pThreadExecutor)
+	{
+		if (pThreadExecutor == null)
+		{
+			threadExecutor = new JavaFXThreadHandlerExecutor(this);
+		}
+		else
+		{
+			threadExecutor = pThreadExecutor;
+		}
+	}
+	
+	/**
+	 * Creates a component on the JavaFX thread. If the current thread is not
+	 * the JavaFX thread, it waits until the component has been created.
+	 * 
+	 * @param <T> the type of the component.
+	 * @param pCreator the {@link Callable} which creates the component.
+	 * @return the component.
+	 * @see #invokeConstruction(Callable, Consumer)
+	 */
+	protected <T> T createOnFXThread(Callable<T> pCreator)
+	{
+		try
+		{
+			if (Platform.isFxApplicationThread())
+			{
+				return pCreator.call();
+			}
+			
+			FutureTask<T> task = new FutureTask<>(pCreator);
+			
+			Platform.runLater(task);
+			
+			return task.get();
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException)e.getCause();
+			}
+			
+			throw new IllegalStateException("Creating the component failed.", e.getCause());
+		}
+		catch (RuntimeException e)
+		{
+			throw e;
+		}
+		catch (Exception e)
+		{
+			throw new IllegalStateException("Creating the component failed.", e);
+		}
+	}
+	
 	/**
 	 * Sets this factory on the given component and returns the component.
 	 * 
@@ -15,15 +15,22 @@
  */
 package com.sibvisions.rad.ui.javafx.impl;
 
+import java.util.Objects;
+
 import javax.rad.ui.IFont;
 
 import javafx.scene.text.Font;
 import javafx.scene.text.FontPosture;
 import javafx.scene.text.FontWeight;
 
+import com.sibvisions.rad.ui.javafx.impl.util.JavaFXFlyweightCache;
+
 /**
  * The {@link JavaFXFont} is the JavaFX specific implementation of {@link IFont}
  * .
+ * <p>
+ * Instances are immutable, {@link #getFont(String, int, int)} returns shared
+ * instances so that the {@link Font} is only looked up once.
  * 
  * @author Robert Zenz
  * @see IFont
@@ -31,6 +38,13 @@ import javafx.scene.text.FontWeight;
  */
 public class JavaFXFont extends JavaFXResource<Font> implements IFont
 {
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The shared {@link JavaFXFont}s by name, style and size. */
+	private static final JavaFXFlyweightCache<FontKey, JavaFXFont> CACHE = new JavaFXFlyweightCache<>(256);
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -128,4 +142,122 @@ public class JavaFXFont extends JavaFXResource<Font> implements IFont
 		return iStyle;
 	}
 	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the {@link JavaFXFlyweightCache} of the shared {@link JavaFXFont}s.
+	 * 
+	 * @return the {@link JavaFXFlyweightCache}.
+	 * @see #getFont(String, int, int)
+	 */
+	public static JavaFXFlyweightCache<?, JavaFXFont> getCache()
+	{
+		return CACHE;
+	}
+	
+	/**
+	 * Gets the shared {@link JavaFXFont} for the given name, style and size.
+	 * 
+	 * @param pFontName the font name.
+	 * @param pStyle the style.
+	 * @param pSize the size.
+	 * @return the shared {@link JavaFXFont}.
+	 */
+	public static JavaFXFont getFont(String pFontName, int pStyle, int pSize)
+	{
+		FontKey key = new FontKey(pFontName, pStyle, pSize);
+		
+		JavaFXFont font = CACHE.get(key);
+		
+		if (font == null)
+		{
+			font = new JavaFXFont(pFontName, pStyle, pSize);
+			
+			CACHE.put(key, font);
+		}
+		
+		return font;
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link FontKey} is the key of the shared {@link JavaFXFont}s.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private static final class FontKey
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The font name. */
+		private final String fontName;
+		
+		/** The size. */
+		private final int size;
+		
+		/** The style. */
+		private final int style;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link FontKey}.
+		 * 
+		 * @param pFontName the font name.
+		 * @param pStyle the style.
+		 * @param pSize the size.
+		 */
+		private FontKey(String pFontName, int pStyle, int pSize)
+		{
+			fontName = pFontName;
+			style = pStyle;
+			size = pSize;
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Overwritten methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean equals(Object pObject)
+		{
+			if (!(pObject instanceof FontKey))
+			{
+				return false;
+			}
+			
+			FontKey key = (FontKey)pObject;
+			
+			return style == key.style
+					&& size == key.size
+					&& Objects.equals(fontName, key.fontName);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int hashCode()
+		{
+			int hashCode = Objects.hashCode(fontName);
+			hashCode = 31 * hashCode + style;
+			hashCode = 31 * hashCode + size;
+			
+			return hashCode;
+		}
+		
+	}	// FontKey
+	
 }	// JavaFXFont
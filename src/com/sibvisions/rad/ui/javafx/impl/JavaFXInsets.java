@@ -19,9 +19,14 @@ import javax.rad.ui.IInsets;
 
 import javafx.geometry.Insets;
 
+import com.sibvisions.rad.ui.javafx.impl.util.JavaFXFlyweightCache;
+
 /**
  * The {@link JavaFXInsets} is the JavaFX specific implementation of
  * {@link IInsets}.
+ * <p>
+ * The {@link JavaFXInsets} itself is mutable, but the {@link Insets} it wraps
+ * are shared, see {@link #getInsets(double, double, double, double)}.
  * 
  * @author Robert Zenz
  * @see IInsets
@@ -29,6 +34,13 @@ import javafx.geometry.Insets;
  */
 public class JavaFXInsets extends JavaFXResource<Insets> implements IInsets
 {
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The shared {@link Insets} by their values. */
+	private static final JavaFXFlyweightCache<InsetsKey, Insets> CACHE = new JavaFXFlyweightCache<>(256);
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -53,7 +65,7 @@ public class JavaFXInsets extends JavaFXResource<Insets> implements IInsets
 	 */
 	public JavaFXInsets(double pTop, double pLeft, double pBottom, double pRight)
 	{
-		super(new Insets(pTop, pRight, pBottom, pLeft));
+		super(getInsets(pTop, pLeft, pBottom, pRight));
 	}
 	
 	/**
@@ -66,7 +78,7 @@ public class JavaFXInsets extends JavaFXResource<Insets> implements IInsets
 	 */
 	public JavaFXInsets(int pTop, int pLeft, int pBottom, int pRight)
 	{
-		super(new Insets(pTop, pRight, pBottom, pLeft));
+		super(getInsets(pTop, pLeft, pBottom, pRight));
 	}
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -115,7 +127,7 @@ public class JavaFXInsets extends JavaFXResource<Insets> implements IInsets
 	@Override
 	public void setBottom(int pBottom)
 	{
-		setResource(new Insets(resource.getTop(), resource.getRight(), pBottom, resource.getLeft()));
+		setResource(getInsets(resource.getTop(), resource.getLeft(), pBottom, resource.getRight()));
 	}
 	
 	/**
@@ -124,7 +136,7 @@ public class JavaFXInsets extends JavaFXResource<Insets> implements IInsets
 	@Override
 	public void setLeft(int pLeft)
 	{
-		setResource(new Insets(resource.getTop(), resource.getRight(), resource.getBottom(), pLeft));
+		setResource(getInsets(resource.getTop(), pLeft, resource.getBottom(), resource.getRight()));
 	}
 	
 	/**
@@ -133,7 +145,7 @@ public class JavaFXInsets extends JavaFXResource<Insets> implements IInsets
 	@Override
 	public void setRight(int pRight)
 	{
-		setResource(new Insets(resource.getTop(), pRight, resource.getBottom(), resource.getLeft()));
+		setResource(getInsets(resource.getTop(), resource.getLeft(), resource.getBottom(), pRight));
 	}
 	
 	/**
@@ -142,7 +154,139 @@ public class JavaFXInsets extends JavaFXResource<Insets> implements IInsets
 	@Override
 	public void setTop(int pTop)
 	{
-		setResource(new Insets(pTop, resource.getRight(), resource.getBottom(), resource.getLeft()));
+		setResource(getInsets(pTop, resource.getLeft(), resource.getBottom(), resource.getRight()));
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the {@link JavaFXFlyweightCache} of the shared {@link Insets}.
+	 * 
+	 * @return the {@link JavaFXFlyweightCache}.
+	 * @see #getInsets(double, double, double, double)
+	 */
+	public static JavaFXFlyweightCache<?, Insets> getCache()
+	{
+		return CACHE;
 	}
 	
+	/**
+	 * Gets the shared {@link Insets} for the given values.
+	 * 
+	 * @param pTop the top.
+	 * @param pLeft the left.
+	 * @param pBottom the bottom.
+	 * @param pRight the right.
+	 * @return the shared {@link Insets}.
+	 */
+	public static Insets getInsets(double pTop, double pLeft, double pBottom, double pRight)
+	{
+		if (pTop == 0 && pLeft == 0 && pBottom == 0 && pRight == 0)
+		{
+			return Insets.EMPTY;
+		}
+		
+		InsetsKey key = new InsetsKey(pTop, pLeft, pBottom, pRight);
+		
+		Insets insets = CACHE.get(key);
+		
+		if (insets == null)
+		{
+			insets = new Insets(pTop, pRight, pBottom, pLeft);
+			
+			CACHE.put(key, insets);
+		}
+		
+		return insets;
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link InsetsKey} is the key of the shared {@link Insets}, which
+	 * compares the values without converting them.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private static final class InsetsKey
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The bottom. */
+		private final double bottom;
+		
+		/** The left. */
+		private final double left;
+		
+		/** The right. */
+		private final double right;
+		
+		/** The top. */
+		private final double top;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link InsetsKey}.
+		 * 
+		 * @param pTop the top.
+		 * @param pLeft the left.
+		 * @param pBottom the bottom.
+		 * @param pRight the right.
+		 */
+		private InsetsKey(double pTop, double pLeft, double pBottom, double pRight)
+		{
+			top = pTop;
+			left = pLeft;
+			bottom = pBottom;
+			right = pRight;
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Overwritten methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean equals(Object pObject)
+		{
+			if (!(pObject instanceof InsetsKey))
+			{
+				return false;
+			}
+			
+			InsetsKey key = (InsetsKey)pObject;
+			
+			return Double.compare(top, key.top) == 0
+					&& Double.compare(left, key.left) == 0
+					&& Double.compare(bottom, key.bottom) == 0
+					&& Double.compare(right, key.right) == 0;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int hashCode()
+		{
+			int hashCode = Double.hashCode(top);
+			hashCode = 31 * hashCode + Double.hashCode(left);
+			hashCode = 31 * hashCode + Double.hashCode(bottom);
+			hashCode = 31 * hashCode + Double.hashCode(right);
+			
+			return hashCode;
+		}
+		
+	}	// InsetsKey
+	
 }	// JavaFXInsets
@@ -18,6 +18,7 @@ package com.sibvisions.rad.ui.javafx.impl;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.rad.application.IApplication;
 import javax.rad.application.IFileHandleReceiver;
@@ -65,6 +66,22 @@ public class JavaFXLauncher extends JavaFXFrame
 	/** The property name for a custom location and size. */
 	public static final String PARAM_FRAMEBOUNDS = "framebounds";
 	
+	/**
+	 * The property name to enable preloading of resources in the background
+	 * (boolean).
+	 * 
+	 * @see JavaFXResourcePreloader
+	 */
+	public static final String PARAM_STARTUP_PRELOAD = "startupPreload";
+	
+	/**
+	 * The property name to enable logging of the startup phases and their run
+	 * times (boolean).
+	 * 
+	 * @see JavaFXStartupProfiler
+	 */
+	public static final String PARAM_STARTUP_PROFILE = "startupProfile";
+	
 	/** The {@link IApplication}. */
 	private IApplication application;
 	
@@ -74,6 +91,9 @@ public class JavaFXLauncher extends JavaFXFrame
 	/** The JavaFX application. */
 	private Application javafxApplication;
 	
+	/** The {@link JavaFXStartupProfiler} which measured the startup. */
+	private JavaFXStartupProfiler startupProfiler;
+	
 	/** The launcher. */
 	private UILauncher uilauncher;
 	
@@ -96,35 +116,62 @@ public class JavaFXLauncher extends JavaFXFrame
 	{
 		super(pStage);
 		
+		startupProfiler = new JavaFXStartupProfiler();
+		
 		javafxApplication = pApplication;
 		
 		setFactory(pFactory);
 		
+		CompletableFuture<Void> preloading = null;
+		
+		if (Boolean.parseBoolean(pParameter.getParameter(PARAM_STARTUP_PRELOAD)))
+		{
+			preloading = new JavaFXResourcePreloader(pFactory, startupProfiler).start();
+		}
+		
+		startupProfiler.begin("configure");
+		
 		config = createConfig();
 		config.configure(pParameter);
 		
+		startupProfiler.begin("applyCustomCSS");
+		
 		applyCustomCSS();
 		
+		startupProfiler.begin("createUILauncher");
+		
 		uilauncher = createUILauncher();
 		
+		startupProfiler.end();
+		
 		// Use setParameter to remove the parameter, so that no one else after
 		// us receives it.
 		String sExitOnError = pParameter.setParameter(ARG_SYSTEMEXIT_ON_ERROR, null);
 		boolean bExitOnError = Boolean.parseBoolean(sExitOnError);
 		
+		boolean bProfile = Boolean.parseBoolean(pParameter.getParameter(PARAM_STARTUP_PROFILE));
+		
 		try
 		{
+			startupProfiler.begin("createApplication");
+			
 			application = ApplicationUtil.createApplication(uilauncher, pParameter.getApplicationClassName());
 			uilauncher.setTitle(application.getName());
 			uilauncher.add(application, IBorderLayout.CENTER);
 			
 			if (!hasCustomSize())
 			{
+				startupProfiler.begin("pack");
+				
 				uilauncher.pack();
 			}
+			
+			startupProfiler.end();
 		}
 		catch (Throwable th)
 		{
+			startupProfiler.end();
+			
 			LoggerFactory.getInstance(JavaFXLauncher.class).error(th);
 			
 			// Add dummy content, for compatibility reason (e.g. custom handleException).
@@ -170,8 +217,12 @@ public class JavaFXLauncher extends JavaFXFrame
 			pStage.centerOnScreen();
 		}
 		
+		startupProfiler.begin("show");
+		
 		uilauncher.setVisible(true);
 		
+		startupProfiler.begin("notifyVisible");
+		
 		try
 		{
 			getFactory().invokeAndWait(() -> application.notifyVisible());
@@ -185,6 +236,23 @@ public class JavaFXLauncher extends JavaFXFrame
 				System.exit(1);
 			}
 		}
+		
+		startupProfiler.finish();
+		
+		if (bProfile)
+		{
+			if (preloading != null)
+			{
+				// The preloading might still be running, so log the summary
+				// once it is finished to include its phases, the total time
+				// does not include waiting for it.
+				preloading.whenComplete((pResult, pThrowable) -> logStartupProfile());
+			}
+			else
+			{
+				logStartupProfile();
+			}
+		}
 	}
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -197,7 +265,10 @@ public class JavaFXLauncher extends JavaFXFrame
 	@Override
 	public void cancelPendingThreads()
 	{
-		// Nothing to do.
+		if (getFactory() instanceof JavaFXFactory)
+		{
+			((JavaFXFactory)getFactory()).getThreadExecutor().cancelAll();
+		}
 	}
 	
 	/**
@@ -417,6 +488,16 @@ public class JavaFXLauncher extends JavaFXFrame
 		return new UILauncher(this);
 	}
 	
+	/**
+	 * Gets the {@link JavaFXStartupProfiler} which measured the startup.
+	 * 
+	 * @return the {@link JavaFXStartupProfiler}.
+	 */
+	public JavaFXStartupProfiler getStartupProfiler()
+	{
+		return startupProfiler;
+	}
+	
 	/**
 	 * Gets the {@link UILauncher}.
 	 * 
@@ -427,6 +508,14 @@ public class JavaFXLauncher extends JavaFXFrame
 		return uilauncher;
 	}
 	
+	/**
+	 * Logs the summary of the {@link JavaFXStartupProfiler}.
+	 */
+	protected void logStartupProfile()
+	{
+		LoggerFactory.getInstance(JavaFXLauncher.class).info(startupProfiler);
+	}
+	
 	/**
 	 * Resizes and relocates the {@link Stage} to the provided values in the
 	 * {@link #PARAM_FRAMEBOUNDS} property, if any.
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.impl;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.rad.genui.UIImage;
+import javax.rad.ui.IFactory;
+
+import javafx.scene.text.Font;
+
+import com.sibvisions.util.log.LoggerFactory;
+import com.sun.javafx.css.parser.CssParser;
+
+/**
+ * The {@link JavaFXResourcePreloader} loads the resources which are needed
+ * by nearly every application in the background and in parallel, while the
+ * application itself is still being created.
+ * <p>
+ * It parses the default stylesheets, which loads the CSS parser and brings
+ * the stylesheets into memory, loads and initializes the cell editor classes
+ * and loads the fonts. The images of the image mappings are loaded and
+ * decoded through {@link JavaFXFactory#preloadImage(String)}, and are handed
+ * over to the cache of {@link UIImage} when they are first used. Nothing of
+ * it runs on the JavaFX thread.
+ * 
+ * @author Robert Zenz
+ */
+public class JavaFXResourcePreloader
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The names of the classes which are loaded and initialized. */
+	private static final String[] CLASSES = new String[] {
+			"com.sibvisions.rad.ui.javafx.ext.celleditor.FXCheckBoxCellEditor",
+			"com.sibvisions.rad.ui.javafx.ext.celleditor.FXChoiceCellEditor",
+			"com.sibvisions.rad.ui.javafx.ext.celleditor.FXDateCellEditor",
+			"com.sibvisions.rad.ui.javafx.ext.celleditor.FXLinkedCellEditor",
+			"com.sibvisions.rad.ui.javafx.ext.celleditor.FXNumberCellEditor",
+			"com.sibvisions.rad.ui.javafx.ext.celleditor.FXTextCellEditor",
+			"com.sibvisions.rad.ui.javafx.ext.control.table.FXDataBookView" };
+	
+	/** The stylesheets which are parsed. */
+	private static final String[] STYLESHEETS = new String[] {
+			"/com/sibvisions/rad/ui/javafx/impl/css/default.css",
+			"/com/sibvisions/rad/ui/javafx/ext/scene/css/styledscene.css",
+			"/com/sibvisions/rad/ui/javafx/ext/mdi/css/fxinternalwindow.css",
+			"/com/sibvisions/rad/ui/javafx/ext/control/table/css/fxdatabookview.css",
+			"/com/sibvisions/rad/ui/javafx/ext/css/fxcustomcombobox.css",
+			"/com/sibvisions/rad/ui/javafx/ext/css/fxdatetimepicker.css",
+			"/com/sibvisions/rad/ui/javafx/ext/css/fxmonthview.css",
+			"/com/sibvisions/rad/ui/javafx/ext/css/fxselectablelabel.css",
+			"/com/sibvisions/rad/ui/javafx/ext/css/fxtimepicker.css" };
+	
+	/** The {@link IFactory} of which the image mappings are loaded. */
+	private IFactory factory;
+	
+	/** The {@link JavaFXStartupProfiler} which receives the run times. */
+	private JavaFXStartupProfiler profiler;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link JavaFXResourcePreloader}.
+	 * 
+	 * @param pFactory the {@link IFactory} of which the image mappings are
+	 *            loaded.
+	 * @param pProfiler the {@link JavaFXStartupProfiler} which receives the
+	 *            run times of the preloading, can be {@code null}.
+	 */
+	public JavaFXResourcePreloader(IFactory pFactory, JavaFXStartupProfiler pProfiler)
+	{
+		factory = pFactory;
+		profiler = pProfiler;
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Starts the preloading on background threads. The names of the images
+	 * are taken from the {@link IFactory} on the calling thread, which should
+	 * be the JavaFX thread, before the application is created.
+	 * 
+	 * @return the {@link CompletableFuture} which is completed when everything
+	 *         has been preloaded. Failures are logged and never complete it
+	 *         exceptionally.
+	 */
+	public CompletableFuture<Void> start()
+	{
+		AtomicInteger threadCounter = new AtomicInteger();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(4, Runtime.getRuntime().availableProcessors()), (pRunnable) ->
+		{
+			Thread thread = new Thread(pRunnable, "JavaFXResourcePreloader-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			
+			return thread;
+		});
+		
+		String[] imageNames = getImageNames();
+		
+		CompletableFuture<Void> preloading = CompletableFuture.allOf(
+				CompletableFuture.runAsync(() -> run("preload stylesheets", this::preloadStylesheets), executor),
+				CompletableFuture.runAsync(() -> run("preload images", () -> preloadImages(imageNames)), executor),
+				CompletableFuture.runAsync(() -> run("preload classes", this::preloadClasses), executor),
+				CompletableFuture.runAsync(() -> run("preload fonts", this::preloadFonts), executor));
+		
+		preloading.whenComplete((pResult, pThrowable) -> executor.shutdown());
+		
+		return preloading;
+	}
+	
+	/**
+	 * Loads and initializes the cell editor classes.
+	 */
+	protected void preloadClasses()
+	{
+		ClassLoader classLoader = JavaFXResourcePreloader.class.getClassLoader();
+		
+		for (String className : CLASSES)
+		{
+			try
+			{
+				Class.forName(className, true, classLoader);
+			}
+			catch (Throwable th)
+			{
+				LoggerFactory.getInstance(JavaFXResourcePreloader.class).debug("Can't preload class ", className, th);
+			}
+		}
+	}
+	
+	/**
+	 * Loads the default font and the available font families.
+	 */
+	protected void preloadFonts()
+	{
+		Font.getDefault();
+		Font.getFamilies();
+	}
+	
+	/**
+	 * Loads and decodes the given images, if the {@link IFactory} is a
+	 * {@link JavaFXFactory}.
+	 * 
+	 * @param pImageNames the names of the images.
+	 */
+	protected void preloadImages(String[] pImageNames)
+	{
+		if (!(factory instanceof JavaFXFactory))
+		{
+			return;
+		}
+		
+		for (String imageName : pImageNames)
+		{
+			try
+			{
+				((JavaFXFactory)factory).preloadImage(imageName);
+			}
+			catch (Throwable th)
+			{
+				LoggerFactory.getInstance(JavaFXResourcePreloader.class).debug("Can't preload image ", imageName, th);
+			}
+		}
+	}
+	
+	/**
+	 * Parses the default stylesheets, which loads the CSS parser and brings
+	 * the stylesheets into memory, so that parsing them again on the JavaFX
+	 * thread is faster.
+	 */
+	protected void preloadStylesheets()
+	{
+		CssParser parser = new CssParser();
+		
+		for (String stylesheet : STYLESHEETS)
+		{
+			URL url = JavaFXResourcePreloader.class.getResource(stylesheet);
+			
+			if (url != null)
+			{
+				try
+				{
+					parser.parse(url);
+				}
+				catch (Throwable th)
+				{
+					LoggerFactory.getInstance(JavaFXResourcePreloader.class).debug("Can't preload stylesheet ", stylesheet, th);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Gets the names of the images of all image mappings of the
+	 * {@link IFactory}.
+	 * 
+	 * @return the names of the images.
+	 */
+	private String[] getImageNames()
+	{
+		String[] mappingNames = factory.getImageMappingNames();
+		String[] imageNames = new String[mappingNames.length];
+		
+		for (int index = 0; index < mappingNames.length; index++)
+		{
+			imageNames[index] = factory.getImageMapping(mappingNames[index]);
+		}
+		
+		return imageNames;
+	}
+	
+	/**
+	 * Runs the given {@link Runnable} and records its run time as the given
+	 * phase.
+	 * 
+	 * @param pPhase the name of the phase.
+	 * @param pRunnable the {@link Runnable}.
+	 */
+	private void run(String pPhase, Runnable pRunnable)
+	{
+		long start = System.nanoTime();
+		
+		try
+		{
+			pRunnable.run();
+		}
+		catch (Throwable th)
+		{
+			LoggerFactory.getInstance(JavaFXResourcePreloader.class).debug(pPhase, " failed", th);
+		}
+		finally
+		{
+			if (profiler != null)
+			{
+				profiler.record(pPhase, System.nanoTime() - start);
+			}
+		}
+	}
+	
+}	// JavaFXResourcePreloader
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link JavaFXStartupProfiler} measures the named phases of the startup
+ * of the application.
+ * <p>
+ * Phases are measured one after the other with {@link #begin(String)} and
+ * {@link #end()}, phases which run in parallel (like the preloading) are
+ * added with {@link #record(String, long)}.
+ * 
+ * @author Robert Zenz
+ */
+public class JavaFXStartupProfiler
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The name of the current phase. */
+	private String currentPhase;
+	
+	/** The start of the current phase in nanoseconds. */
+	private long currentPhaseStart;
+	
+	/**
+	 * The end of the startup in nanoseconds, {@code -1} if it has not been
+	 * finished yet.
+	 */
+	private long finishTime = -1;
+	
+	/** The run times of the phases in nanoseconds, by name. */
+	private Map<String, Long> phaseTimes;
+	
+	/** The start of the profiling in nanoseconds. */
+	private long startTime;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link JavaFXStartupProfiler}.
+	 */
+	public JavaFXStartupProfiler()
+	{
+		phaseTimes = new LinkedHashMap<>();
+		startTime = System.nanoTime();
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the summary of all measured phases, one phase per line.
+	 * 
+	 * @return the summary of all measured phases.
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		StringBuilder summary = new StringBuilder();
+		summary.append("Startup took ");
+		summary.append(getTotalTime());
+		summary.append(" ms");
+		
+		for (Map.Entry<String, Long> entry : getPhaseTimes().entrySet())
+		{
+			summary.append("\n\t");
+			summary.append(entry.getKey());
+			summary.append(": ");
+			summary.append(entry.getValue());
+			summary.append(" ms");
+		}
+		
+		return summary.toString();
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Begins the given phase, the current phase is ended.
+	 * 
+	 * @param pPhase the name of the phase.
+	 */
+	public synchronized void begin(String pPhase)
+	{
+		end();
+		
+		currentPhase = pPhase;
+		currentPhaseStart = System.nanoTime();
+	}
+	
+	/**
+	 * Ends the current phase, if any.
+	 */
+	public synchronized void end()
+	{
+		if (currentPhase != null)
+		{
+			record(currentPhase, System.nanoTime() - currentPhaseStart);
+			
+			currentPhase = null;
+		}
+	}
+	
+	/**
+	 * Ends the current phase and the startup. Phases which are recorded
+	 * afterwards, for example by background work, are still listed, but no
+	 * longer count towards the {@link #getTotalTime() total time}.
+	 */
+	public synchronized void finish()
+	{
+		end();
+		
+		if (finishTime < 0)
+		{
+			finishTime = System.nanoTime();
+		}
+	}
+	
+	/**
+	 * Gets the run times of all measured phases, in the order in which they
+	 * have been measured.
+	 * 
+	 * @return the run times of all measured phases in milliseconds, by name.
+	 */
+	public synchronized Map<String, Long> getPhaseTimes()
+	{
+		Map<String, Long> times = new LinkedHashMap<>();
+		
+		for (Map.Entry<String, Long> entry : phaseTimes.entrySet())
+		{
+			times.put(entry.getKey(), Long.valueOf(TimeUnit.NANOSECONDS.toMillis(entry.getValue().longValue())));
+		}
+		
+		return Collections.unmodifiableMap(times);
+	}
+	
+	/**
+	 * Gets the time from the creation of this profiler until it has been
+	 * {@link #finish() finished}, or until now if it has not been finished
+	 * yet.
+	 * 
+	 * @return the total time in milliseconds.
+	 */
+	public synchronized long getTotalTime()
+	{
+		if (finishTime >= 0)
+		{
+			return TimeUnit.NANOSECONDS.toMillis(finishTime - startTime);
+		}
+		
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+	}
+	
+	/**
+	 * Records the given run time for the given phase. If the phase has already
+	 * been recorded, the run time is added.
+	 * 
+	 * @param pPhase the name of the phase.
+	 * @param pRunTime the run time in nanoseconds.
+	 */
+	public synchronized void record(String pPhase, long pRunTime)
+	{
+		Long runTime = phaseTimes.get(pPhase);
+		
+		if (runTime != null)
+		{
+			phaseTimes.put(pPhase, Long.valueOf(runTime.longValue() + pRunTime));
+		}
+		else
+		{
+			phaseTimes.put(pPhase, Long.valueOf(pRunTime));
+		}
+	}
+	
+}	// JavaFXStartupProfiler
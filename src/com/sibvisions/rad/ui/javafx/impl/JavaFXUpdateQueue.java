@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import javafx.application.Platform;
+
+import com.sibvisions.util.log.LoggerFactory;
+
+/**
+ * The {@link JavaFXUpdateQueue} coalesces many {@link Runnable}s, which are
+ * added from any thread, into a single {@link Platform#runLater(Runnable)}
+ * call.
+ * <p>
+ * The first {@link Runnable} which is added schedules a batch on the JavaFX
+ * thread, every further {@link Runnable} which is added before that batch is
+ * executed is appended to it. So a worker thread which updates hundreds of
+ * components pays for one hop to the JavaFX thread instead of one per update.
+ * The {@link Runnable}s are executed in the order in which they were added.
+ * <p>
+ * Every {@link Runnable} of a batch is executed, even if one of them fails.
+ * The {@link Future} which is returned by {@link #add(Runnable)} is shared by
+ * all {@link Runnable}s of the same batch and completes after the whole batch
+ * has been executed, exceptionally with the first failure if there was any.
+ * 
+ * @author Robert Zenz
+ */
+public class JavaFXUpdateQueue
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The {@link Future} of the scheduled batch, {@code null} if none. */
+	private CompletableFuture<Void> batch;
+	
+	/** The number of batches which have been executed. */
+	private long batchCount;
+	
+	/** The lock for the pending {@link Runnable}s. */
+	private Object lock;
+	
+	/** The {@link Runnable}s of the scheduled batch. */
+	private List<Runnable> pending;
+	
+	/** The number of {@link Runnable}s which have been executed. */
+	private long runnableCount;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link JavaFXUpdateQueue}.
+	 */
+	public JavaFXUpdateQueue()
+	{
+		lock = new Object();
+		pending = new ArrayList<>();
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Adds the given {@link Runnable} to the next batch, scheduling the batch
+	 * if it is not scheduled yet.
+	 * <p>
+	 * The returned {@link Future} is the same for all {@link Runnable}s of a
+	 * batch. It can be used to wait for the batch to be executed, but it must
+	 * not be waited upon on the JavaFX thread.
+	 * 
+	 * @param pRunnable the {@link Runnable}.
+	 * @return the {@link Future} which completes after the batch has been
+	 *         executed.
+	 */
+	public Future<Void> add(Runnable pRunnable)
+	{
+		synchronized (lock)
+		{
+			pending.add(pRunnable);
+			
+			if (batch == null)
+			{
+				batch = new CompletableFuture<>();
+				
+				Platform.runLater(this::execute);
+			}
+			
+			return batch;
+		}
+	}
+	
+	/**
+	 * Gets the number of batches which have been executed.
+	 * 
+	 * @return the number of batches which have been executed.
+	 */
+	public long getBatchCount()
+	{
+		synchronized (lock)
+		{
+			return batchCount;
+		}
+	}
+	
+	/**
+	 * Gets the number of {@link Runnable}s which are waiting to be executed.
+	 * 
+	 * @return the number of {@link Runnable}s which are waiting to be
+	 *         executed.
+	 */
+	public int getPendingCount()
+	{
+		synchronized (lock)
+		{
+			return pending.size();
+		}
+	}
+	
+	/**
+	 * Gets the number of {@link Runnable}s which have been executed.
+	 * 
+	 * @return the number of {@link Runnable}s which have been executed.
+	 */
+	public long getRunnableCount()
+	{
+		synchronized (lock)
+		{
+			return runnableCount;
+		}
+	}
+	
+	/**
+	 * Executes the scheduled batch, on the JavaFX thread.
+	 */
+	private void execute()
+	{
+		List<Runnable> runnables;
+		CompletableFuture<Void> future;
+		
+		synchronized (lock)
+		{
+			runnables = pending;
+			future = batch;
+			
+			// Everything that is added from now on goes into the next batch,
+			// including what the runnables themselves add.
+			pending = new ArrayList<>(runnables.size());
+			batch = null;
+			
+			batchCount++;
+			runnableCount += runnables.size();
+		}
+		
+		Throwable failure = null;
+		
+		for (Runnable runnable : runnables)
+		{
+			try
+			{
+				runnable.run();
+			}
+			catch (Throwable th)
+			{
+				LoggerFactory.getInstance(JavaFXUpdateQueue.class).error(th);
+				
+				if (failure == null)
+				{
+					failure = th;
+				}
+				else if (th != failure)
+				{
+					// A throwable can not suppress itself.
+					failure.addSuppressed(th);
+				}
+			}
+		}
+		
+		if (failure == null)
+		{
+			future.complete(null);
+		}
+		else
+		{
+			future.completeExceptionally(failure);
+		}
+	}
+	
+}	// JavaFXUpdateQueue
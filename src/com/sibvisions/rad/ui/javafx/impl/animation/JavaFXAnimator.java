@@ -33,6 +33,13 @@ import com.sibvisions.rad.ui.javafx.ext.animation.FXAnimator;
  */
 public final class JavaFXAnimator
 {
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** If snapshots should be animated instead of the live components. */
+	private static boolean snapshotAnimation = false;
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -70,6 +77,9 @@ public final class JavaFXAnimator
 	 * @param pOnFinished the {@link Runnable} to execute when the rotation has
 	 *            finished. Can be {@code null}.
 	 * @see FXAnimator#flip(Node, Orientation, boolean, Runnable, Runnable)
+	 * @see FXAnimator#flipSnapshot(Node, Orientation, boolean, Runnable,
+	 *      Runnable)
+	 * @see #setSnapshotAnimation(boolean)
 	 */
 	public static final void flip(IComponent pComponent, Orientation pOrientation, boolean pRightLeftTopDown, Runnable pOnTippingPoint, Runnable pOnFinished)
 	{
@@ -77,19 +87,28 @@ public final class JavaFXAnimator
 		{
 			Node node = (Node)pComponent.getResource();
 			
-			Map<Node, NodeInfo> infos = new HashMap<>();
-			
-			gatherInfos(node, infos);
-			
-			FXAnimator.flip(node, pOrientation, pRightLeftTopDown, pOnTippingPoint, () ->
+			if (snapshotAnimation && FXAnimator.findOverlayPane(node) != null)
 			{
-				putInfos(node, infos);
+				// The snapshot is rotated in the overlay, so neither the cache
+				// nor the clips of the ancestors have to be touched.
+				FXAnimator.flipSnapshot(node, pOrientation, pRightLeftTopDown, pOnTippingPoint, pOnFinished);
+			}
+			else
+			{
+				Map<Node, NodeInfo> infos = new HashMap<>();
+				
+				gatherInfos(node, infos);
 				
-				if (pOnFinished != null)
+				FXAnimator.flip(node, pOrientation, pRightLeftTopDown, pOnTippingPoint, () ->
 				{
-					pOnFinished.run();
-				}
-			});
+					putInfos(node, infos);
+					
+					if (pOnFinished != null)
+					{
+						pOnFinished.run();
+					}
+				});
+			}
 		}
 	}
 	
@@ -145,6 +164,31 @@ public final class JavaFXAnimator
 		flip(pComponent, Orientation.VERTICAL, false, pOnFlip, null);
 	}
 	
+	/**
+	 * Gets if snapshots of the components are animated instead of the live
+	 * components.
+	 * 
+	 * @return {@code true} if snapshots are animated.
+	 * @see #setSnapshotAnimation(boolean)
+	 */
+	public static boolean isSnapshotAnimation()
+	{
+		return snapshotAnimation;
+	}
+	
+	/**
+	 * Sets if snapshots of the components should be animated instead of the
+	 * live components. The component is captured once before and once after
+	 * the change, which makes the animation of large components a lot cheaper,
+	 * but the component itself is not updated during the animation.
+	 * 
+	 * @param pSnapshotAnimation {@code true} if snapshots should be animated.
+	 */
+	public static void setSnapshotAnimation(boolean pSnapshotAnimation)
+	{
+		snapshotAnimation = pSnapshotAnimation;
+	}
+	
 	/**
 	 * A simple shake animation.
 	 * 
@@ -153,6 +197,7 @@ public final class JavaFXAnimator
 	 * @param pStrength the strength (read distance) of the movement.
 	 * @param pOnFinished the {@link Runnable} to execute when the rotation has
 	 *            finished. Can be {@code null}.
+	 * @see #setSnapshotAnimation(boolean)
 	 */
 	public static void shake(IComponent pComponent, Orientation pOrientation, double pStrength, Runnable pOnFinished)
 	{
@@ -160,7 +205,14 @@ public final class JavaFXAnimator
 		{
 			Node node = (Node)pComponent.getResource();
 			
-			FXAnimator.shake(node, pOrientation, pStrength, pOnFinished);
+			if (snapshotAnimation)
+			{
+				FXAnimator.shakeSnapshot(node, pOrientation, pStrength, pOnFinished);
+			}
+			else
+			{
+				FXAnimator.shake(node, pOrientation, pStrength, pOnFinished);
+			}
 		}
 	}
 	
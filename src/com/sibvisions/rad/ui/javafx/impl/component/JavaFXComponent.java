@@ -15,20 +15,23 @@
  */
 package com.sibvisions.rad.ui.javafx.impl.component;
 
+import java.util.function.Consumer;
+
 import javax.rad.ui.IComponent;
 import javax.rad.ui.IDimension;
 import javax.rad.ui.IImage;
 import javax.rad.ui.IPoint;
 import javax.rad.ui.IRectangle;
 
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.scene.control.Tooltip;
-import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.Rectangle;
 
 import com.sibvisions.rad.ui.javafx.ext.StyleContainer;
+import com.sibvisions.rad.ui.javafx.ext.util.FXSnapshotUtil;
 import com.sibvisions.rad.ui.javafx.ext.util.NodeUtil;
 import com.sibvisions.rad.ui.javafx.impl.JavaFXDimension;
 import com.sibvisions.rad.ui.javafx.impl.JavaFXImage;
@@ -51,6 +54,9 @@ public class JavaFXComponent<C extends Region> extends JavaFXAbstractComponentBa
 	// Class members
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/** If new components are only clipped if they need it. */
+	private static boolean clippingOnDemand;
+	
 	/**
 	 * The {@link Rectangle} that is used to clip the current component.
 	 *
@@ -95,7 +101,10 @@ public class JavaFXComponent<C extends Region> extends JavaFXAbstractComponentBa
 			// the border layout.
 			pResource.setMaxSize(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
 			
-			createAndAttachClipper();
+			if (!clippingOnDemand || isClippingNeeded())
+			{
+				createAndAttachClipper();
+			}
 		}
 	}
 	
@@ -109,7 +118,7 @@ public class JavaFXComponent<C extends Region> extends JavaFXAbstractComponentBa
 	@Override
 	public IImage capture(int pWidth, int pHeight)
 	{
-		return new JavaFXImage(getName(), resource.snapshot(null, new WritableImage(pWidth, pHeight)));
+		return new JavaFXImage(getName(), FXSnapshotUtil.snapshot(resource, pWidth, pHeight));
 	}
 	
 	/**
@@ -411,6 +420,16 @@ public class JavaFXComponent<C extends Region> extends JavaFXAbstractComponentBa
 	{
 		tooltipText = pText;
 		
+		if (!Platform.isFxApplicationThread())
+		{
+			// A Tooltip is a window and can only be created on the JavaFX
+			// thread, for example if the component is constructed in a
+			// background thread.
+			Platform.runLater(() -> setToolTipText(tooltipText));
+			
+			return;
+		}
+		
 		if (!StringUtil.isEmpty(tooltipText))
 		{
 			if (tooltip == null)
@@ -574,6 +593,81 @@ public class JavaFXComponent<C extends Region> extends JavaFXAbstractComponentBa
 	// User-defined methods
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/**
+	 * Gets if new components are only clipped if they need it.
+	 * 
+	 * @return {@code true} if new components are only clipped if they need
+	 *         it.
+	 * @see #setClippingOnDemand(boolean)
+	 */
+	public static boolean isClippingOnDemand()
+	{
+		return clippingOnDemand;
+	}
+	
+	/**
+	 * Sets if new components are only clipped if they need it.
+	 * <p>
+	 * By default every component is clipped to its bounds, which costs a
+	 * {@link Rectangle} per component that follows every size change, and a
+	 * clip operation for every component when rendering. If clipping on
+	 * demand is enabled, only components for which {@link #isClippingNeeded()}
+	 * returns {@code true} are clipped, which are the containers. The content
+	 * of all other components is then clipped by their container. This only
+	 * affects components which are created afterwards.
+	 * 
+	 * @param pClippingOnDemand {@code true} if new components should only be
+	 *            clipped if they need it.
+	 * @see #isClippingNeeded()
+	 */
+	public static void setClippingOnDemand(boolean pClippingOnDemand)
+	{
+		clippingOnDemand = pClippingOnDemand;
+	}
+	
+	/**
+	 * Captures this component as image with the given size, either cropped
+	 * like {@link #capture(int, int)} or scaled to the given size.
+	 * 
+	 * @param pWidth the width of the image.
+	 * @param pHeight the height of the image.
+	 * @param pScaled {@code true} if this component should be scaled to the
+	 *            given size, {@code false} if the image should be cropped.
+	 * @return the image.
+	 * @see FXSnapshotUtil#snapshot(javafx.scene.Node, int, int, boolean)
+	 */
+	public IImage capture(int pWidth, int pHeight, boolean pScaled)
+	{
+		return new JavaFXImage(getName(), FXSnapshotUtil.snapshot(resource, pWidth, pHeight, pScaled));
+	}
+	
+	/**
+	 * Captures this component asynchronously as image with the given size.
+	 * <p>
+	 * Unlike {@link #capture(int, int, boolean)}, the JavaFX thread is not
+	 * blocked until the whole image has been rendered, the image is rendered
+	 * in tiles over multiple pulses instead. The given {@link Consumer} is
+	 * invoked on the JavaFX thread when the image is complete.
+	 * 
+	 * @param pWidth the width of the image.
+	 * @param pHeight the height of the image.
+	 * @param pScaled {@code true} if this component should be scaled to the
+	 *            given size, {@code false} if the image should be cropped.
+	 * @param pCallback the {@link Consumer} which receives the image.
+	 * @see FXSnapshotUtil#snapshotAsync(javafx.scene.Node, int, int, boolean, Consumer)
+	 */
+	public void captureAsync(int pWidth, int pHeight, boolean pScaled, Consumer<IImage> pCallback)
+	{
+		if (!Platform.isFxApplicationThread())
+		{
+			Platform.runLater(() -> captureAsync(pWidth, pHeight, pScaled, pCallback));
+			
+			return;
+		}
+		
+		FXSnapshotUtil.snapshotAsync(resource, pWidth, pHeight, pScaled, (pImage) -> pCallback.accept(new JavaFXImage(getName(), pImage)));
+	}
+	
 	/**
 	 * Sets if the clipping is enabled or disabled.
 	 * <p>
@@ -588,7 +682,14 @@ public class JavaFXComponent<C extends Region> extends JavaFXAbstractComponentBa
 	{
 		if (pEnabled)
 		{
-			resource.setClip(clipper);
+			if (clipper == null)
+			{
+				createAndAttachClipper();
+			}
+			else
+			{
+				resource.setClip(clipper);
+			}
 		}
 		else
 		{
@@ -626,6 +727,23 @@ public class JavaFXComponent<C extends Region> extends JavaFXAbstractComponentBa
 		resource.setClip(clipper);
 	}
 	
+	/**
+	 * Gets if this component needs to be clipped even if
+	 * {@link #isClippingOnDemand() clipping on demand} is enabled, because its
+	 * content can overflow its bounds.
+	 * <p>
+	 * This is invoked from the constructor, so it must not depend on the state
+	 * of the extending class.
+	 * 
+	 * @return {@code true} if this component needs to be clipped. The default
+	 *         implementation returns {@code false}.
+	 * @see #setClippingOnDemand(boolean)
+	 */
+	protected boolean isClippingNeeded()
+	{
+		return false;
+	}
+	
 	/**
 	 * On component moved.
 	 *
@@ -31,6 +31,11 @@ import com.sibvisions.rad.ui.javafx.impl.component.JavaFXComponent;
  * <p>
  * It manages the interface methods and a list of components that this container
  * holds and extending classes only need to implement a thin set of functions.
+ * <p>
+ * Between {@link #beginUpdate()} and {@link #endUpdate()} appended and removed
+ * {@link IComponent}s are collected and applied at once with
+ * {@link #addAllInternal(List, List)} and {@link #removeAllInternal(List)}, so
+ * that the children of the container are changed and laid out only once.
  * 
  * @author Robert Zenz
  * @param <C> the type of the container.
@@ -44,6 +49,18 @@ public abstract class JavaFXAbstractContainer<C extends Region> extends JavaFXCo
 	/** The {@link List} of {@link IComponent}s that this container holds. */
 	protected List<IComponent> components;
 	
+	/** The appended {@link IComponent}s which have not been added yet. */
+	private List<IComponent> pendingAdds;
+	
+	/** The constraints of the {@link #pendingAdds pending adds}. */
+	private List<Object> pendingConstraints;
+	
+	/** The {@link IComponent}s which have not been removed yet. */
+	private List<IComponent> pendingRemoves;
+	
+	/** How often {@link #beginUpdate()} has been called. */
+	private int updateCount;
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Initialization
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -58,6 +75,9 @@ public abstract class JavaFXAbstractContainer<C extends Region> extends JavaFXCo
 		super(pContainer);
 		
 		components = new ArrayList<>();
+		pendingAdds = new ArrayList<>();
+		pendingConstraints = new ArrayList<>();
+		pendingRemoves = new ArrayList<>();
 	}
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -104,6 +124,22 @@ public abstract class JavaFXAbstractContainer<C extends Region> extends JavaFXCo
 			pComponent.getParent().remove(pComponent);
 		}
 		
+		if (updateCount > 0 && (pIndex < 0 || pIndex == components.size()))
+		{
+			components.add(pComponent);
+			
+			pendingAdds.add(pComponent);
+			pendingConstraints.add(pConstraints);
+			
+			pComponent.setParent(this);
+			
+			return;
+		}
+		
+		// Inserting at an index depends on the current children, so everything
+		// that is pending has to be applied first.
+		applyPendingUpdates();
+		
 		// We need to "invert" the inserting index because JavaFX draws the last
 		// added object. But we want the first object to be drawn.
 		if (pIndex >= 0)
@@ -174,7 +210,24 @@ public abstract class JavaFXAbstractContainer<C extends Region> extends JavaFXCo
 		{
 			components.remove(pComponent);
 			
-			removeInternal(pComponent);
+			if (updateCount > 0)
+			{
+				int pendingIndex = pendingAdds.indexOf(pComponent);
+				
+				if (pendingIndex >= 0)
+				{
+					pendingAdds.remove(pendingIndex);
+					pendingConstraints.remove(pendingIndex);
+				}
+				else
+				{
+					pendingRemoves.add(pComponent);
+				}
+			}
+			else
+			{
+				removeInternal(pComponent);
+			}
 			
 			pComponent.setParent(null);
 		}
@@ -195,12 +248,31 @@ public abstract class JavaFXAbstractContainer<C extends Region> extends JavaFXCo
 	@Override
 	public void removeAll()
 	{
-		while (!components.isEmpty())
-		{
-			remove(components.get(0));
-		}
+		List<IComponent> removedComponents = new ArrayList<>(components);
+		
+		components.clear();
+		
+		pendingAdds.clear();
+		pendingConstraints.clear();
+		pendingRemoves.clear();
 		
 		removeAllInternal();
+		
+		for (IComponent component : removedComponents)
+		{
+			component.setParent(null);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Containers are always clipped, as their children might not fit.
+	 */
+	@Override
+	protected boolean isClippingNeeded()
+	{
+		return true;
 	}
 	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -253,4 +325,118 @@ public abstract class JavaFXAbstractContainer<C extends Region> extends JavaFXCo
 	 */
 	protected abstract void removeInternal(IComponent pComponent);
 	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Starts a batch update of this container.
+	 * <p>
+	 * Until the matching {@link #endUpdate()}, appended and removed
+	 * {@link IComponent}s are only collected. The component list of this
+	 * container is always up to date. Calls can be nested.
+	 * 
+	 * @see #endUpdate()
+	 */
+	public void beginUpdate()
+	{
+		updateCount++;
+	}
+	
+	/**
+	 * Ends a batch update of this container, the collected changes are
+	 * applied when the outermost batch update ends.
+	 * 
+	 * @see #beginUpdate()
+	 */
+	public void endUpdate()
+	{
+		if (updateCount > 0)
+		{
+			updateCount--;
+			
+			if (updateCount == 0)
+			{
+				applyPendingUpdates();
+			}
+		}
+	}
+	
+	/**
+	 * Gets if a batch update is running.
+	 * 
+	 * @return {@code true} if a batch update is running.
+	 * @see #beginUpdate()
+	 */
+	public boolean isUpdating()
+	{
+		return updateCount > 0;
+	}
+	
+	/**
+	 * The internal method to append all given {@link IComponent}s at once.
+	 * <p>
+	 * The result must be the same as calling
+	 * {@link #addInternal(IComponent, Object, int)} for every
+	 * {@link IComponent} in order. The default implementation does exactly
+	 * that, extending classes should override it to change their children
+	 * only once.
+	 * 
+	 * @param pComponents the {@link IComponent}s to add.
+	 * @param pConstraints the constraints to use, one for every
+	 *            {@link IComponent}.
+	 */
+	protected void addAllInternal(List<IComponent> pComponents, List<Object> pConstraints)
+	{
+		int index = isReverseAddOrderNeeded() ? 0 : -1;
+		
+		for (int componentIndex = 0; componentIndex < pComponents.size(); componentIndex++)
+		{
+			addInternal(pComponents.get(componentIndex), pConstraints.get(componentIndex), index);
+		}
+	}
+	
+	/**
+	 * The internal method to remove all given {@link IComponent}s at once.
+	 * <p>
+	 * The default implementation calls {@link #removeInternal(IComponent)} for
+	 * every {@link IComponent}, extending classes should override it to change
+	 * their children only once.
+	 * 
+	 * @param pComponents the {@link IComponent}s to remove.
+	 */
+	protected void removeAllInternal(List<IComponent> pComponents)
+	{
+		for (IComponent component : pComponents)
+		{
+			removeInternal(component);
+		}
+	}
+	
+	/**
+	 * Applies the collected changes, first all removes and then all adds.
+	 */
+	private void applyPendingUpdates()
+	{
+		if (!pendingRemoves.isEmpty())
+		{
+			List<IComponent> removedComponents = new ArrayList<>(pendingRemoves);
+			
+			pendingRemoves.clear();
+			
+			removeAllInternal(removedComponents);
+		}
+		
+		if (!pendingAdds.isEmpty())
+		{
+			List<IComponent> addedComponents = new ArrayList<>(pendingAdds);
+			List<Object> addedConstraints = new ArrayList<>(pendingConstraints);
+			
+			pendingAdds.clear();
+			pendingConstraints.clear();
+			
+			addAllInternal(addedComponents, addedConstraints);
+		}
+	}
+	
 }	// JavaFXAbstractContainer
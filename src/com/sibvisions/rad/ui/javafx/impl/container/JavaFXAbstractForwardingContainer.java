@@ -239,6 +239,42 @@ public abstract class JavaFXAbstractForwardingContainer<C extends Region> extend
 		}
 	}
 	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void addAllInternal(List<IComponent> pComponents, List<Object> pConstraints)
+	{
+		if (layoutContainerHybrid != null)
+		{
+			layoutContainerHybrid.addAll(pComponents, pConstraints);
+		}
+		else
+		{
+			super.addAllInternal(pComponents, pConstraints);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void removeAllInternal(List<IComponent> pComponents)
+	{
+		if (layoutContainerHybrid != null)
+		{
+			layoutContainerHybrid.removeAll(pComponents);
+		}
+		else
+		{
+			super.removeAllInternal(pComponents);
+		}
+	}
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Abstract methods
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -15,6 +15,9 @@
  */
 package com.sibvisions.rad.ui.javafx.impl.container;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.rad.ui.IComponent;
 import javax.rad.ui.container.IDesktopPanel;
 import javax.rad.ui.container.IInternalFrame;
@@ -174,4 +177,64 @@ public class JavaFXDesktopPanel extends JavaFXAbstractForwardingContainer<FXDesk
 		componentPane.getChildren().add((Node)pHybrid.getResource());
 	}
 	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * {@link IInternalFrame}s are added to the windows, all other
+	 * {@link IComponent}s at once to the layout.
+	 */
+	@Override
+	protected void addAllInternal(List<IComponent> pComponents, List<Object> pConstraints)
+	{
+		List<IComponent> layoutComponents = new ArrayList<>(pComponents.size());
+		List<Object> layoutConstraints = new ArrayList<>(pComponents.size());
+		
+		for (int index = 0; index < pComponents.size(); index++)
+		{
+			IComponent component = pComponents.get(index);
+			
+			if (component instanceof IInternalFrame)
+			{
+				resource.getWindows().add((FXInternalWindow)component.getResource());
+			}
+			else
+			{
+				layoutComponents.add(component);
+				layoutConstraints.add(pConstraints.get(index));
+			}
+		}
+		
+		super.addAllInternal(layoutComponents, layoutConstraints);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * {@link IInternalFrame}s are removed from the windows, all other
+	 * {@link IComponent}s at once from the layout.
+	 */
+	@Override
+	protected void removeAllInternal(List<IComponent> pComponents)
+	{
+		List<IComponent> layoutComponents = new ArrayList<>(pComponents.size());
+		
+		for (IComponent component : pComponents)
+		{
+			if (component instanceof IInternalFrame)
+			{
+				resource.getWindows().remove(component.getResource());
+			}
+			else
+			{
+				layoutComponents.add(component);
+			}
+		}
+		
+		super.removeAllInternal(layoutComponents);
+	}
+	
 }	// JavaFXDesktopPanel
@@ -38,6 +38,8 @@ import javafx.stage.WindowEvent;
 
 import com.sibvisions.rad.ui.javafx.ext.FXOverlayRegion;
 import com.sibvisions.rad.ui.javafx.ext.FXZoomableHelper;
+import com.sibvisions.rad.ui.javafx.ext.StyleClassCompiler;
+import com.sibvisions.rad.ui.javafx.ext.StyleContainer;
 import com.sibvisions.rad.ui.javafx.ext.panes.FXPositioningPane;
 import com.sibvisions.rad.ui.javafx.ext.scene.StyledScene;
 import com.sibvisions.rad.ui.javafx.ext.util.FXSceneLocker;
@@ -45,6 +47,8 @@ import com.sibvisions.rad.ui.javafx.ext.util.ScenicViewLoader;
 import com.sibvisions.rad.ui.javafx.impl.JavaFXPoint;
 import com.sibvisions.rad.ui.javafx.impl.JavaFXRectangle;
 import com.sibvisions.rad.ui.javafx.impl.JavaFXUtil;
+import com.sibvisions.rad.ui.javafx.impl.animation.JavaFXAnimator;
+import com.sibvisions.rad.ui.javafx.impl.component.JavaFXComponent;
 import com.sibvisions.rad.ui.javafx.impl.focus.JavaFXFocusTraversalAlgorithm;
 import com.sibvisions.rad.ui.javafx.impl.layout.JavaFXILayoutContainerHybrid;
 import com.sun.javafx.scene.traversal.ParentTraversalEngine;
@@ -63,6 +67,22 @@ public class JavaFXFrame extends JavaFXAbstractFrameBase<Region>
 	// Class members
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/**
+	 * The name of the system property to enable or disable animating
+	 * snapshots instead of the live components.
+	 * 
+	 * @see JavaFXAnimator#setSnapshotAnimation(boolean)
+	 */
+	public static final String SYSPROP_ANIMATION_SNAPSHOT = "animation.snapshot";
+	
+	/**
+	 * The name of the system property to enable or disable clipping on
+	 * demand.
+	 * 
+	 * @see JavaFXComponent#setClippingOnDemand(boolean)
+	 */
+	public static final String SYSPROP_CLIPPING_ON_DEMAND = "clipping.ondemand";
+	
 	/** The scene height property. */
 	public static final String SYSPROP_SCENE_HEIGHT = "scene.height";
 	
@@ -72,6 +92,14 @@ public class JavaFXFrame extends JavaFXAbstractFrameBase<Region>
 	/** The scene width property. */
 	public static final String SYSPROP_SCENE_WIDTH = "scene.width";
 	
+	/**
+	 * The name of the system property to enable or disable compiling styles
+	 * into style classes.
+	 * 
+	 * @see StyleContainer#setStyleClassCompilationEnabled(boolean)
+	 */
+	public static final String SYSPROP_STYLE_COMPILED = "style.compiled";
+	
 	/** The stage hidden property. */
 	public static final String SYSPROP_STAGE_HIDDEN = "stage.hidden";
 	
@@ -138,6 +166,21 @@ public class JavaFXFrame extends JavaFXAbstractFrameBase<Region>
 		
 		FXZoomableHelper.setDefaultZoomEnabled(System.getProperty(SYSPROP_ZOOM) == null || Boolean.getBoolean(SYSPROP_ZOOM));
 		
+		if (System.getProperty(SYSPROP_ANIMATION_SNAPSHOT) != null)
+		{
+			JavaFXAnimator.setSnapshotAnimation(Boolean.getBoolean(SYSPROP_ANIMATION_SNAPSHOT));
+		}
+		
+		if (System.getProperty(SYSPROP_CLIPPING_ON_DEMAND) != null)
+		{
+			JavaFXComponent.setClippingOnDemand(Boolean.getBoolean(SYSPROP_CLIPPING_ON_DEMAND));
+		}
+		
+		if (System.getProperty(SYSPROP_STYLE_COMPILED) != null)
+		{
+			StyleContainer.setStyleClassCompilationEnabled(Boolean.getBoolean(SYSPROP_STYLE_COMPILED));
+		}
+		
 		boolean isStageHidden = System.getProperty(SYSPROP_STAGE_HIDDEN) != null && Boolean.getBoolean(SYSPROP_STAGE_HIDDEN);
 		boolean isSceneStyled = System.getProperty(SYSPROP_SCENE_STYLED) == null || Boolean.getBoolean(SYSPROP_SCENE_STYLED);
 		
@@ -160,6 +203,8 @@ public class JavaFXFrame extends JavaFXAbstractFrameBase<Region>
 		scene.setCamera(new PerspectiveCamera());
 		scene.getStylesheets().add("/com/sibvisions/rad/ui/javafx/impl/css/default.css");
 		
+		StyleClassCompiler.addScene(scene);
+		
 		stage.setOnCloseRequest(this::onStageClose);
 		
 		// TODO HACK JavaFX doesn't have an official API for setting a focus policy. RT-19379/RT-21209/RT-25538
@@ -58,4 +58,19 @@ public class JavaFXScrollPanel extends JavaFXAbstractForwardingContainer<FXScrol
 		resource.setContent((Node)pHybrid.getResource());
 	}
 	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The viewport of the {@link FXScrollPane} already clips the content.
+	 */
+	@Override
+	protected boolean isClippingNeeded()
+	{
+		return false;
+	}
+	
 }	// JavaFXScrollPanel
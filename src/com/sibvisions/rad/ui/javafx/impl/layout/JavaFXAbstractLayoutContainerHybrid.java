@@ -15,10 +15,18 @@
  */
 package com.sibvisions.rad.ui.javafx.impl.layout;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javax.rad.ui.IComponent;
 import javax.rad.ui.IInsets;
 import javax.rad.ui.ILayout;
 
 import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 
 import com.sibvisions.rad.ui.javafx.impl.JavaFXInsets;
@@ -67,6 +75,22 @@ public abstract class JavaFXAbstractLayoutContainerHybrid<P extends Pane, CO> ex
 	// Interface implementation
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The default implementation adds the {@link IComponent}s one by one.
+	 */
+	@Override
+	public void addAll(List<IComponent> pComponents, List<Object> pConstraints)
+	{
+		int index = isReverseOrderNeeded() ? 0 : -1;
+		
+		for (int componentIndex = 0; componentIndex < pComponents.size(); componentIndex++)
+		{
+			add(pComponents.get(componentIndex), pConstraints.get(componentIndex), index);
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -76,6 +100,20 @@ public abstract class JavaFXAbstractLayoutContainerHybrid<P extends Pane, CO> ex
 		return false;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The default implementation removes the {@link IComponent}s one by one.
+	 */
+	@Override
+	public void removeAll(List<IComponent> pComponents)
+	{
+		for (IComponent component : pComponents)
+		{
+			remove(component);
+		}
+	}
+	
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Overwritten methods
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -150,4 +188,53 @@ public abstract class JavaFXAbstractLayoutContainerHybrid<P extends Pane, CO> ex
 	 */
 	protected abstract void updateGaps();
 	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the {@link Node}s of the given {@link IComponent}s.
+	 * 
+	 * @param pComponents the {@link IComponent}s.
+	 * @param pReverse {@code true} if the {@link Node}s should be returned in
+	 *            reverse order.
+	 * @return the {@link Node}s.
+	 */
+	protected static List<Node> getNodes(List<IComponent> pComponents, boolean pReverse)
+	{
+		List<Node> nodes = new ArrayList<>(pComponents.size());
+		
+		for (IComponent component : pComponents)
+		{
+			nodes.add((Node)component.getResource());
+		}
+		
+		if (pReverse)
+		{
+			Collections.reverse(nodes);
+		}
+		
+		return nodes;
+	}
+	
+	/**
+	 * Gets the {@link Node}s of the given {@link IComponent}s as {@link Set},
+	 * so that they can be removed from the children without searching the
+	 * given {@link List} for every child.
+	 * 
+	 * @param pComponents the {@link IComponent}s.
+	 * @return the {@link Node}s.
+	 */
+	protected static Set<Node> getNodeSet(List<IComponent> pComponents)
+	{
+		Set<Node> nodes = Collections.newSetFromMap(new IdentityHashMap<>(pComponents.size() * 2));
+		
+		for (IComponent component : pComponents)
+		{
+			nodes.add((Node)component.getResource());
+		}
+		
+		return nodes;
+	}
+	
 }	// JavaFXAbstractLayoutContainerHybrid
@@ -15,6 +15,8 @@
  */
 package com.sibvisions.rad.ui.javafx.impl.layout;
 
+import java.util.List;
+
 import javax.rad.ui.IComponent;
 import javax.rad.ui.layout.IFlowLayout;
 
@@ -87,6 +89,15 @@ public class JavaFXFlowLayout extends JavaFXAbstractLayoutContainerHybrid<FXFlui
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addAll(List<IComponent> pComponents, List<Object> pConstraints)
+	{
+		resource.getChildren().addAll(getNodes(pComponents, false));
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -167,6 +178,15 @@ public class JavaFXFlowLayout extends JavaFXAbstractLayoutContainerHybrid<FXFlui
 		resource.getChildren().clear();
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeAll(List<IComponent> pComponents)
+	{
+		resource.getChildren().removeAll(getNodeSet(pComponents));
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
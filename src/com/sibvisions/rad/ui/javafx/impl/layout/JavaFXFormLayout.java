@@ -98,6 +98,46 @@ public class JavaFXFormLayout extends JavaFXAbstractLayoutContainerHybrid<FXForm
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addAll(List<IComponent> pComponents, List<Object> pConstraints)
+	{
+		List<Node> nodes = new ArrayList<>(pComponents.size());
+		List<Constraints> nodeConstraints = new ArrayList<>(pComponents.size());
+		
+		for (int index = 0; index < pComponents.size(); index++)
+		{
+			Node node = (Node)pComponents.get(index).getResource();
+			Object componentConstraints = pConstraints.get(index);
+			
+			if (NEWLINE.equals(componentConstraints))
+			{
+				// The new line depends on the constraints of the previous
+				// children, so these have to be added first.
+				addChildren(nodes, nodeConstraints);
+				
+				resource.addChildInNewLine(0, node);
+			}
+			else
+			{
+				nodes.add(node);
+				
+				if (componentConstraints instanceof JavaFXConstraints)
+				{
+					nodeConstraints.add((Constraints)((JavaFXConstraints)componentConstraints).getResource());
+				}
+				else
+				{
+					nodeConstraints.add(null);
+				}
+			}
+		}
+		
+		addChildren(nodes, nodeConstraints);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -350,6 +390,15 @@ public class JavaFXFormLayout extends JavaFXAbstractLayoutContainerHybrid<FXForm
 		resource.removeAllChildren();
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeAll(List<IComponent> pComponents)
+	{
+		resource.removeChildren(getNodeSet(pComponents));
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -463,6 +512,24 @@ public class JavaFXFormLayout extends JavaFXAbstractLayoutContainerHybrid<FXForm
 	// User-defined methods
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/**
+	 * Adds the given {@link Node}s in reverse order to the front of the
+	 * children and clears the given {@link List}s afterwards.
+	 * 
+	 * @param pNodes the {@link Node}s to add.
+	 * @param pConstraints the {@link Constraints} of the {@link Node}s.
+	 */
+	private void addChildren(List<Node> pNodes, List<Constraints> pConstraints)
+	{
+		if (!pNodes.isEmpty())
+		{
+			resource.addChildren(0, pNodes, pConstraints, true);
+			
+			pNodes.clear();
+			pConstraints.clear();
+		}
+	}
+	
 	/**
 	 * Gets the {@link IAnchor} for the given {@link Anchor}.
 	 * 
@@ -16,6 +16,7 @@
 package com.sibvisions.rad.ui.javafx.impl.layout;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.rad.ui.IComponent;
@@ -115,6 +116,33 @@ public class JavaFXGridLayout extends JavaFXAbstractLayoutContainerHybrid<GridPa
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addAll(List<IComponent> pComponents, List<Object> pConstraints)
+	{
+		int componentCount = resource.getChildren().size();
+		
+		for (int index = 0; index < pComponents.size(); index++)
+		{
+			Object componentConstraints = pConstraints.get(index);
+			
+			if (!(componentConstraints instanceof IGridConstraints))
+			{
+				// We got no usable constraints, so let's try to insert it after
+				// the last added component.
+				componentConstraints = getConstraints(componentCount % columns, componentCount / columns);
+			}
+			
+			setConstraints(pComponents.get(index), (IGridConstraints)componentConstraints);
+			
+			componentCount++;
+		}
+		
+		resource.getChildren().addAll(getNodes(pComponents, false));
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -189,6 +217,20 @@ public class JavaFXGridLayout extends JavaFXAbstractLayoutContainerHybrid<GridPa
 		constraints.clear();
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeAll(List<IComponent> pComponents)
+	{
+		resource.getChildren().removeAll(getNodeSet(pComponents));
+		
+		for (IComponent component : pComponents)
+		{
+			constraints.remove(component);
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
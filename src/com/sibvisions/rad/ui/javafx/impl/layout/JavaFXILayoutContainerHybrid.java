@@ -15,6 +15,8 @@
  */
 package com.sibvisions.rad.ui.javafx.impl.layout;
 
+import java.util.List;
+
 import javax.rad.ui.IComponent;
 import javax.rad.ui.IResource;
 
@@ -43,6 +45,20 @@ public interface JavaFXILayoutContainerHybrid extends IResource
 	 */
 	public abstract void add(IComponent pComponent, Object pConstraints, int pIndex);
 	
+	/**
+	 * Appends all given {@link IComponent}s with the given constraints.
+	 * <p>
+	 * The result must be the same as if every {@link IComponent} would have
+	 * been added in order, at the front if {@link #isReverseOrderNeeded()}
+	 * and at the end otherwise, but the children of the pane should be
+	 * changed only once.
+	 * 
+	 * @param pComponents the {@link IComponent}s to add.
+	 * @param pConstraints the constraints to use, one for every
+	 *            {@link IComponent}.
+	 */
+	public abstract void addAll(List<IComponent> pComponents, List<Object> pConstraints);
+	
 	/**
 	 * If components should be added this container in reverse order.
 	 *
@@ -63,4 +79,13 @@ public interface JavaFXILayoutContainerHybrid extends IResource
 	 */
 	public abstract void removeAll();
 	
+	/**
+	 * Removes all given {@link IComponent}s from the container.
+	 * <p>
+	 * The children of the pane should be changed only once.
+	 *
+	 * @param pComponents the {@link IComponent}s to remove.
+	 */
+	public abstract void removeAll(List<IComponent> pComponents);
+	
 }	// JavaFXILayoutContainerHybrid
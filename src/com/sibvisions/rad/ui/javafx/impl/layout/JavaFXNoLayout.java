@@ -15,6 +15,8 @@
  */
 package com.sibvisions.rad.ui.javafx.impl.layout;
 
+import java.util.List;
+
 import javax.rad.ui.IComponent;
 
 import javafx.scene.Node;
@@ -60,6 +62,15 @@ public class JavaFXNoLayout extends JavaFXAbstractLayoutContainerHybrid<FXNullPa
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addAll(List<IComponent> pComponents, List<Object> pConstraints)
+	{
+		resource.getChildren().addAll(getNodes(pComponents, false));
+	}
+	
 	/**
 	 * Not used, this layout doesn't have constraints.
 	 * 
@@ -91,6 +102,15 @@ public class JavaFXNoLayout extends JavaFXAbstractLayoutContainerHybrid<FXNullPa
 		resource.getChildren().clear();
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeAll(List<IComponent> pComponents)
+	{
+		resource.getChildren().removeAll(getNodeSet(pComponents));
+	}
+	
 	/**
 	 * Not used, this layout doesn't have constraints.
 	 * 
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.impl.thread;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.rad.ui.IFactory;
+
+/**
+ * The {@link JavaFXAbstractThreadExecutor} is the base for
+ * {@link JavaFXIThreadExecutor}s, it keeps track of the owners of the
+ * {@link Thread}s and collects the metrics.
+ * <p>
+ * Extending classes register every {@link Thread} they return with
+ * {@link #register(Thread, Object)} before it can run, and run the
+ * {@link Runnable} through {@link #run(Thread, Runnable)}.
+ * 
+ * @author Robert Zenz
+ */
+public abstract class JavaFXAbstractThreadExecutor implements JavaFXIThreadExecutor
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The {@link IFactory} which executes the invoke later calls. */
+	protected IFactory factory;
+	
+	/** The number of running {@link Runnable}s. */
+	private int activeCount;
+	
+	/** The number of finished {@link Runnable}s. */
+	private long completedCount;
+	
+	/** The lock for the metrics and the owners. */
+	private Object lock;
+	
+	/** The longest run time of a single {@link Runnable} in nanoseconds. */
+	private long maximumRunTime;
+	
+	/** The owners of the registered {@link Thread}s. */
+	private Map<Thread, Object> owners;
+	
+	/** The registered {@link Thread}s by owner. */
+	private Map<Object, Set<Thread>> ownedThreads;
+	
+	/** The summed up run time of all {@link Runnable}s in nanoseconds. */
+	private long totalRunTime;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link JavaFXAbstractThreadExecutor}.
+	 * 
+	 * @param pFactory the {@link IFactory} which executes the invoke later
+	 *            calls of the {@link Thread}s.
+	 */
+	protected JavaFXAbstractThreadExecutor(IFactory pFactory)
+	{
+		factory = pFactory;
+		
+		lock = new Object();
+		owners = new IdentityHashMap<>();
+		ownedThreads = new IdentityHashMap<>();
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Interface implementation
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int cancelAll()
+	{
+		List<Thread> threads;
+		
+		synchronized (lock)
+		{
+			threads = new ArrayList<>(owners.keySet());
+		}
+		
+		return cancel(threads);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int cancelAll(Object pOwner)
+	{
+		List<Thread> threads;
+		
+		synchronized (lock)
+		{
+			Set<Thread> ownerThreads = ownedThreads.get(pOwner);
+			
+			if (ownerThreads == null)
+			{
+				return 0;
+			}
+			
+			threads = new ArrayList<>(ownerThreads);
+		}
+		
+		return cancel(threads);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getActiveCount()
+	{
+		synchronized (lock)
+		{
+			return activeCount;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getCompletedCount()
+	{
+		synchronized (lock)
+		{
+			return completedCount;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getMaximumRunTime()
+	{
+		synchronized (lock)
+		{
+			return TimeUnit.NANOSECONDS.toMillis(maximumRunTime);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getTotalRunTime()
+	{
+		synchronized (lock)
+		{
+			return TimeUnit.NANOSECONDS.toMillis(totalRunTime);
+		}
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the {@link IFactory} which executes the invoke later calls.
+	 * 
+	 * @return the {@link IFactory}.
+	 */
+	public IFactory getFactory()
+	{
+		return factory;
+	}
+	
+	/**
+	 * Registers the given {@link Thread} with the given owner.
+	 * 
+	 * @param pThread the {@link Thread}.
+	 * @param pOwner the owner, can be {@code null}.
+	 */
+	protected void register(Thread pThread, Object pOwner)
+	{
+		synchronized (lock)
+		{
+			owners.put(pThread, pOwner);
+			
+			Set<Thread> ownerThreads = ownedThreads.get(pOwner);
+			
+			if (ownerThreads == null)
+			{
+				ownerThreads = new LinkedHashSet<>();
+				ownedThreads.put(pOwner, ownerThreads);
+			}
+			
+			ownerThreads.add(pThread);
+		}
+	}
+	
+	/**
+	 * Runs the given {@link Runnable} on the current thread and collects the
+	 * metrics. The given {@link Thread} is unregistered afterwards.
+	 * 
+	 * @param pThread the registered {@link Thread}.
+	 * @param pRunnable the {@link Runnable}.
+	 */
+	protected void run(Thread pThread, Runnable pRunnable)
+	{
+		synchronized (lock)
+		{
+			activeCount++;
+		}
+		
+		long start = System.nanoTime();
+		
+		try
+		{
+			pRunnable.run();
+		}
+		finally
+		{
+			long runTime = System.nanoTime() - start;
+			
+			synchronized (lock)
+			{
+				activeCount--;
+				completedCount++;
+				totalRunTime += runTime;
+				maximumRunTime = Math.max(maximumRunTime, runTime);
+			}
+			
+			unregister(pThread);
+		}
+	}
+	
+	/**
+	 * Unregisters the given {@link Thread}.
+	 * 
+	 * @param pThread the {@link Thread}.
+	 */
+	protected void unregister(Thread pThread)
+	{
+		synchronized (lock)
+		{
+			if (owners.containsKey(pThread))
+			{
+				Object owner = owners.remove(pThread);
+				Set<Thread> ownerThreads = ownedThreads.get(owner);
+				
+				ownerThreads.remove(pThread);
+				
+				if (ownerThreads.isEmpty())
+				{
+					ownedThreads.remove(owner);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Cancels all given {@link Thread}s.
+	 * 
+	 * @param pThreads the {@link Thread}s.
+	 * @return the number of cancelled {@link Thread}s.
+	 */
+	private int cancel(List<Thread> pThreads)
+	{
+		int cancelled = 0;
+		
+		for (Thread thread : pThreads)
+		{
+			if (cancel(thread))
+			{
+				cancelled++;
+			}
+		}
+		
+		return cancelled;
+	}
+	
+}	// JavaFXAbstractThreadExecutor
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.impl.thread;
+
+/**
+ * The {@link JavaFXIThreadExecutor} is the backend which runs the
+ * {@link Runnable}s that are passed to
+ * {@link com.sibvisions.rad.ui.javafx.impl.JavaFXFactory#invokeInThread(Runnable)}.
+ * <p>
+ * Every {@link Runnable} must be run on a thread for which
+ * {@link Thread#currentThread()} is a {@link javax.rad.ui.InvokeLaterThread},
+ * and the queued invoke later calls of that thread must be executed after the
+ * {@link Runnable} finished.
+ * 
+ * @author Robert Zenz
+ */
+public interface JavaFXIThreadExecutor
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Abstract methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Cancels the given {@link Thread}, which has been returned by
+	 * {@link #execute(Runnable, int, Object)}. A queued {@link Runnable} is
+	 * removed, a running one is interrupted.
+	 * 
+	 * @param pThread the {@link Thread} to cancel.
+	 * @return {@code true} if the {@link Thread} was queued or running.
+	 */
+	public abstract boolean cancel(Thread pThread);
+	
+	/**
+	 * Cancels all queued and running {@link Runnable}s.
+	 * 
+	 * @return the number of cancelled {@link Runnable}s.
+	 */
+	public abstract int cancelAll();
+	
+	/**
+	 * Cancels all queued and running {@link Runnable}s of the given owner.
+	 * 
+	 * @param pOwner the owner.
+	 * @return the number of cancelled {@link Runnable}s.
+	 */
+	public abstract int cancelAll(Object pOwner);
+	
+	/**
+	 * Executes the given {@link Runnable} in the background.
+	 * 
+	 * @param pRunnable the {@link Runnable}.
+	 * @param pPriority the priority, {@link Runnable}s with a higher priority
+	 *            are executed first if they need to be queued. Use
+	 *            {@link Thread#NORM_PRIORITY} as default.
+	 * @param pOwner the owner, can be {@code null}. All {@link Runnable}s of
+	 *            an owner can be cancelled with {@link #cancelAll(Object)}.
+	 * @return the {@link Thread} which represents the {@link Runnable}.
+	 *         Interrupting it cancels the {@link Runnable}.
+	 */
+	public abstract Thread execute(Runnable pRunnable, int pPriority, Object pOwner);
+	
+	/**
+	 * Gets the number of {@link Runnable}s which are currently running.
+	 * 
+	 * @return the number of {@link Runnable}s which are currently running.
+	 */
+	public abstract int getActiveCount();
+	
+	/**
+	 * Gets the number of {@link Runnable}s which have finished.
+	 * 
+	 * @return the number of {@link Runnable}s which have finished.
+	 */
+	public abstract long getCompletedCount();
+	
+	/**
+	 * Gets the longest run time of a single {@link Runnable}.
+	 * 
+	 * @return the longest run time of a single {@link Runnable} in
+	 *         milliseconds.
+	 */
+	public abstract long getMaximumRunTime();
+	
+	/**
+	 * Gets the number of {@link Runnable}s which are waiting to be executed.
+	 * 
+	 * @return the number of {@link Runnable}s which are waiting to be
+	 *         executed.
+	 */
+	public abstract int getQueueSize();
+	
+	/**
+	 * Gets the summed up run time of all finished {@link Runnable}s.
+	 * 
+	 * @return the summed up run time of all finished {@link Runnable}s in
+	 *         milliseconds.
+	 */
+	public abstract long getTotalRunTime();
+	
+	/**
+	 * Shuts this executor down, all queued {@link Runnable}s are discarded and
+	 * no new ones are accepted.
+	 */
+	public abstract void shutdown();
+	
+}	// JavaFXIThreadExecutor
@@ -0,0 +1,529 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.impl.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.rad.ui.IFactory;
+import javax.rad.ui.InvokeLaterThread;
+
+import com.sibvisions.util.ThreadHandler;
+
+/**
+ * The {@link JavaFXPooledThreadExecutor} is a {@link JavaFXIThreadExecutor}
+ * which runs all {@link Runnable}s on a bounded pool of worker threads.
+ * <p>
+ * The workers are {@link InvokeLaterThread}s, which are started through the
+ * {@link ThreadHandler} when they are needed, up to the maximum thread count,
+ * and end after being idle for {@link #KEEP_ALIVE_TIME} milliseconds. Every
+ * worker takes the next {@link Runnable} from the queue, by priority, and in
+ * the order in which they were added for the same priority, and executes the
+ * invoke later calls of the {@link Runnable} after it finished.
+ * <p>
+ * The {@link Thread} which is returned for a {@link Runnable} is only a
+ * handle, which is never started, interrupting it cancels the
+ * {@link Runnable}. Cancelling a waiting {@link Runnable} guarantees that it
+ * is never run, cancelling a running one interrupts its worker.
+ * 
+ * @author Robert Zenz
+ */
+public class JavaFXPooledThreadExecutor extends JavaFXAbstractThreadExecutor
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Constants
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The time in milliseconds after which an idle worker ends. */
+	public static final long KEEP_ALIVE_TIME = 60000;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The number of idle workers. */
+	private int idleCount;
+	
+	/** The lock for the workers and the queue. */
+	private Object lock;
+	
+	/** The maximum number of workers. */
+	private int maximumThreadCount;
+	
+	/** The {@link Task}s which wait for a worker. */
+	private PriorityQueue<Task> queue;
+	
+	/** The sequence number of the next {@link Task}. */
+	private long sequence;
+	
+	/** If this executor has been shut down. */
+	private boolean shutdown;
+	
+	/** The running workers. */
+	private List<Worker> workers;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link JavaFXPooledThreadExecutor} with as
+	 * many workers as there are processors, but at least two.
+	 * 
+	 * @param pFactory the {@link IFactory} which executes the invoke later
+	 *            calls of the workers.
+	 */
+	public JavaFXPooledThreadExecutor(IFactory pFactory)
+	{
+		this(pFactory, Math.max(2, Runtime.getRuntime().availableProcessors()));
+	}
+	
+	/**
+	 * Creates a new instance of {@link JavaFXPooledThreadExecutor}.
+	 * 
+	 * @param pFactory the {@link IFactory} which executes the invoke later
+	 *            calls of the workers.
+	 * @param pMaximumThreadCount the maximum number of workers.
+	 */
+	public JavaFXPooledThreadExecutor(IFactory pFactory, int pMaximumThreadCount)
+	{
+		super(pFactory);
+		
+		if (pMaximumThreadCount < 1)
+		{
+			throw new IllegalArgumentException("The maximum thread count must be at least 1.");
+		}
+		
+		maximumThreadCount = pMaximumThreadCount;
+		
+		lock = new Object();
+		queue = new PriorityQueue<>();
+		workers = new ArrayList<>();
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Interface implementation
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean cancel(Thread pThread)
+	{
+		if (pThread instanceof Task)
+		{
+			return ((Task)pThread).cancel();
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Thread execute(Runnable pRunnable, int pPriority, Object pOwner)
+	{
+		Task task;
+		Worker worker = null;
+		
+		synchronized (lock)
+		{
+			if (shutdown)
+			{
+				throw new IllegalStateException("The executor has been shut down.");
+			}
+			
+			task = new Task(pRunnable, pPriority, sequence++);
+			
+			register(task, pOwner);
+			
+			queue.add(task);
+			
+			if (idleCount < queue.size() && workers.size() < maximumThreadCount)
+			{
+				worker = new Worker(sequence);
+				workers.add(worker);
+			}
+			
+			lock.notify();
+		}
+		
+		if (worker != null)
+		{
+			ThreadHandler.start(worker);
+		}
+		
+		return task;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getQueueSize()
+	{
+		synchronized (lock)
+		{
+			return queue.size();
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void shutdown()
+	{
+		List<Task> tasks;
+		
+		synchronized (lock)
+		{
+			shutdown = true;
+			
+			tasks = new ArrayList<>(queue);
+		}
+		
+		for (Task task : tasks)
+		{
+			task.cancel();
+		}
+		
+		synchronized (lock)
+		{
+			// Lets the idle workers end.
+			lock.notifyAll();
+		}
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the maximum number of workers.
+	 * 
+	 * @return the maximum number of workers.
+	 */
+	public int getMaximumThreadCount()
+	{
+		return maximumThreadCount;
+	}
+	
+	/**
+	 * Gets the number of running workers.
+	 * 
+	 * @return the number of running workers.
+	 */
+	public int getThreadCount()
+	{
+		synchronized (lock)
+		{
+			return workers.size();
+		}
+	}
+	
+	/**
+	 * Takes the next {@link Task} from the queue for the given worker,
+	 * waiting for one if the queue is empty.
+	 * 
+	 * @param pWorker the worker.
+	 * @return the next {@link Task}, {@code null} if the worker should end,
+	 *         because it has been idle for too long or the executor has been
+	 *         shut down. The worker has then already been removed.
+	 */
+	private Task takeTask(Worker pWorker)
+	{
+		synchronized (lock)
+		{
+			long idleUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(KEEP_ALIVE_TIME);
+			
+			while (true)
+			{
+				Task task = queue.poll();
+				
+				while (task != null && !task.start(pWorker))
+				{
+					task = queue.poll();
+				}
+				
+				if (task != null)
+				{
+					return task;
+				}
+				
+				long idleTime = idleUntil - System.nanoTime();
+				
+				if (shutdown || idleTime <= 0)
+				{
+					workers.remove(pWorker);
+					
+					return null;
+				}
+				
+				idleCount++;
+				
+				try
+				{
+					TimeUnit.NANOSECONDS.timedWait(lock, idleTime);
+				}
+				catch (InterruptedException e)
+				{
+					// Only a cancelled task interrupts a worker, which has
+					// already finished.
+				}
+				finally
+				{
+					idleCount--;
+				}
+			}
+		}
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link Task} is the handle of one {@link Runnable}, it is never
+	 * started itself.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private final class Task extends Thread implements Comparable<Task>
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** If this {@link Task} has been cancelled before it ran. */
+		private boolean cancelled;
+		
+		/** The priority. */
+		private int priority;
+		
+		/** The {@link Runnable}. */
+		private Runnable runnable;
+		
+		/** The sequence number. */
+		private long taskSequence;
+		
+		/** The worker which runs this {@link Task}, {@code null} if none. */
+		private Worker worker;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link Task}.
+		 * 
+		 * @param pRunnable the {@link Runnable}.
+		 * @param pPriority the priority.
+		 * @param pSequence the sequence number.
+		 */
+		public Task(Runnable pRunnable, int pPriority, long pSequence)
+		{
+			super("JavaFXPooledThreadExecutor-Task-" + pSequence);
+			
+			runnable = pRunnable;
+			priority = pPriority;
+			taskSequence = pSequence;
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Interface implementation
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int compareTo(Task pTask)
+		{
+			if (priority != pTask.priority)
+			{
+				return Integer.compare(pTask.priority, priority);
+			}
+			
+			return Long.compare(taskSequence, pTask.taskSequence);
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Overwritten methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Cancels this {@link Task}.
+		 * 
+		 * @see #cancel()
+		 */
+		@Override
+		public void interrupt()
+		{
+			cancel();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void run()
+		{
+			throw new UnsupportedOperationException("The task is run by a worker of the executor.");
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// User-defined methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Cancels this {@link Task}. A waiting {@link Task} is never run, the
+		 * worker of a running one is interrupted.
+		 * 
+		 * @return {@code true} if this {@link Task} was waiting or running.
+		 */
+		public boolean cancel()
+		{
+			synchronized (lock)
+			{
+				if (worker != null)
+				{
+					if (worker.task == this)
+					{
+						worker.interrupt();
+						
+						return true;
+					}
+					
+					return false;
+				}
+				
+				if (cancelled)
+				{
+					return false;
+				}
+				
+				cancelled = true;
+				
+				queue.remove(this);
+			}
+			
+			unregister(this);
+			
+			return true;
+		}
+		
+		/**
+		 * Assigns this {@link Task} to the given worker, unless it has been
+		 * cancelled.
+		 * 
+		 * @param pWorker the worker.
+		 * @return {@code true} if this {@link Task} has been assigned.
+		 */
+		private boolean start(Worker pWorker)
+		{
+			if (cancelled)
+			{
+				return false;
+			}
+			
+			worker = pWorker;
+			worker.task = this;
+			
+			return true;
+		}
+		
+	}	// Task
+	
+	/**
+	 * The {@link Worker} is an {@link InvokeLaterThread} which runs the queued
+	 * {@link Task}s, and executes their invoke later calls after each one.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private final class Worker extends InvokeLaterThread
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Class members
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/** The running {@link Task}, {@code null} if none. */
+		private volatile Task task;
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link Worker}.
+		 * 
+		 * @param pNumber the number of the worker.
+		 */
+		public Worker(long pNumber)
+		{
+			super(factory, null);
+			
+			setName("JavaFXPooledThreadExecutor-Worker-" + pNumber);
+			setDaemon(true);
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Overwritten methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void run()
+		{
+			Task nextTask = takeTask(this);
+			
+			while (nextTask != null)
+			{
+				try
+				{
+					JavaFXPooledThreadExecutor.this.run(nextTask, nextTask.runnable);
+				}
+				catch (Throwable th)
+				{
+					getUncaughtExceptionHandler().uncaughtException(this, th);
+				}
+				finally
+				{
+					synchronized (lock)
+					{
+						task = null;
+					}
+					
+					// Clears an interrupt of a cancelled task, so that it
+					// does not affect the next one.
+					Thread.interrupted();
+					
+					executeInvokeLater();
+				}
+				
+				nextTask = takeTask(this);
+			}
+		}
+		
+	}	// Worker
+	
+}	// JavaFXPooledThreadExecutor
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.impl.thread;
+
+import javax.rad.ui.IFactory;
+import javax.rad.ui.InvokeLaterThread;
+
+import com.sibvisions.util.ThreadHandler;
+
+/**
+ * The {@link JavaFXThreadHandlerExecutor} is the default
+ * {@link JavaFXIThreadExecutor}, it starts a new {@link InvokeLaterThread}
+ * through the {@link ThreadHandler} for every {@link Runnable}.
+ * <p>
+ * Nothing is ever queued and the priority is ignored.
+ * 
+ * @author Robert Zenz
+ */
+public class JavaFXThreadHandlerExecutor extends JavaFXAbstractThreadExecutor
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** If this executor has been shut down. */
+	private volatile boolean shutdown;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link JavaFXThreadHandlerExecutor}.
+	 * 
+	 * @param pFactory the {@link IFactory} which executes the invoke later
+	 *            calls of the {@link Thread}s.
+	 */
+	public JavaFXThreadHandlerExecutor(IFactory pFactory)
+	{
+		super(pFactory);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Interface implementation
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean cancel(Thread pThread)
+	{
+		if (pThread != null && pThread.isAlive())
+		{
+			ThreadHandler.stop(pThread);
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Thread execute(Runnable pRunnable, int pPriority, Object pOwner)
+	{
+		if (shutdown)
+		{
+			throw new IllegalStateException("The executor has been shut down.");
+		}
+		
+		MeasuredThread thread = new MeasuredThread(pRunnable);
+		
+		register(thread, pOwner);
+		
+		return ThreadHandler.start(thread);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getQueueSize()
+	{
+		return 0;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void shutdown()
+	{
+		shutdown = true;
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link MeasuredThread} is an {@link InvokeLaterThread} which runs
+	 * its {@link Runnable} through the executor.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private final class MeasuredThread extends InvokeLaterThread
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link MeasuredThread}.
+		 * 
+		 * @param pRunnable the {@link Runnable}.
+		 */
+		public MeasuredThread(Runnable pRunnable)
+		{
+			super(factory, pRunnable);
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Overwritten methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void run()
+		{
+			JavaFXThreadHandlerExecutor.this.run(this, () -> super.run());
+		}
+		
+	}	// MeasuredThread
+	
+}	// JavaFXThreadHandlerExecutor
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.rad.ui.javafx.impl.util;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * The {@link JavaFXFlyweightCache} is a bounded cache for immutable, shared
+ * instances which are identified by their value.
+ * <p>
+ * The instances are only weakly referenced, so an instance which is not used
+ * anymore can be garbage collected, and at most the given number of instances
+ * is kept, the least recently used ones are removed first. The hits and misses
+ * are counted, so that the effectiveness of the cache can be checked.
+ * <p>
+ * It is used like this:
+ * 
+ * <pre>
+ * Value value = cache.get(key);
+ * 
+ * if (value == null)
+ * {
+ *     value = new Value(key);
+ *     
+ *     cache.put(key, value);
+ * }
+ * </pre>
+ * 
+ * @author Robert Zenz
+ * @param <K> the type of the keys.
+ * @param <V> the type of the instances.
+ */
+public class JavaFXFlyweightCache<K, V>
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class members
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The number of lookups which found an instance. */
+	private long hitCount;
+	
+	/** The instances by key, in the order of their last use. */
+	private Map<K, WeakReference<V>> instances;
+	
+	/** The maximum number of instances. */
+	private int maximumSize;
+	
+	/** The number of lookups which did not find an instance. */
+	private long missCount;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Creates a new instance of {@link JavaFXFlyweightCache}.
+	 *
+	 * @param pMaximumSize the maximum number of instances.
+	 */
+	public JavaFXFlyweightCache(int pMaximumSize)
+	{
+		maximumSize = pMaximumSize;
+		
+		instances = new LinkedHashMap<K, WeakReference<V>>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Entry<K, WeakReference<V>> pEldest)
+			{
+				return size() > maximumSize;
+			}
+		};
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Overwritten methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		return getClass().getSimpleName() + "[size=" + instances.size() + ", hits=" + hitCount + ", misses=" + missCount + "]";
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Removes all instances and resets the counters.
+	 */
+	public synchronized void clear()
+	{
+		instances.clear();
+		
+		hitCount = 0;
+		missCount = 0;
+	}
+	
+	/**
+	 * Gets the instance for the given key.
+	 * 
+	 * @param pKey the key.
+	 * @return the instance, {@code null} if there is none.
+	 */
+	public synchronized V get(K pKey)
+	{
+		WeakReference<V> reference = instances.get(pKey);
+		
+		if (reference != null)
+		{
+			V instance = reference.get();
+			
+			if (instance != null)
+			{
+				hitCount++;
+				
+				return instance;
+			}
+			
+			instances.remove(pKey);
+		}
+		
+		missCount++;
+		
+		return null;
+	}
+	
+	/**
+	 * Gets the number of lookups which found an instance.
+	 * 
+	 * @return the number of hits.
+	 */
+	public synchronized long getHitCount()
+	{
+		return hitCount;
+	}
+	
+	/**
+	 * Gets the maximum number of instances.
+	 * 
+	 * @return the maximum number of instances.
+	 */
+	public int getMaximumSize()
+	{
+		return maximumSize;
+	}
+	
+	/**
+	 * Gets the number of lookups which did not find an instance.
+	 * 
+	 * @return the number of misses.
+	 */
+	public synchronized long getMissCount()
+	{
+		return missCount;
+	}
+	
+	/**
+	 * Gets the number of cached instances, including the ones which have
+	 * already been garbage collected but not yet removed.
+	 * 
+	 * @return the number of cached instances.
+	 */
+	public synchronized int getSize()
+	{
+		return instances.size();
+	}
+	
+	/**
+	 * Puts the given instance into the cache.
+	 * 
+	 * @param pKey the key.
+	 * @param pInstance the instance.
+	 */
+	public synchronized void put(K pKey, V pInstance)
+	{
+		instances.put(pKey, new WeakReference<>(pInstance));
+	}
+	
+}	// JavaFXFlyweightCache
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+import javax.rad.genui.component.UILabel;
+import javax.rad.ui.IComponent;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.sibvisions.rad.ui.javafx.impl.container.JavaFXPanel;
+import com.sibvisions.rad.ui.javafx.impl.layout.JavaFXFlowLayout;
+import com.sibvisions.rad.ui.javafx.impl.layout.JavaFXFormLayout;
+
+public class TestContainerBatchUpdate extends FXTestTemplate
+{
+	
+	@Test
+	public void testBatchUpdate()
+	{
+		JavaFXFormLayout layout = new JavaFXFormLayout();
+		JavaFXPanel panel = new JavaFXPanel();
+		panel.setLayout(layout);
+		
+		Pane pane = (Pane)layout.getResource();
+		
+		UILabel first = new UILabel("FIRST");
+		UILabel second = new UILabel("SECOND");
+		UILabel third = new UILabel("THIRD");
+		
+		panel.beginUpdate();
+		panel.add(first);
+		panel.add(second);
+		panel.add(third);
+		panel.remove(second);
+		
+		Assert.assertTrue(panel.isUpdating());
+		Assert.assertEquals(2, panel.getComponentCount());
+		Assert.assertEquals(0, pane.getChildren().size());
+		
+		panel.endUpdate();
+		
+		Assert.assertFalse(panel.isUpdating());
+		Assert.assertEquals(2, pane.getChildren().size());
+		
+		// The form layout adds in reverse order.
+		assertIsLabel(pane.getChildren().get(0), "THIRD");
+		assertIsLabel(pane.getChildren().get(1), "FIRST");
+		
+		// But the constraints are determined in the order of adding.
+		Assert.assertSame(layout.getConstraints(0, 0).getLeftAnchor().getResource(), layout.getConstraints(first).getLeftAnchor().getResource());
+		Assert.assertSame(layout.getConstraints(1, 0).getLeftAnchor().getResource(), layout.getConstraints(third).getLeftAnchor().getResource());
+		
+		panel.removeAll();
+		
+		Assert.assertEquals(0, panel.getComponentCount());
+		Assert.assertEquals(0, pane.getChildren().size());
+		Assert.assertNull(first.getParent());
+	}
+	
+	@Test
+	public void testOneChildrenChangePerBatch()
+	{
+		// The number of changes must not depend on the number of components,
+		// otherwise every single change would be processed again by the
+		// layout.
+		assertBatchUpdateChanges(1);
+		assertBatchUpdateChanges(1000);
+		assertBatchUpdateChanges(8000);
+	}
+	
+	private void assertBatchUpdateChanges(int pCount)
+	{
+		JavaFXPanel panel = new JavaFXPanel();
+		panel.setLayout(new JavaFXFlowLayout());
+		
+		Pane pane = (Pane)((JavaFXFlowLayout)panel.getLayout()).getResource();
+		
+		List<IComponent> labels = new ArrayList<>(pCount);
+		
+		for (int index = 0; index < pCount; index++)
+		{
+			labels.add(new UILabel(Integer.toString(index)));
+		}
+		
+		AtomicInteger changeCount = new AtomicInteger();
+		AtomicInteger subChangeCount = new AtomicInteger();
+		
+		pane.getChildren().addListener((ListChangeListener<Node>)(pChange) ->
+		{
+			changeCount.incrementAndGet();
+			
+			while (pChange.next())
+			{
+				subChangeCount.incrementAndGet();
+			}
+		});
+		
+		panel.beginUpdate();
+		
+		for (IComponent label : labels)
+		{
+			panel.add(label);
+		}
+		
+		Assert.assertEquals(0, changeCount.get());
+		
+		panel.endUpdate();
+		
+		Assert.assertEquals(pCount, pane.getChildren().size());
+		Assert.assertEquals(1, changeCount.get());
+		Assert.assertEquals(1, subChangeCount.get());
+		
+		panel.removeAll();
+		
+		Assert.assertEquals(0, pane.getChildren().size());
+		Assert.assertEquals(2, changeCount.get());
+		Assert.assertEquals(2, subChangeCount.get());
+	}
+}
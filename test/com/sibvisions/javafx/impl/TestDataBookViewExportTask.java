@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.impl;
+
+import java.io.StringWriter;
+
+import javax.rad.model.ColumnDefinition;
+import javax.rad.model.IDataBook;
+import javax.rad.model.ModelException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.sibvisions.rad.model.mem.MemDataBook;
+import com.sibvisions.rad.ui.javafx.ext.control.table.DataBookViewExportTask;
+import com.sibvisions.rad.ui.javafx.ext.control.table.FXDataBookView;
+
+/**
+ * Tests {@link DataBookViewExportTask}.
+ * 
+ * @author Robert Zenz
+ */
+public class TestDataBookViewExportTask extends FXTestTemplate
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Test methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Tests that all rows are exported in batches, including a last batch
+	 * which is not full and a last batch which is empty.
+	 * 
+	 * @throws Exception if the test fails.
+	 */
+	@Test
+	public void testExportInBatches() throws Exception
+	{
+		assertExport(7, 3);
+		assertExport(6, 3);
+		assertExport(0, 3);
+	}
+	
+	/**
+	 * Tests that values which contain the separator, a quote or a line break
+	 * are quoted.
+	 * 
+	 * @throws Exception if the test fails.
+	 */
+	@Test
+	public void testExportEscaping() throws Exception
+	{
+		IDataBook dataBook = createDataBook(0);
+		
+		insertRow(dataBook, 1, "a;b");
+		insertRow(dataBook, 2, "say \"hello\"");
+		insertRow(dataBook, 3, "first\nsecond");
+		
+		String[] lines = export(dataBook, 2).split("\r\n");
+		
+		Assert.assertEquals(4, lines.length);
+		Assert.assertEquals("1;\"a;b\"", lines[1]);
+		Assert.assertEquals("2;\"say \"\"hello\"\"\"", lines[2]);
+		Assert.assertEquals("3;\"first\nsecond\"", lines[3]);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Exports a data book with the given number of rows and asserts the
+	 * result.
+	 * 
+	 * @param pRowCount the number of rows.
+	 * @param pBatchSize the batch size.
+	 * @throws Exception if the export failed.
+	 */
+	private void assertExport(int pRowCount, int pBatchSize) throws Exception
+	{
+		String[] lines = export(createDataBook(pRowCount), pBatchSize).split("\r\n");
+		
+		Assert.assertEquals(pRowCount + 1, lines.length);
+		Assert.assertEquals("ID;NAME", lines[0]);
+		
+		for (int index = 0; index < pRowCount; index++)
+		{
+			Assert.assertEquals(index + ";Name " + index, lines[index + 1]);
+		}
+	}
+	
+	/**
+	 * Creates a data book with the given number of rows.
+	 * 
+	 * @param pRowCount the number of rows.
+	 * @return the data book.
+	 * @throws ModelException if creating the data book failed.
+	 */
+	private IDataBook createDataBook(int pRowCount) throws ModelException
+	{
+		ColumnDefinition id = new ColumnDefinition("ID");
+		id.setLabel("ID");
+		
+		ColumnDefinition name = new ColumnDefinition("NAME");
+		name.setLabel("NAME");
+		
+		MemDataBook dataBook = new MemDataBook();
+		dataBook.setName("export");
+		dataBook.getRowDefinition().addColumnDefinition(id);
+		dataBook.getRowDefinition().addColumnDefinition(name);
+		dataBook.open();
+		
+		for (int index = 0; index < pRowCount; index++)
+		{
+			insertRow(dataBook, index, "Name " + index);
+		}
+		
+		return dataBook;
+	}
+	
+	/**
+	 * Exports the given data book through a {@link FXDataBookView}.
+	 * 
+	 * @param pDataBook the data book.
+	 * @param pBatchSize the batch size.
+	 * @return the exported CSV.
+	 * @throws Exception if the export failed.
+	 */
+	private String export(IDataBook pDataBook, int pBatchSize) throws Exception
+	{
+		FXDataBookView dataBookView = new FXDataBookView(pDataBook);
+		
+		StringWriter writer = new StringWriter();
+		
+		DataBookViewExportTask exportTask = new DataBookViewExportTask(dataBookView, writer, pBatchSize);
+		exportTask.run();
+		
+		Assert.assertEquals(pDataBook.getRowCount(), exportTask.get().intValue());
+		
+		return writer.toString();
+	}
+	
+	/**
+	 * Inserts a row into the given data book.
+	 * 
+	 * @param pDataBook the data book.
+	 * @param pId the id.
+	 * @param pName the name.
+	 * @throws ModelException if inserting failed.
+	 */
+	private void insertRow(IDataBook pDataBook, int pId, String pName) throws ModelException
+	{
+		pDataBook.insert(false);
+		pDataBook.setValue("ID", Integer.toString(pId));
+		pDataBook.setValue("NAME", pName);
+		pDataBook.saveAllRows();
+	}
+	
+}	// TestDataBookViewExportTask
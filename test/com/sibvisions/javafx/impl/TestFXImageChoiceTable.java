@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.impl;
+
+import javax.rad.genui.UIImage;
+
+import javafx.scene.image.Image;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.sibvisions.rad.ui.javafx.ext.FXImageChoiceTable;
+import com.sibvisions.rad.ui.javafx.ext.celleditor.FXChoiceCellEditor;
+
+/**
+ * Tests {@link FXImageChoiceTable}.
+ * 
+ * @author Robert Zenz
+ */
+public class TestFXImageChoiceTable extends FXTestTemplate
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Test methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Tests that the {@link FXImageChoiceTable} of a
+	 * {@link FXChoiceCellEditor} is shared until the configuration changes.
+	 */
+	@Test
+	public void testCellEditorChoiceTable()
+	{
+		FXChoiceCellEditor cellEditor = new FXChoiceCellEditor();
+		cellEditor.setAllowedValues(new Object[] { "Y", "N" });
+		cellEditor.setImageNames(new String[] { UIImage.LOGIN_SMALL, UIImage.LOGOUT_SMALL });
+		
+		FXImageChoiceTable<Object> choiceTable = cellEditor.getChoiceTable();
+		
+		Assert.assertSame(choiceTable, cellEditor.getChoiceTable());
+		Assert.assertEquals(1, choiceTable.indexOf("N"));
+		
+		cellEditor.setAllowedValues(new Object[] { "N", "Y" });
+		
+		Assert.assertNotSame(choiceTable, cellEditor.getChoiceTable());
+		Assert.assertEquals(0, cellEditor.getChoiceTable().indexOf("N"));
+		
+		choiceTable = cellEditor.getChoiceTable();
+		cellEditor.setImageNames(new String[] { UIImage.LOGOUT_SMALL, UIImage.LOGIN_SMALL });
+		
+		Assert.assertNotSame(choiceTable, cellEditor.getChoiceTable());
+		Assert.assertSame(getImage(UIImage.LOGOUT_SMALL), cellEditor.getChoiceTable().getImage("N"));
+		
+		choiceTable = cellEditor.getChoiceTable();
+		cellEditor.setDefaultImageName(UIImage.EXIT_SMALL);
+		
+		Assert.assertNotSame(choiceTable, cellEditor.getChoiceTable());
+		Assert.assertSame(getImage(UIImage.EXIT_SMALL), cellEditor.getChoiceTable().getImage("X"));
+	}
+	
+	/**
+	 * Tests {@link FXImageChoiceTable#getImage(Object)}.
+	 */
+	@Test
+	public void testGetImage()
+	{
+		FXImageChoiceTable<String> choiceTable = new FXImageChoiceTable<>(
+				new String[] { "Y", "N", "?" },
+				new String[] { UIImage.LOGIN_SMALL, UIImage.LOGOUT_SMALL },
+				UIImage.EXIT_SMALL);
+		
+		Assert.assertSame(getImage(UIImage.LOGIN_SMALL), choiceTable.getImage("Y"));
+		Assert.assertSame(getImage(UIImage.LOGOUT_SMALL), choiceTable.getImage("N"));
+		
+		// No image for the value.
+		Assert.assertSame(getImage(UIImage.EXIT_SMALL), choiceTable.getImage("?"));
+		
+		// Not an allowed value.
+		Assert.assertSame(getImage(UIImage.EXIT_SMALL), choiceTable.getImage("X"));
+		Assert.assertSame(getImage(UIImage.EXIT_SMALL), choiceTable.getImage(null));
+		
+		Assert.assertNull(new FXImageChoiceTable<>(new String[] { "Y" }, null, null).getImage("X"));
+	}
+	
+	/**
+	 * Tests that {@link FXImageChoiceTable#getImage(Object)} returns images
+	 * which are only registered after the table has been built.
+	 */
+	@Test
+	public void testGetImageRegisteredLater()
+	{
+		String imageName = "testGetImageRegisteredLater";
+		String defaultImageName = "testGetImageRegisteredLaterDefault";
+		
+		FXImageChoiceTable<String> choiceTable = new FXImageChoiceTable<>(new String[] { "Y", "N" }, new String[] { imageName }, defaultImageName);
+		
+		try
+		{
+			Assert.assertNull(choiceTable.getImage("Y"));
+			Assert.assertNull(choiceTable.getImage("N"));
+			
+			UIImage.setImageMapping(defaultImageName, UIImage.EXIT_SMALL);
+			
+			Assert.assertSame(getImage(UIImage.EXIT_SMALL), choiceTable.getImage("Y"));
+			Assert.assertSame(getImage(UIImage.EXIT_SMALL), choiceTable.getImage("N"));
+			
+			UIImage.setImageMapping(imageName, UIImage.LOGIN_SMALL);
+			
+			Assert.assertSame(getImage(UIImage.LOGIN_SMALL), choiceTable.getImage("Y"));
+			Assert.assertSame(getImage(UIImage.EXIT_SMALL), choiceTable.getImage("N"));
+		}
+		finally
+		{
+			UIImage.setImageMapping(imageName, null);
+			UIImage.setImageMapping(defaultImageName, null);
+		}
+	}
+	
+	/**
+	 * Tests {@link FXImageChoiceTable#getNextValue(Object)}.
+	 */
+	@Test
+	public void testGetNextValue()
+	{
+		FXImageChoiceTable<String> choiceTable = new FXImageChoiceTable<>(new String[] { "Y", "N", null }, null, null);
+		
+		Assert.assertEquals("N", choiceTable.getNextValue("Y"));
+		Assert.assertNull(choiceTable.getNextValue("N"));
+		Assert.assertEquals("Y", choiceTable.getNextValue(null));
+		Assert.assertEquals("Y", choiceTable.getNextValue("X"));
+		
+		Assert.assertNull(new FXImageChoiceTable<>(new String[0], null, null).getNextValue("Y"));
+		Assert.assertNull(new FXImageChoiceTable<String>(null, null, null).getNextValue("Y"));
+	}
+	
+	/**
+	 * Tests {@link FXImageChoiceTable#indexOf(Object)}.
+	 */
+	@Test
+	public void testIndexOf()
+	{
+		FXImageChoiceTable<String> choiceTable = new FXImageChoiceTable<>(new String[] { "Y", "N", "Y", null }, null, null);
+		
+		Assert.assertEquals(0, choiceTable.indexOf("Y"));
+		Assert.assertEquals(1, choiceTable.indexOf("N"));
+		Assert.assertEquals(3, choiceTable.indexOf(null));
+		Assert.assertEquals(-1, choiceTable.indexOf("X"));
+	}
+	
+	/**
+	 * Tests {@link FXImageChoiceTable#isBuiltFor(Object[], String[], String)}.
+	 */
+	@Test
+	public void testIsBuiltFor()
+	{
+		String[] allowedValues = new String[] { "Y", "N" };
+		String[] imageNames = new String[] { UIImage.LOGIN_SMALL, UIImage.LOGOUT_SMALL };
+		
+		FXImageChoiceTable<String> choiceTable = new FXImageChoiceTable<>(allowedValues, imageNames, UIImage.EXIT_SMALL);
+		
+		Assert.assertTrue(choiceTable.isBuiltFor(new String[] { "Y", "N" }, new String[] { UIImage.LOGIN_SMALL, UIImage.LOGOUT_SMALL }, UIImage.EXIT_SMALL));
+		Assert.assertFalse(choiceTable.isBuiltFor(new String[] { "N", "Y" }, imageNames, UIImage.EXIT_SMALL));
+		Assert.assertFalse(choiceTable.isBuiltFor(allowedValues, new String[] { UIImage.LOGIN_SMALL }, UIImage.EXIT_SMALL));
+		Assert.assertFalse(choiceTable.isBuiltFor(allowedValues, imageNames, null));
+		
+		// The table keeps its own copy of the configuration.
+		allowedValues[0] = "X";
+		
+		Assert.assertTrue(choiceTable.isBuiltFor(new String[] { "Y", "N" }, imageNames, UIImage.EXIT_SMALL));
+		Assert.assertEquals(-1, choiceTable.indexOf("X"));
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Gets the {@link Image} with the given name.
+	 * 
+	 * @param pImageName the name of the image.
+	 * @return the {@link Image}.
+	 */
+	private Image getImage(String pImageName)
+	{
+		Image image = (Image)UIImage.getImage(pImageName).getResource();
+		
+		Assert.assertNotNull(image);
+		
+		return image;
+	}
+	
+}	// TestFXImageChoiceTable
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.sibvisions.rad.ui.javafx.ext.util.FXSnapshotUtil;
+
+/**
+ * Tests {@link FXSnapshotUtil}.
+ * 
+ * @author Robert Zenz
+ */
+public class TestFXSnapshotUtil extends FXTestTemplate
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Initialization
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Restores the default tile size.
+	 */
+	@After
+	public void tearDown()
+	{
+		FXSnapshotUtil.setTileSize(FXSnapshotUtil.DEFAULT_TILE_SIZE);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Test methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Tests that a snapshot which is cropped to a part of the {@link Node} and
+	 * stitched from several tiles equals a single snapshot.
+	 * 
+	 * @throws Exception if the test fails.
+	 */
+	@Test
+	public void testCroppedSnapshot() throws Exception
+	{
+		FXSnapshotUtil.setTileSize(64);
+		
+		Node node = createNode();
+		
+		Image expected = runOnFXThread(() -> node.snapshot(null, null));
+		Image actual = runOnFXThread(() -> FXSnapshotUtil.snapshot(node, 200, 150));
+		
+		Assert.assertEquals(200, (int)actual.getWidth());
+		Assert.assertEquals(150, (int)actual.getHeight());
+		
+		assertPixelsEqual(expected, actual, 200, 150);
+	}
+	
+	/**
+	 * Tests that a scaled snapshot which is stitched from several tiles
+	 * equals a single scaled snapshot.
+	 * 
+	 * @throws Exception if the test fails.
+	 */
+	@Test
+	public void testScaledSnapshot() throws Exception
+	{
+		FXSnapshotUtil.setTileSize(64);
+		
+		Node node = createNode();
+		
+		Image expected = runOnFXThread(() ->
+		{
+			SnapshotParameters parameters = new SnapshotParameters();
+			parameters.setTransform(new Scale(0.5, 0.5));
+			
+			return node.snapshot(parameters, null);
+		});
+		Image actual = runOnFXThread(() -> FXSnapshotUtil.snapshot(node, 160, 100, true));
+		
+		Assert.assertEquals(160, (int)actual.getWidth());
+		Assert.assertEquals(100, (int)actual.getHeight());
+		
+		assertPixelsEqual(expected, actual, 160, 100);
+	}
+	
+	/**
+	 * Tests that a snapshot which is larger than the {@link Node} is not
+	 * scaled, and that the area outside of the {@link Node} is transparent.
+	 * 
+	 * @throws Exception if the test fails.
+	 */
+	@Test
+	public void testSnapshotLargerThanNode() throws Exception
+	{
+		FXSnapshotUtil.setTileSize(64);
+		
+		Node node = createNode();
+		
+		Image expected = runOnFXThread(() -> node.snapshot(null, null));
+		Image actual = runOnFXThread(() -> FXSnapshotUtil.snapshot(node, 400, 250));
+		
+		assertPixelsEqual(expected, actual, 320, 200);
+		
+		Assert.assertEquals(0, actual.getPixelReader().getArgb(350, 50));
+		Assert.assertEquals(0, actual.getPixelReader().getArgb(50, 225));
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Asserts that the given area of both images is equal.
+	 * 
+	 * @param pExpected the expected image.
+	 * @param pActual the actual image.
+	 * @param pWidth the width of the area.
+	 * @param pHeight the height of the area.
+	 */
+	private void assertPixelsEqual(Image pExpected, Image pActual, int pWidth, int pHeight)
+	{
+		PixelReader expectedReader = pExpected.getPixelReader();
+		PixelReader actualReader = pActual.getPixelReader();
+		
+		for (int y = 0; y < pHeight; y++)
+		{
+			for (int x = 0; x < pWidth; x++)
+			{
+				Assert.assertEquals("Pixel at " + x + "/" + y, expectedReader.getArgb(x, y), actualReader.getArgb(x, y));
+			}
+		}
+	}
+	
+	/**
+	 * Creates a {@link Node} of 320x200 pixels, which is larger than several
+	 * tiles and has a different color in every quarter.
+	 * 
+	 * @return the {@link Node}.
+	 */
+	private Node createNode()
+	{
+		return new Group(
+				new Rectangle(0, 0, 160, 100, Color.RED),
+				new Rectangle(160, 0, 160, 100, Color.GREEN),
+				new Rectangle(0, 100, 160, 100, Color.BLUE),
+				new Rectangle(160, 100, 160, 100, Color.YELLOW));
+	}
+	
+	/**
+	 * Runs the given {@link Callable} on the JavaFX thread and waits for its
+	 * result.
+	 * 
+	 * @param <T> the type of the result.
+	 * @param pCallable the {@link Callable}.
+	 * @return the result.
+	 * @throws Exception if the {@link Callable} failed.
+	 */
+	private <T> T runOnFXThread(Callable<T> pCallable) throws Exception
+	{
+		FutureTask<T> task = new FutureTask<>(pCallable);
+		
+		Platform.runLater(task);
+		
+		return task.get();
+	}
+	
+}	// TestFXSnapshotUtil
@@ -33,6 +33,25 @@ public class TestJavaFXColor
 	// Test methods
 	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	
+	/**
+	 * Tests {@link JavaFXColor#getColor(int)}.
+	 */
+	@Test
+	public void testGetColor()
+	{
+		int rgba = 255 << 24 | 12 << 16 | 34 << 8 | 56;
+		
+		long hitCount = JavaFXColor.getCache().getHitCount();
+		
+		JavaFXColor javafxColor = JavaFXColor.getColor(rgba);
+		
+		Assert.assertEquals(rgba, javafxColor.getRGBA());
+		Assert.assertSame("Color has not been shared.", javafxColor, JavaFXColor.getColor(rgba));
+		Assert.assertSame(javafxColor.getResource(), JavaFXColor.getColor(rgba).getResource());
+		Assert.assertEquals(hitCount + 2, JavaFXColor.getCache().getHitCount());
+		Assert.assertNotSame(javafxColor, JavaFXColor.getColor(rgba + 1));
+	}
+	
 	/**
 	 * Tests the {@link JavaFXColor#JavaFXColor(Color)} constructor.
 	 */
@@ -26,6 +26,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.sibvisions.rad.ui.javafx.ext.StyleClassCompiler;
 import com.sibvisions.rad.ui.javafx.ext.StyleContainer;
 
 public class TestStyleContainer
@@ -61,6 +62,34 @@ public class TestStyleContainer
 		Assert.assertEquals("-fx-background-color: #00FFFF;\n", style.toString());
 	}
 	
+	@Test
+	public void testStyleClassCompilation()
+	{
+		StyleContainer.setStyleClassCompilationEnabled(true);
+		
+		try
+		{
+			Region otherRegion = new Region();
+			StyleContainer otherStyle = new StyleContainer(otherRegion);
+			
+			style.setBackground(Color.AQUA);
+			otherStyle.setBackground(Color.AQUA);
+			
+			Assert.assertEquals("", region.getStyle());
+			Assert.assertEquals(1, region.getStyleClass().size());
+			Assert.assertTrue(region.getStyleClass().get(0).startsWith(StyleClassCompiler.STYLE_CLASS_PREFIX));
+			Assert.assertEquals(region.getStyleClass(), otherRegion.getStyleClass());
+			
+			style.setBackground(null);
+			
+			Assert.assertTrue(region.getStyleClass().isEmpty());
+		}
+		finally
+		{
+			StyleContainer.setStyleClassCompilationEnabled(false);
+		}
+	}
+	
 	@Test
 	public void testSetCursor()
 	{
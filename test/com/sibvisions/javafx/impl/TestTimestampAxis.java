@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.impl;
+
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.sibvisions.rad.ui.javafx.ext.chart.TimestampAxis;
+
+/**
+ * Tests {@link TimestampAxis}.
+ * 
+ * @author Robert Zenz
+ */
+public class TestTimestampAxis extends FXTestTemplate
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Test methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Tests that the labels are formatted with {@link SimpleDateFormat}
+	 * patterns, including patterns which are not valid or mean something
+	 * different for {@link java.time.format.DateTimeFormatter}.
+	 */
+	@Test
+	public void testSimpleDateFormatPatterns()
+	{
+		Calendar calendar = Calendar.getInstance();
+		calendar.clear();
+		calendar.set(2015, Calendar.JUNE, 1, 14, 30);
+		
+		Timestamp timestamp = new Timestamp(calendar.getTimeInMillis());
+		
+		// "u" is the day number of the week for SimpleDateFormat, but the
+		// year for DateTimeFormatter, "#" is reserved by DateTimeFormatter.
+		String[] patterns = new String[] { "dd.MM.yyyy", "EEEE, dd.MM.yyyy u", "dd.MM.yyyy # hh:mm a" };
+		
+		for (String pattern : patterns)
+		{
+			TestableTimestampAxis axis = new TestableTimestampAxis(pattern);
+			
+			Assert.assertEquals(pattern, new SimpleDateFormat(pattern).format(timestamp), axis.getTickMarkLabel(timestamp));
+		}
+	}
+	
+	//****************************************************************
+	// Subclass definition
+	//****************************************************************
+	
+	/**
+	 * The {@link TestableTimestampAxis} exposes the tick mark labels of the
+	 * {@link TimestampAxis}.
+	 * 
+	 * @author Robert Zenz
+	 */
+	private static final class TestableTimestampAxis extends TimestampAxis
+	{
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Initialization
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * Creates a new instance of {@link TestableTimestampAxis}.
+		 * 
+		 * @param pFormat the format.
+		 */
+		public TestableTimestampAxis(String pFormat)
+		{
+			super(pFormat);
+		}
+		
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Overwritten methods
+		//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String getTickMarkLabel(Timestamp pValue)
+		{
+			return super.getTickMarkLabel(pValue);
+		}
+		
+	}	// TestableTimestampAxis
+	
+}	// TestTimestampAxis
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2015 SIB Visions GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.sibvisions.javafx.impl.layout;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.layout.Region;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.sibvisions.javafx.impl.FXTestTemplate;
+import com.sibvisions.rad.ui.javafx.ext.panes.FXFormPane;
+import com.sibvisions.rad.ui.javafx.ext.panes.FXFormPane.Anchor;
+import com.sibvisions.rad.ui.javafx.ext.panes.FXFormPane.Constraints;
+import com.sibvisions.rad.ui.javafx.ext.panes.FXFormPane.HorizontalAlignment;
+import com.sibvisions.rad.ui.javafx.ext.panes.FXFormPane.VerticalAlignment;
+
+/**
+ * Tests {@link FXFormPane} by comparing the bounds of its children with the
+ * bounds calculated by the {@link LegacyFXFormPane} for the same layout.
+ * 
+ * @author Robert Zenz
+ */
+public class TestFXFormPane extends FXTestTemplate
+{
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Constants
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/** The allowed difference between two positions or sizes. */
+	private static final double DELTA = 0.0001d;
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Test methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Tests that all {@link HorizontalAlignment}s and
+	 * {@link VerticalAlignment}s are laid out the same.
+	 */
+	@Test
+	public void testAlignment()
+	{
+		FXFormPane pane = new FXFormPane();
+		pane.addChild(createNode(80, 20), pane.createConstraint(0, 0));
+		pane.addChild(createNode(120, 25), pane.createConstraint(1, 0));
+		pane.addChild(createNode(60, 40), pane.createConstraint(0, 1, 1, 1));
+		
+		for (HorizontalAlignment horizontalAlignment : HorizontalAlignment.values())
+		{
+			for (VerticalAlignment verticalAlignment : VerticalAlignment.values())
+			{
+				pane.setHorizontalAlignment(horizontalAlignment);
+				pane.setVerticalAlignment(verticalAlignment);
+				
+				assertSameLayout(pane);
+			}
+		}
+	}
+	
+	/**
+	 * Tests a layout that consists only of auto-size {@link Anchor}s.
+	 */
+	@Test
+	public void testAutoSizeAnchors()
+	{
+		FXFormPane pane = new FXFormPane();
+		pane.addChild(createNode(80, 20), pane.createConstraint(0, 0));
+		pane.addChild(createNode(150, 25), pane.createConstraint(1, 0));
+		pane.addChild(createNode(40, 30), pane.createConstraint(2, 0));
+		pane.addChild(createNode(120, 20), pane.createConstraint(0, 1, 1, 1));
+		pane.addChild(createNode(60, 60), pane.createConstraint(2, 1, 2, 2));
+		pane.addChild(createNode(300, 20), pane.createConstraint(0, 3, 2, 3));
+		
+		assertSameLayout(pane);
+		
+		// Auto-size anchors with fixed anchors in between.
+		FXFormPane fixedPane = new FXFormPane();
+		
+		Anchor fixedLeft = new Anchor(fixedPane.getLeftMarginAnchor(), 100);
+		Anchor autoSizeRight = new Anchor(fixedLeft);
+		Anchor fixedBottom = new Anchor(fixedPane.getTopMarginAnchor(), 50);
+		
+		fixedPane.addChild(createNode(80, 20), new Constraints(fixedPane.getTopMarginAnchor(), fixedPane.getLeftMarginAnchor(), fixedBottom, fixedLeft));
+		fixedPane.addChild(createNode(120, 30), new Constraints(fixedPane.getTopMarginAnchor(), fixedLeft, fixedBottom, autoSizeRight));
+		fixedPane.addChild(createNode(40, 10), new Constraints(fixedBottom, autoSizeRight, new Anchor(fixedBottom), new Anchor(autoSizeRight, 60)));
+		
+		assertSameLayout(fixedPane);
+	}
+	
+	/**
+	 * Tests that the layout is calculated again after it has been changed.
+	 */
+	@Test
+	public void testInvalidation()
+	{
+		FXFormPane pane = new FXFormPane();
+		
+		Region first = createNode(80, 20);
+		Region second = createNode(150, 25);
+		
+		pane.addChild(first, pane.createConstraint(0, 0));
+		pane.addChild(second, pane.createConstraint(1, 0));
+		pane.addChild(createNode(120, 40), pane.createConstraint(0, 1, 1, 1));
+		
+		assertSameLayout(pane);
+		
+		pane.setConstraint(second, pane.createConstraint(2, 2));
+		
+		assertSameLayout(pane);
+		
+		pane.setMargins(new Insets(20, 3, 7, 30));
+		
+		assertSameLayout(pane);
+		
+		pane.addChild(createNode(200, 35), pane.createConstraint(-1, -1));
+		
+		assertSameLayout(pane);
+		
+		pane.addChild(0, createNode(50, 50), pane.createConstraint(3, 0));
+		
+		assertSameLayout(pane);
+		
+		pane.removeChild(first);
+		
+		assertSameLayout(pane);
+		
+		pane.getChildren().remove(second);
+		
+		assertSameLayout(pane);
+	}
+	
+	/**
+	 * Tests that components which are not managed are ignored.
+	 */
+	@Test
+	public void testInvisibleComponents()
+	{
+		Region invisible = createNode(300, 100);
+		invisible.setVisible(false);
+		invisible.setManaged(false);
+		
+		FXFormPane pane = new FXFormPane();
+		pane.addChild(createNode(80, 20), pane.createConstraint(0, 0));
+		pane.addChild(invisible, pane.createConstraint(1, 0));
+		pane.addChild(createNode(40, 30), pane.createConstraint(2, 0));
+		pane.addChild(createNode(120, 20), pane.createConstraint(0, 1, 2, 1));
+		
+		assertSameLayout(pane);
+		
+		invisible.setVisible(true);
+		invisible.setManaged(true);
+		
+		assertSameLayout(pane);
+	}
+	
+	/**
+	 * Tests that the margins and gaps are laid out the same.
+	 */
+	@Test
+	public void testMargins()
+	{
+		FXFormPane pane = new FXFormPane();
+		pane.setHGap(12);
+		pane.setVGap(3);
+		pane.setMargins(new Insets(4, 17, 9, 0));
+		
+		pane.addChild(createNode(80, 20), pane.createConstraint(0, 0));
+		pane.addChild(createNode(150, 25), pane.createConstraint(1, 0));
+		pane.addChild(createNode(40, 30), pane.createConstraint(-1, 0));
+		pane.addChild(createNode(200, 20), pane.createConstraint(0, -1, -1, -1));
+		
+		assertSameLayout(pane);
+		
+		pane.setMargins(null);
+		
+		assertSameLayout(pane);
+	}
+	
+	/**
+	 * Tests a layout with relative {@link Anchor}s, which are the auto-size
+	 * {@link Anchor}s between components aligned from both sides.
+	 */
+	@Test
+	public void testRelativeAnchors()
+	{
+		FXFormPane pane = new FXFormPane();
+		pane.addChild(createNode(80, 20), pane.createConstraint(0, 0));
+		pane.addChild(createNode(60, 20), pane.createConstraint(-1, 0));
+		pane.addChild(createNode(300, 25), pane.createConstraint(0, 1, -1, 1));
+		pane.addChild(createNode(40, 30), pane.createConstraint(1, 2, -2, -1));
+		pane.addChild(createNode(100, 45), pane.createConstraint(0, -1));
+		
+		assertSameLayout(pane);
+		
+		// Anchors placed relative between two other anchors.
+		FXFormPane relativePane = new FXFormPane();
+		
+		Anchor relativeLeft = new Anchor(relativePane.getLeftMarginAnchor(), relativePane.getRightMarginAnchor(), 0.3d);
+		Anchor relativeTop = new Anchor(relativePane.getTopMarginAnchor(), relativePane.getBottomMarginAnchor());
+		
+		relativePane.addChild(createNode(80, 20), new Constraints(relativePane.getTopMarginAnchor(), relativePane.getLeftMarginAnchor(), relativeTop, relativeLeft));
+		relativePane.addChild(createNode(120, 40), new Constraints(relativeTop, relativeLeft, relativePane.getBottomMarginAnchor(), relativePane.getRightMarginAnchor()));
+		
+		assertSameLayout(relativePane);
+	}
+	
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// User-defined methods
+	//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	
+	/**
+	 * Asserts that the given {@link FXFormPane} has the same sizes and lays out
+	 * its children the same as a {@link LegacyFXFormPane} with the same layout,
+	 * at its minimum size, its preferred size and larger than that.
+	 * 
+	 * @param pPane the {@link FXFormPane}.
+	 */
+	private void assertSameLayout(FXFormPane pPane)
+	{
+		LegacyFXFormPane legacyPane = createLegacyPane(pPane);
+		
+		Assert.assertEquals(legacyPane.minWidth(-1), pPane.minWidth(-1), DELTA);
+		Assert.assertEquals(legacyPane.minHeight(-1), pPane.minHeight(-1), DELTA);
+		Assert.assertEquals(legacyPane.prefWidth(-1), pPane.prefWidth(-1), DELTA);
+		Assert.assertEquals(legacyPane.prefHeight(-1), pPane.prefHeight(-1), DELTA);
+		
+		assertSameLayout(pPane, legacyPane, pPane.minWidth(-1), pPane.minHeight(-1));
+		assertSameLayout(pPane, legacyPane, pPane.prefWidth(-1), pPane.prefHeight(-1));
+		assertSameLayout(pPane, legacyPane, pPane.prefWidth(-1) + 137, pPane.prefHeight(-1) + 61);
+	}
+	
+	/**
+	 * Asserts that the children of the given panes have the same bounds if the
+	 * panes are laid out with the given size.
+	 * 
+	 * @param pPane the {@link FXFormPane}.
+	 * @param pLegacyPane the {@link LegacyFXFormPane}.
+	 * @param pWidth the width.
+	 * @param pHeight the height.
+	 */
+	private void assertSameLayout(FXFormPane pPane, LegacyFXFormPane pLegacyPane, double pWidth, double pHeight)
+	{
+		layout(pPane, pWidth, pHeight);
+		layout(pLegacyPane, pWidth, pHeight);
+		
+		Assert.assertEquals(pLegacyPane.getChildren().size(), pPane.getChildren().size());
+		
+		for (int index = 0; index < pPane.getChildren().size(); index++)
+		{
+			Region child = (Region)pPane.getChildren().get(index);
+			Region legacyChild = (Region)pLegacyPane.getChildren().get(index);
+			
+			String message = "Child " + index + " at " + pWidth + "x" + pHeight;
+			
+			Assert.assertEquals(message, legacyChild.getLayoutX(), child.getLayoutX(), DELTA);
+			Assert.assertEquals(message, legacyChild.getLayoutY(), child.getLayoutY(), DELTA);
+			Assert.assertEquals(message, legacyChild.getWidth(), child.getWidth(), DELTA);
+			Assert.assertEquals(message, legacyChild.getHeight(), child.getHeight(), DELTA);
+		}
+	}
+	
+	/**
+	 * Creates a {@link LegacyFXFormPane} with the same layout as the given
+	 * {@link FXFormPane}. Every child is replaced by a {@link Region} with the
+	 * same sizes.
+	 * 
+	 * @param pPane the {@link FXFormPane}.
+	 * @return the {@link LegacyFXFormPane}.
+	 */
+	private LegacyFXFormPane createLegacyPane(FXFormPane pPane)
+	{
+		LegacyFXFormPane legacyPane = new LegacyFXFormPane();
+		legacyPane.setHGap(pPane.getHGap());
+		legacyPane.setVGap(pPane.getVGap());
+		legacyPane.setMargins(pPane.getMargins());
+		legacyPane.setHorizontalAlignment(LegacyFXFormPane.HorizontalAlignment.valueOf(pPane.getHorizontalAlignment().name()));
+		legacyPane.setVerticalAlignment(LegacyFXFormPane.VerticalAlignment.valueOf(pPane.getVerticalAlignment().name()));
+		
+		Map<Anchor, LegacyFXFormPane.Anchor> anchors = new IdentityHashMap<>();
+		anchors.put(pPane.getTopAnchor(), legacyPane.getTopAnchor());
+		anchors.put(pPane.getLeftAnchor(), legacyPane.getLeftAnchor());
+		anchors.put(pPane.getBottomAnchor(), legacyPane.getBottomAnchor());
+		anchors.put(pPane.getRightAnchor(), legacyPane.getRightAnchor());
+		anchors.put(pPane.getTopMarginAnchor(), legacyPane.getTopMarginAnchor());
+		anchors.put(pPane.getLeftMarginAnchor(), legacyPane.getLeftMarginAnchor());
+		anchors.put(pPane.getBottomMarginAnchor(), legacyPane.getBottomMarginAnchor());
+		anchors.put(pPane.getRightMarginAnchor(), legacyPane.getRightMarginAnchor());
+		
+		for (Node child : pPane.getChildren())
+		{
+			Region region = (Region)child;
+			
+			Region legacyChild = new Region();
+			legacyChild.setMinSize(region.getMinWidth(), region.getMinHeight());
+			legacyChild.setPrefSize(region.getPrefWidth(), region.getPrefHeight());
+			legacyChild.setMaxSize(region.getMaxWidth(), region.getMaxHeight());
+			legacyChild.setVisible(region.isVisible());
+			legacyChild.setManaged(region.isManaged());
+			
+			Constraints constraints = pPane.getConstraint(child);
+			
+			legacyPane.addChild(legacyChild, new LegacyFXFormPane.Constraints(
+					createLegacyAnchor(constraints.getTopAnchor(), anchors),
+					createLegacyAnchor(constraints.getLeftAnchor(), anchors),
+					createLegacyAnchor(constraints.getBottomAnchor(), anchors),
+					createLegacyAnchor(constraints.getRightAnchor(), anchors)));
+		}
+		
+		return legacyPane;
+	}
+	
+	/**
+	 * Gets the {@link LegacyFXFormPane.Anchor} for the given {@link Anchor},
+	 * it is created together with its related {@link Anchor}s if necessary.
+	 * 
+	 * @param pAnchor the {@link Anchor}.
+	 * @param pAnchors the already created {@link LegacyFXFormPane.Anchor}s.
+	 * @return the {@link LegacyFXFormPane.Anchor}.
+	 */
+	private LegacyFXFormPane.Anchor createLegacyAnchor(Anchor pAnchor, Map<Anchor, LegacyFXFormPane.Anchor> pAnchors)
+	{
+		LegacyFXFormPane.Anchor legacyAnchor = pAnchors.get(pAnchor);
+		
+		if (legacyAnchor == null)
+		{
+			LegacyFXFormPane.Anchor relatedAnchor = createLegacyAnchor(pAnchor.getRelatedAnchor(), pAnchors);
+			
+			if (pAnchor.getSecondRelatedAnchor() != null)
+			{
+				legacyAnchor = new LegacyFXFormPane.Anchor(relatedAnchor, createLegacyAnchor(pAnchor.getSecondRelatedAnchor(), pAnchors), pAnchor.getRelativePosition());
+				legacyAnchor.setAutoSize(pAnchor.isAutoSize());
+			}
+			else if (pAnchor.isAutoSize())
+			{
+				legacyAnchor = new LegacyFXFormPane.Anchor(relatedAnchor);
+			}
+			else
+			{
+				legacyAnchor = new LegacyFXFormPane.Anchor(relatedAnchor, pAnchor.getPosition());
+			}
+			
+			pAnchors.put(pAnchor, legacyAnchor);
+		}
+		
+		return legacyAnchor;
+	}
+	
+	/**
+	 * Creates a {@link Region} with the given preferred size and half of it as
+	 * minimum size.
+	 * 
+	 * @param pPrefWidth the preferred width.
+	 * @param pPrefHeight the preferred height.
+	 * @return the {@link Region}.
+	 */
+	private Region createNode(double pPrefWidth, double pPrefHeight)
+	{
+		Region region = new Region();
+		region.setMinSize(pPrefWidth / 2, pPrefHeight / 2);
+		region.setPrefSize(pPrefWidth, pPrefHeight);
+		
+		return region;
+	}
+	
+	/**
+	 * Resizes the given {@link Region} and lays it out.
+	 * 
+	 * @param pRegion the {@link Region}.
+	 * @param pWidth the width.
+	 * @param pHeight the height.
+	 */
+	private void layout(Region pRegion, double pWidth, double pHeight)
+	{
+		pRegion.resize(pWidth, pHeight);
+		pRegion.requestLayout();
+		pRegion.layout();
+	}
+	
+}	// TestFXFormPane